@@ -0,0 +1,83 @@
+package org.emgen.httpx.benchmarks;
+
+import org.emgen.httpx.http.PooledExecutorService;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.request.RequestAction;
+import org.emgen.httpx.http.response.BatchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Burst of small GET requests to a single route - one by one, as a batch & as a pipelined batch.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchBenchmark {
+
+    @Param({"100"})
+    private int count;
+
+    private LoopbackServer server;
+    private PooledExecutorService executor;
+    private List<Request> requests;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = new LoopbackServer();
+        executor = new PooledExecutorService();
+        requests = new ArrayList<>(count);
+
+        for (int index = 0; index < count; index++) {
+            requests.add(new Request.Creator()
+                    .target(server.url("/bytes"))
+                    .action(RequestAction.GET)
+                    .parameter("size", "128")
+                    .create());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public void sequential(Blackhole blackhole) {
+        for (Request request : requests) {
+            blackhole.consume(executor.execute(request));
+        }
+    }
+
+    @Benchmark
+    public List<BatchResponse> batch() {
+        return executor.executeBatch(requests);
+    }
+
+    @Benchmark
+    public List<BatchResponse> pipelined() {
+        return executor.executeBatch(requests, 2, 16);
+    }
+}
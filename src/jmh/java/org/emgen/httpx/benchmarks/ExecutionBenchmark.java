@@ -0,0 +1,99 @@
+package org.emgen.httpx.benchmarks;
+
+import org.emgen.httpx.http.Executor;
+import org.emgen.httpx.http.ExecutorService;
+import org.emgen.httpx.http.PooledExecutorService;
+import org.emgen.httpx.http.nio.NioExecutorService;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.request.RequestAction;
+import org.emgen.httpx.http.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End - to - end request execution against in - process loopback server.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionBenchmark {
+
+    @Param({"ExecutorService", "PooledExecutorService", "NioExecutorService"})
+    private String executorType;
+
+    @Param({"1024", "65536"})
+    private int size;
+
+    private LoopbackServer server;
+    private Executor executor;
+    private Request get;
+    private Request post;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = new LoopbackServer();
+        executor = executor(executorType);
+        get = new Request.Creator()
+                .target(server.url("/bytes"))
+                .action(RequestAction.GET)
+                .parameter("size", String.valueOf(size))
+                .header("Accept", "application/json")
+                .create();
+        post = new Request.Creator()
+                .target(server.url("/echo"))
+                .action(RequestAction.POST)
+                .body(LoopbackServer.payload(size))
+                .header("Content-Type", "application/json")
+                .create();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (executor instanceof Closeable) {
+            ((Closeable) executor).close();
+        }
+
+        server.close();
+    }
+
+    @Benchmark
+    public Response get() {
+        return executor.execute(get);
+    }
+
+    @Benchmark
+    public Response post() {
+        return executor.execute(post);
+    }
+
+    private static Executor executor(String type) {
+        switch (type) {
+            case "PooledExecutorService":
+                return new PooledExecutorService();
+            case "NioExecutorService":
+                return new NioExecutorService();
+            default:
+                return new ExecutorService();
+        }
+    }
+}
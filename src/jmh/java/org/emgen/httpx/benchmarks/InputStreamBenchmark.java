@@ -0,0 +1,47 @@
+package org.emgen.httpx.benchmarks;
+
+import org.emgen.httpx.extensions.InputStreamExtensions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading response body with {@link InputStreamExtensions#read}.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputStreamBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    private int size;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        bytes = LoopbackServer.payload(size);
+    }
+
+    @Benchmark
+    public String read() throws IOException {
+        return InputStreamExtensions.read(new ByteArrayInputStream(bytes));
+    }
+}
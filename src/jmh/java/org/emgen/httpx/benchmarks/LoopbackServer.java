@@ -0,0 +1,91 @@
+package org.emgen.httpx.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In - process HTTP server, that benchmarks execute requests against.
+ * '/bytes?size=N' responds with N bytes of JSON - like text, '/echo' responds with request body.
+ *
+ * @since 1.0.0
+ */
+final class LoopbackServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService threads = Executors.newFixedThreadPool(4);
+
+    LoopbackServer() throws IOException {
+        // otherwise small responses are delayed by Nagle's algorithm, as headers & body are written separately
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 128);
+        server.setExecutor(threads);
+        server.createContext("/bytes", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            byte[] body = payload(query == null ? 1024 : Integer.parseInt(query.substring("size=".length())));
+            exchange.sendResponseHeaders(200, body.length);
+
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.createContext("/echo", exchange -> {
+            byte[] body;
+
+            try (InputStream input = exchange.getRequestBody()) {
+                body = read(input);
+            }
+
+            exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+    }
+
+    String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        threads.shutdownNow();
+    }
+
+    static byte[] payload(int size) {
+        byte[] pattern = "{\"id\":12345,\"name\":\"httpx\",\"tags\":[\"a\",\"b\"]},".getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[size];
+
+        for (int n = 0; n < size; n += pattern.length) {
+            System.arraycopy(pattern, 0, bytes, n, Math.min(pattern.length, size - n));
+        }
+
+        return bytes;
+    }
+
+    private static byte[] read(InputStream input) throws IOException {
+        byte[] bytes = new byte[1024];
+        int length = 0;
+
+        for (int count = input.read(bytes); count != -1; count = input.read(bytes, length, bytes.length - length)) {
+            length += count;
+
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+        }
+
+        return Arrays.copyOf(bytes, length);
+    }
+}
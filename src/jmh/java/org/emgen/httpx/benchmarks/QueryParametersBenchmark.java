@@ -0,0 +1,54 @@
+package org.emgen.httpx.benchmarks;
+
+import org.emgen.httpx.http.QueryParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link QueryParameters} encoding & parsing.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryParametersBenchmark {
+
+    private final Map<String, List<String>> parameters = new LinkedHashMap<>();
+    private final String url = "https://api.test.org/v1/items?sort=name&page=2&filter=state%3Aactive+%26+owner%3Ame&ids=1&ids=2&ids=3&q=%C5%BEodis";
+
+    public QueryParametersBenchmark() {
+        parameters.put("sort", new ArrayList<>(Arrays.asList("name")));
+        parameters.put("page", new ArrayList<>(Arrays.asList("2")));
+        parameters.put("filter", new ArrayList<>(Arrays.asList("state:active & owner:me")));
+        parameters.put("ids", new ArrayList<>(Arrays.asList("1", "2", "3")));
+        parameters.put("q", new ArrayList<>(Arrays.asList("žodis")));
+    }
+
+    @Benchmark
+    public String createQueryString() {
+        return QueryParameters.createQueryString(parameters);
+    }
+
+    @Benchmark
+    public Map<String, List<String>> extractQueryParameters() {
+        return QueryParameters.extractQueryParameters(url);
+    }
+}
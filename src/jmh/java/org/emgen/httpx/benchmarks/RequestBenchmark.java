@@ -0,0 +1,64 @@
+package org.emgen.httpx.benchmarks;
+
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.request.RequestAction;
+import org.emgen.httpx.http.request.RequestTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building {@link Request} & it's target {@link URL}, either directly or by binding {@link RequestTemplate}.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBenchmark {
+
+    private final Request request = create();
+    private final RequestTemplate template = new Request.Creator()
+            .target("https://api.test.org/v1/items/{id}?sort=name")
+            .action(RequestAction.GET)
+            .parameter("filter", "state:active & owner:me")
+            .header("Accept", "application/json")
+            .header("Authorization", "Bearer 0123456789abcdef")
+            .template("id", "page");
+    private int page;
+
+    @Benchmark
+    public Request create() {
+        return new Request.Creator()
+                .target("https://api.test.org/v1/items?sort=name")
+                .action(RequestAction.GET)
+                .parameter("page", "2")
+                .parameter("filter", "state:active & owner:me")
+                .header("Accept", "application/json")
+                .header("Authorization", "Bearer 0123456789abcdef")
+                .create();
+    }
+
+    @Benchmark
+    public URL url() {
+        return request.url();
+    }
+
+    @Benchmark
+    public URL bind() {
+        page++;
+        return template.bind("42", Integer.toString(page & 0xff)).url();
+    }
+}
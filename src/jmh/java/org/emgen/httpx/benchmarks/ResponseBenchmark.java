@@ -0,0 +1,54 @@
+package org.emgen.httpx.benchmarks;
+
+import org.emgen.httpx.http.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link Response#bytesCount()}.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseBenchmark {
+
+    @Param({"1024", "65536"})
+    private int size;
+
+    private Response response;
+
+    @Setup
+    public void setup() {
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Content-Type", Arrays.asList("application/json; charset=utf-8"));
+        headers.put("Cache-Control", Arrays.asList("max-age=60"));
+        headers.put("Set-Cookie", Arrays.asList("session=abc; Path=/", "theme=dark; Path=/"));
+        response = new Response(200, "OK", new String(LoopbackServer.payload(size), StandardCharsets.UTF_8), headers, 0);
+    }
+
+    @Benchmark
+    public long bytesCount() {
+        return response.bytesCount();
+    }
+}
@@ -1,11 +1,12 @@
 package org.emgen.httpx.extensions;
 
+import org.emgen.httpx.http.buffer.BufferPool;
 import org.emgen.httpx.prerequisites.Prerequisites;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * @since 1.0.0
@@ -13,6 +14,8 @@ import java.nio.charset.StandardCharsets;
 public final class InputStreamExtensions {
 
     private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+    private static final int MAX_PREALLOCATED_LENGTH = 1024 * 1024;
 
     private InputStreamExtensions() {
         throw new InstantiationError("org.emgen.httpx.extensions.InputStream.class cannot be instantiated.");
@@ -30,13 +33,124 @@ public final class InputStreamExtensions {
     public static String read(InputStream inputStream) throws IOException {
         Prerequisites.exists(inputStream);
 
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        byte[] bytes = new byte[BUFFER_SIZE];
+        Collector collector = new Collector(BUFFER_SIZE);
 
-        for (int length = inputStream.read(bytes); length != -1; length = inputStream.read(bytes)) {
-            outputStream.write(bytes, 0, length);
+        try {
+            collector.collect(inputStream);
+            return new String(collector.buffer, 0, collector.count, StandardCharsets.UTF_8);
+        } finally {
+            collector.release();
         }
+    }
 
-        return outputStream.toString(StandardCharsets.UTF_8.name());
+    /**
+     * Reads all remaining bytes of passed {@param inputStream}.
+     * {@link org.emgen.httpx.http.exceptions.ArgumentExistenceException} is thrown in case
+     * {@param inputStream} is null.
+     *
+     * @param inputStream to read.
+     * @return read bytes.
+     * @throws IOException in case {@param inputStream} could not be read.
+     */
+    public static byte[] readBytes(InputStream inputStream) throws IOException {
+        return readBytes(inputStream, -1L);
+    }
+
+    /**
+     * Reads all remaining bytes of passed {@param inputStream}. In case {@param expectedLength} is known, e.g. from
+     * 'Content-Length' header, & does not exceed 1 MB, bytes are read directly into array of that length, otherwise
+     * they are collected in pooled buffer, that starts at 1 MB at most & grows as bytes arrive, & copied once.
+     *
+     * @param inputStream    to read.
+     * @param expectedLength - count of remaining bytes or -1 in case it is not known.
+     * @return read bytes.
+     * @throws IOException in case {@param inputStream} could not be read.
+     */
+    public static byte[] readBytes(InputStream inputStream, long expectedLength) throws IOException {
+        Prerequisites.exists(inputStream);
+
+        if (expectedLength < 0 || expectedLength > MAX_PREALLOCATED_LENGTH) {
+            Collector collector = new Collector(expectedLength < 0 ? BUFFER_SIZE : MAX_PREALLOCATED_LENGTH);
+
+            try {
+                collector.collect(inputStream);
+                return Arrays.copyOf(collector.buffer, collector.count);
+            } finally {
+                collector.release();
+            }
+        }
+
+        byte[] bytes = new byte[(int) expectedLength];
+        int count = 0;
+
+        for (int length = 0; length != -1 && count < bytes.length; length = inputStream.read(bytes, count, bytes.length - count)) {
+            count += length;
+        }
+
+        int next = count < bytes.length ? -1 : inputStream.read();
+
+        if (count == bytes.length && next == -1) {
+            return bytes;
+        }
+
+        // stream turned out to be shorter or longer than expected
+        if (next == -1) {
+            return Arrays.copyOf(bytes, count);
+        }
+
+        Collector collector = new Collector(count + BUFFER_SIZE);
+
+        try {
+            System.arraycopy(bytes, 0, collector.buffer, 0, count);
+            collector.buffer[count] = (byte) next;
+            collector.count = count + 1;
+            collector.collect(inputStream);
+            return Arrays.copyOf(collector.buffer, collector.count);
+        } finally {
+            collector.release();
+        }
+    }
+
+    /**
+     * Collects bytes into buffer of {@link BufferPool#shared()}, that is swapped for a twice larger one, once it
+     * fills up.
+     */
+    private static final class Collector {
+
+        private final BufferPool pool = BufferPool.shared();
+        private byte[] buffer;
+        private int count;
+
+        private Collector(final int size) {
+            this.buffer = pool.array(size);
+        }
+
+        private void collect(InputStream inputStream) throws IOException {
+            while (true) {
+                if (count == buffer.length) {
+                    if (buffer.length >= MAX_ARRAY_LENGTH) {
+                        throw new IOException("Stream is too large to be read into array");
+                    }
+
+                    byte[] larger = pool.array((int) Math.min(MAX_ARRAY_LENGTH, buffer.length * 2L));
+                    System.arraycopy(buffer, 0, larger, 0, count);
+                    pool.release(buffer);
+                    buffer = larger;
+                }
+
+                int length = inputStream.read(buffer, count, buffer.length - count);
+
+                if (length == -1) {
+                    return;
+                }
+
+                count += length;
+            }
+        }
+
+        private void release() {
+            pool.release(buffer);
+            buffer = null;
+        }
     }
 }
@@ -59,7 +59,37 @@ public final class StringExtensions {
         }
     }
 
+    /**
+     * Counts bytes of UTF-8 encoded {@param string} without encoding it. Unpaired surrogates are counted as a
+     * single byte, the same way {@link String#getBytes} replaces them.
+     *
+     * @param string to test.
+     * @return bytes count for provided {@param string}, using UTF-8.
+     */
     public static long bytesCount(String string) {
-        return bytesCount(string, StandardCharsets.UTF_8.name());
+        if (string == null) {
+            return 0L;
+        }
+
+        long count = 0L;
+
+        for (int index = 0; index < string.length(); index++) {
+            char c = string.charAt(index);
+
+            if (c < 0x80) {
+                count++;
+            } else if (c < 0x800) {
+                count += 2;
+            } else if (Character.isHighSurrogate(c) && index + 1 < string.length() && Character.isLowSurrogate(string.charAt(index + 1))) {
+                count += 4;
+                index++;
+            } else if (Character.isSurrogate(c)) {
+                count++;
+            } else {
+                count += 3;
+            }
+        }
+
+        return count;
     }
 }
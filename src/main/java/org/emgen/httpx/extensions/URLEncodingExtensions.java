@@ -11,6 +11,33 @@ public final class URLEncodingExtensions {
 
     public static final String DEFAULT_CHARSET = StandardCharsets.UTF_8.name();
 
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final boolean[] UNRESERVED = new boolean[128];
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            UNRESERVED[c] = true;
+        }
+
+        for (char c = 'A'; c <= 'Z'; c++) {
+            UNRESERVED[c] = true;
+        }
+
+        for (char c = '0'; c <= '9'; c++) {
+            UNRESERVED[c] = true;
+        }
+
+        UNRESERVED['.'] = true;
+        UNRESERVED['-'] = true;
+        UNRESERVED['*'] = true;
+        UNRESERVED['_'] = true;
+
+        for (int c = 0; c < HEX_VALUES.length; c++) {
+            HEX_VALUES[c] = (byte) Character.digit(c, 16);
+        }
+    }
+
     private URLEncodingExtensions() {
         throw new InstantiationError("org.emgen.httpx.extensions.URLEncodingExceptions::class cannot be instantiated.");
     }
@@ -24,22 +51,53 @@ public final class URLEncodingExtensions {
      * @return encoded {@param string}, using {@param charset}.
      */
     public static String encode(String string, String charset) {
+        if (StringExtensions.isEmpty(charset) || DEFAULT_CHARSET.equalsIgnoreCase(charset)) {
+            return encode(string);
+        }
+
         try {
-            return URLEncoder.encode(string, StringExtensions.isEmpty(charset) ? DEFAULT_CHARSET : charset);
+            return URLEncoder.encode(string, charset);
         } catch (Exception e) {
-            e.printStackTrace();
             return string;
         }
     }
 
     /**
      * Encodes {@param string}, using {@link StandardCharsets#UTF_8} charset.
+     * Output is identical to {@link URLEncoder#encode(String, String)}.
      *
      * @param string to encode.
-     * @return {@link StandardCharsets#UTF_8} encoded {@param string}.
+     * @return {@link StandardCharsets#UTF_8} encoded {@param string} or null in case {@param string} is null.
      */
     public static String encode(String string) {
-        return encode(string, DEFAULT_CHARSET);
+        if (string == null) {
+            return null;
+        }
+
+        int length = string.length();
+        int index = 0;
+
+        while (index < length && isUnreserved(string.charAt(index))) {
+            index++;
+        }
+
+        if (index == length) {
+            return string;
+        }
+
+        return encode(string, new StringBuilder(length + 16).append(string, 0, index), index).toString();
+    }
+
+    /**
+     * Encodes {@param string}, using {@link StandardCharsets#UTF_8} charset & appends it to {@param builder}.
+     * Output is identical to {@link URLEncoder#encode(String, String)}.
+     *
+     * @param string  to encode.
+     * @param builder to append encoded {@param string} to.
+     * @return provided {@param builder}.
+     */
+    public static StringBuilder encode(String string, StringBuilder builder) {
+        return encode(string, builder, 0);
     }
 
     /**
@@ -48,24 +106,160 @@ public final class URLEncodingExtensions {
      *
      * @param string  to decode.
      * @param charset to decode string by.
-     * @return decoded {@param string}, using {@param charset}.
+     * @return decoded {@param string}, using {@param charset}. In case {@param string} is malformed, it is
+     * returned as is.
      */
     public static String decode(String string, String charset) {
+        if (StringExtensions.isEmpty(charset) || DEFAULT_CHARSET.equalsIgnoreCase(charset)) {
+            return decode(string);
+        }
+
         try {
-            return URLDecoder.decode(string, StringExtensions.isEmpty(charset) ? DEFAULT_CHARSET : charset);
+            return URLDecoder.decode(string, charset);
         } catch (Exception e) {
-            e.printStackTrace();
             return string;
         }
     }
 
     /**
      * Decodes {@param string}, using {@link StandardCharsets#UTF_8} charset.
+     * Output is identical to {@link URLDecoder#decode(String, String)}.
      *
      * @param string to decode.
-     * @return {@link StandardCharsets#UTF_8} decoded {@param string}.
+     * @return {@link StandardCharsets#UTF_8} decoded {@param string}. In case {@param string} is malformed, it is
+     * returned as is. Null is returned in case {@param string} is null.
      */
     public static String decode(String string) {
-        return decode(string, DEFAULT_CHARSET);
+        return string == null ? null : decode(string, 0, string.length());
+    }
+
+    /**
+     * Decodes part of {@param string} from {@param start} (inclusive) to {@param end} (exclusive), using
+     * {@link StandardCharsets#UTF_8} charset.
+     *
+     * @param string to decode part of.
+     * @param start  index of part.
+     * @param end    index of part.
+     * @return {@link StandardCharsets#UTF_8} decoded part. In case part is malformed, it is returned as is.
+     */
+    public static String decode(String string, int start, int end) {
+        int index = start;
+
+        while (index < end && string.charAt(index) != '%' && string.charAt(index) != '+') {
+            index++;
+        }
+
+        if (index == end) {
+            return string.substring(start, end);
+        }
+
+        StringBuilder builder = new StringBuilder(end - start).append(string, start, index);
+        byte[] bytes = null;
+
+        while (index < end) {
+            char c = string.charAt(index);
+
+            if (c == '+') {
+                builder.append(' ');
+                index++;
+            } else if (c != '%') {
+                builder.append(c);
+                index++;
+            } else {
+                if (bytes == null) {
+                    bytes = new byte[(end - index) / 3];
+                }
+
+                int count = 0;
+
+                // consecutive escapes are decoded together, since they might form a single multi - byte character
+                while (index + 2 < end && string.charAt(index) == '%') {
+                    int value = hex(string.charAt(index + 1), string.charAt(index + 2));
+
+                    if (value < 0) {
+                        return string.substring(start, end);
+                    }
+
+                    bytes[count++] = (byte) value;
+                    index += 3;
+                }
+
+                if (index < end && string.charAt(index) == '%') {
+                    // incomplete trailing escape
+                    return string.substring(start, end);
+                }
+
+                builder.append(new String(bytes, 0, count, StandardCharsets.UTF_8));
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static StringBuilder encode(String string, StringBuilder builder, int start) {
+        int length = string.length();
+
+        for (int index = start; index < length; index++) {
+            char c = string.charAt(index);
+
+            if (isUnreserved(c)) {
+                builder.append(c);
+            } else if (c == ' ') {
+                builder.append('+');
+            } else if (c < 0x80) {
+                appendEscaped(builder, c);
+            } else if (c < 0x800) {
+                appendEscaped(builder, 0xC0 | c >> 6);
+                appendEscaped(builder, 0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && index + 1 < length && Character.isLowSurrogate(string.charAt(index + 1))) {
+                int codePoint = Character.toCodePoint(c, string.charAt(++index));
+                appendEscaped(builder, 0xF0 | codePoint >> 18);
+                appendEscaped(builder, 0x80 | codePoint >> 12 & 0x3F);
+                appendEscaped(builder, 0x80 | codePoint >> 6 & 0x3F);
+                appendEscaped(builder, 0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate is replaced, as UTF-8 encoder does
+                appendEscaped(builder, '?');
+            } else {
+                appendEscaped(builder, 0xE0 | c >> 12);
+                appendEscaped(builder, 0x80 | c >> 6 & 0x3F);
+                appendEscaped(builder, 0x80 | c & 0x3F);
+            }
+        }
+
+        return builder;
+    }
+
+    private static boolean isUnreserved(char c) {
+        return c < 0x80 && UNRESERVED[c];
+    }
+
+    private static void appendEscaped(StringBuilder builder, int b) {
+        builder.append('%').append(HEX_DIGITS[b >> 4 & 0xF]).append(HEX_DIGITS[b & 0xF]);
+    }
+
+    /**
+     * Parses escape's hex digits the same way {@link Integer#parseInt(String, int)} does, that is used by
+     * {@link URLDecoder} - leading sign is accepted.
+     *
+     * @return parsed byte value or -1 in case digits are malformed or value is negative.
+     */
+    private static int hex(char first, char second) {
+        int low = digit(second);
+
+        if (low < 0) {
+            return -1;
+        }
+
+        if (first == '+' || first == '-') {
+            return first == '+' || low == 0 ? low : -1;
+        }
+
+        int high = digit(first);
+        return high < 0 ? -1 : high << 4 | low;
+    }
+
+    private static int digit(char c) {
+        return c < 0x80 ? HEX_VALUES[c] : Character.digit(c, 16);
     }
 }
@@ -0,0 +1,257 @@
+package org.emgen.httpx.http;
+
+import org.emgen.httpx.http.exceptions.RequestExecutionException;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.response.BatchResponse;
+import org.emgen.httpx.http.response.Response;
+import org.emgen.httpx.http.response.StreamingResponse;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Executor}, that executes requests asynchronously on configurable threads, using delegate {@link Executor}.
+ * Count of requests, that are executed at the same time, is bounded - requests over the limit are queued
+ * without occupying any thread until one of in - flight requests completes.
+ *
+ * @since 1.0.0
+ */
+public final class AsyncExecutor implements Executor {
+
+    private static volatile java.util.concurrent.Executor sharedThreads;
+
+    private final Executor delegate;
+    private final java.util.concurrent.Executor threads;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Task> pending = new ConcurrentLinkedQueue<>();
+
+    public AsyncExecutor(final Executor delegate, final java.util.concurrent.Executor threads, final int maxInFlight) {
+        Prerequisites.exists(delegate, "Delegate executor cannot be null");
+        Prerequisites.exists(threads, "Threads cannot be null");
+
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Parameter 'maxInFlight' has to be positive");
+        }
+
+        this.delegate = delegate;
+        this.threads = threads;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * @return threads, that are shared by {@link Executor#executeAsync} default implementation - virtual threads
+     * in case JVM supports them, otherwise cached pool of daemon threads.
+     */
+    public static java.util.concurrent.Executor sharedThreads() {
+        if (sharedThreads == null) {
+            synchronized (AsyncExecutor.class) {
+                if (sharedThreads == null) {
+                    java.util.concurrent.Executor threads = virtualThreads();
+                    sharedThreads = threads == null ? Executors.newCachedThreadPool(daemonThreads()) : threads;
+                }
+            }
+        }
+
+        return sharedThreads;
+    }
+
+    /**
+     * Creates executor, that starts new virtual thread for each task.
+     *
+     * @return virtual thread per task executor or null in case JVM does not support virtual threads.
+     */
+    public static java.util.concurrent.Executor virtualThreads() {
+        try {
+            return (java.util.concurrent.Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    public int maxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @return count of requests, that are being executed.
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return count of requests, that wait for in - flight requests to complete.
+     */
+    public int pending() {
+        return pending.size();
+    }
+
+    /**
+     * Executes {@param request} on caller thread, using delegate {@link Executor}.
+     *
+     * @param request to execute.
+     * @return execution {@link Response}.
+     */
+    @Override
+    public Response execute(Request request) {
+        return delegate.execute(request);
+    }
+
+    /**
+     * Executes {@param request} on executor's threads. In case max in - flight requests count is reached,
+     * request is queued. Cancelling returned {@link CompletableFuture} before execution starts, removes request
+     * from queue.
+     *
+     * @param request to execute.
+     * @return {@link CompletableFuture} of execution {@link Response}.
+     */
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        Task task = new Task(request);
+        pending.add(task);
+        task.future.whenComplete((response, failure) -> {
+            if (task.future.isCancelled()) {
+                pending.remove(task);
+            }
+        });
+        dispatch();
+        return task.future;
+    }
+
+    /**
+     * Executes {@param requests} on caller thread, using delegate {@link Executor}.
+     *
+     * @param requests to execute.
+     * @return {@link BatchResponse}s in the same order as {@param requests}.
+     */
+    @Override
+    public List<BatchResponse> executeBatch(List<Request> requests) {
+        return delegate.executeBatch(requests);
+    }
+
+    /**
+     * Executes {@param request} on caller thread, using delegate {@link Executor}.
+     *
+     * @param request to execute.
+     * @return execution {@link StreamingResponse}, that has to be closed.
+     */
+    @Override
+    public StreamingResponse stream(Request request) {
+        return delegate.stream(request);
+    }
+
+    private void dispatch() {
+        while (!pending.isEmpty()) {
+            int current = inFlight.get();
+
+            if (current >= maxInFlight) {
+                return;
+            }
+
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+
+            Task task = pending.poll();
+
+            if (task == null) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+
+            try {
+                threads.execute(task);
+            } catch (RejectedExecutionException e) {
+                inFlight.decrementAndGet();
+                task.future.completeExceptionally(new RequestExecutionException("Request could not be scheduled for execution", e));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncExecutor{" +
+                "delegate=" + delegate +
+                ", threads=" + threads +
+                ", maxInFlight=" + maxInFlight +
+                '}';
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, "httpx-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Task implements Runnable {
+
+        private final Request request;
+        private final CompletableFuture<Response> future = new CompletableFuture<>();
+
+        private Task(final Request request) {
+            this.request = request;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!future.isDone()) {
+                    future.complete(delegate.execute(request));
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                inFlight.decrementAndGet();
+                dispatch();
+            }
+        }
+    }
+
+    public static final class Creator {
+
+        private Executor delegate;
+        private java.util.concurrent.Executor threads;
+        private int maxInFlight = 64;
+
+        public Creator delegate(Executor delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        public Creator threads(java.util.concurrent.Executor threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public Creator maxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Creates {@link AsyncExecutor}. In case delegate is not provided, {@link SharedExecutor#get()} is used.
+         * In case threads are not provided, {@link AsyncExecutor#sharedThreads()} are used.
+         *
+         * @return created {@link AsyncExecutor}.
+         */
+        public AsyncExecutor create() {
+            return new AsyncExecutor(
+                    delegate == null ? SharedExecutor.get() : delegate,
+                    threads == null ? sharedThreads() : threads,
+                    maxInFlight
+            );
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.emgen.httpx.http;
+
+import org.emgen.httpx.extensions.StringExtensions;
+
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parsed value of 'Content-Type' header (RFC 7231, section 3.1.1.1) - media type & it's parameters, e.g.
+ * "application/json; charset=utf-8".
+ *
+ * @since 1.0.0
+ */
+public final class ContentType {
+
+    private final String mediaType;
+    private final Map<String, String> parameters;
+
+    private ContentType(final String mediaType, final Map<String, String> parameters) {
+        this.mediaType = mediaType;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Parses {@param value}. Parameters, that have no value, are skipped, quoted values are unquoted.
+     *
+     * @param value of 'Content-Type' header.
+     * @return {@link ContentType} of {@param value} or null in case {@param value} is empty.
+     */
+    public static ContentType parse(String value) {
+        if (StringExtensions.isEmpty(value)) {
+            return null;
+        }
+
+        String[] parts = value.split(";");
+        Map<String, String> parameters = new LinkedHashMap<>();
+
+        for (int index = 1; index < parts.length; index++) {
+            int separator = parts[index].indexOf('=');
+
+            if (separator > 0) {
+                String name = parts[index].substring(0, separator).trim().toLowerCase(Locale.ROOT);
+                String parameter = parts[index].substring(separator + 1).trim();
+
+                if (parameter.length() > 1 && parameter.startsWith("\"") && parameter.endsWith("\"")) {
+                    parameter = parameter.substring(1, parameter.length() - 1);
+                }
+
+                parameters.putIfAbsent(name, parameter);
+            }
+        }
+
+        return new ContentType(parts[0].trim().toLowerCase(Locale.ROOT), Collections.unmodifiableMap(parameters));
+    }
+
+    /**
+     * @return lower case media type, e.g. "application/json".
+     */
+    public String mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return parameters, which names are lower case.
+     */
+    public Map<String, String> parameters() {
+        return parameters;
+    }
+
+    /**
+     * @param name of parameter.
+     * @return value of parameter or null in case it is not present.
+     */
+    public String parameter(String name) {
+        return name == null ? null : parameters.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @param fallback - {@link Charset}, that is returned in case 'charset' parameter is missing or is not supported.
+     * @return {@link Charset} of 'charset' parameter or {@param fallback}.
+     */
+    public Charset charset(Charset fallback) {
+        String charset = parameters.get("charset");
+
+        try {
+            return charset == null ? fallback : Charset.forName(charset);
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ContentType{" +
+                "mediaType='" + mediaType + '\'' +
+                ", parameters=" + parameters +
+                '}';
+    }
+}
@@ -1,7 +1,21 @@
 package org.emgen.httpx.http;
 
+import org.emgen.httpx.http.exceptions.RequestExecutionException;
 import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.response.BatchResponse;
+import org.emgen.httpx.http.response.BodyHandler;
 import org.emgen.httpx.http.response.Response;
+import org.emgen.httpx.http.response.StreamingResponse;
+import org.emgen.httpx.http.response.TypedResponse;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @since 1.0.0
@@ -9,4 +23,98 @@ import org.emgen.httpx.http.response.Response;
 public interface Executor {
 
     Response execute(Request request);
+
+    /**
+     * Executes provided {@param request} without blocking caller thread.
+     * By default request is executed on {@link AsyncExecutor#sharedThreads()}.
+     *
+     * @param request to execute.
+     * @return {@link CompletableFuture}, that is completed with execution {@link Response} or exceptionally in case
+     * execution fails.
+     */
+    default CompletableFuture<Response> executeAsync(Request request) {
+        return CompletableFuture.supplyAsync(() -> execute(request), AsyncExecutor.sharedThreads());
+    }
+
+    /**
+     * Executes provided {@param requests}. Failure of a single request does not fail the batch - it is reported
+     * in request's {@link BatchResponse}.
+     * By default requests are executed one by one on caller thread - executors, that are able to reuse
+     * connections or execute requests concurrently, override this method.
+     *
+     * @param requests to execute.
+     * @return {@link BatchResponse}s in the same order as {@param requests}.
+     */
+    default List<BatchResponse> executeBatch(List<Request> requests) {
+        Prerequisites.exists(requests, "Requests cannot be null");
+        List<BatchResponse> responses = new ArrayList<>(requests.size());
+
+        for (Request request : requests) {
+            try {
+                responses.add(BatchResponse.succeeded(request, execute(request)));
+            } catch (RuntimeException e) {
+                responses.add(BatchResponse.failed(request, e));
+            }
+        }
+
+        return responses;
+    }
+
+    /**
+     * Executes provided {@param request} & returns response, that streams it's body.
+     * By default response is executed, using {@link Executor#execute(Request)} & it's buffered body is streamed -
+     * executors, that are able to stream body directly from connection, override this method.
+     *
+     * @param request to execute.
+     * @return execution {@link StreamingResponse}, that has to be closed.
+     */
+    default StreamingResponse stream(Request request) {
+        Response response = execute(request);
+        byte[] body = response.bytes() == null ? new byte[0] : response.bytes();
+        return new StreamingResponse(response.code(), response.message(), response.headers(), new ByteArrayInputStream(body), () -> {
+        });
+    }
+
+    /**
+     * Executes provided {@param request} & writes response body to file at {@param target}, using
+     * {@link StreamingResponse#transferTo(Path)}. Body is written regardless of response code.
+     *
+     * @param request to execute.
+     * @param target  - path of file to write response body to.
+     * @return execution {@link Response}, that has no body.
+     * @throws RequestExecutionException in case body could not be written.
+     */
+    default Response download(Request request, Path target) {
+        long starts = System.nanoTime();
+
+        try (StreamingResponse response = stream(request)) {
+            response.transferTo(target);
+            long duration = TimeUnit.MILLISECONDS.convert(System.nanoTime() - starts, TimeUnit.NANOSECONDS);
+            return new Response(response.code(), response.message(), null, response.headers(), duration);
+        } catch (IOException e) {
+            throw new RequestExecutionException(e);
+        }
+    }
+
+    /**
+     * Executes provided {@param request} & decodes response body, using {@param handler}, while it is read from
+     * connection, using {@link Executor#stream(Request)}. Body is decoded regardless of response code.
+     *
+     * @param request to execute.
+     * @param handler - {@link BodyHandler}, that decodes response body.
+     * @return execution {@link TypedResponse}.
+     * @throws RequestExecutionException in case body could not be read or decoded.
+     */
+    default <T> TypedResponse<T> execute(Request request, BodyHandler<T> handler) {
+        Prerequisites.exists(handler, "Body handler cannot be null");
+        long starts = System.nanoTime();
+
+        try (StreamingResponse response = stream(request)) {
+            T body = response.decode(handler);
+            long duration = TimeUnit.MILLISECONDS.convert(System.nanoTime() - starts, TimeUnit.NANOSECONDS);
+            return new TypedResponse<>(response.code(), response.message(), response.headers(), body, duration);
+        } catch (IOException e) {
+            throw new RequestExecutionException(e);
+        }
+    }
 }
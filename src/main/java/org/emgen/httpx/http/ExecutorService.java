@@ -1,11 +1,21 @@
 package org.emgen.httpx.http;
 
-import org.emgen.httpx.extensions.InputStreamExtensions;
-import org.emgen.httpx.extensions.MapExtensions;
+import org.emgen.httpx.http.connection.Connector;
+import org.emgen.httpx.http.connection.ExecutionGuard;
+import org.emgen.httpx.http.connection.Resolver;
+import org.emgen.httpx.http.connection.Route;
+import org.emgen.httpx.http.encoding.ContentEncoding;
+import org.emgen.httpx.http.exceptions.RequestExecutionException;
+import org.emgen.httpx.http.metrics.Execution;
+import org.emgen.httpx.http.metrics.ExecutionListener;
+import org.emgen.httpx.http.metrics.MeteredInputStream;
 import org.emgen.httpx.http.request.ProxySettings;
 import org.emgen.httpx.http.request.Request;
 import org.emgen.httpx.http.response.Response;
+import org.emgen.httpx.http.response.StreamingResponse;
+import org.emgen.httpx.prerequisites.Prerequisites;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -13,16 +23,41 @@ import java.net.HttpURLConnection;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 /**
  * @since 1.0.0
  */
 public final class ExecutorService implements Executor {
 
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private final ExecutionListener listener;
+    private final Resolver resolver;
+
+    public ExecutorService() {
+        this(ExecutionListener.NONE);
+    }
+
+    /**
+     * @param listener - {@link ExecutionListener}, that receives execution events. Connection reuse is managed by
+     *                 {@link HttpURLConnection}, therefore connections are always reported as not reused.
+     */
+    public ExecutorService(final ExecutionListener listener) {
+        this(listener, Connector.DEFAULT.resolver());
+    }
+
+    /**
+     * @param listener - {@link ExecutionListener}, that receives execution events.
+     * @param resolver - {@link Resolver}, that resolves proxy host. Target hosts are resolved by
+     *                 {@link HttpURLConnection} itself.
+     */
+    public ExecutorService(final ExecutionListener listener, final Resolver resolver) {
+        Prerequisites.exists(listener, "Execution listener cannot be null");
+        Prerequisites.exists(resolver, "Resolver cannot be null");
+        this.listener = listener;
+        this.resolver = resolver;
+    }
+
     /**
      * Executes provided {@param request}.
      *
@@ -32,87 +67,139 @@ public final class ExecutorService implements Executor {
     @Override
     public Response execute(Request request) {
         long starts = System.nanoTime();
-        HttpURLConnection connection = createConnection(request);
+        ExecutionGuard guard = ExecutionGuard.arm(request.options(), starts);
 
-        try {
-            prepareConnection(connection, request);
+        try (StreamingResponse response = stream(ContentEncoding.compress(request), starts, guard)) {
+            return response.toResponse(starts, request.action());
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw guard.failure(new RequestExecutionException(e));
+        } finally {
+            guard.close();
         }
+    }
 
-        System.out.println("Request created in: " + TimeUnit.MILLISECONDS.convert(System.nanoTime() - starts, TimeUnit.NANOSECONDS) + " ms");
-        System.out.println("Executing " + request.action().name() + " request to " + connection.getURL().toString());
+    /**
+     * Executes provided {@param request} & streams response body directly from connection.
+     * Closing returned response closes body stream & disconnects. Compressed body is decoded as it is read,
+     * in case compression was negotiated. Deadline of request covers reading of body - once it passes or request
+     * is cancelled, connection is disconnected & reads fail with {@link IOException}.
+     *
+     * @param request to execute.
+     * @return execution {@link StreamingResponse}.
+     */
+    @Override
+    public StreamingResponse stream(Request request) {
+        long starts = System.nanoTime();
+        return stream(ContentEncoding.compress(request), starts, ExecutionGuard.arm(request.options(), starts));
+    }
 
-        // execute & create response
-        starts = System.nanoTime();
-        int code;
-        String message;
-        String body;
+    private StreamingResponse stream(Request request, long starts, ExecutionGuard guard) {
+        HttpURLConnection connection;
 
         try {
-            code = connection.getResponseCode();
-            message = connection.getResponseMessage();
-            InputStream inputStream = code < 300 ? connection.getInputStream() : connection.getErrorStream();
-            body = InputStreamExtensions.read(inputStream);
-            inputStream.close();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            connection = createConnection(request);
+        } catch (RuntimeException e) {
+            guard.close();
+            throw e;
         }
 
-        Map<String, List<String>> headers = connection.getHeaderFields();
-        long duration = TimeUnit.MILLISECONDS.convert(System.nanoTime() - starts, TimeUnit.NANOSECONDS);
-        connection.disconnect();
+        Execution execution = new Execution(request, Route.of(connection.getURL(), request.options().proxySettings()), starts);
+        // disconnecting closes socket, therefore thread, that is blocked on it, is released at once
+        guard.onAbort(connection::disconnect);
+
+        try {
+            prepareConnection(connection, request, execution);
+
+            int code = connection.getResponseCode();
+            listener.firstByte(execution, execution.elapsed(), code);
 
-        return new Response(code, message, body, headers, duration);
+            String message = connection.getResponseMessage();
+            InputStream inputStream = code < 300 ? connection.getInputStream() : connection.getErrorStream();
+            InputStream stream = inputStream == null ? new ByteArrayInputStream(new byte[0]) : inputStream;
+            MeteredInputStream metered = listener == ExecutionListener.NONE ? null : new MeteredInputStream(stream, listener, execution);
+            Headers headers = Headers.of(connection.getHeaderFields());
+            InputStream wire = metered == null ? stream : metered;
+            InputStream body = ContentEncoding.negotiates(request) ? ContentEncoding.decode(wire, headers) : wire;
+
+            return new StreamingResponse(code, message, headers, body, () -> {
+                guard.close();
+
+                if (metered != null) {
+                    metered.complete();
+                }
+
+                try {
+                    body.close();
+                } catch (IOException e) {
+                    // connection is disconnected either way
+                }
+
+                connection.disconnect();
+            });
+        } catch (IOException e) {
+            RuntimeException failure = guard.failure(new RequestExecutionException(e));
+            guard.close();
+            listener.failed(execution, execution.elapsed(), e);
+            connection.disconnect();
+            throw failure;
+        }
     }
 
-    private void prepareConnection(HttpURLConnection connection, Request request) throws IOException {
+    private void prepareConnection(HttpURLConnection connection, Request request, Execution execution) throws IOException {
         connection.setRequestMethod(request.action().name());
         putConnectionHeaders(connection, request.headers());
-        connection.setConnectTimeout(request.options().timeout());
+
+        if (ContentEncoding.negotiates(request)) {
+            connection.setRequestProperty("Accept-Encoding", ContentEncoding.ACCEPT_ENCODING);
+        }
+
+        connection.setConnectTimeout(request.options().connectTimeout());
+        connection.setReadTimeout(request.options().readTimeout());
+
+        long length = request.sendsBody() ? request.requestBody().length() : 0L;
 
         if (request.sendsBody()) {
             connection.setDoOutput(true);
 
+            if (length == -1) {
+                connection.setChunkedStreamingMode(CHUNK_SIZE);
+            } else {
+                connection.setFixedLengthStreamingMode(length);
+            }
+        }
+
+        connection.connect();
+        listener.connected(execution, execution.elapsed(), false);
+
+        if (request.sendsBody()) {
             try (OutputStream outputStream = connection.getOutputStream()) {
-                outputStream.write(request.body().getBytes(StandardCharsets.UTF_8));
+                request.requestBody().writeTo(outputStream);
             }
         }
+
+        // request without body is sent lazily, when response is requested
+        listener.requestWritten(execution, execution.elapsed(), length);
     }
 
-    private void putConnectionHeaders(HttpURLConnection connection, Map<String, List<String>> headers) {
-        headers.forEach((name, values) -> values.forEach(value -> connection.setRequestProperty(name, value)));
+    private void putConnectionHeaders(HttpURLConnection connection, Headers headers) {
+        for (int index = 0; index < headers.count(); index++) {
+            connection.addRequestProperty(headers.name(index), headers.value(index));
+        }
     }
 
     private HttpURLConnection createConnection(Request request) {
         ProxySettings proxySettings = request.options().proxySettings();
-        URL target = createURL(request);
+        URL target = request.url();
 
         try {
             if (proxySettings == null) {
                 return (HttpURLConnection) target.openConnection();
             } else {
-                Proxy proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress(proxySettings.target(), proxySettings.port()));
+                Proxy proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress(resolver.resolve(proxySettings.target()).get(0), proxySettings.port()));
                 return (HttpURLConnection) target.openConnection(proxy);
             }
         } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private URL createURL(Request request) {
-        String target = request.target();
-        Map<String, List<String>> parameters = request.parameters();
-
-        if (!MapExtensions.isEmpty(parameters)) {
-            Map<String, List<String>> params = QueryParameters.mergeQueryParameters(QueryParameters.extractQueryParameters(target), parameters);
-            target = QueryParameters.stripQueryString(target) + QueryParameters.createQueryString(params);
-        }
-
-        try {
-            return new URL(target);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+            throw new RequestExecutionException(e);
         }
     }
 }
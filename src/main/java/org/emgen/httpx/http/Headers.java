@@ -0,0 +1,319 @@
+package org.emgen.httpx.http;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable HTTP headers. Headers are kept as flat name & value arrays in order they were added - header with
+ * multiple values occupies multiple positions. Names are looked up case - insensitively, using precomputed hashes.
+ * Headers, that have null name, are skipped, null values are kept.
+ * <p>
+ * {@link Map} view groups values by name (first occurrence's spelling is used as key) & is built lazily, when it
+ * is iterated for the first time. Mutating methods of {@link Map} throw {@link UnsupportedOperationException}.
+ *
+ * @since 1.0.0
+ */
+public final class Headers extends AbstractMap<String, List<String>> {
+
+    public static final Headers EMPTY = new Headers(new String[0], new String[0], new int[0], 0);
+
+    private final String[] names;
+    private final String[] values;
+    private final int[] hashes;
+    private final int count;
+    private Set<Entry<String, List<String>>> entries;
+
+    private Headers(final String[] names, final String[] values, final int[] hashes, final int count) {
+        this.names = names;
+        this.values = values;
+        this.hashes = hashes;
+        this.count = count;
+    }
+
+    /**
+     * @param headers to convert.
+     * @return {@param headers} themselves in case they are {@link Headers}, otherwise their copy.
+     * {@link Headers#EMPTY} is returned in case {@param headers} are null.
+     */
+    public static Headers of(Map<String, List<String>> headers) {
+        if (headers instanceof Headers) {
+            return (Headers) headers;
+        }
+
+        return headers == null || headers.isEmpty() ? EMPTY : new Creator().putAll(headers).create();
+    }
+
+    /**
+     * @return count of name - value pairs.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @param index of name - value pair, from 0 to {@link Headers#count()} exclusive.
+     * @return name of pair at {@param index}.
+     */
+    public String name(int index) {
+        checkIndex(index);
+        return names[index];
+    }
+
+    /**
+     * @param index of name - value pair, from 0 to {@link Headers#count()} exclusive.
+     * @return value of pair at {@param index}.
+     */
+    public String value(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * @param name of header to look up.
+     * @return first value of header, that has provided {@param name} or null in case there is no such header.
+     */
+    public String first(String name) {
+        int index = indexOf(name, 0);
+        return index == -1 ? null : values[index];
+    }
+
+    /**
+     * @param name of header to look up.
+     * @return unmodifiable {@link List} of values of header, that has provided {@param name}. Empty {@link List}
+     * is returned in case there is no such header.
+     */
+    public List<String> values(String name) {
+        int index = indexOf(name, 0);
+
+        if (index == -1) {
+            return Collections.emptyList();
+        }
+
+        int next = indexOf(name, index + 1);
+
+        if (next == -1) {
+            return Collections.singletonList(values[index]);
+        }
+
+        List<String> list = new ArrayList<>(4);
+        list.add(values[index]);
+
+        for (; next != -1; next = indexOf(name, next + 1)) {
+            list.add(values[next]);
+        }
+
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * @param key - name of header to look up.
+     * @return unmodifiable {@link List} of values of header, that has provided name or null in case there is no
+     * such header.
+     */
+    @Override
+    public List<String> get(Object key) {
+        List<String> list = key instanceof String ? values((String) key) : Collections.emptyList();
+        return list.isEmpty() ? null : list;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && indexOf((String) key, 0) != -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        Set<Entry<String, List<String>>> set = entries;
+
+        if (set == null) {
+            set = new LinkedHashSet<>();
+
+            for (int index = 0; index < count; index++) {
+                if (indexOf(names[index], 0) == index) {
+                    set.add(new SimpleImmutableEntry<>(names[index], values(names[index])));
+                }
+            }
+
+            // immutable set, therefore racing threads build equal ones
+            entries = set = Collections.unmodifiableSet(set);
+        }
+
+        return set;
+    }
+
+    private int indexOf(String name, int from) {
+        if (name == null) {
+            return -1;
+        }
+
+        int hash = hash(name);
+
+        for (int index = from; index < count; index++) {
+            if (hashes[index] == hash && names[index].equalsIgnoreCase(name)) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", count: " + count);
+        }
+    }
+
+    static int hash(String name) {
+        int hash = 0;
+
+        for (int index = 0; index < name.length(); index++) {
+            char c = name.charAt(index);
+            hash = 31 * hash + (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : Character.toLowerCase(Character.toUpperCase(c)));
+        }
+
+        return hash;
+    }
+
+    public static final class Creator {
+
+        private String[] names;
+        private String[] values;
+        private int[] hashes;
+        private int count;
+
+        public Creator() {
+            this(8);
+        }
+
+        /**
+         * @param capacity - expected count of name - value pairs.
+         */
+        public Creator(final int capacity) {
+            this.names = new String[Math.max(capacity, 1)];
+            this.values = new String[names.length];
+            this.hashes = new int[names.length];
+        }
+
+        /**
+         * Creates {@link Creator}, that is initialized with name - value pairs of {@param headers}.
+         *
+         * @param headers to copy.
+         */
+        public Creator(final Headers headers) {
+            this(headers.count + 4);
+            System.arraycopy(headers.names, 0, names, 0, headers.count);
+            System.arraycopy(headers.values, 0, values, 0, headers.count);
+            System.arraycopy(headers.hashes, 0, hashes, 0, headers.count);
+            this.count = headers.count;
+        }
+
+        /**
+         * Adds header value. Existing values of header are kept.
+         *
+         * @param name  of header. Header is skipped in case it's null.
+         * @param value of header.
+         * @return instance of {@link Creator}.
+         */
+        public Creator add(String name, String value) {
+            if (name == null) {
+                return this;
+            }
+
+            if (count == names.length) {
+                int capacity = count * 2;
+                names = Arrays.copyOf(names, capacity);
+                values = Arrays.copyOf(values, capacity);
+                hashes = Arrays.copyOf(hashes, capacity);
+            }
+
+            names[count] = name;
+            values[count] = value;
+            hashes[count] = hash(name);
+            count++;
+            return this;
+        }
+
+        /**
+         * Replaces all values of header, named {@param name} (compared case - insensitively), with {@param value}.
+         *
+         * @param name  of header.
+         * @param value of header.
+         * @return instance of {@link Creator}.
+         */
+        public Creator set(String name, String value) {
+            return remove(name).add(name, value);
+        }
+
+        /**
+         * Removes all values of header, named {@param name}. Name is compared case - insensitively.
+         *
+         * @param name of header to remove.
+         * @return instance of {@link Creator}.
+         */
+        public Creator remove(String name) {
+            if (name == null) {
+                return this;
+            }
+
+            int hash = hash(name);
+            int retained = 0;
+
+            for (int index = 0; index < count; index++) {
+                if (hashes[index] != hash || !names[index].equalsIgnoreCase(name)) {
+                    names[retained] = names[index];
+                    values[retained] = values[index];
+                    hashes[retained] = hashes[index];
+                    retained++;
+                }
+            }
+
+            Arrays.fill(names, retained, count, null);
+            Arrays.fill(values, retained, count, null);
+            count = retained;
+            return this;
+        }
+
+        /**
+         * Adds all values of {@param headers}.
+         *
+         * @param headers to add. Null values lists are skipped.
+         * @return instance of {@link Creator}.
+         */
+        public Creator putAll(Map<String, List<String>> headers) {
+            if (headers instanceof Headers) {
+                Headers source = (Headers) headers;
+
+                for (int index = 0; index < source.count; index++) {
+                    add(source.names[index], source.values[index]);
+                }
+            } else if (headers != null) {
+                headers.forEach((name, values) -> {
+                    if (values != null) {
+                        values.forEach(value -> add(name, value));
+                    }
+                });
+            }
+
+            return this;
+        }
+
+        public Headers create() {
+            if (count == 0) {
+                return EMPTY;
+            }
+
+            return new Headers(Arrays.copyOf(names, count), Arrays.copyOf(values, count), Arrays.copyOf(hashes, count), count);
+        }
+    }
+}
@@ -0,0 +1,455 @@
+package org.emgen.httpx.http;
+
+import org.emgen.httpx.http.connection.BodyInputStream;
+import org.emgen.httpx.http.connection.Connection;
+import org.emgen.httpx.http.connection.ConnectionPool;
+import org.emgen.httpx.http.connection.ExecutionGuard;
+import org.emgen.httpx.http.connection.Http1Codec;
+import org.emgen.httpx.http.connection.ResponseHead;
+import org.emgen.httpx.http.connection.Route;
+import org.emgen.httpx.http.encoding.ContentEncoding;
+import org.emgen.httpx.http.exceptions.RequestExecutionException;
+import org.emgen.httpx.http.metrics.Execution;
+import org.emgen.httpx.http.metrics.ExecutionListener;
+import org.emgen.httpx.http.metrics.MeteredInputStream;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.request.RequestAction;
+import org.emgen.httpx.http.request.RequestOptions;
+import org.emgen.httpx.http.response.BatchResponse;
+import org.emgen.httpx.http.response.Response;
+import org.emgen.httpx.http.response.StreamingResponse;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link Executor}, that keeps persistent HTTP/1.1 connections in {@link ConnectionPool} & reuses them between
+ * requests to the same {@link Route}. Batches of requests can be pipelined over pooled connections.
+ * Unlike {@link ExecutorService}, which {@link java.net.HttpURLConnection} follows redirects of, executor does not
+ * follow redirects - 3xx responses are returned as they are, therefore caller follows 'Location' header, in case
+ * it needs to.
+ *
+ * @since 1.0.0
+ */
+public final class PooledExecutorService implements Executor {
+
+    /**
+     * Max count of unread body bytes, that are drained, when streaming response is closed early, in order to keep
+     * connection reusable. Connections with larger remainders are closed.
+     */
+    private static final long MAX_DRAIN_BYTES = 64 * 1024;
+
+    private final ConnectionPool pool;
+    private final ExecutionListener listener;
+
+    public PooledExecutorService() {
+        this(new ConnectionPool.Creator().create());
+    }
+
+    public PooledExecutorService(final ConnectionPool pool) {
+        this(pool, ExecutionListener.NONE);
+    }
+
+    public PooledExecutorService(final ConnectionPool pool, final ExecutionListener listener) {
+        Prerequisites.exists(pool, "Connection pool cannot be null");
+        Prerequisites.exists(listener, "Execution listener cannot be null");
+        this.pool = pool;
+        this.listener = listener;
+    }
+
+    public ConnectionPool pool() {
+        return pool;
+    }
+
+    /**
+     * Executes provided {@param request} over pooled connection.
+     *
+     * @param request to execute.
+     * @return execution {@link Response}.
+     * @throws RequestExecutionException in case request could not be executed.
+     */
+    @Override
+    public Response execute(Request request) {
+        long starts = System.nanoTime();
+        ExecutionGuard guard = ExecutionGuard.arm(request.options(), starts);
+
+        try (StreamingResponse response = stream(ContentEncoding.compress(request), starts, guard)) {
+            return response.toResponse(starts, request.action());
+        } catch (IOException e) {
+            throw guard.failure(new RequestExecutionException(e));
+        } finally {
+            guard.close();
+        }
+    }
+
+    /**
+     * Executes provided {@param request} over pooled connection & streams response body directly from it.
+     * Connection is returned to pool, when response is closed. In case reused connection turns out to be closed
+     * by server before response is received, idempotent request is repeated once over a new connection, unless
+     * it's body cannot be replayed. Compressed body is decoded as it is read, in case compression was negotiated. Deadline of
+     * request covers reading of body - once it passes or request is cancelled, connection is closed & reads fail
+     * with {@link IOException}.
+     *
+     * @param request to execute.
+     * @return execution {@link StreamingResponse}, that has to be closed.
+     * @throws RequestExecutionException in case request could not be executed.
+     */
+    @Override
+    public StreamingResponse stream(Request request) {
+        long starts = System.nanoTime();
+        return stream(ContentEncoding.compress(request), starts, ExecutionGuard.arm(request.options(), starts));
+    }
+
+    private StreamingResponse stream(Request request, long starts, ExecutionGuard guard) {
+        try {
+            return stream(request, new Execution(request, Route.of(request.url(), request.options().proxySettings()), starts), guard);
+        } catch (RuntimeException e) {
+            guard.close();
+            throw e;
+        }
+    }
+
+    private StreamingResponse stream(Request request, Execution execution, ExecutionGuard guard) {
+        URL url = request.url();
+        Route route = execution.route();
+        boolean retried = false;
+
+        while (true) {
+            Connection connection = lease(execution, request.options(), guard);
+            // closing socket releases thread, that is blocked on it, at once
+            guard.onAbort(connection::close);
+            ResponseHead head;
+
+            try {
+                connection.readTimeout(request.options().readTimeout());
+                Http1Codec.writeRequest(connection.output(), request, url, route);
+                listener.requestWritten(execution, execution.elapsed(), request.sendsBody() ? request.requestBody().length() : 0L);
+                head = Http1Codec.readHead(connection.input());
+                listener.firstByte(execution, execution.elapsed(), head.code());
+            } catch (IOException e) {
+                pool.discard(connection);
+
+                if (!retried && retryable(request, connection, guard)) {
+                    retried = true;
+                    continue;
+                }
+
+                listener.failed(execution, execution.elapsed(), e);
+                throw guard.failure(new RequestExecutionException(e));
+            } catch (RuntimeException e) {
+                // e.g. header, that cannot be encoded - connection might hold part of request, therefore it is not reused
+                pool.discard(connection);
+                throw e;
+            }
+
+            BodyInputStream body = Http1Codec.body(head, connection.input(), request.action());
+            return response(request, execution, head, body, () -> {
+                // guard is closed first, therefore aborted connection is never returned to pool
+                guard.close();
+                release(connection, head, body, !guard.aborted());
+            });
+        }
+    }
+
+    /**
+     * Executes {@param requests} over pooled connections without pipelining. Requests are grouped by
+     * {@link Route} & each route's requests are executed concurrently over at most
+     * {@link ConnectionPool#maxPerRoute()} connections.
+     *
+     * @param requests to execute.
+     * @return {@link BatchResponse}s in the same order as {@param requests}.
+     */
+    @Override
+    public List<BatchResponse> executeBatch(List<Request> requests) {
+        return executeBatch(requests, pool.maxPerRoute(), 1);
+    }
+
+    /**
+     * Executes {@param requests} over pooled connections. Requests are grouped by {@link Route} & each route's
+     * requests are executed concurrently on {@link AsyncExecutor#sharedThreads()} over at most {@param connections}
+     * connections, that are leased from pool. Consecutive GET & HEAD requests without body are pipelined - up to
+     * {@param pipelineDepth} of them are written to connection before their responses are read. Pipelined requests,
+     * that were not answered, because connection was closed, are repeated once over another connection. Pipelined
+     * requests share read timeout of the first one & are not subject to deadlines & cancellation.
+     * Failure of a single request does not fail the batch - it is reported in request's {@link BatchResponse}.
+     *
+     * @param requests      to execute.
+     * @param connections   - max count of connections per route, that are used concurrently.
+     * @param pipelineDepth - max count of requests, that are sent over connection before their responses are read.
+     *                      1 disables pipelining.
+     * @return {@link BatchResponse}s in the same order as {@param requests}.
+     * @throws IllegalArgumentException in case {@param connections} or {@param pipelineDepth} is not positive.
+     */
+    public List<BatchResponse> executeBatch(List<Request> requests, int connections, int pipelineDepth) {
+        Prerequisites.exists(requests, "Requests cannot be null");
+
+        if (connections < 1 || pipelineDepth < 1) {
+            throw new IllegalArgumentException("Parameters 'connections' & 'pipelineDepth' have to be positive");
+        }
+
+        BatchResponse[] responses = new BatchResponse[requests.size()];
+        Map<Route, Batch> batches = new LinkedHashMap<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            Request original = requests.get(index);
+
+            try {
+                Request request = ContentEncoding.compress(original);
+                URL url = request.url();
+                Route route = Route.of(url, request.options().proxySettings());
+                batches.computeIfAbsent(route, Batch::new).add(new BatchItem(index, original, request, url));
+            } catch (RuntimeException e) {
+                responses[index] = BatchResponse.failed(original, e);
+            }
+        }
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+
+        for (Batch batch : batches.values()) {
+            for (int worker = Math.min(connections, batch.size()); worker > 0; worker--) {
+                workers.add(CompletableFuture.runAsync(() -> work(batch, pipelineDepth, responses), AsyncExecutor.sharedThreads()));
+            }
+        }
+
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+        return Arrays.asList(responses);
+    }
+
+    private void work(Batch batch, int pipelineDepth, BatchResponse[] responses) {
+        for (List<BatchItem> items = batch.poll(pipelineDepth); !items.isEmpty(); items = batch.poll(pipelineDepth)) {
+            if (items.size() == 1) {
+                BatchItem item = items.get(0);
+                responses[item.index] = execute(item);
+            } else {
+                pipeline(batch, items, responses);
+            }
+        }
+    }
+
+    private BatchResponse execute(BatchItem item) {
+        long starts = System.nanoTime();
+
+        try (StreamingResponse response = stream(item.request, starts, ExecutionGuard.arm(item.request.options(), starts))) {
+            return BatchResponse.succeeded(item.original, response.toResponse(starts, item.request.action()));
+        } catch (IOException e) {
+            return BatchResponse.failed(item.original, new RequestExecutionException(e));
+        } catch (RuntimeException e) {
+            return BatchResponse.failed(item.original, e);
+        }
+    }
+
+    private void pipeline(Batch batch, List<BatchItem> items, BatchResponse[] responses) {
+        long starts = System.nanoTime();
+        Execution[] executions = new Execution[items.size()];
+        Connection connection;
+
+        for (int index = 0; index < items.size(); index++) {
+            executions[index] = new Execution(items.get(index).request, batch.route, starts);
+        }
+
+        try {
+            RequestOptions options = items.get(0).request.options();
+            connection = pool.lease(batch.route, options.connectTimeout(), options.readTimeout(), null);
+        } catch (RequestExecutionException e) {
+            for (int index = 0; index < items.size(); index++) {
+                listener.failed(executions[index], executions[index].elapsed(), e);
+                responses[items.get(index).index] = BatchResponse.failed(items.get(index).original, e);
+            }
+
+            return;
+        }
+
+        int received = 0;
+        boolean reusable = true;
+        IOException failure = null;
+
+        try {
+            connection.readTimeout(items.get(0).request.options().readTimeout());
+
+            for (int index = 0; index < items.size(); index++) {
+                BatchItem item = items.get(index);
+                listener.connected(executions[index], executions[index].elapsed(), connection.reused() || index > 0);
+                connection.output().write(Http1Codec.encodeHead(item.request, item.url, batch.route, 0L));
+            }
+
+            connection.output().flush();
+
+            for (Execution execution : executions) {
+                listener.requestWritten(execution, execution.elapsed(), 0L);
+            }
+
+            while (received < items.size() && reusable) {
+                BatchItem item = items.get(received);
+                Execution execution = executions[received];
+                ResponseHead head = Http1Codec.readHead(connection.input());
+                listener.firstByte(execution, execution.elapsed(), head.code());
+                BodyInputStream body = Http1Codec.body(head, connection.input(), item.request.action());
+
+                try (StreamingResponse response = response(item.request, execution, head, body, () -> {
+                })) {
+                    responses[item.index] = BatchResponse.succeeded(item.original, response.toResponse(starts, item.request.action()));
+                }
+
+                reusable = head.keepAlive() && body.reusable();
+                received++;
+            }
+        } catch (IOException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            // state of connection is not known, therefore it is discarded & requests, that were not answered, fail
+            pool.discard(connection);
+
+            for (int index = received; index < items.size(); index++) {
+                listener.failed(executions[index], executions[index].elapsed(), e);
+                responses[items.get(index).index] = BatchResponse.failed(items.get(index).original, e);
+            }
+
+            return;
+        }
+
+        pool.release(connection, failure == null && reusable);
+        List<BatchItem> unanswered = new ArrayList<>();
+
+        // requests, that were not answered before connection was closed, are repeated once
+        for (int index = received; index < items.size(); index++) {
+            BatchItem item = items.get(index);
+
+            if (failure != null && ++item.attempts > 1) {
+                listener.failed(executions[index], executions[index].elapsed(), failure);
+                responses[item.index] = BatchResponse.failed(item.original, new RequestExecutionException(failure));
+            } else {
+                unanswered.add(item);
+            }
+        }
+
+        batch.requeue(unanswered);
+    }
+
+    private StreamingResponse response(Request request, Execution execution, ResponseHead head, BodyInputStream body, Runnable release) {
+        MeteredInputStream metered = listener == ExecutionListener.NONE ? null : new MeteredInputStream(body, listener, execution);
+        InputStream wire = metered == null ? body : metered;
+        InputStream stream = ContentEncoding.negotiates(request) ? ContentEncoding.decode(wire, head.headers()) : wire;
+        return new StreamingResponse(head.code(), head.message(), head.headers(), stream, () -> {
+            if (metered != null) {
+                metered.complete();
+            }
+
+            release.run();
+        });
+    }
+
+    /**
+     * @return true in case {@param request} may be repeated after {@param connection}, that was reused, turned out to
+     * be stale - request was not aborted, is idempotent & it's body can be replayed.
+     */
+    private static boolean retryable(Request request, Connection connection, ExecutionGuard guard) {
+        return !guard.aborted()
+                && connection.reused()
+                && request.action().idempotent()
+                && (!request.sendsBody() || request.requestBody().replayable());
+    }
+
+    /**
+     * Leases connection for {@param execution}. {@param guard} closes new connection's socket, in case execution
+     * is aborted, while proxy tunnel or TLS session is established.
+     */
+    private Connection lease(Execution execution, RequestOptions options, ExecutionGuard guard) {
+        try {
+            Connection connection = pool.lease(execution.route(), options.connectTimeout(), options.readTimeout(), guard);
+            listener.connected(execution, execution.elapsed(), connection.reused());
+            return connection;
+        } catch (RequestExecutionException e) {
+            RuntimeException failure = guard.failure(e);
+            listener.failed(execution, execution.elapsed(), failure);
+            throw failure;
+        }
+    }
+
+    private void release(Connection connection, ResponseHead head, BodyInputStream body, boolean intact) {
+        boolean reusable = intact && head.keepAlive() && body.delimited() && drain(body);
+        pool.release(connection, reusable);
+    }
+
+    private boolean drain(BodyInputStream body) {
+        try {
+            return body.exhausted() || body.skip(MAX_DRAIN_BYTES) < MAX_DRAIN_BYTES && body.exhausted();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Requests of a single batch, that are sent to the same {@link Route}.
+     */
+    private static final class Batch {
+
+        private final Route route;
+        private final Deque<BatchItem> items = new ArrayDeque<>();
+
+        private Batch(final Route route) {
+            this.route = route;
+        }
+
+        synchronized void add(BatchItem item) {
+            items.addLast(item);
+        }
+
+        synchronized int size() {
+            return items.size();
+        }
+
+        /**
+         * @return next request or consecutive pipelinable requests, up to {@param pipelineDepth} of them. Empty
+         * {@link List} is returned in case there are no requests left.
+         */
+        synchronized List<BatchItem> poll(int pipelineDepth) {
+            List<BatchItem> polled = new ArrayList<>(Math.min(pipelineDepth, items.size()));
+
+            for (BatchItem item = items.peekFirst(); item != null; item = items.peekFirst()) {
+                if (!polled.isEmpty() && (polled.size() == pipelineDepth || !item.pipelinable() || !polled.get(0).pipelinable())) {
+                    break;
+                }
+
+                polled.add(items.pollFirst());
+            }
+
+            return polled;
+        }
+
+        synchronized void requeue(List<BatchItem> unanswered) {
+            for (int index = unanswered.size() - 1; index >= 0; index--) {
+                items.addFirst(unanswered.get(index));
+            }
+        }
+    }
+
+    private static final class BatchItem {
+
+        private final int index;
+        private final Request original;
+        private final Request request;
+        private final URL url;
+        private int attempts;
+
+        private BatchItem(final int index, final Request original, final Request request, final URL url) {
+            this.index = index;
+            this.original = original;
+            this.request = request;
+            this.url = url;
+        }
+
+        boolean pipelinable() {
+            return (request.action() == RequestAction.GET || request.action() == RequestAction.HEAD) && !request.sendsBody();
+        }
+    }
+}
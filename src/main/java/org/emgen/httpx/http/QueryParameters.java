@@ -5,11 +5,11 @@ import org.emgen.httpx.extensions.MapExtensions;
 import org.emgen.httpx.extensions.StringExtensions;
 import org.emgen.httpx.extensions.URLEncodingExtensions;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * @since 1.0.0
@@ -24,7 +24,7 @@ public final class QueryParameters {
     }
 
     /**
-     * Crates query string from {@param parameters}.
+     * Crates query string from {@param parameters}. Parameters, that have empty names, are skipped.
      * In case {@param parameters} are empty, empty string is returned.
      *
      * @param parameters - {@link Map} of query parameters to create query string from.
@@ -36,19 +36,44 @@ public final class QueryParameters {
             return "";
         }
 
-        return QUERY_STRING_PREFIX + MapExtensions
-                .removeByKeyPredicate(parameters, StringExtensions::isEmpty)
-                .entrySet()
-                .stream()
-                .map(entry -> entry.getValue()
-                        .stream()
-                        .map(value -> encodeQueryParameter(entry.getKey(), value == null ? "" : value))
-                        .collect(Collectors.joining(QUERY_PARAMETERS_DELIMITER)))
-                .collect(Collectors.joining(QUERY_PARAMETERS_DELIMITER));
+        StringBuilder query = new StringBuilder(16 * parameters.size()).append(QUERY_STRING_PREFIX);
+        boolean first = true;
+
+        for (Map.Entry<String, List<String>> entry : parameters.entrySet()) {
+            String name = entry.getKey();
+
+            if (StringExtensions.isEmpty(name)) {
+                continue;
+            }
+
+            // parameter without values still takes it's place between delimiters
+            if (!first) {
+                query.append(QUERY_PARAMETERS_DELIMITER);
+            }
+
+            first = false;
+            boolean firstValue = true;
+
+            for (String value : entry.getValue() == null ? Collections.<String>emptyList() : entry.getValue()) {
+                if (!firstValue) {
+                    query.append(QUERY_PARAMETERS_DELIMITER);
+                }
+
+                firstValue = false;
+                URLEncodingExtensions.encode(name, query).append('=');
+
+                if (value != null) {
+                    URLEncodingExtensions.encode(value, query);
+                }
+            }
+        }
+
+        return query.toString();
     }
 
     /**
      * Extracts query parameters as a {@link Map} from {@param string} in case it contains query string.
+     * Parameters, that have no name or no '=' separator, are skipped. Parameters without value are mapped to null.
      *
      * @param string to extract query parameters from.
      * @return {@link Map} of query parameters or empty {@link Map}, in case {@param string} does not
@@ -57,22 +82,30 @@ public final class QueryParameters {
     public static Map<String, List<String>> extractQueryParameters(String string) {
         Map<String, List<String>> parameters = new HashMap<>();
 
-        for (String parameter : extractQueryString(string).substring(1).split(QUERY_PARAMETERS_DELIMITER)) {
-            int index = parameter.indexOf("=");
-            String key = index > 0 ? URLEncodingExtensions.decode(parameter.substring(0, index)) : null;
+        if (!containsQueryString(string)) {
+            return parameters;
+        }
 
-            if (key == null) {
-                continue;
-            }
+        int length = string.length();
 
-            String value = parameter.length() > index + 1 ? URLEncodingExtensions.decode(parameter.substring(index + 1)) : null;
-            List<String> values = parameters.get(key);
+        for (int start = queryStringIndex(string) + 1; start < length; ) {
+            int end = string.indexOf('&', start);
+            end = end == -1 ? length : end;
+            int index = string.indexOf('=', start);
 
-            if (values == null) {
-                parameters.put(key, ListExtensions.create(value));
-            } else {
-                values.add(value);
+            if (index > start && index < end) {
+                String key = URLEncodingExtensions.decode(string, start, index);
+                String value = end > index + 1 ? URLEncodingExtensions.decode(string, index + 1, end) : null;
+                List<String> values = parameters.get(key);
+
+                if (values == null) {
+                    parameters.put(key, ListExtensions.create(value));
+                } else {
+                    values.add(value);
+                }
             }
+
+            start = end + 1;
         }
 
         return parameters;
@@ -99,6 +132,7 @@ public final class QueryParameters {
         return containsQueryString(string) ? string.substring(0, queryStringIndex(string)) : string;
     }
 
+    @SafeVarargs
     public static Map<String, List<String>> mergeQueryParameters(Map<String, List<String>>... maps) {
         if (maps == null) {
             return Collections.emptyMap();
@@ -113,7 +147,7 @@ public final class QueryParameters {
                 List<String> curr = res.get(key);
 
                 if (curr == null) {
-                    res.put(key, value);
+                    res.put(key, value == null ? new ArrayList<>() : new ArrayList<>(value));
                 } else {
                     value.forEach(curr::add);
                 }
@@ -130,8 +164,4 @@ public final class QueryParameters {
     private static int queryStringIndex(String string) {
         return string.indexOf(QUERY_STRING_PREFIX);
     }
-
-    private static String encodeQueryParameter(String name, String value) {
-        return URLEncodingExtensions.encode(name) + "=" + URLEncodingExtensions.encode(value);
-    }
 }
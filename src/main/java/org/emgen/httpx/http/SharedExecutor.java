@@ -0,0 +1,38 @@
+package org.emgen.httpx.http;
+
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+/**
+ * Holds {@link Executor}, that is shared by {@link org.emgen.httpx.http.request.Request#execute()} calls.
+ * By default {@link ExecutorService} is used.
+ *
+ * @since 1.0.0
+ */
+public final class SharedExecutor {
+
+    private static volatile Executor executor = new ExecutorService();
+
+    private SharedExecutor() {
+        throw new InstantiationError("org.emgen.httpx.http.SharedExecutor.class cannot be instantiated.");
+    }
+
+    /**
+     * @return shared {@link Executor}.
+     */
+    public static Executor get() {
+        return executor;
+    }
+
+    /**
+     * Replaces shared {@link Executor} - e.g. with {@link PooledExecutorService} to reuse connections between
+     * {@link org.emgen.httpx.http.request.Request#execute()} calls. Note, that {@link ExecutorService} follows
+     * redirects, while {@link PooledExecutorService}, {@link org.emgen.httpx.http.nio.NioExecutorService} &
+     * {@link org.emgen.httpx.http.h2.Http2ExecutorService} return 3xx responses as they are.
+     *
+     * @param executor to share.
+     */
+    public static void set(Executor executor) {
+        Prerequisites.exists(executor, "Shared executor cannot be null");
+        SharedExecutor.executor = executor;
+    }
+}
@@ -0,0 +1,371 @@
+package org.emgen.httpx.http.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of reusable buffers, that are used to read & write bodies, instead of allocating a new buffer per call.
+ * Buffers are grouped into power - of - two size classes between {@link #minSize()} & {@link #maxSize()} - each
+ * class retains up to {@link #retainedBytes()} of released buffers in a lock - free array of slots. Threads start
+ * scanning slots at an offset, derived from their id, therefore concurrent callers rarely contend for the same
+ * slot. Buffers above {@link #maxSize()} are allocated on demand & are not retained.
+ * <p>
+ * With leak detection enabled, pool tracks every acquired buffer together with stack trace of it's acquisition,
+ * so that buffers, that were never released, are reported by {@link #leaks()}. Shared pool enables it in case
+ * system property "httpx.buffers.leakDetection" is true, e.g. in tests.
+ *
+ * @since 1.0.0
+ */
+public final class BufferPool {
+
+    private static final int SCAN_LENGTH = 8;
+    private static final BufferPool SHARED = new Creator()
+            .leakDetection(Boolean.getBoolean("httpx.buffers.leakDetection"))
+            .create();
+
+    private final int minSize;
+    private final int maxSize;
+    private final long retainedBytes;
+    private final boolean direct;
+    private final AtomicReferenceArray<byte[]>[] arrays;
+    private final AtomicReferenceArray<ByteBuffer>[] buffers;
+    private final Map<Object, Throwable> acquired;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param minSize       - size of the smallest size class in bytes. Rounded up to power of two.
+     * @param maxSize       - size of the largest size class in bytes. Rounded up to power of two.
+     * @param retainedBytes - bytes of released buffers, that each size class retains at most.
+     * @param direct        - true in case {@link #buffer(int)} allocates direct buffers.
+     * @param leakDetection - true in case acquired buffers are tracked till they are released.
+     */
+    public BufferPool(final int minSize, final int maxSize, final long retainedBytes, final boolean direct, final boolean leakDetection) {
+        if (minSize < 1) {
+            throw new IllegalArgumentException("Parameter 'minSize' has to be positive");
+        }
+
+        if (maxSize < minSize || maxSize > 1 << 30) {
+            throw new IllegalArgumentException("Parameter 'maxSize' has to be in range [minSize, 2^30]");
+        }
+
+        if (retainedBytes < 0) {
+            throw new IllegalArgumentException("Parameter 'retainedBytes' cannot be negative");
+        }
+
+        this.minSize = ceilingPowerOfTwo(minSize);
+        this.maxSize = ceilingPowerOfTwo(maxSize);
+        this.retainedBytes = retainedBytes;
+        this.direct = direct;
+
+        int classes = Integer.numberOfTrailingZeros(this.maxSize) - Integer.numberOfTrailingZeros(this.minSize) + 1;
+        this.arrays = slots(classes);
+        this.buffers = slots(classes);
+
+        for (int index = 0; index < classes; index++) {
+            int slots = (int) Math.min(Integer.MAX_VALUE, retainedBytes / ((long) this.minSize << index));
+            arrays[index] = new AtomicReferenceArray<>(slots);
+            buffers[index] = new AtomicReferenceArray<>(slots);
+        }
+
+        this.acquired = leakDetection ? Collections.synchronizedMap(new IdentityHashMap<>()) : null;
+    }
+
+    /**
+     * @return pool, that is shared by body read & write paths.
+     */
+    public static BufferPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * @param size - minimal length of array.
+     * @return array, which length is {@param size} rounded up to size class, or exactly {@param size} in case it
+     * is larger than {@link #maxSize()}. Content of array is undefined.
+     */
+    public byte[] array(int size) {
+        int index = sizeClass(size);
+        byte[] array = index == -1 ? null : take(arrays[index]);
+
+        if (array == null) {
+            misses.increment();
+            array = new byte[index == -1 ? size : minSize << index];
+        } else {
+            hits.increment();
+        }
+
+        track(array);
+        return array;
+    }
+
+    /**
+     * Returns {@param array} to pool. Array must not be used afterwards. Arrays, which length is not a size class,
+     * are dropped.
+     *
+     * @param array to release.
+     */
+    public void release(byte[] array) {
+        if (array == null) {
+            return;
+        }
+
+        untrack(array);
+        int index = classOf(array.length);
+
+        if (index != -1) {
+            put(arrays[index], array);
+        }
+    }
+
+    /**
+     * @param size - minimal capacity of buffer.
+     * @return cleared buffer, which limit is {@param size}. Buffer is direct in case pool was created so.
+     */
+    public ByteBuffer buffer(int size) {
+        int index = sizeClass(size);
+        ByteBuffer buffer = index == -1 ? null : take(buffers[index]);
+
+        if (buffer == null) {
+            misses.increment();
+            int capacity = index == -1 ? size : minSize << index;
+            buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        } else {
+            hits.increment();
+        }
+
+        track(buffer);
+        buffer.clear().limit(size);
+        return buffer;
+    }
+
+    /**
+     * Returns {@param buffer} to pool. Buffer must not be used afterwards.
+     *
+     * @param buffer to release.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null) {
+            return;
+        }
+
+        untrack(buffer);
+        int index = classOf(buffer.capacity());
+
+        if (index != -1 && buffer.isDirect() == direct && !buffer.isReadOnly()) {
+            put(buffers[index], buffer);
+        }
+    }
+
+    /**
+     * @return stack traces of acquisitions of buffers, that were not released yet, or empty list in case leak
+     * detection is disabled.
+     */
+    public List<Throwable> leaks() {
+        if (acquired == null) {
+            return Collections.emptyList();
+        }
+
+        synchronized (acquired) {
+            return new ArrayList<>(acquired.values());
+        }
+    }
+
+    /**
+     * @return count of acquisitions, that reused a released buffer.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return count of acquisitions, that allocated a new buffer.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    public int minSize() {
+        return minSize;
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public long retainedBytes() {
+        return retainedBytes;
+    }
+
+    public boolean direct() {
+        return direct;
+    }
+
+    public boolean leakDetection() {
+        return acquired != null;
+    }
+
+    private int sizeClass(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Parameter 'size' cannot be negative");
+        }
+
+        if (size > maxSize) {
+            return -1;
+        }
+
+        return size <= minSize ? 0 : Integer.numberOfTrailingZeros(ceilingPowerOfTwo(size)) - Integer.numberOfTrailingZeros(minSize);
+    }
+
+    private int classOf(int length) {
+        if (length < minSize || length > maxSize || Integer.bitCount(length) != 1) {
+            return -1;
+        }
+
+        return Integer.numberOfTrailingZeros(length) - Integer.numberOfTrailingZeros(minSize);
+    }
+
+    /**
+     * @return array of {@param classes} size classes - Java does not allow to create generic array directly.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <B> AtomicReferenceArray<B>[] slots(int classes) {
+        return new AtomicReferenceArray[classes];
+    }
+
+    private static <B> B take(AtomicReferenceArray<B> slots) {
+        int length = slots.length();
+
+        if (length == 0) {
+            return null;
+        }
+
+        int start = stripe(length);
+
+        for (int n = 0; n < Math.min(SCAN_LENGTH, length); n++) {
+            int index = (start + n) % length;
+            B slot = slots.get(index);
+
+            if (slot != null && slots.compareAndSet(index, slot, null)) {
+                return slot;
+            }
+        }
+
+        return null;
+    }
+
+    private static <B> void put(AtomicReferenceArray<B> slots, B value) {
+        int length = slots.length();
+
+        if (length == 0) {
+            return;
+        }
+
+        int start = stripe(length);
+
+        for (int n = 0; n < Math.min(SCAN_LENGTH, length); n++) {
+            int index = (start + n) % length;
+
+            if (slots.get(index) == null && slots.compareAndSet(index, null, value)) {
+                return;
+            }
+        }
+
+        // neighbouring slots are occupied - buffer is left for garbage collector
+    }
+
+    /**
+     * @return slot, that current thread starts scanning at. Threads, which ids are close, start far apart.
+     */
+    private static int stripe(int length) {
+        long id = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return (int) ((id >>> 33) % length);
+    }
+
+    private void track(Object buffer) {
+        if (acquired != null) {
+            acquired.put(buffer, new Throwable("Buffer of " + (buffer instanceof byte[] ? ((byte[]) buffer).length : ((ByteBuffer) buffer).capacity()) + " bytes was acquired here"));
+        }
+    }
+
+    private void untrack(Object buffer) {
+        if (acquired != null && acquired.remove(buffer) == null) {
+            throw new IllegalStateException("Buffer was released more than once or was not acquired from pool");
+        }
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferPool{" +
+                "minSize=" + minSize +
+                ", maxSize=" + maxSize +
+                ", retainedBytes=" + retainedBytes +
+                ", direct=" + direct +
+                ", leakDetection=" + leakDetection() +
+                ", hits=" + hits() +
+                ", misses=" + misses() +
+                '}';
+    }
+
+    public static final class Creator {
+
+        private int minSize = 1024;
+        private int maxSize = 1024 * 1024;
+        private long retainedBytes = 4L * 1024 * 1024;
+        private boolean direct;
+        private boolean leakDetection;
+
+        /**
+         * @param minSize - size of the smallest size class in bytes. 1 KB by default.
+         * @param maxSize - size of the largest size class in bytes. 1 MB by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator sizes(int minSize, int maxSize) {
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @param retainedBytes - bytes of released buffers, that each size class retains at most. 4 MB by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator retainedBytes(long retainedBytes) {
+            this.retainedBytes = retainedBytes;
+            return this;
+        }
+
+        /**
+         * @param direct - true in case {@link BufferPool#buffer(int)} allocates direct buffers. False by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator direct(boolean direct) {
+            this.direct = direct;
+            return this;
+        }
+
+        /**
+         * @param leakDetection - true in case acquired buffers are tracked till they are released. Tracking
+         *                      captures stack trace per acquisition, therefore it is meant for tests. False by
+         *                      default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator leakDetection(boolean leakDetection) {
+            this.leakDetection = leakDetection;
+            return this;
+        }
+
+        public BufferPool create() {
+            return new BufferPool(minSize, maxSize, retainedBytes, direct, leakDetection);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.emgen.httpx.http.cache;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Directives of 'Cache-Control' header, that are relevant for private client cache.
+ *
+ * @since 1.0.0
+ */
+public final class CacheControl {
+
+    private static final CacheControl EMPTY = new CacheControl(false, false, -1L);
+
+    private final boolean noStore;
+    private final boolean noCache;
+    private final long maxAge;
+
+    private CacheControl(final boolean noStore, final boolean noCache, final long maxAge) {
+        this.noStore = noStore;
+        this.noCache = noCache;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Parses 'Cache-Control' header {@param values}. Unknown & malformed directives are ignored.
+     *
+     * @param values of 'Cache-Control' header. Might be null.
+     * @return parsed {@link CacheControl}.
+     */
+    public static CacheControl parse(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return EMPTY;
+        }
+
+        boolean noStore = false;
+        boolean noCache = false;
+        long maxAge = -1L;
+
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+
+            for (String directive : value.split(",")) {
+                int index = directive.indexOf('=');
+                String name = (index == -1 ? directive : directive.substring(0, index)).trim().toLowerCase(Locale.ROOT);
+                String argument = index == -1 ? null : unquote(directive.substring(index + 1).trim());
+
+                switch (name) {
+                    case "no-store":
+                        noStore = true;
+                        break;
+                    case "no-cache":
+                        noCache = true;
+                        break;
+                    case "max-age":
+                        maxAge = seconds(argument, maxAge);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        return new CacheControl(noStore, noCache, maxAge);
+    }
+
+    /**
+     * @return true in case response must not be stored.
+     */
+    public boolean noStore() {
+        return noStore;
+    }
+
+    /**
+     * @return true in case stored response must be revalidated before it is used.
+     */
+    public boolean noCache() {
+        return noCache;
+    }
+
+    /**
+     * @return 'max-age' directive in seconds or -1 in case it is absent.
+     */
+    public long maxAge() {
+        return maxAge;
+    }
+
+    private static long seconds(String argument, long fallback) {
+        try {
+            return argument == null ? fallback : Math.max(0L, Long.parseLong(argument));
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static String unquote(String value) {
+        return value.length() > 1 && value.startsWith("\"") && value.endsWith("\"") ? value.substring(1, value.length() - 1) : value;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheControl{" +
+                "noStore=" + noStore +
+                ", noCache=" + noCache +
+                ", maxAge=" + maxAge +
+                '}';
+    }
+}
@@ -0,0 +1,71 @@
+package org.emgen.httpx.http.cache;
+
+import org.emgen.httpx.http.response.Response;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Stored {@link Response} together with it's freshness & validators.
+ *
+ * @since 1.0.0
+ */
+final class CacheEntry {
+
+    final Response response;
+    final long createdAt;
+    final long expiresAt;
+    final String etag;
+    final String lastModified;
+    final Map<String, List<String>> varying;
+    final long weight;
+
+    /**
+     * @param response     - stored {@link Response}.
+     * @param createdAt    - epoch milliseconds, when response was generated by origin server.
+     * @param expiresAt    - epoch milliseconds, when response becomes stale.
+     * @param etag         - 'ETag' validator or null.
+     * @param lastModified - 'Last-Modified' validator or null.
+     * @param varying      - values of request headers, that are listed in response's 'Vary' header.
+     * @param weight       - approximate count of bytes, that entry occupies.
+     */
+    CacheEntry(
+            final Response response,
+            final long createdAt,
+            final long expiresAt,
+            final String etag,
+            final String lastModified,
+            final Map<String, List<String>> varying,
+            final long weight
+    ) {
+        this.response = response;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.varying = varying;
+        this.weight = weight;
+    }
+
+    /**
+     * @param now    - current epoch milliseconds.
+     * @param maxAge - max age in seconds, that request accepts, or -1.
+     * @return true in case entry can be used without revalidation.
+     */
+    boolean fresh(long now, long maxAge) {
+        return now < expiresAt && (maxAge < 0 || now - createdAt <= maxAge * 1000L);
+    }
+
+    boolean hasValidators() {
+        return etag != null || lastModified != null;
+    }
+
+    /**
+     * @param varying - values of request headers, that are listed in response's 'Vary' header.
+     * @return true in case entry was stored for request with the same values.
+     */
+    boolean matches(Map<String, List<String>> varying) {
+        return Objects.equals(this.varying, varying);
+    }
+}
@@ -0,0 +1,389 @@
+package org.emgen.httpx.http.cache;
+
+import org.emgen.httpx.extensions.StringExtensions;
+import org.emgen.httpx.http.Executor;
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.http.SharedExecutor;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.request.RequestAction;
+import org.emgen.httpx.http.response.Response;
+import org.emgen.httpx.http.response.StreamingResponse;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link Executor}, that keeps responses to GET & HEAD requests in memory & serves them, while they are fresh,
+ * without executing requests. Cache is keyed by request action & target {@link java.net.URL}, it honours
+ * 'Cache-Control' (max-age, no-cache, no-store) & 'Expires' headers, revalidates stale responses, that carry
+ * 'ETag' or 'Last-Modified' validators, using conditional requests & evicts the least recently used responses,
+ * once their total weight ({@link Response#bytesCount()}) exceeds the limit.
+ * Responses of successful unsafe requests (POST, PUT, DELETE, PATCH) invalidate stored responses of their target.
+ *
+ * @since 1.0.0
+ */
+public final class CachingExecutor implements Executor {
+
+    private static final Set<Integer> CACHEABLE_CODES = new HashSet<>(Arrays.asList(200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501));
+    private static final Set<RequestAction> UNSAFE_ACTIONS = new HashSet<>(Arrays.asList(RequestAction.POST, RequestAction.PUT, RequestAction.DELETE, RequestAction.PATCH));
+    private static final List<String> CONDITIONAL_HEADERS = Arrays.asList("If-None-Match", "If-Modified-Since", "If-Match", "If-Unmodified-Since", "If-Range");
+
+    private final Executor delegate;
+    private final long maxWeight;
+    private final Clock clock;
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long weight;
+
+    public CachingExecutor(final Executor delegate, final long maxWeight) {
+        this(delegate, maxWeight, Clock.systemUTC());
+    }
+
+    /**
+     * @param delegate  - {@link Executor}, that executes requests, which cannot be served from cache.
+     * @param maxWeight - max total weight of stored responses in bytes.
+     * @param clock     - {@link Clock}, that freshness of responses is evaluated with.
+     */
+    public CachingExecutor(final Executor delegate, final long maxWeight, final Clock clock) {
+        Prerequisites.exists(delegate, "Delegate executor cannot be null");
+        Prerequisites.exists(clock, "Clock cannot be null");
+
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("Parameter 'maxWeight' has to be positive");
+        }
+
+        this.delegate = delegate;
+        this.maxWeight = maxWeight;
+        this.clock = clock;
+    }
+
+    /**
+     * Serves {@param request} from cache in case fresh response is stored, otherwise executes it, using delegate
+     * executor & stores it's response in case it is cacheable.
+     *
+     * @param request to execute.
+     * @return execution {@link Response}.
+     */
+    @Override
+    public Response execute(Request request) {
+        if (!cacheable(request)) {
+            Response response = delegate.execute(request);
+
+            if (UNSAFE_ACTIONS.contains(request.action()) && response.code() < 400) {
+                invalidate(request);
+            }
+
+            return response;
+        }
+
+        Headers requestHeaders = request.headers();
+        CacheControl control = CacheControl.parse(requestHeaders.values("Cache-Control"));
+        String key = key(request.action(), request);
+        CacheEntry entry = control.noStore() ? null : lookup(key, requestHeaders);
+
+        if (entry != null && !control.noCache() && entry.fresh(clock.millis(), control.maxAge())) {
+            hits.increment();
+            return entry.response;
+        }
+
+        if (entry != null && entry.hasValidators()) {
+            Response response = delegate.execute(conditional(request, entry));
+
+            if (response.code() == 304) {
+                revalidations.increment();
+                return revalidate(key, requestHeaders, entry, response);
+            }
+
+            misses.increment();
+            return store(key, requestHeaders, control, response);
+        }
+
+        misses.increment();
+        return store(key, requestHeaders, control, delegate.execute(request));
+    }
+
+    /**
+     * Streams {@param request}'s response, using delegate executor. Streamed responses bypass cache.
+     *
+     * @param request to execute.
+     * @return execution {@link StreamingResponse}.
+     */
+    @Override
+    public StreamingResponse stream(Request request) {
+        return delegate.stream(request);
+    }
+
+    /**
+     * @return count of requests, that were served from cache without contacting server.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return count of cacheable requests, that were executed, because no usable response was stored.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return count of stale responses, that were confirmed by server as unchanged (304) & served from cache.
+     */
+    public long revalidations() {
+        return revalidations.sum();
+    }
+
+    /**
+     * @return count of responses, that were evicted to keep total weight under the limit.
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return total weight of stored responses in bytes.
+     */
+    public synchronized long weight() {
+        return weight;
+    }
+
+    public long maxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Removes all stored responses.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        weight = 0L;
+    }
+
+    private Response store(String key, Headers requestHeaders, CacheControl requestControl, Response response) {
+        Headers headers = response.headers();
+        CacheControl control = CacheControl.parse(headers.values("Cache-Control"));
+        List<String> vary = headers.values("Vary");
+
+        if (requestControl.noStore() || control.noStore() || !CACHEABLE_CODES.contains(response.code()) || vary.contains("*")) {
+            remove(key);
+            return response;
+        }
+
+        long now = clock.millis();
+        long createdAt = now - Math.max(0L, seconds(headers.first("Age"))) * 1000L;
+        long lifetime = control.noCache() ? 0L : lifetime(control, headers, now);
+        String etag = headers.first("ETag");
+        String lastModified = headers.first("Last-Modified");
+
+        if (lifetime <= 0 && etag == null && lastModified == null) {
+            remove(key);
+            return response;
+        }
+
+        put(key, new CacheEntry(response, createdAt, createdAt + lifetime, etag, lastModified, varying(vary, requestHeaders), weight(key, response)));
+        return response;
+    }
+
+    private Response revalidate(String key, Headers requestHeaders, CacheEntry entry, Response notModified) {
+        Headers.Creator headers = new Headers.Creator(entry.response.headers());
+
+        notModified.headers().forEach((name, values) -> {
+            if (!name.equalsIgnoreCase("Content-Length") && !name.equalsIgnoreCase("Transfer-Encoding")) {
+                headers.remove(name);
+                values.forEach(value -> headers.add(name, value));
+            }
+        });
+
+        Response cached = entry.response;
+        Response response = new Response(cached.code(), cached.message(), cached.bytes(), headers.create(), notModified.duration(), cached.wireBytesCount());
+        return store(key, requestHeaders, CacheControl.parse(null), response);
+    }
+
+    private synchronized CacheEntry lookup(String key, Headers requestHeaders) {
+        CacheEntry entry = entries.get(key);
+
+        if (entry == null || !entry.matches(varying(entry.varying.keySet(), requestHeaders))) {
+            return null;
+        }
+
+        return entry;
+    }
+
+    private synchronized void put(String key, CacheEntry entry) {
+        remove(key);
+
+        if (entry.weight > maxWeight) {
+            return;
+        }
+
+        entries.put(key, entry);
+        weight += entry.weight;
+
+        Iterator<CacheEntry> eldest = entries.values().iterator();
+
+        while (weight > maxWeight && eldest.hasNext()) {
+            weight -= eldest.next().weight;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private synchronized void remove(String key) {
+        CacheEntry entry = entries.remove(key);
+
+        if (entry != null) {
+            weight -= entry.weight;
+        }
+    }
+
+    private void invalidate(Request request) {
+        remove(key(RequestAction.GET, request));
+        remove(key(RequestAction.HEAD, request));
+    }
+
+    private static boolean cacheable(Request request) {
+        if (request.action() != RequestAction.GET && request.action() != RequestAction.HEAD || request.sendsBody()) {
+            return false;
+        }
+
+        Headers headers = request.headers();
+        return CONDITIONAL_HEADERS.stream().noneMatch(headers::containsKey);
+    }
+
+    private static Request conditional(Request request, CacheEntry entry) {
+        Request.Creator creator = new Request.Creator(request);
+
+        if (entry.etag != null) {
+            creator.header("If-None-Match", entry.etag);
+        }
+
+        if (entry.lastModified != null) {
+            creator.header("If-Modified-Since", entry.lastModified);
+        }
+
+        return creator.create();
+    }
+
+    private static String key(RequestAction action, Request request) {
+        return action.name() + ' ' + request.url();
+    }
+
+    private static long lifetime(CacheControl control, Headers headers, long now) {
+        if (control.maxAge() >= 0) {
+            return control.maxAge() * 1000L;
+        }
+
+        String expires = headers.first("Expires");
+
+        if (expires == null) {
+            return 0L;
+        }
+
+        long date = epochMillis(headers.first("Date"));
+        return epochMillis(expires) - (date == -1 ? now : date);
+    }
+
+    private static Map<String, List<String>> varying(Iterable<String> names, Headers requestHeaders) {
+        Map<String, List<String>> varying = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        for (String value : names) {
+            for (String name : value.split(",")) {
+                if (!name.trim().isEmpty()) {
+                    varying.put(name.trim(), requestHeaders.values(name.trim()));
+                }
+            }
+        }
+
+        return varying;
+    }
+
+    private static long weight(String key, Response response) {
+        return response.bytesCount() + StringExtensions.bytesCount(key);
+    }
+
+    private static long seconds(String value) {
+        try {
+            return value == null ? 0L : Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * @param date - HTTP date, e.g. 'Tue, 15 Nov 1994 08:12:31 GMT'.
+     * @return epoch milliseconds or -1 in case {@param date} is null or malformed.
+     */
+    private static long epochMillis(String date) {
+        try {
+            return date == null ? -1L : ZonedDateTime.parse(date.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1L;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CachingExecutor{" +
+                "delegate=" + delegate +
+                ", maxWeight=" + maxWeight +
+                ", hits=" + hits() +
+                ", misses=" + misses() +
+                ", revalidations=" + revalidations() +
+                '}';
+    }
+
+    public static final class Creator {
+
+        private Executor delegate;
+        private long maxWeight = 16L * 1024 * 1024;
+        private Clock clock = Clock.systemUTC();
+
+        /**
+         * @param delegate - {@link Executor}, that executes requests, which cannot be served from cache.
+         *                 {@link SharedExecutor#get()} is used in case delegate is not set.
+         * @return instance of {@link Creator}.
+         */
+        public Creator delegate(Executor delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param maxWeight - max total weight of stored responses in bytes.
+         * @return instance of {@link Creator}.
+         */
+        public Creator maxWeight(long maxWeight) {
+            this.maxWeight = maxWeight;
+            return this;
+        }
+
+        public Creator clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public CachingExecutor create() {
+            return new CachingExecutor(delegate == null ? SharedExecutor.get() : delegate, maxWeight, clock);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package org.emgen.httpx.http.cache;
+
+import org.emgen.httpx.http.Executor;
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.http.SharedExecutor;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.request.RequestAction;
+import org.emgen.httpx.http.response.Response;
+import org.emgen.httpx.http.response.StreamingResponse;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link Executor}, that collapses concurrent identical requests into a single execution - requests, that arrive
+ * while an identical one is in flight, wait for it & receive the same {@link Response}, instead of reaching upstream
+ * again. Requests are identical, when their action, target {@link java.net.URL} & values of selected headers match.
+ * Only safe actions without body are coalesced - other requests & streamed ones are passed to delegate as is.
+ * Nothing is kept once execution completes, therefore requests, that do not overlap, are never delayed.
+ *
+ * @since 1.0.0
+ */
+public final class CoalescingExecutor implements Executor {
+
+    private final Executor delegate;
+    private final Set<RequestAction> actions;
+    private final List<String> headers;
+    private final ConcurrentMap<String, CompletableFuture<Response>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+
+    /**
+     * @param delegate - {@link Executor}, that executes requests.
+     * @param actions  - actions of requests, that are coalesced, e.g. GET.
+     * @param headers  - names of headers, which values are part of request's key, e.g. 'Authorization', so that
+     *                 requests, that differ by them, are not coalesced.
+     */
+    public CoalescingExecutor(final Executor delegate, final Set<RequestAction> actions, final List<String> headers) {
+        Prerequisites.exists(delegate, "Delegate executor cannot be null");
+        Prerequisites.exists(actions, "Actions cannot be null");
+        Prerequisites.exists(headers, "Headers cannot be null");
+
+        this.delegate = delegate;
+        this.actions = actions.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(EnumSet.copyOf(actions));
+        this.headers = Collections.unmodifiableList(new ArrayList<>(headers));
+    }
+
+    /**
+     * @param request to execute.
+     * @return execution {@link Response}, that might be shared with concurrent identical requests.
+     */
+    @Override
+    public Response execute(Request request) {
+        String key = key(request);
+
+        if (key == null) {
+            return delegate.execute(request);
+        }
+
+        CompletableFuture<Response> execution = new CompletableFuture<>();
+        CompletableFuture<Response> leader = inFlight.putIfAbsent(key, execution);
+
+        if (leader != null) {
+            collapsed.increment();
+
+            try {
+                return leader.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
+        executions.increment();
+
+        try {
+            Response response = delegate.execute(request);
+            execution.complete(response);
+            return response;
+        } catch (Throwable e) {
+            // waiting requests are released by any failure, including errors
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    /**
+     * @param request to execute.
+     * @return future of execution {@link Response}. Every caller receives it's own future, therefore cancelling
+     * it does not affect other callers, nor cancels shared execution.
+     */
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        String key = key(request);
+
+        if (key == null) {
+            return delegate.executeAsync(request);
+        }
+
+        CompletableFuture<Response> execution = new CompletableFuture<>();
+        CompletableFuture<Response> leader = inFlight.putIfAbsent(key, execution);
+
+        if (leader != null) {
+            collapsed.increment();
+            return leader.thenApply(response -> response);
+        }
+
+        executions.increment();
+
+        try {
+            delegate.executeAsync(request).whenComplete((response, failure) -> {
+                inFlight.remove(key, execution);
+
+                if (failure == null) {
+                    execution.complete(response);
+                } else {
+                    execution.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+                }
+            });
+        } catch (Throwable e) {
+            inFlight.remove(key, execution);
+            execution.completeExceptionally(e);
+        }
+
+        return execution.thenApply(response -> response);
+    }
+
+    /**
+     * Streamed body can be read only once, therefore streamed requests are never coalesced.
+     *
+     * @param request to execute.
+     * @return execution {@link StreamingResponse}.
+     */
+    @Override
+    public StreamingResponse stream(Request request) {
+        return delegate.stream(request);
+    }
+
+    /**
+     * @return count of executions, that were passed to delegate on behalf of coalesced requests.
+     */
+    public long executions() {
+        return executions.sum();
+    }
+
+    /**
+     * @return count of requests, that joined an execution, that was in flight, instead of being executed.
+     */
+    public long collapsed() {
+        return collapsed.sum();
+    }
+
+    /**
+     * @return count of executions, that are in flight.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    public Set<RequestAction> actions() {
+        return actions;
+    }
+
+    public List<String> headers() {
+        return headers;
+    }
+
+    /**
+     * @return key of {@param request} or null in case it is not coalesced.
+     */
+    private String key(Request request) {
+        if (!actions.contains(request.action()) || request.sendsBody()) {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder(request.action().name()).append(' ').append(request.url());
+        Headers requestHeaders = request.headers();
+
+        for (String name : headers) {
+            key.append('\n').append(name).append(':').append(requestHeaders.values(name));
+        }
+
+        return key.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescingExecutor{" +
+                "delegate=" + delegate +
+                ", actions=" + actions +
+                ", headers=" + headers +
+                ", inFlight=" + inFlight() +
+                '}';
+    }
+
+    public static final class Creator {
+
+        private Executor delegate;
+        private Set<RequestAction> actions = EnumSet.of(RequestAction.GET, RequestAction.HEAD);
+        private List<String> headers = Arrays.asList("Authorization", "Cookie", "Accept", "Accept-Encoding", "Accept-Language", "Range", "If-Range", "If-Match", "If-None-Match", "If-Modified-Since");
+
+        /**
+         * @param delegate - {@link Executor}, that executes requests. {@link SharedExecutor#get()} is used in case
+         *                 delegate is not set.
+         * @return instance of {@link Creator}.
+         */
+        public Creator delegate(Executor delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param actions - actions of requests, that are coalesced. GET & HEAD by default. Only safe actions should
+         *                be coalesced, because coalesced requests are executed once.
+         * @return instance of {@link Creator}.
+         */
+        public Creator actions(RequestAction... actions) {
+            this.actions = actions.length == 0 ? EnumSet.noneOf(RequestAction.class) : EnumSet.copyOf(Arrays.asList(actions));
+            return this;
+        }
+
+        /**
+         * @param headers - names of headers, which values are part of request's key. 'Authorization', 'Cookie',
+         *                'Accept', 'Accept-Encoding', 'Accept-Language', 'Range' & conditional headers - 'If-Range',
+         *                'If-Match', 'If-None-Match' & 'If-Modified-Since' - by default, because responses to
+         *                requests, that differ by them, differ too.
+         * @return instance of {@link Creator}.
+         */
+        public Creator headers(String... headers) {
+            this.headers = Arrays.asList(headers);
+            return this;
+        }
+
+        public CoalescingExecutor create() {
+            return new CoalescingExecutor(delegate == null ? SharedExecutor.get() : delegate, actions, headers);
+        }
+    }
+}
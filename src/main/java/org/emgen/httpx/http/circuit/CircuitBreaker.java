@@ -0,0 +1,229 @@
+package org.emgen.httpx.http.circuit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker of a single key, as described by {@link CircuitBreakerPolicy}. Outcomes are kept in a lock - free
+ * ring buffer - every call claims the next slot with a single atomic increment & swaps it's outcome in, while
+ * counters of failed & slow calls are adjusted by the difference to outcome, that was overwritten. State changes
+ * are compare - and - set transitions between immutable phases, therefore calls, that were admitted in a previous
+ * phase, never affect the current one.
+ *
+ * @since 1.0.0
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final int RECORDED = 1;
+    private static final int FAILED = 2;
+    private static final int SLOW = 4;
+
+    private final String key;
+    private final CircuitBreakerPolicy policy;
+    private final AtomicIntegerArray window;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger slowCalls = new AtomicInteger();
+    private final AtomicReference<Phase> phase;
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder openings = new LongAdder();
+
+    CircuitBreaker(final String key, final CircuitBreakerPolicy policy) {
+        this.key = key;
+        this.policy = policy;
+        this.window = new AtomicIntegerArray(policy.windowSize());
+        this.phase = new AtomicReference<>(new Phase(State.CLOSED, System.nanoTime(), 0));
+    }
+
+    /**
+     * Admits a call. Open breaker turns half - open, once {@link CircuitBreakerPolicy#openDuration()} passes.
+     *
+     * @return phase, that call was admitted in & which it's outcome is recorded against, or null in case call is
+     * rejected.
+     */
+    Phase acquire() {
+        while (true) {
+            Phase current = phase.get();
+
+            if (current.state == State.CLOSED) {
+                return current;
+            }
+
+            if (current.state == State.OPEN) {
+                if (System.nanoTime() - current.since < TimeUnit.MILLISECONDS.toNanos(policy.openDuration())) {
+                    rejections.increment();
+                    return null;
+                }
+
+                phase.compareAndSet(current, new Phase(State.HALF_OPEN, System.nanoTime(), policy.probes()));
+                continue;
+            }
+
+            for (int permits = current.permits.get(); permits > 0; permits = current.permits.get()) {
+                if (current.permits.compareAndSet(permits, permits - 1)) {
+                    return current;
+                }
+            }
+
+            rejections.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Records outcome of call, that was admitted in {@param admitted} phase.
+     *
+     * @param admitted - phase, that {@link CircuitBreaker#acquire()} returned.
+     * @param duration - milliseconds, that call took.
+     * @param failed   - true in case call failed or received failure response code.
+     */
+    void record(Phase admitted, long duration, boolean failed) {
+        if (phase.get() != admitted) {
+            return;
+        }
+
+        boolean slow = duration > policy.slowCallDuration();
+
+        if (admitted.state == State.HALF_OPEN) {
+            if (failed || slow) {
+                open(admitted);
+            } else if (admitted.successes.incrementAndGet() == policy.probes()) {
+                // only the last probe gets here, therefore window is cleared before any call of the new phase
+                clear();
+                phase.compareAndSet(admitted, new Phase(State.CLOSED, System.nanoTime(), 0));
+            }
+
+            return;
+        }
+
+        int outcome = RECORDED | (failed ? FAILED : 0) | (slow ? SLOW : 0);
+        int previous = window.getAndSet((int) (cursor.getAndIncrement() % window.length()), outcome);
+        int count = previous == 0 ? calls.incrementAndGet() : calls.get();
+        int failedCalls = failures.addAndGet(bit(outcome, FAILED) - bit(previous, FAILED));
+        int slowedCalls = slowCalls.addAndGet(bit(outcome, SLOW) - bit(previous, SLOW));
+
+        if (count >= policy.minCalls() && (rate(failedCalls, count) >= policy.failureRateThreshold() || rate(slowedCalls, count) >= policy.slowCallRateThreshold())) {
+            open(admitted);
+        }
+    }
+
+    /**
+     * Returns permit of call, which outcome is unknown, e.g. because it was cancelled.
+     *
+     * @param admitted - phase, that {@link CircuitBreaker#acquire()} returned.
+     */
+    void release(Phase admitted) {
+        if (admitted.state == State.HALF_OPEN && phase.get() == admitted) {
+            admitted.permits.incrementAndGet();
+        }
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public CircuitBreakerPolicy policy() {
+        return policy;
+    }
+
+    public State state() {
+        return phase.get().state;
+    }
+
+    /**
+     * @return count of calls in window.
+     */
+    public int calls() {
+        return calls.get();
+    }
+
+    /**
+     * @return percentage of failed calls in window or 0 in case no calls were recorded.
+     */
+    public double failureRate() {
+        return rate(failures.get(), calls.get());
+    }
+
+    /**
+     * @return percentage of slow calls in window or 0 in case no calls were recorded.
+     */
+    public double slowCallRate() {
+        return rate(slowCalls.get(), calls.get());
+    }
+
+    /**
+     * @return count of calls, that were rejected, while breaker was open or half - open.
+     */
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    /**
+     * @return count of times, that breaker opened.
+     */
+    public long openings() {
+        return openings.sum();
+    }
+
+    private void open(Phase admitted) {
+        if (phase.compareAndSet(admitted, new Phase(State.OPEN, System.nanoTime(), 0))) {
+            openings.increment();
+        }
+    }
+
+    private void clear() {
+        for (int index = 0; index < window.length(); index++) {
+            window.set(index, 0);
+        }
+
+        cursor.set(0L);
+        calls.set(0);
+        failures.set(0);
+        slowCalls.set(0);
+    }
+
+    private static int bit(int outcome, int flag) {
+        return (outcome & flag) == 0 ? 0 : 1;
+    }
+
+    private static double rate(int count, int calls) {
+        return calls == 0 ? 0.0 : count * 100.0 / calls;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" +
+                "key='" + key + '\'' +
+                ", state=" + state() +
+                ", calls=" + calls() +
+                ", failureRate=" + failureRate() +
+                ", slowCallRate=" + slowCallRate() +
+                '}';
+    }
+
+    /**
+     * Immutable state of breaker with counters of half - open probes.
+     */
+    static final class Phase {
+
+        private final State state;
+        private final long since;
+        private final AtomicInteger permits;
+        private final AtomicInteger successes = new AtomicInteger();
+
+        private Phase(final State state, final long since, final int permits) {
+            this.state = state;
+            this.since = since;
+            this.permits = new AtomicInteger(permits);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package org.emgen.httpx.http.circuit;
+
+import org.emgen.httpx.http.Executor;
+import org.emgen.httpx.http.SharedExecutor;
+import org.emgen.httpx.http.connection.Route;
+import org.emgen.httpx.http.exceptions.CircuitOpenException;
+import org.emgen.httpx.http.exceptions.RequestCancelledException;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.response.Response;
+import org.emgen.httpx.http.response.StreamingResponse;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.net.URL;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Executor}, that tracks health of upstreams & stops sending requests to the ones, that fail or respond
+ * slowly, as described by {@link CircuitBreakerPolicy}. Each upstream is identified by scheme, host, port & the
+ * first {@link CircuitBreakerPolicy#pathSegments()} segments of URL path, e.g. "https://test.org:443/orders".
+ * Requests to upstream with open breaker fail at once with {@link CircuitOpenException}, instead of occupying
+ * threads till they time out.
+ *
+ * @since 1.0.0
+ */
+public final class CircuitBreakerExecutor implements Executor {
+
+    private final Executor delegate;
+    private final CircuitBreakerPolicy policy;
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate - {@link Executor}, that executes admitted requests.
+     * @param policy   - {@link CircuitBreakerPolicy}, that is applied to every upstream.
+     */
+    public CircuitBreakerExecutor(final Executor delegate, final CircuitBreakerPolicy policy) {
+        Prerequisites.exists(delegate, "Delegate executor cannot be null");
+        Prerequisites.exists(policy, "Circuit breaker policy cannot be null");
+
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    /**
+     * @param request to execute.
+     * @return execution {@link Response}.
+     * @throws CircuitOpenException in case breaker of {@param request}'s upstream is open.
+     */
+    @Override
+    public Response execute(Request request) {
+        CircuitBreaker breaker = breaker(request);
+        CircuitBreaker.Phase phase = acquire(breaker);
+        long starts = System.nanoTime();
+        Response response;
+
+        try {
+            response = delegate.execute(request);
+        } catch (RuntimeException e) {
+            record(breaker, phase, starts, e);
+            throw e;
+        }
+
+        breaker.record(phase, response.duration(), policy.failureCodes().contains(response.code()));
+        return response;
+    }
+
+    /**
+     * @param request to execute.
+     * @return future of execution {@link Response}, that fails with {@link CircuitOpenException} at once in case
+     * breaker of {@param request}'s upstream is open.
+     */
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        CircuitBreaker breaker = breaker(request);
+        CircuitBreaker.Phase phase;
+
+        try {
+            phase = acquire(breaker);
+        } catch (CircuitOpenException e) {
+            CompletableFuture<Response> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(e);
+            return rejected;
+        }
+
+        long starts = System.nanoTime();
+        CompletableFuture<Response> response = delegate.executeAsync(request);
+        response.whenComplete((result, failure) -> {
+            if (failure == null) {
+                breaker.record(phase, result.duration(), policy.failureCodes().contains(result.code()));
+            } else {
+                record(breaker, phase, starts, failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+            }
+        });
+        // delegate's future is returned as is, because cancelling a dependent future does not cancel execution
+        return response;
+    }
+
+    /**
+     * Streams {@param request}'s response. Outcome is recorded, once response head is received - failures, that
+     * happen, while body is read, are not tracked.
+     *
+     * @param request to execute.
+     * @return execution {@link StreamingResponse}.
+     * @throws CircuitOpenException in case breaker of {@param request}'s upstream is open.
+     */
+    @Override
+    public StreamingResponse stream(Request request) {
+        CircuitBreaker breaker = breaker(request);
+        CircuitBreaker.Phase phase = acquire(breaker);
+        long starts = System.nanoTime();
+        StreamingResponse response;
+
+        try {
+            response = delegate.stream(request);
+        } catch (RuntimeException e) {
+            record(breaker, phase, starts, e);
+            throw e;
+        }
+
+        breaker.record(phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - starts), policy.failureCodes().contains(response.code()));
+        return response;
+    }
+
+    /**
+     * @param key - upstream's key in form of "scheme://host:port/path/prefix".
+     * @return {@link CircuitBreaker} of upstream or null in case no request was executed to it.
+     */
+    public CircuitBreaker breaker(String key) {
+        return breakers.get(key);
+    }
+
+    /**
+     * @return count of requests, that were rejected over all upstreams.
+     */
+    public long rejections() {
+        return breakers.values().stream().mapToLong(CircuitBreaker::rejections).sum();
+    }
+
+    public CircuitBreakerPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * @param url          of request.
+     * @param pathSegments - count of leading path segments, that are part of key.
+     * @return key of upstream, that {@param url} belongs to.
+     */
+    public static String key(URL url, int pathSegments) {
+        Route route = Route.of(url, null);
+        StringBuilder key = new StringBuilder(route.scheme()).append("://").append(route.host()).append(':').append(route.port());
+        String path = url.getPath();
+        int start = 0;
+
+        for (int segment = 0; segment < pathSegments && start < path.length(); segment++) {
+            int end = path.indexOf('/', start + 1);
+            end = end == -1 ? path.length() : end;
+            key.append(path, start, end);
+            start = end;
+        }
+
+        return key.toString();
+    }
+
+    private CircuitBreaker breaker(Request request) {
+        return breakers.computeIfAbsent(key(request.url(), policy.pathSegments()), key -> new CircuitBreaker(key, policy));
+    }
+
+    private static CircuitBreaker.Phase acquire(CircuitBreaker breaker) {
+        CircuitBreaker.Phase phase = breaker.acquire();
+
+        if (phase == null) {
+            throw new CircuitOpenException("Circuit breaker of " + breaker.key() + " is " + breaker.state());
+        }
+
+        return phase;
+    }
+
+    /**
+     * Records failure of call. Cancelled calls do not tell anything about upstream's health, therefore their
+     * permits are returned instead.
+     */
+    private static void record(CircuitBreaker breaker, CircuitBreaker.Phase phase, long starts, Throwable failure) {
+        if (failure instanceof RequestCancelledException || failure instanceof CancellationException) {
+            breaker.release(phase);
+        } else {
+            breaker.record(phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - starts), true);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerExecutor{" +
+                "delegate=" + delegate +
+                ", policy=" + policy +
+                ", breakers=" + breakers.size() +
+                '}';
+    }
+
+    public static final class Creator {
+
+        private Executor delegate;
+        private CircuitBreakerPolicy policy = new CircuitBreakerPolicy.Creator().create();
+
+        /**
+         * @param delegate - {@link Executor}, that executes admitted requests. {@link SharedExecutor#get()} is used
+         *                 in case delegate is not set.
+         * @return instance of {@link Creator}.
+         */
+        public Creator delegate(Executor delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param policy - {@link CircuitBreakerPolicy}, that is applied to every upstream.
+         * @return instance of {@link Creator}.
+         */
+        public Creator policy(CircuitBreakerPolicy policy) {
+            this.policy = policy;
+            return this;
+        }
+
+        public CircuitBreakerExecutor create() {
+            return new CircuitBreakerExecutor(delegate == null ? SharedExecutor.get() : delegate, policy);
+        }
+    }
+}
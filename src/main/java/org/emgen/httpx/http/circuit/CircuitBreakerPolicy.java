@@ -0,0 +1,227 @@
+package org.emgen.httpx.http.circuit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Describes when {@link CircuitBreaker} opens & how it recovers. Outcomes of the last {@link #windowSize()} calls
+ * are tracked - once at least {@link #minCalls()} of them are recorded & either failure rate or slow call rate
+ * reaches it's threshold, breaker opens & rejects calls for {@link #openDuration()}. Afterwards it lets
+ * {@link #probes()} calls through & closes, once all of them succeed in time, or opens again otherwise.
+ *
+ * @since 1.0.0
+ */
+public final class CircuitBreakerPolicy {
+
+    private final int windowSize;
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long slowCallDuration;
+    private final double slowCallRateThreshold;
+    private final long openDuration;
+    private final int probes;
+    private final Set<Integer> failureCodes;
+    private final int pathSegments;
+
+    /**
+     * @param windowSize            - count of the latest calls, which outcomes are tracked.
+     * @param minCalls              - count of calls, that have to be recorded before rates are evaluated.
+     * @param failureRateThreshold  - percentage of failed calls in range (0, 100], at which breaker opens.
+     * @param slowCallDuration      - milliseconds, above which call is considered slow.
+     * @param slowCallRateThreshold - percentage of slow calls in range (0, 100], at which breaker opens.
+     * @param openDuration          - milliseconds, that breaker rejects calls for, before it lets probes through.
+     * @param probes                - count of calls, that are let through, while breaker is half - open.
+     * @param failureCodes          - response codes, that are recorded as failures, e.g. 503.
+     * @param pathSegments          - count of leading URL path segments, that are part of breaker's key, in
+     *                              addition to scheme, host & port. 0 stands for a breaker per host.
+     */
+    public CircuitBreakerPolicy(
+            final int windowSize,
+            final int minCalls,
+            final double failureRateThreshold,
+            final long slowCallDuration,
+            final double slowCallRateThreshold,
+            final long openDuration,
+            final int probes,
+            final Set<Integer> failureCodes,
+            final int pathSegments
+    ) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Parameter 'windowSize' has to be positive");
+        }
+
+        if (minCalls < 1 || minCalls > windowSize) {
+            throw new IllegalArgumentException("Parameter 'minCalls' has to be in range [1, windowSize]");
+        }
+
+        if (failureRateThreshold <= 0.0 || failureRateThreshold > 100.0) {
+            throw new IllegalArgumentException("Parameter 'failureRateThreshold' has to be in range (0, 100]");
+        }
+
+        if (slowCallDuration < 1) {
+            throw new IllegalArgumentException("Parameter 'slowCallDuration' has to be positive");
+        }
+
+        if (slowCallRateThreshold <= 0.0 || slowCallRateThreshold > 100.0) {
+            throw new IllegalArgumentException("Parameter 'slowCallRateThreshold' has to be in range (0, 100]");
+        }
+
+        if (openDuration < 1) {
+            throw new IllegalArgumentException("Parameter 'openDuration' has to be positive");
+        }
+
+        if (probes < 1) {
+            throw new IllegalArgumentException("Parameter 'probes' has to be positive");
+        }
+
+        if (pathSegments < 0) {
+            throw new IllegalArgumentException("Parameter 'pathSegments' cannot be negative");
+        }
+
+        this.windowSize = windowSize;
+        this.minCalls = minCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallDuration = slowCallDuration;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDuration = openDuration;
+        this.probes = probes;
+        this.failureCodes = failureCodes == null ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(failureCodes));
+        this.pathSegments = pathSegments;
+    }
+
+    public int windowSize() {
+        return windowSize;
+    }
+
+    public int minCalls() {
+        return minCalls;
+    }
+
+    public double failureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * @return milliseconds, above which call is considered slow.
+     */
+    public long slowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public double slowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    /**
+     * @return milliseconds, that breaker rejects calls for, before it lets probes through.
+     */
+    public long openDuration() {
+        return openDuration;
+    }
+
+    public int probes() {
+        return probes;
+    }
+
+    public Set<Integer> failureCodes() {
+        return failureCodes;
+    }
+
+    public int pathSegments() {
+        return pathSegments;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerPolicy{" +
+                "windowSize=" + windowSize +
+                ", minCalls=" + minCalls +
+                ", failureRateThreshold=" + failureRateThreshold +
+                ", slowCallDuration=" + slowCallDuration +
+                ", slowCallRateThreshold=" + slowCallRateThreshold +
+                ", openDuration=" + openDuration +
+                ", probes=" + probes +
+                ", failureCodes=" + failureCodes +
+                ", pathSegments=" + pathSegments +
+                '}';
+    }
+
+    public static final class Creator {
+
+        private int windowSize = 100;
+        private int minCalls = 20;
+        private double failureRateThreshold = 50.0;
+        private long slowCallDuration = 5_000L;
+        private double slowCallRateThreshold = 100.0;
+        private long openDuration = 30_000L;
+        private int probes = 5;
+        private Set<Integer> failureCodes = new HashSet<>(Arrays.asList(500, 502, 503, 504));
+        private int pathSegments;
+
+        /**
+         * @param windowSize - count of the latest calls, which outcomes are tracked. 100 by default.
+         * @param minCalls   - count of calls, that have to be recorded before rates are evaluated. 20 by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator window(int windowSize, int minCalls) {
+            this.windowSize = windowSize;
+            this.minCalls = minCalls;
+            return this;
+        }
+
+        /**
+         * @param failureRateThreshold - percentage of failed calls, at which breaker opens. 50 by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator failureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * @param duration      - milliseconds, above which call is considered slow. 5 seconds by default.
+         * @param rateThreshold - percentage of slow calls, at which breaker opens. 100 by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator slowCalls(long duration, double rateThreshold) {
+            this.slowCallDuration = duration;
+            this.slowCallRateThreshold = rateThreshold;
+            return this;
+        }
+
+        /**
+         * @param openDuration - milliseconds, that breaker rejects calls for. 30 seconds by default.
+         * @param probes       - count of calls, that are let through afterwards. 5 by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator recovery(long openDuration, int probes) {
+            this.openDuration = openDuration;
+            this.probes = probes;
+            return this;
+        }
+
+        /**
+         * @param failureCodes - response codes, that are recorded as failures. 500, 502, 503 & 504 by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator failureCodes(Integer... failureCodes) {
+            this.failureCodes = new HashSet<>(Arrays.asList(failureCodes));
+            return this;
+        }
+
+        /**
+         * @param pathSegments - count of leading URL path segments, that are part of breaker's key. 0 by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator pathSegments(int pathSegments) {
+            this.pathSegments = pathSegments;
+            return this;
+        }
+
+        public CircuitBreakerPolicy create() {
+            return new CircuitBreakerPolicy(windowSize, minCalls, failureRateThreshold, slowCallDuration, slowCallRateThreshold, openDuration, probes, failureCodes, pathSegments);
+        }
+    }
+}
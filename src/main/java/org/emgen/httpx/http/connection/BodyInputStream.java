@@ -0,0 +1,48 @@
+package org.emgen.httpx.http.connection;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link InputStream}, that reads single response body from connection's stream, according to body's framing.
+ * Closing body stream does not close underlying connection.
+ *
+ * @since 1.0.0
+ */
+public abstract class BodyInputStream extends InputStream {
+
+    protected final InputStream source;
+
+    protected BodyInputStream(final InputStream source) {
+        this.source = source;
+    }
+
+    /**
+     * @return true in case whole body was read from connection.
+     */
+    public abstract boolean exhausted();
+
+    /**
+     * @return true in case body's end is determined by it's framing, rather than by connection close.
+     */
+    public boolean delimited() {
+        return true;
+    }
+
+    /**
+     * @return true in case body was read completely & it's framing allows connection to be reused afterwards.
+     */
+    public boolean reusable() {
+        return delimited() && exhausted();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] bytes = new byte[1];
+        return read(bytes, 0, 1) == -1 ? -1 : bytes[0] & 0xff;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,229 @@
+package org.emgen.httpx.http.connection;
+
+import org.emgen.httpx.http.AsyncExecutor;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link Resolver}, that keeps resolved addresses in memory for {@link CachingResolver#ttl()}. Once 3/4 of entry's
+ * TTL pass, the next lookup returns cached addresses & refreshes them on {@link AsyncExecutor#sharedThreads()},
+ * therefore hosts, that are used steadily, are never resolved on request's thread. In case refresh fails, cached
+ * addresses are used until they expire. Failed lookups are not cached.
+ *
+ * @since 1.0.0
+ */
+public final class CachingResolver implements Resolver {
+
+    private final Resolver delegate;
+    private final long ttl;
+    private final int maxEntries;
+    private final ConcurrentMap<String, Cached> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    public CachingResolver() {
+        this(Resolver.SYSTEM, 60_000L, 1024);
+    }
+
+    /**
+     * @param delegate   - {@link Resolver}, that resolves hosts, which are not cached.
+     * @param ttl        - milliseconds, that resolved addresses are kept for.
+     * @param maxEntries - max count of cached hosts.
+     */
+    public CachingResolver(final Resolver delegate, final long ttl, final int maxEntries) {
+        Prerequisites.exists(delegate, "Delegate resolver cannot be null");
+
+        if (ttl < 1) {
+            throw new IllegalArgumentException("Parameter 'ttl' has to be positive");
+        }
+
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Parameter 'maxEntries' has to be positive");
+        }
+
+        this.delegate = delegate;
+        this.ttl = TimeUnit.MILLISECONDS.toNanos(ttl);
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public List<InetAddress> resolve(String host) throws UnknownHostException {
+        Prerequisites.exists(host, "Host cannot be null");
+
+        long now = System.nanoTime();
+        Cached cached = entries.get(host);
+
+        if (cached != null && now - cached.resolvedAt < ttl) {
+            hits.increment();
+
+            if (now - cached.resolvedAt >= ttl - ttl / 4 && cached.refreshing.compareAndSet(false, true)) {
+                AsyncExecutor.sharedThreads().execute(() -> refresh(host, cached));
+            }
+
+            return cached.addresses;
+        }
+
+        misses.increment();
+        return store(host, delegate.resolve(host)).addresses;
+    }
+
+    /**
+     * Removes cached addresses of {@param host}, e.g. once all of them refused connection.
+     *
+     * @param host to remove.
+     */
+    public void invalidate(String host) {
+        entries.remove(host);
+    }
+
+    public long ttl() {
+        return TimeUnit.NANOSECONDS.toMillis(ttl);
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @return count of cached hosts, including expired ones, that were not looked up since.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return count of lookups, that were served from cache.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return count of lookups, that were resolved on calling thread.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return count of background refreshes, that succeeded.
+     */
+    public long refreshes() {
+        return refreshes.sum();
+    }
+
+    private void refresh(String host, Cached cached) {
+        try {
+            store(host, delegate.resolve(host));
+            refreshes.increment();
+        } catch (UnknownHostException | RuntimeException e) {
+            // cached addresses are used until they expire & refresh is attempted again on the next lookup
+            cached.refreshing.set(false);
+        }
+    }
+
+    private Cached store(String host, List<InetAddress> addresses) throws UnknownHostException {
+        if (addresses == null || addresses.isEmpty()) {
+            throw new UnknownHostException(host);
+        }
+
+        Cached cached = new Cached(Collections.unmodifiableList(new ArrayList<>(addresses)), System.nanoTime());
+
+        if (entries.size() >= maxEntries && !entries.containsKey(host)) {
+            evict(cached.resolvedAt);
+        }
+
+        entries.put(host, cached);
+        return cached;
+    }
+
+    /**
+     * Removes expired entries or, in case there are none, the eldest one.
+     */
+    private void evict(long now) {
+        String eldest = null;
+        long resolvedAt = Long.MAX_VALUE;
+
+        for (Map.Entry<String, Cached> candidate : entries.entrySet()) {
+            if (now - candidate.getValue().resolvedAt >= ttl) {
+                entries.remove(candidate.getKey(), candidate.getValue());
+            } else if (candidate.getValue().resolvedAt < resolvedAt) {
+                eldest = candidate.getKey();
+                resolvedAt = candidate.getValue().resolvedAt;
+            }
+        }
+
+        if (eldest != null && entries.size() >= maxEntries) {
+            entries.remove(eldest);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CachingResolver{" +
+                "delegate=" + delegate +
+                ", ttl=" + ttl() +
+                ", maxEntries=" + maxEntries +
+                ", size=" + size() +
+                '}';
+    }
+
+    private static final class Cached {
+
+        private final List<InetAddress> addresses;
+        private final long resolvedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Cached(final List<InetAddress> addresses, final long resolvedAt) {
+            this.addresses = addresses;
+            this.resolvedAt = resolvedAt;
+        }
+    }
+
+    public static final class Creator {
+
+        private Resolver delegate = Resolver.SYSTEM;
+        private long ttl = 60_000L;
+        private int maxEntries = 1024;
+
+        /**
+         * @param delegate - {@link Resolver}, that resolves hosts, which are not cached. {@link Resolver#SYSTEM}
+         *                 by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator delegate(Resolver delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param ttl - milliseconds, that resolved addresses are kept for. 60 seconds by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator ttl(long ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public Creator maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        public CachingResolver create() {
+            return new CachingResolver(delegate, ttl, maxEntries);
+        }
+    }
+}
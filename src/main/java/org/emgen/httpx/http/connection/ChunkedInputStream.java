@@ -0,0 +1,68 @@
+package org.emgen.httpx.http.connection;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads body, that is sent using chunked transfer encoding. Chunk extensions & trailers are ignored.
+ *
+ * @since 1.0.0
+ */
+final class ChunkedInputStream extends BodyInputStream {
+
+    private long remaining;
+    private boolean exhausted;
+
+    ChunkedInputStream(final InputStream source) {
+        super(source);
+    }
+
+    @Override
+    public boolean exhausted() {
+        return exhausted;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (exhausted) {
+            return -1;
+        }
+
+        if (remaining == 0) {
+            remaining = readChunkSize();
+
+            if (remaining == 0) {
+                skipTrailers();
+                exhausted = true;
+                return -1;
+            }
+        }
+
+        int count = source.read(bytes, offset, (int) Math.min(length, remaining));
+
+        if (count == -1) {
+            throw new EOFException("Connection closed before response chunk was read");
+        }
+
+        remaining -= count;
+
+        if (remaining == 0) {
+            Http1Codec.readLine(source);
+        }
+
+        return count;
+    }
+
+    private long readChunkSize() throws IOException {
+        return Http1Codec.chunkSize(Http1Codec.readLine(source));
+    }
+
+    private void skipTrailers() throws IOException {
+        String line = Http1Codec.readLine(source);
+
+        while (!line.isEmpty()) {
+            line = Http1Codec.readLine(source);
+        }
+    }
+}
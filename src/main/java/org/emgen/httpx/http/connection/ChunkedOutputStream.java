@@ -0,0 +1,44 @@
+package org.emgen.httpx.http.connection;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes body, using chunked transfer encoding - every write is sent as a separate chunk.
+ * {@link ChunkedOutputStream#finish()} writes last chunk & does not close underlying connection stream.
+ *
+ * @since 1.0.0
+ */
+final class ChunkedOutputStream extends OutputStream {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] LAST_CHUNK = "0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+
+    private final OutputStream target;
+
+    ChunkedOutputStream(final OutputStream target) {
+        this.target = target;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return;
+        }
+
+        target.write(Integer.toHexString(length).getBytes(StandardCharsets.ISO_8859_1));
+        target.write(CRLF);
+        target.write(bytes, offset, length);
+        target.write(CRLF);
+    }
+
+    void finish() throws IOException {
+        target.write(LAST_CHUNK);
+    }
+}
@@ -0,0 +1,220 @@
+package org.emgen.httpx.http.connection;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * Persistent HTTP/1.1 connection to a single {@link Route}.
+ *
+ * @since 1.0.0
+ */
+public final class Connection implements Closeable {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final Route route;
+    private final Socket socket;
+    private final BufferedInputStream input;
+    private final OutputStream output;
+    private long idleSince;
+    private boolean reused;
+
+    private Connection(final Route route, final Socket socket) throws IOException {
+        this.route = route;
+        this.socket = socket;
+        this.input = new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE);
+        this.output = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE);
+    }
+
+    /**
+     * Opens connection to provided {@param route}, using {@link Connector#DEFAULT}.
+     *
+     * @param route          to open connection to.
+     * @param connectTimeout - timeout in milliseconds. 0 is interpreted as infinite timeout.
+     * @return opened {@link Connection}.
+     * @throws IOException in case connection could not be opened.
+     */
+    public static Connection open(Route route, int connectTimeout) throws IOException {
+        return open(route, connectTimeout, Connector.DEFAULT);
+    }
+
+    /**
+     * Opens connection to provided {@param route}. In case {@param route} is secure & proxied, tunnel is
+     * established through proxy, using CONNECT request.
+     *
+     * @param route          to open connection to.
+     * @param connectTimeout - timeout in milliseconds. 0 is interpreted as infinite timeout.
+     * @param connector      - {@link Connector}, that resolves target or proxy host & establishes TCP connection.
+     * @return opened {@link Connection}.
+     * @throws IOException in case connection could not be opened.
+     */
+    public static Connection open(Route route, int connectTimeout, Connector connector) throws IOException {
+        return open(route, connectTimeout, 0, connector, null);
+    }
+
+    /**
+     * Opens connection to provided {@param route}. In case {@param route} is secure & proxied, tunnel is
+     * established through proxy, using CONNECT request. Proxy's response & TLS handshake are read, using
+     * {@param readTimeout}, & are aborted, once {@param guard} is.
+     *
+     * @param route          to open connection to.
+     * @param connectTimeout - timeout in milliseconds. 0 is interpreted as infinite timeout.
+     * @param readTimeout    - timeout of reads, while connection is established, in milliseconds. 0 is interpreted
+     *                       as infinite timeout.
+     * @param connector      - {@link Connector}, that resolves target or proxy host & establishes TCP connection.
+     * @param guard          - {@link ExecutionGuard}, which abort action closes socket, until connection is
+     *                       opened, or null. Caller replaces abort action, once connection is returned.
+     * @return opened {@link Connection}.
+     * @throws IOException in case connection could not be opened.
+     */
+    public static Connection open(Route route, int connectTimeout, int readTimeout, Connector connector, ExecutionGuard guard) throws IOException {
+        Socket socket = route.proxied()
+                ? connector.connect(route.proxyHost(), route.proxyPort(), connectTimeout)
+                : connector.connect(route.host(), route.port(), connectTimeout);
+
+        try {
+            if (guard != null) {
+                // TLS socket is layered over the raw one, therefore closing raw socket aborts handshake too
+                Socket raw = socket;
+                guard.onAbort(() -> close(raw));
+            }
+
+            if (route.secure()) {
+                socket.setSoTimeout(readTimeout);
+
+                if (route.proxied()) {
+                    tunnel(socket, route);
+                }
+
+                socket = secure(socket, route);
+            }
+
+            return new Connection(route, socket);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    public Route route() {
+        return route;
+    }
+
+    public InputStream input() {
+        return input;
+    }
+
+    public OutputStream output() {
+        return output;
+    }
+
+    /**
+     * @return true in case connection was taken from pool, rather than opened for current request.
+     */
+    public boolean reused() {
+        return reused;
+    }
+
+    /**
+     * Checks is connection no longer usable - it was closed by either side or server has sent unexpected data.
+     * Check blocks for at most 1 millisecond.
+     *
+     * @return true in case connection should not be reused.
+     */
+    public boolean isStale() {
+        if (socket.isClosed() || socket.isInputShutdown() || socket.isOutputShutdown()) {
+            return true;
+        }
+
+        try {
+            int timeout = socket.getSoTimeout();
+
+            try {
+                socket.setSoTimeout(1);
+                // connection at rest must not have anything to read - neither data, nor EOF
+                input.read();
+                return true;
+            } catch (SocketTimeoutException e) {
+                return false;
+            } finally {
+                socket.setSoTimeout(timeout);
+            }
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Sets read timeout for connection's socket.
+     *
+     * @param timeout in milliseconds. 0 is interpreted as infinite timeout.
+     * @throws IOException in case timeout could not be set.
+     */
+    public void readTimeout(int timeout) throws IOException {
+        socket.setSoTimeout(timeout);
+    }
+
+    @Override
+    public void close() {
+        close(socket);
+    }
+
+    long idleSince() {
+        return idleSince;
+    }
+
+    void idle(long now) {
+        idleSince = now;
+        reused = true;
+    }
+
+    private static void close(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // connection is discarded either way
+        }
+    }
+
+    private static void tunnel(Socket socket, Route route) throws IOException {
+        String authority = route.host() + ":" + route.port();
+        OutputStream output = socket.getOutputStream();
+        output.write(("CONNECT " + authority + " HTTP/1.1\r\nHost: " + authority + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        output.flush();
+
+        ResponseHead head = Http1Codec.readHead(socket.getInputStream());
+
+        if (head.code() != 200) {
+            throw new IOException("Proxy refused to establish tunnel to " + authority + ": " + head.code() + " " + head.message());
+        }
+    }
+
+    private static Socket secure(Socket socket, Route route) throws IOException {
+        SSLSocketFactory factory = (SSLSocketFactory) SSLSocketFactory.getDefault();
+        SSLSocket sslSocket = (SSLSocket) factory.createSocket(socket, route.host(), route.port(), true);
+        SSLParameters parameters = sslSocket.getSSLParameters();
+        parameters.setEndpointIdentificationAlgorithm("HTTPS");
+        sslSocket.setSSLParameters(parameters);
+        sslSocket.startHandshake();
+        return sslSocket;
+    }
+
+    @Override
+    public String toString() {
+        return "Connection{" +
+                "route=" + route +
+                ", socket=" + socket +
+                ", reused=" + reused +
+                '}';
+    }
+}
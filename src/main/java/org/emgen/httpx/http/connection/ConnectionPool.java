@@ -0,0 +1,325 @@
+package org.emgen.httpx.http.connection;
+
+import org.emgen.httpx.http.exceptions.RequestExecutionException;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool of persistent connections, that are kept per {@link Route}.
+ * Pool limits count of connections (both leased & idle) per route & in total, evicts connections, that were
+ * idle for longer than idle timeout & checks idle connections for staleness before leasing them.
+ *
+ * @since 1.0.0
+ */
+public final class ConnectionPool {
+
+    private final int maxPerRoute;
+    private final int maxTotal;
+    private final long idleTimeout;
+    private final Connector connector;
+    private final Map<Route, Deque<Connection>> idle = new HashMap<>();
+    private final Map<Route, Integer> allocated = new HashMap<>();
+    private int total;
+
+    public ConnectionPool(final int maxPerRoute, final int maxTotal, final long idleTimeout) {
+        this(maxPerRoute, maxTotal, idleTimeout, Connector.DEFAULT);
+    }
+
+    /**
+     * @param maxPerRoute - max count of connections (both leased & idle) per route.
+     * @param maxTotal    - max count of connections in total.
+     * @param idleTimeout - milliseconds, that connection can stay idle in pool before it is closed.
+     * @param connector   - {@link Connector}, that opens new connections.
+     */
+    public ConnectionPool(final int maxPerRoute, final int maxTotal, final long idleTimeout, final Connector connector) {
+        Prerequisites.exists(connector, "Connector cannot be null");
+        this.maxPerRoute = maxPerRoute;
+        this.maxTotal = maxTotal;
+        this.idleTimeout = TimeUnit.NANOSECONDS.convert(idleTimeout, TimeUnit.MILLISECONDS);
+        this.connector = connector;
+    }
+
+    public int maxPerRoute() {
+        return maxPerRoute;
+    }
+
+    public int maxTotal() {
+        return maxTotal;
+    }
+
+    public long idleTimeout() {
+        return TimeUnit.MILLISECONDS.convert(idleTimeout, TimeUnit.NANOSECONDS);
+    }
+
+    public Connector connector() {
+        return connector;
+    }
+
+    /**
+     * Leases connection to {@param route}. Idle connection is reused in case there is a non - stale one,
+     * otherwise new connection is opened. In case pool limits are reached, caller waits for connection to be
+     * released for at most {@param timeout} milliseconds.
+     *
+     * @param route   to lease connection to.
+     * @param timeout - milliseconds to wait for connection. 0 is interpreted as infinite timeout.
+     * @return leased {@link Connection}, that has to be returned, using {@link ConnectionPool#release}.
+     * @throws RequestExecutionException in case connection could not be leased in time or could not be opened.
+     */
+    public Connection lease(Route route, int timeout) {
+        return lease(route, timeout, 0, null);
+    }
+
+    /**
+     * Leases connection to {@param route}, as {@link ConnectionPool#lease(Route, int)} does. New connection is
+     * opened, using {@param readTimeout} for proxy's response & TLS handshake, & is closed, in case
+     * {@param guard} is aborted, while it is being opened.
+     *
+     * @param route       to lease connection to.
+     * @param timeout     - milliseconds to wait for connection. 0 is interpreted as infinite timeout.
+     * @param readTimeout - milliseconds to wait for reads, while connection is opened. 0 is interpreted as
+     *                    infinite timeout.
+     * @param guard       - {@link ExecutionGuard} of execution, that leases connection, or null.
+     * @return leased {@link Connection}, that has to be returned, using {@link ConnectionPool#release}.
+     * @throws RequestExecutionException in case connection could not be leased in time or could not be opened.
+     */
+    public Connection lease(Route route, int timeout, int readTimeout, ExecutionGuard guard) {
+        Prerequisites.exists(route);
+
+        long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.NANOSECONDS.convert(timeout, TimeUnit.MILLISECONDS) : Long.MAX_VALUE;
+
+        while (true) {
+            Connection connection = reserve(route, deadline);
+
+            if (connection == null) {
+                break;
+            }
+
+            if (!connection.isStale()) {
+                return connection;
+            }
+
+            discard(connection);
+        }
+
+        try {
+            return Connection.open(route, timeout, readTimeout, connector, guard);
+        } catch (IOException e) {
+            deallocate(route);
+            throw new RequestExecutionException("Connection to " + route.authority() + " could not be opened", e);
+        }
+    }
+
+    /**
+     * Returns leased {@param connection} to pool.
+     *
+     * @param connection to return.
+     * @param reusable   - true in case {@param connection} can be used for another request. Otherwise connection
+     *                   is closed.
+     */
+    public void release(Connection connection, boolean reusable) {
+        if (!reusable) {
+            discard(connection);
+            return;
+        }
+
+        synchronized (this) {
+            connection.idle(System.nanoTime());
+            idle.computeIfAbsent(connection.route(), route -> new ArrayDeque<>()).addFirst(connection);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Closes leased {@param connection} & frees it's slot in pool.
+     *
+     * @param connection to discard.
+     */
+    public void discard(Connection connection) {
+        connection.close();
+        deallocate(connection.route());
+    }
+
+    /**
+     * Closes connections, that were idle for longer than idle timeout.
+     */
+    public synchronized void evictExpired() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Route, Deque<Connection>>> iterator = idle.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Deque<Connection> connections = iterator.next().getValue();
+
+            // connections are ordered from the most to the least recently used
+            while (!connections.isEmpty() && now - connections.peekLast().idleSince() > idleTimeout) {
+                closeIdle(connections.pollLast());
+            }
+
+            if (connections.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Closes all idle connections.
+     */
+    public synchronized void evictAll() {
+        idle.values().forEach(connections -> connections.forEach(this::closeIdle));
+        idle.clear();
+        notifyAll();
+    }
+
+    /**
+     * @return count of connections - both leased & idle, that are currently open.
+     */
+    public synchronized int size() {
+        return total;
+    }
+
+    /**
+     * @return count of idle connections.
+     */
+    public synchronized int idleSize() {
+        return idle.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    private synchronized Connection reserve(Route route, long deadline) {
+        while (true) {
+            evictExpired();
+
+            Deque<Connection> connections = idle.get(route);
+
+            if (connections != null && !connections.isEmpty()) {
+                return connections.pollFirst();
+            }
+
+            int count = allocated.getOrDefault(route, 0);
+
+            if (count < maxPerRoute && total >= maxTotal) {
+                evictLeastRecentlyUsed();
+            }
+
+            if (count < maxPerRoute && total < maxTotal) {
+                allocated.put(route, count + 1);
+                total++;
+                return null;
+            }
+
+            long remaining = deadline - System.nanoTime();
+
+            if (remaining <= 0) {
+                throw new RequestExecutionException("Connection to " + route.authority() + " could not be leased - pool limits are reached");
+            }
+
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RequestExecutionException("Interrupted, while waiting for connection to " + route.authority(), e);
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Connection eldest = null;
+
+        for (Deque<Connection> connections : idle.values()) {
+            Connection connection = connections.peekLast();
+
+            if (connection != null && (eldest == null || connection.idleSince() < eldest.idleSince())) {
+                eldest = connection;
+            }
+        }
+
+        if (eldest != null) {
+            Deque<Connection> connections = idle.get(eldest.route());
+            connections.pollLast();
+
+            if (connections.isEmpty()) {
+                idle.remove(eldest.route());
+            }
+
+            closeIdle(eldest);
+        }
+    }
+
+    private void closeIdle(Connection connection) {
+        connection.close();
+        decrement(connection.route());
+    }
+
+    private synchronized void deallocate(Route route) {
+        decrement(route);
+        notifyAll();
+    }
+
+    private void decrement(Route route) {
+        int count = allocated.getOrDefault(route, 0) - 1;
+
+        if (count > 0) {
+            allocated.put(route, count);
+        } else {
+            allocated.remove(route);
+        }
+
+        total--;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPool{" +
+                "maxPerRoute=" + maxPerRoute +
+                ", maxTotal=" + maxTotal +
+                ", idleTimeout=" + idleTimeout() +
+                ", connector=" + connector +
+                '}';
+    }
+
+    public static final class Creator {
+
+        private int maxPerRoute = 5;
+        private int maxTotal = 20;
+        private long idleTimeout = 60_000L;
+        private Connector connector = Connector.DEFAULT;
+
+        public Creator maxPerRoute(final int maxPerRoute) {
+            this.maxPerRoute = maxPerRoute;
+            return this;
+        }
+
+        public Creator maxTotal(final int maxTotal) {
+            this.maxTotal = maxTotal;
+            return this;
+        }
+
+        /**
+         * @param idleTimeout - milliseconds, that connection can stay idle in pool before it is closed.
+         * @return instance of {@link Creator}.
+         */
+        public Creator idleTimeout(final long idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * @param connector - {@link Connector}, that resolves hosts & opens new connections.
+         *                  {@link Connector#DEFAULT} by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator connector(final Connector connector) {
+            this.connector = connector;
+            return this;
+        }
+
+        public ConnectionPool create() {
+            return new ConnectionPool(maxPerRoute, maxTotal, idleTimeout, connector);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package org.emgen.httpx.http.connection;
+
+import org.emgen.httpx.http.AsyncExecutor;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens TCP connections to hosts, that are resolved by {@link Resolver}. In case host has more than one address,
+ * connection attempts are raced, as described by "Happy Eyeballs" (RFC 8305): addresses are ordered, alternating
+ * IPv6 & IPv4 families, & the next attempt starts, once the previous one fails or does not complete within
+ * {@link Connector#attemptDelay()}. The first established connection is used & the others are closed, therefore
+ * a dead address adds at most attempt delay to connect latency instead of a whole connect timeout.
+ * Raced attempts run on {@link AsyncExecutor#sharedThreads()}, while the calling thread waits for the winner.
+ *
+ * @since 1.0.0
+ */
+public final class Connector {
+
+    /**
+     * Connector, that caches resolved addresses for 60 seconds & races attempts with delay of 250 milliseconds.
+     */
+    public static final Connector DEFAULT = new Connector(new CachingResolver(), 250L);
+
+    private final Resolver resolver;
+    private final long attemptDelay;
+
+    /**
+     * @param resolver     - {@link Resolver}, that resolves hosts to addresses.
+     * @param attemptDelay - milliseconds to wait for connection attempt, before the next address is tried.
+     */
+    public Connector(final Resolver resolver, final long attemptDelay) {
+        Prerequisites.exists(resolver, "Resolver cannot be null");
+
+        if (attemptDelay < 1) {
+            throw new IllegalArgumentException("Parameter 'attemptDelay' has to be positive");
+        }
+
+        this.resolver = resolver;
+        this.attemptDelay = attemptDelay;
+    }
+
+    public Resolver resolver() {
+        return resolver;
+    }
+
+    public long attemptDelay() {
+        return attemptDelay;
+    }
+
+    /**
+     * Opens connection to {@param host}.
+     *
+     * @param host    - name or literal address of host.
+     * @param port    to connect to.
+     * @param timeout - milliseconds to wait for connection over all addresses. 0 is interpreted as infinite
+     *                timeout.
+     * @return connected {@link Socket} with TCP_NODELAY & SO_KEEPALIVE enabled.
+     * @throws IOException of the last attempt, that has failures of other attempts suppressed, in case no
+     *                     connection could be established or {@link SocketTimeoutException} in case timeout passed.
+     */
+    public Socket connect(String host, int port, int timeout) throws IOException {
+        List<InetAddress> addresses = order(resolver.resolve(host));
+
+        if (addresses.size() == 1) {
+            Socket socket = socket();
+
+            try {
+                socket.connect(new InetSocketAddress(addresses.get(0), port), timeout);
+                return socket;
+            } catch (IOException e) {
+                socket.close();
+                throw e;
+            }
+        }
+
+        return race(addresses, port, timeout);
+    }
+
+    private Socket race(List<InetAddress> addresses, int port, int timeout) throws IOException {
+        long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : Long.MAX_VALUE;
+        Race race = new Race();
+        Socket winner = null;
+        IOException failure = null;
+        int started = 0;
+        int finished = 0;
+
+        try {
+            race.start(addresses.get(started++), port, timeout);
+
+            while (true) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+                if (remaining <= 0) {
+                    throw timedOut(failure);
+                }
+
+                Attempt attempt = race.completed.poll(started < addresses.size() ? Math.min(attemptDelay, remaining) : remaining, TimeUnit.MILLISECONDS);
+
+                if (attempt == null) {
+                    // attempt is slow - the next address is tried in parallel
+                    if (started < addresses.size()) {
+                        race.start(addresses.get(started++), port, timeout);
+                    }
+
+                    continue;
+                }
+
+                finished++;
+
+                if (attempt.failure == null) {
+                    winner = attempt.socket;
+                    return winner;
+                }
+
+                if (failure != null) {
+                    attempt.failure.addSuppressed(failure);
+                }
+
+                failure = attempt.failure;
+
+                if (started < addresses.size()) {
+                    race.start(addresses.get(started++), port, timeout);
+                } else if (finished == started) {
+                    throw failure;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted, while connecting");
+        } finally {
+            race.finish(winner);
+        }
+    }
+
+    /**
+     * Orders addresses, alternating families & starting with family of the first address (RFC 8305, section 4).
+     */
+    static List<InetAddress> order(List<InetAddress> addresses) {
+        List<InetAddress> first = new ArrayList<>();
+        List<InetAddress> second = new ArrayList<>();
+        boolean ipv6 = addresses.get(0) instanceof Inet6Address;
+
+        for (InetAddress address : addresses) {
+            (address instanceof Inet6Address == ipv6 ? first : second).add(address);
+        }
+
+        List<InetAddress> ordered = new ArrayList<>(addresses.size());
+
+        for (int index = 0; index < Math.max(first.size(), second.size()); index++) {
+            if (index < first.size()) {
+                ordered.add(first.get(index));
+            }
+
+            if (index < second.size()) {
+                ordered.add(second.get(index));
+            }
+        }
+
+        return ordered;
+    }
+
+    private static SocketTimeoutException timedOut(IOException failure) {
+        SocketTimeoutException timeout = new SocketTimeoutException("Connect timed out");
+
+        if (failure != null) {
+            timeout.addSuppressed(failure);
+        }
+
+        return timeout;
+    }
+
+    private static Socket socket() throws IOException {
+        Socket socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.setKeepAlive(true);
+        return socket;
+    }
+
+    private static void close(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // socket is discarded anyway
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Connector{" +
+                "resolver=" + resolver +
+                ", attemptDelay=" + attemptDelay +
+                '}';
+    }
+
+    /**
+     * Attempts of a single {@link Connector#connect(String, int, int)} call. Once race is finished, sockets of
+     * pending attempts are closed, which aborts their connects, & connections, that are established late, are
+     * closed at once.
+     */
+    private static final class Race {
+
+        private final BlockingQueue<Attempt> completed = new LinkedBlockingQueue<>();
+        private final List<Socket> sockets = new ArrayList<>();
+        private boolean finished;
+        private Socket winner;
+
+        private void start(InetAddress address, int port, int timeout) {
+            AsyncExecutor.sharedThreads().execute(() -> {
+                Socket socket = new Socket();
+
+                if (!register(socket)) {
+                    return;
+                }
+
+                try {
+                    socket.setTcpNoDelay(true);
+                    socket.setKeepAlive(true);
+                    socket.connect(new InetSocketAddress(address, port), timeout);
+                    completed.add(new Attempt(socket, null));
+                } catch (IOException e) {
+                    close(socket);
+                    completed.add(new Attempt(null, e));
+                    return;
+                }
+
+                synchronized (this) {
+                    if (finished && socket != winner) {
+                        close(socket);
+                    }
+                }
+            });
+        }
+
+        private synchronized boolean register(Socket socket) {
+            if (!finished) {
+                sockets.add(socket);
+            }
+
+            return !finished;
+        }
+
+        private synchronized void finish(Socket winner) {
+            this.finished = true;
+            this.winner = winner;
+
+            for (Socket socket : sockets) {
+                if (socket != winner) {
+                    close(socket);
+                }
+            }
+
+            sockets.clear();
+        }
+    }
+
+    private static final class Attempt {
+
+        private final Socket socket;
+        private final IOException failure;
+
+        private Attempt(final Socket socket, final IOException failure) {
+            this.socket = socket;
+            this.failure = failure;
+        }
+    }
+}
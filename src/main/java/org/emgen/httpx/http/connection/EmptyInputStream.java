@@ -0,0 +1,23 @@
+package org.emgen.httpx.http.connection;
+
+/**
+ * Body of response, that cannot contain one - e.g. response to HEAD request or 204 & 304 responses.
+ *
+ * @since 1.0.0
+ */
+final class EmptyInputStream extends BodyInputStream {
+
+    EmptyInputStream() {
+        super(null);
+    }
+
+    @Override
+    public boolean exhausted() {
+        return true;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        return -1;
+    }
+}
@@ -0,0 +1,180 @@
+package org.emgen.httpx.http.connection;
+
+import org.emgen.httpx.http.exceptions.RequestCancelledException;
+import org.emgen.httpx.http.exceptions.RequestExecutionException;
+import org.emgen.httpx.http.request.Cancellation;
+import org.emgen.httpx.http.request.RequestOptions;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces deadline & cancellation of a single execution. Executor registers abort action (e.g. closing of
+ * socket), that is run, once {@link RequestOptions#deadline()} passes or {@link RequestOptions#cancellation()} is
+ * cancelled, & closes guard, when execution completes - abort action is never run after guard is closed, therefore
+ * connection can be safely returned to pool afterwards. Deadlines are tracked by a single daemon timer thread.
+ *
+ * @since 1.0.0
+ */
+public final class ExecutionGuard implements AutoCloseable {
+
+    private static final int ACTIVE = 0;
+    private static final int CLOSED = 1;
+    private static final int CANCELLED = 2;
+    private static final int EXPIRED = 3;
+
+    private static final ScheduledThreadPoolExecutor TIMER = timer();
+
+    private final Cancellation cancellation;
+    private final long deadline;
+    private final Runnable cancel = () -> trigger(CANCELLED);
+    private ScheduledFuture<?> expiry;
+    private Runnable abort;
+    private int state;
+
+    private ExecutionGuard(final Cancellation cancellation, final long deadline) {
+        this.cancellation = cancellation;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Creates guard for execution of request with provided {@param options}.
+     *
+     * @param options - {@link RequestOptions}, that define deadline & cancellation.
+     * @param starts  - {@link System#nanoTime()}, when execution started - deadline is counted from it.
+     * @return {@link ExecutionGuard}, that has to be closed, when execution completes.
+     * @throws RequestCancelledException in case {@link RequestOptions#cancellation()} is already cancelled.
+     */
+    public static ExecutionGuard arm(RequestOptions options, long starts) {
+        ExecutionGuard guard = new ExecutionGuard(options.cancellation(), options.deadline());
+
+        if (guard.cancellation != null && !guard.cancellation.register(guard.cancel)) {
+            throw new RequestCancelledException("Request was cancelled");
+        }
+
+        if (guard.deadline > 0) {
+            long remaining = TimeUnit.NANOSECONDS.convert(guard.deadline, TimeUnit.MILLISECONDS) - (System.nanoTime() - starts);
+            ScheduledFuture<?> expiry = TIMER.schedule(() -> guard.trigger(EXPIRED), Math.max(0L, remaining), TimeUnit.NANOSECONDS);
+
+            synchronized (guard) {
+                guard.expiry = expiry;
+            }
+        }
+
+        return guard;
+    }
+
+    /**
+     * Replaces abort action. In case execution is already aborted, {@param abort} is run at once.
+     *
+     * @param abort - action, that releases resources of execution, e.g. closes it's connection. It is run on
+     *              the thread, that cancels execution, or on timer thread & therefore must not block.
+     */
+    public void onAbort(Runnable abort) {
+        if (cancellation == null && deadline <= 0) {
+            return;
+        }
+
+        boolean aborted;
+
+        synchronized (this) {
+            this.abort = abort;
+            aborted = state == CANCELLED || state == EXPIRED;
+        }
+
+        if (aborted) {
+            abort.run();
+        }
+    }
+
+    /**
+     * @return true in case execution was cancelled or it's deadline passed.
+     */
+    public synchronized boolean aborted() {
+        return state == CANCELLED || state == EXPIRED;
+    }
+
+    /**
+     * @param cause of execution failure. Might be null.
+     * @return {@link RequestCancelledException} in case execution was cancelled, {@link RequestExecutionException}
+     * with {@link SocketTimeoutException} in case deadline passed or {@param cause} otherwise.
+     */
+    public RuntimeException failure(Throwable cause) {
+        int state;
+
+        synchronized (this) {
+            state = this.state;
+        }
+
+        if (state == CANCELLED) {
+            return new RequestCancelledException("Request was cancelled");
+        }
+
+        if (state == EXPIRED) {
+            return new RequestExecutionException(new SocketTimeoutException("Deadline of " + deadline + " ms was exceeded"));
+        }
+
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new RequestExecutionException(cause);
+    }
+
+    /**
+     * Disarms guard. Abort action is not run after guard is closed.
+     */
+    @Override
+    public void close() {
+        ScheduledFuture<?> expiry;
+
+        synchronized (this) {
+            if (state == ACTIVE) {
+                state = CLOSED;
+            }
+
+            expiry = this.expiry;
+            abort = null;
+        }
+
+        if (expiry != null) {
+            expiry.cancel(false);
+        }
+
+        if (cancellation != null) {
+            cancellation.unregister(cancel);
+        }
+    }
+
+    /**
+     * Aborts execution. Abort action is run under guard's lock, therefore {@link ExecutionGuard#close()} returns
+     * only after it completes.
+     */
+    private synchronized void trigger(int reason) {
+        if (state != ACTIVE) {
+            return;
+        }
+
+        state = reason;
+
+        if (abort != null) {
+            abort.run();
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor timer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "httpx-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ExecutionGuard{" +
+                "deadline=" + deadline +
+                ", state=" + state +
+                '}';
+    }
+}
@@ -0,0 +1,46 @@
+package org.emgen.httpx.http.connection;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads body, that is framed by 'Content-Length' header.
+ *
+ * @since 1.0.0
+ */
+final class FixedLengthInputStream extends BodyInputStream {
+
+    private long remaining;
+
+    FixedLengthInputStream(final InputStream source, final long length) {
+        super(source);
+        this.remaining = length;
+    }
+
+    @Override
+    public boolean exhausted() {
+        return remaining == 0;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (remaining == 0) {
+            return -1;
+        }
+
+        int count = source.read(bytes, offset, (int) Math.min(length, remaining));
+
+        if (count == -1) {
+            throw new EOFException("Connection closed before response body was read - " + remaining + " bytes are missing");
+        }
+
+        remaining -= count;
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(source.available(), remaining);
+    }
+}
@@ -0,0 +1,320 @@
+package org.emgen.httpx.http.connection;
+
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.http.encoding.ContentEncoding;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.request.RequestAction;
+import org.emgen.httpx.http.request.RequestTemplate;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes HTTP/1.1 requests to & reads HTTP/1.1 responses from blocking connection streams.
+ *
+ * @since 1.0.0
+ */
+public final class Http1Codec {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private Http1Codec() {
+        throw new InstantiationError("org.emgen.httpx.http.connection.Http1Codec.class cannot be instantiated.");
+    }
+
+    /**
+     * Writes {@param request} to {@param output}. Message framing headers ('Content-Length', 'Transfer-Encoding')
+     * are controlled by codec, therefore ones, that are set in {@param request}, are ignored.
+     * 'Host' header is added in case {@param request} does not contain one, 'Accept-Encoding' header is added in
+     * case {@link ContentEncoding#negotiates} compression.
+     *
+     * @param output  to write request to.
+     * @param request to write.
+     * @param url     - {@param request}'s target {@link URL}, that includes query string.
+     * @param route   - {@link Route}, that connection was established to.
+     * @throws IOException in case request could not be written.
+     */
+    public static void writeRequest(OutputStream output, Request request, URL url, Route route) throws IOException {
+        long length = request.sendsBody() ? request.requestBody().length() : 0L;
+        output.write(encodeHead(request, url, route, length));
+
+        if (request.sendsBody()) {
+            if (length == -1) {
+                ChunkedOutputStream chunked = new ChunkedOutputStream(output);
+                request.requestBody().writeTo(chunked);
+                chunked.finish();
+            } else {
+                request.requestBody().writeTo(output);
+            }
+        }
+
+        output.flush();
+    }
+
+    /**
+     * Encodes request line & headers of {@param request}, including terminating empty line.
+     *
+     * @param request       to encode.
+     * @param url           - {@param request}'s target {@link URL}, that includes query string.
+     * @param route         - {@link Route}, that connection was established to.
+     * @param contentLength - length of request body or -1 in case body is sent, using chunked transfer encoding.
+     *                      Ignored in case {@param request} does not send body.
+     * @return encoded request head, using ISO-8859-1 character encoding.
+     * @throws IllegalArgumentException in case header name is not a token or header value contains CR, LF or NUL,
+     *                                  because such header would inject extra lines into request head.
+     */
+    public static byte[] encodeHead(Request request, URL url, Route route, long contentLength) {
+        StringBuilder head = new StringBuilder(256)
+                .append(request.action().name())
+                .append(' ')
+                .append(requestTarget(url, route))
+                .append(" HTTP/1.1")
+                .append(CRLF);
+        RequestTemplate template = request.template();
+
+        if (template != null) {
+            head.append(template.headerLines());
+        } else {
+            appendHeaders(head, request.headers());
+        }
+
+        if (!request.headers().containsKey("Host")) {
+            head.append("Host: ").append(route.authority()).append(CRLF);
+        }
+
+        if (ContentEncoding.negotiates(request)) {
+            head.append("Accept-Encoding: ").append(ContentEncoding.ACCEPT_ENCODING).append(CRLF);
+        }
+
+        if (request.sendsBody() && contentLength == -1) {
+            head.append("Transfer-Encoding: chunked").append(CRLF);
+        } else if (request.sendsBody()) {
+            head.append("Content-Length: ").append(contentLength).append(CRLF);
+        } else if (request.action().supportsRequestBody()) {
+            head.append("Content-Length: 0").append(CRLF);
+        }
+
+        return head.append(CRLF).toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Encodes {@param headers} as header lines of request head. Message framing headers are skipped.
+     *
+     * @param headers to encode.
+     * @return encoded header lines, each terminated with CRLF.
+     * @throws IllegalArgumentException in case header name is not a token or header value contains CR, LF or NUL.
+     */
+    public static String encodeHeaders(Headers headers) {
+        return appendHeaders(new StringBuilder(), headers).toString();
+    }
+
+    /**
+     * Reads response status line & headers from {@param input}. Interim (1xx) responses are skipped.
+     *
+     * @param input to read from.
+     * @return read {@link ResponseHead}. Headers are looked up case - insensitively.
+     * @throws EOFException in case connection was closed before any response bytes were read.
+     * @throws IOException  in case response could not be read or is malformed.
+     */
+    public static ResponseHead readHead(InputStream input) throws IOException {
+        while (true) {
+            String statusLine = readLine(input);
+            int code = statusCode(statusLine);
+            Headers.Creator headers = new Headers.Creator();
+
+            for (String line = readLine(input); !line.isEmpty(); line = readLine(input)) {
+                putHeader(headers, line);
+            }
+
+            if (!isInterim(code)) {
+                return head(statusLine, code, headers.create());
+            }
+        }
+    }
+
+    /**
+     * Creates {@link BodyInputStream}, that reads response body, described by {@param head}, from {@param input}.
+     *
+     * @param head   of response.
+     * @param input  to read body from.
+     * @param action of request, that response belongs to - responses to HEAD requests never contain body.
+     * @return {@link BodyInputStream} for response body.
+     */
+    public static BodyInputStream body(ResponseHead head, InputStream input, RequestAction action) {
+        if (!hasBody(head, action)) {
+            return new EmptyInputStream();
+        }
+
+        if (head.chunked()) {
+            return new ChunkedInputStream(input);
+        }
+
+        long length = head.contentLength();
+
+        if (length == 0) {
+            return new EmptyInputStream();
+        }
+
+        return length > 0 ? new FixedLengthInputStream(input, length) : new UntilCloseInputStream(input);
+    }
+
+    /**
+     * @param head   of response.
+     * @param action of request, that response belongs to.
+     * @return true in case response might contain body - responses to HEAD requests, 1xx, 204 & 304 responses
+     * never do.
+     */
+    public static boolean hasBody(ResponseHead head, RequestAction action) {
+        int code = head.code();
+        return action != RequestAction.HEAD && code >= 200 && code != 204 && code != 304;
+    }
+
+    /**
+     * Reads single CRLF (or LF) terminated line from {@param input}, using ISO-8859-1 character encoding.
+     *
+     * @param input to read from.
+     * @return read line without line terminator.
+     * @throws EOFException in case {@param input} ends before line terminator.
+     * @throws IOException  in case line could not be read or exceeds allowed length.
+     */
+    static String readLine(InputStream input) throws IOException {
+        StringBuilder line = new StringBuilder(64);
+
+        for (int b = input.read(); b != '\n'; b = input.read()) {
+            if (b == -1) {
+                throw new EOFException(line.length() == 0 ? "Connection closed by peer" : "Connection closed in the middle of line");
+            }
+
+            if (line.length() == MAX_LINE_LENGTH) {
+                throw new IOException("Response line exceeds " + MAX_LINE_LENGTH + " characters");
+            }
+
+            line.append((char) b);
+        }
+
+        int length = line.length();
+        return length > 0 && line.charAt(length - 1) == '\r' ? line.substring(0, length - 1) : line.toString();
+    }
+
+    static int statusCode(String statusLine) throws IOException {
+        int versionEnd = statusLine.indexOf(' ');
+
+        if (!statusLine.startsWith("HTTP/") || versionEnd == -1 || statusLine.length() < versionEnd + 4) {
+            throw new IOException("Malformed response status line: '" + statusLine + "'");
+        }
+
+        try {
+            return Integer.parseInt(statusLine.substring(versionEnd + 1, versionEnd + 4));
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed response status line: '" + statusLine + "'");
+        }
+    }
+
+    static ResponseHead head(String statusLine, int code, Headers headers) {
+        int versionEnd = statusLine.indexOf(' ');
+        String message = statusLine.length() > versionEnd + 5 ? statusLine.substring(versionEnd + 5) : "";
+        return new ResponseHead(statusLine.substring(0, versionEnd), code, message, headers);
+    }
+
+    static void putHeader(Headers.Creator headers, String line) {
+        int index = line.indexOf(':');
+
+        if (index > 0) {
+            headers.add(line.substring(0, index).trim(), line.substring(index + 1).trim());
+        }
+    }
+
+    /**
+     * @param line of chunk size, that might contain chunk extensions.
+     * @return size of chunk.
+     * @throws IOException in case size is not a non - negative hexadecimal number.
+     */
+    static long chunkSize(String line) throws IOException {
+        int index = line.indexOf(';');
+        String size = (index == -1 ? line : line.substring(0, index)).trim();
+
+        try {
+            // sign is not part of chunk size grammar, though Long#parseLong accepts it
+            if (!size.isEmpty() && Character.digit(size.charAt(0), 16) != -1) {
+                return Long.parseLong(size, 16);
+            }
+        } catch (NumberFormatException e) {
+            // size, that does not fit into long, is malformed too
+        }
+
+        throw new IOException("Malformed chunk size: '" + line + "'");
+    }
+
+    static boolean isInterim(int code) {
+        return code >= 100 && code < 200 && code != 101;
+    }
+
+    private static StringBuilder appendHeaders(StringBuilder head, Headers headers) {
+        for (int index = 0; index < headers.count(); index++) {
+            String name = headers.name(index);
+
+            if (!isFramingHeader(name)) {
+                String value = headers.value(index);
+                checkHeader(name, value);
+                head.append(name).append(": ").append(value == null ? "" : value).append(CRLF);
+            }
+        }
+
+        return head;
+    }
+
+    /**
+     * Checks, that header name is a token (RFC 9110) & that value does not contain CR, LF or NUL, as
+     * {@link java.net.HttpURLConnection} does.
+     */
+    private static void checkHeader(String name, String value) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Header name cannot be empty");
+        }
+
+        for (int index = 0; index < name.length(); index++) {
+            char c = name.charAt(index);
+
+            if (c <= ' ' || c >= 0x7f || "\"(),/:;<=>?@[\\]{}".indexOf(c) != -1) {
+                throw new IllegalArgumentException("Illegal character(s) in message header name: " + name);
+            }
+        }
+
+        if (value != null) {
+            for (int index = 0; index < value.length(); index++) {
+                char c = value.charAt(index);
+
+                if (c == '\r' || c == '\n' || c == '\0') {
+                    throw new IllegalArgumentException("Illegal character(s) in value of message header: " + name);
+                }
+            }
+        }
+    }
+
+    private static String requestTarget(URL url, Route route) {
+        String path = url.getPath();
+        String query = url.getQuery();
+        StringBuilder target = new StringBuilder();
+
+        if (route.proxied() && !route.secure()) {
+            target.append(route.scheme()).append("://").append(route.authority());
+        }
+
+        target.append(path == null || path.isEmpty() ? "/" : path);
+
+        if (query != null) {
+            target.append('?').append(query);
+        }
+
+        return target.toString();
+    }
+
+    private static boolean isFramingHeader(String name) {
+        return name.equalsIgnoreCase("Content-Length") || name.equalsIgnoreCase("Transfer-Encoding");
+    }
+}
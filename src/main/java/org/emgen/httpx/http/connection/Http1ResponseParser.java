@@ -0,0 +1,240 @@
+package org.emgen.httpx.http.connection;
+
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.http.request.RequestAction;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Incremental HTTP/1.1 response parser. Parser is fed with buffers as bytes arrive from non - blocking connection,
+ * it keeps it's state between calls & never blocks. Instance parses single response & is not thread - safe.
+ *
+ * @since 1.0.0
+ */
+public final class Http1ResponseParser {
+
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final int SCRATCH_SIZE = 8 * 1024;
+
+    private enum State {
+        STATUS_LINE,
+        HEADERS,
+        FIXED_BODY,
+        CHUNK_SIZE,
+        CHUNK_DATA,
+        CHUNK_END,
+        TRAILERS,
+        UNTIL_CLOSE,
+        DONE
+    }
+
+    private final RequestAction action;
+    private final StringBuilder line = new StringBuilder(64);
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private State state = State.STATUS_LINE;
+    private boolean started;
+    private String statusLine;
+    private int code;
+    private Headers.Creator headers;
+    private ResponseHead head;
+    private long remaining;
+    private byte[] scratch;
+
+    public Http1ResponseParser(final RequestAction action) {
+        this.action = action;
+    }
+
+    /**
+     * Consumes bytes from {@param buffer} until either buffer has no remaining bytes or response is complete.
+     * Bytes, that follow complete response, are left in {@param buffer}.
+     *
+     * @param buffer to consume bytes from.
+     * @return true in case response is complete.
+     * @throws IOException in case response is malformed.
+     */
+    public boolean feed(ByteBuffer buffer) throws IOException {
+        started |= buffer.hasRemaining();
+
+        while (buffer.hasRemaining() && state != State.DONE) {
+            switch (state) {
+                case STATUS_LINE:
+                case HEADERS:
+                case CHUNK_SIZE:
+                case CHUNK_END:
+                case TRAILERS:
+                    if (readLine(buffer)) {
+                        onLine(consumeLine());
+                    }
+                    break;
+                case FIXED_BODY:
+                case CHUNK_DATA:
+                    readBody(buffer, remaining);
+                    break;
+                case UNTIL_CLOSE:
+                    readBody(buffer, buffer.remaining());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return state == State.DONE;
+    }
+
+    /**
+     * Notifies parser, that connection was closed by server.
+     *
+     * @return true in case response is complete - it's body is delimited by connection close.
+     * @throws EOFException in case response is incomplete.
+     */
+    public boolean endOfStream() throws EOFException {
+        if (state == State.UNTIL_CLOSE) {
+            state = State.DONE;
+        }
+
+        if (state != State.DONE) {
+            throw new EOFException(started ? "Connection closed before response was read" : "Connection closed by peer");
+        }
+
+        return true;
+    }
+
+    /**
+     * @return true in case any response bytes were received.
+     */
+    public boolean started() {
+        return started;
+    }
+
+    public boolean done() {
+        return state == State.DONE;
+    }
+
+    /**
+     * @return response head or null in case it was not parsed yet.
+     */
+    public ResponseHead head() {
+        return head;
+    }
+
+    public byte[] body() {
+        return body.toByteArray();
+    }
+
+    /**
+     * @return true in case response is complete & connection can be used for another request.
+     */
+    public boolean reusable() {
+        return state == State.DONE && head != null && head.keepAlive() && !isUntilClose();
+    }
+
+    private boolean isUntilClose() {
+        return Http1Codec.hasBody(head, action) && !head.chunked() && head.contentLength() < 0;
+    }
+
+    private boolean readLine(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+
+            if (b == '\n') {
+                return true;
+            }
+
+            if (line.length() == MAX_LINE_LENGTH) {
+                throw new IOException("Response line exceeds " + MAX_LINE_LENGTH + " characters");
+            }
+
+            line.append((char) (b & 0xff));
+        }
+
+        return false;
+    }
+
+    private String consumeLine() {
+        int length = line.length();
+        String value = length > 0 && line.charAt(length - 1) == '\r' ? line.substring(0, length - 1) : line.toString();
+        line.setLength(0);
+        return value;
+    }
+
+    private void onLine(String value) throws IOException {
+        switch (state) {
+            case STATUS_LINE:
+                statusLine = value;
+                code = Http1Codec.statusCode(value);
+                headers = new Headers.Creator();
+                state = State.HEADERS;
+                break;
+            case HEADERS:
+                if (!value.isEmpty()) {
+                    Http1Codec.putHeader(headers, value);
+                } else if (Http1Codec.isInterim(code)) {
+                    state = State.STATUS_LINE;
+                } else {
+                    onHead();
+                }
+                break;
+            case CHUNK_SIZE:
+                remaining = Http1Codec.chunkSize(value);
+                state = remaining == 0 ? State.TRAILERS : State.CHUNK_DATA;
+                break;
+            case CHUNK_END:
+                state = State.CHUNK_SIZE;
+                break;
+            case TRAILERS:
+                if (value.isEmpty()) {
+                    state = State.DONE;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void onHead() {
+        head = Http1Codec.head(statusLine, code, headers.create());
+
+        if (!Http1Codec.hasBody(head, action)) {
+            state = State.DONE;
+        } else if (head.chunked()) {
+            state = State.CHUNK_SIZE;
+        } else if (head.contentLength() >= 0) {
+            remaining = head.contentLength();
+            state = remaining == 0 ? State.DONE : State.FIXED_BODY;
+        } else {
+            state = State.UNTIL_CLOSE;
+        }
+    }
+
+    private void readBody(ByteBuffer buffer, long limit) {
+        int count = (int) Math.min(buffer.remaining(), limit);
+
+        if (buffer.hasArray()) {
+            body.write(buffer.array(), buffer.arrayOffset() + buffer.position(), count);
+            buffer.position(buffer.position() + count);
+        } else {
+            if (scratch == null) {
+                scratch = new byte[SCRATCH_SIZE];
+            }
+
+            for (int left = count; left > 0; left -= Math.min(left, SCRATCH_SIZE)) {
+                int length = Math.min(left, SCRATCH_SIZE);
+                buffer.get(scratch, 0, length);
+                body.write(scratch, 0, length);
+            }
+        }
+
+        if (state == State.UNTIL_CLOSE) {
+            return;
+        }
+
+        remaining -= count;
+
+        if (remaining == 0) {
+            state = state == State.FIXED_BODY ? State.DONE : State.CHUNK_END;
+        }
+    }
+}
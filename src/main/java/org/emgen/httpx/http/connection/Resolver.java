@@ -0,0 +1,27 @@
+package org.emgen.httpx.http.connection;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resolves host names to addresses, that connections are opened to.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Resolver {
+
+    /**
+     * Resolver, that uses JDK's name service.
+     */
+    Resolver SYSTEM = host -> Arrays.asList(InetAddress.getAllByName(host));
+
+    /**
+     * @param host - name or literal address of host.
+     * @return addresses of {@param host} in order of preference. List is never empty.
+     * @throws UnknownHostException in case {@param host} could not be resolved.
+     */
+    List<InetAddress> resolve(String host) throws UnknownHostException;
+}
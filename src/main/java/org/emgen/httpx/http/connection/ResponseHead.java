@@ -0,0 +1,95 @@
+package org.emgen.httpx.http.connection;
+
+import org.emgen.httpx.http.Headers;
+
+/**
+ * Status line & headers of HTTP/1.1 response, that were read from connection before response body.
+ *
+ * @since 1.0.0
+ */
+public final class ResponseHead {
+
+    private final String version;
+    private final int code;
+    private final String message;
+    private final Headers headers;
+
+    public ResponseHead(final String version, final int code, final String message, final Headers headers) {
+        this.version = version;
+        this.code = code;
+        this.message = message;
+        this.headers = headers;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    public Headers headers() {
+        return headers;
+    }
+
+    /**
+     * @param name of header to look up.
+     * @return first value of header, that has provided {@param name} or null in case there is no such header.
+     */
+    public String header(String name) {
+        return headers.first(name);
+    }
+
+    /**
+     * @return value of 'Content-Length' header or -1 in case it is not present or is malformed.
+     */
+    public long contentLength() {
+        String value = header("Content-Length");
+
+        if (value == null) {
+            return -1L;
+        }
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * @return true in case response body is sent using chunked transfer encoding.
+     */
+    public boolean chunked() {
+        String value = header("Transfer-Encoding");
+        return value != null && value.toLowerCase().contains("chunked");
+    }
+
+    /**
+     * @return true in case server allows connection to be reused after this response.
+     */
+    public boolean keepAlive() {
+        String connection = header("Connection");
+
+        if (connection != null && connection.equalsIgnoreCase("close")) {
+            return false;
+        }
+
+        return !"HTTP/1.0".equals(version) || (connection != null && connection.equalsIgnoreCase("keep-alive"));
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseHead{" +
+                "version='" + version + '\'' +
+                ", code=" + code +
+                ", message='" + message + '\'' +
+                ", headers=" + headers +
+                '}';
+    }
+}
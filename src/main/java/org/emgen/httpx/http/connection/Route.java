@@ -0,0 +1,113 @@
+package org.emgen.httpx.http.connection;
+
+import org.emgen.httpx.http.request.ProxySettings;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.net.URL;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Identifies the physical destination of a connection - scheme, host, port & proxy, that is used to reach it.
+ * Connections are only reused between requests, that share the same {@link Route}.
+ *
+ * @since 1.0.0
+ */
+public final class Route {
+
+    private final String scheme;
+    private final String host;
+    private final int port;
+    private final String proxyHost;
+    private final int proxyPort;
+
+    public Route(final String scheme, final String host, final int port, final ProxySettings proxySettings) {
+        this.scheme = scheme.toLowerCase(Locale.ROOT);
+        this.host = host.toLowerCase(Locale.ROOT);
+        this.port = port;
+        this.proxyHost = proxySettings == null ? null : proxySettings.target();
+        this.proxyPort = proxySettings == null ? -1 : proxySettings.port();
+    }
+
+    /**
+     * Creates {@link Route} for provided {@param url}.
+     * In case {@param url} does not contain port, scheme's default port is used.
+     *
+     * @param url           to create route for.
+     * @param proxySettings - proxy, that is used to reach {@param url}. Might be null.
+     * @return {@link Route} for provided {@param url}.
+     */
+    public static Route of(URL url, ProxySettings proxySettings) {
+        Prerequisites.exists(url);
+        return new Route(url.getProtocol(), url.getHost(), url.getPort() == -1 ? url.getDefaultPort() : url.getPort(), proxySettings);
+    }
+
+    public String scheme() {
+        return scheme;
+    }
+
+    public String host() {
+        return host;
+    }
+
+    public int port() {
+        return port;
+    }
+
+    public String proxyHost() {
+        return proxyHost;
+    }
+
+    public int proxyPort() {
+        return proxyPort;
+    }
+
+    public boolean secure() {
+        return "https".equals(scheme);
+    }
+
+    public boolean proxied() {
+        return proxyHost != null;
+    }
+
+    /**
+     * @return authority, that is used in 'Host' header - port is omitted in case it is scheme's default port.
+     */
+    public String authority() {
+        return port == (secure() ? 443 : 80) ? host : host + ":" + port;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        Route route = (Route) o;
+        return port == route.port
+                && proxyPort == route.proxyPort
+                && scheme.equals(route.scheme)
+                && host.equals(route.host)
+                && Objects.equals(proxyHost, route.proxyHost);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scheme, host, port, proxyHost, proxyPort);
+    }
+
+    @Override
+    public String toString() {
+        return "Route{" +
+                "scheme='" + scheme + '\'' +
+                ", host='" + host + '\'' +
+                ", port=" + port +
+                ", proxyHost='" + proxyHost + '\'' +
+                ", proxyPort=" + proxyPort +
+                '}';
+    }
+}
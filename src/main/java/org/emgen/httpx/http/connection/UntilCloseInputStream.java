@@ -0,0 +1,39 @@
+package org.emgen.httpx.http.connection;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads body, that has no framing - body ends, when server closes connection. Connection is never reusable.
+ *
+ * @since 1.0.0
+ */
+final class UntilCloseInputStream extends BodyInputStream {
+
+    private boolean exhausted;
+
+    UntilCloseInputStream(final InputStream source) {
+        super(source);
+    }
+
+    @Override
+    public boolean exhausted() {
+        return exhausted;
+    }
+
+    @Override
+    public boolean delimited() {
+        return false;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (exhausted) {
+            return -1;
+        }
+
+        int count = source.read(bytes, offset, length);
+        exhausted = count == -1;
+        return count;
+    }
+}
@@ -0,0 +1,92 @@
+package org.emgen.httpx.http.encoding;
+
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.http.exceptions.RequestExecutionException;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.request.RequestOptions;
+import org.emgen.httpx.http.request.body.GzipBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * Negotiates & applies content codings - compression of request bodies & transparent decompression of
+ * response bodies, that is controlled by {@link RequestOptions}.
+ *
+ * @since 1.0.0
+ */
+public final class ContentEncoding {
+
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private ContentEncoding() {
+        throw new InstantiationError("org.emgen.httpx.http.encoding.ContentEncoding.class cannot be instantiated.");
+    }
+
+    /**
+     * @param request to check.
+     * @return true in case 'Accept-Encoding' header is added to {@param request} & response body has to be
+     * decoded - compression is enabled & {@param request} does not set 'Accept-Encoding' header itself.
+     */
+    public static boolean negotiates(Request request) {
+        return request.options().compression() && !request.headers().containsKey("Accept-Encoding");
+    }
+
+    /**
+     * Compresses {@param request}'s body, using gzip, in case it's length reaches
+     * {@link RequestOptions#compressionThreshold()}.
+     *
+     * @param request to compress.
+     * @return {@link Request} with compressed body & 'Content-Encoding: gzip' header or {@param request} itself
+     * in case it's body is not compressed.
+     * @throws RequestExecutionException in case body length could not be determined.
+     */
+    public static Request compress(Request request) {
+        long threshold = request.options().compressionThreshold();
+
+        if (threshold < 0 || !request.sendsBody() || length(request) < threshold || request.headers().containsKey("Content-Encoding")) {
+            return request;
+        }
+
+        return new Request.Creator(request)
+                .body(new GzipBody(request.requestBody()))
+                .header("Content-Encoding", "gzip")
+                .create();
+    }
+
+    /**
+     * Wraps {@param body} with decoder in case it is encoded, using gzip or deflate content coding.
+     *
+     * @param body    - stream of response body.
+     * @param headers of response.
+     * @return {@link DecodingInputStream} or {@param body} itself in case it is not encoded or content coding is
+     * not supported.
+     */
+    public static InputStream decode(InputStream body, Headers headers) {
+        String encoding = headers.first("Content-Encoding");
+
+        if (encoding == null) {
+            return body;
+        }
+
+        switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+            case "gzip":
+            case "x-gzip":
+                return new DecodingInputStream(body, "gzip");
+            case "deflate":
+                return new DecodingInputStream(body, "deflate");
+            default:
+                return body;
+        }
+    }
+
+    private static long length(Request request) {
+        try {
+            long length = request.requestBody().length();
+            return length == -1 ? Long.MIN_VALUE : length;
+        } catch (IOException e) {
+            throw new RequestExecutionException("Request body length could not be determined", e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package org.emgen.httpx.http.encoding;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Stream, that decodes response body, compressed using gzip or deflate content coding, as it is read.
+ * Counts of both compressed (wire) & decoded bytes are tracked. Decoder is created lazily, therefore empty
+ * bodies (e.g. responses to HEAD requests) are read as empty streams. Native memory of decoder is released, once
+ * body is read to the end, stream is closed or {@link DecodingInputStream#end()} is called.
+ *
+ * @since 1.0.0
+ */
+public final class DecodingInputStream extends InputStream {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final Counting wire;
+    private final String coding;
+    private InputStream decoder;
+    private Inflater inflater;
+    private long decodedBytes;
+    private boolean finished;
+
+    /**
+     * @param in     - stream of encoded body.
+     * @param coding - content coding - either 'gzip' or 'deflate'.
+     */
+    DecodingInputStream(final InputStream in, final String coding) {
+        this.wire = new Counting(in);
+        this.coding = coding;
+    }
+
+    /**
+     * @return count of encoded bytes, that were read from underlying stream.
+     */
+    public long wireBytes() {
+        return wire.count;
+    }
+
+    /**
+     * @return count of decoded bytes, that were read from this stream.
+     */
+    public long decodedBytes() {
+        return decodedBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (finished || decoder == null && (decoder = decoder()) == null) {
+            return -1;
+        }
+
+        int count = decoder.read(b, off, len);
+
+        if (count == -1) {
+            end();
+        } else {
+            decodedBytes += count;
+        }
+
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return finished || decoder == null ? 0 : decoder.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        end();
+        wire.close();
+    }
+
+    /**
+     * Releases native memory of decoder, but leaves underlying stream open, e.g. so that connection can be reused.
+     * Reads, that follow, return -1. Calling method more than once has no effect.
+     */
+    public void end() {
+        finished = true;
+
+        if (inflater != null) {
+            inflater.end();
+            inflater = null;
+        }
+
+        if (decoder != null) {
+            try {
+                // decoder owns inflater of gzip stream, that is ended on close only
+                decoder.close();
+            } catch (IOException e) {
+                // decoder does not close underlying stream, therefore closing it never fails
+            }
+        }
+    }
+
+    private InputStream decoder() throws IOException {
+        // decoder is closed to release it's inflater, while underlying stream has to stay open
+        PushbackInputStream input = new PushbackInputStream(new FilterInputStream(wire) {
+            @Override
+            public void close() {
+            }
+        }, 2);
+        byte[] head = new byte[2];
+        int length = input.read(head);
+
+        if (length == -1) {
+            return null;
+        }
+
+        if (length == 1) {
+            int b = input.read();
+
+            if (b != -1) {
+                head[length++] = (byte) b;
+            }
+        }
+
+        input.unread(head, 0, length);
+
+        if (coding.equals("gzip")) {
+            return new GZIPInputStream(input, BUFFER_SIZE);
+        }
+
+        // 'deflate' is meant to be zlib wrapped, yet some servers send raw deflate data
+        inflater = new Inflater(!isZlibHeader(head, length));
+        return new InflaterInputStream(input, inflater, BUFFER_SIZE);
+    }
+
+    private static boolean isZlibHeader(byte[] head, int length) {
+        int cmf = head[0] & 0xff;
+        return length == 2 && (cmf & 0x0f) == 8 && ((cmf << 8) | (head[1] & 0xff)) % 31 == 0;
+    }
+
+    private static final class Counting extends FilterInputStream {
+
+        private long count;
+
+        private Counting(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            count += b == -1 ? 0 : 1;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int length = super.read(b, off, len);
+            count += Math.max(0, length);
+            return length;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.emgen.httpx.http.exceptions;
+
+/**
+ * Thrown, when request is not sent, because circuit breaker of it's upstream is open.
+ *
+ * @since 1.0.0
+ */
+public class CircuitOpenException extends RequestRejectedException {
+
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package org.emgen.httpx.http.exceptions;
+
+/**
+ * Thrown, when execution is aborted, using {@link org.emgen.httpx.http.request.Cancellation}.
+ *
+ * @since 1.0.0
+ */
+public class RequestCancelledException extends RequestExecutionException {
+
+    public RequestCancelledException(String message) {
+        super(message);
+    }
+}
@@ -8,4 +8,8 @@ public class RequestCreationException extends RuntimeException {
     public RequestCreationException(String message) {
         super(message);
     }
+
+    public RequestCreationException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -0,0 +1,19 @@
+package org.emgen.httpx.http.exceptions;
+
+/**
+ * @since 1.0.0
+ */
+public class RequestExecutionException extends RuntimeException {
+
+    public RequestExecutionException(String message) {
+        super(message);
+    }
+
+    public RequestExecutionException(Throwable cause) {
+        super(cause);
+    }
+
+    public RequestExecutionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package org.emgen.httpx.http.exceptions;
+
+/**
+ * Thrown, when request is not sent, because client - side limit of it's route is reached & request could not be
+ * queued or waited in queue for too long.
+ *
+ * @since 1.0.0
+ */
+public class RequestRejectedException extends RequestExecutionException {
+
+    public RequestRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,132 @@
+package org.emgen.httpx.http.h2;
+
+import org.emgen.httpx.http.Headers;
+
+import java.io.IOException;
+
+/**
+ * Decodes HPACK header blocks (RFC 7541) to header fields. Decoder is stateful & not thread - safe - header
+ * blocks have to be decoded in order they were received from connection, including blocks of streams, that are
+ * not processed any more.
+ *
+ * @since 1.0.0
+ */
+public final class HpackDecoder {
+
+    private final HpackTable table;
+    private final int maxTableSize;
+
+    public HpackDecoder() {
+        this(HpackTable.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxTableSize - max size of dynamic table in octets, that was advertised to peer's encoder.
+     */
+    public HpackDecoder(final int maxTableSize) {
+        this.table = new HpackTable(maxTableSize);
+        this.maxTableSize = maxTableSize;
+    }
+
+    /**
+     * Decodes header block & adds it's fields to {@param headers} in order they are encoded. Pseudo - header
+     * fields are added as well. Octets are decoded as UTF-8 text, unless they are not valid UTF-8.
+     *
+     * @param block   - array, that contains header block.
+     * @param offset  of header block in {@param block}.
+     * @param length  of header block.
+     * @param headers to add decoded fields to.
+     * @throws IOException in case header block is malformed.
+     */
+    public void decode(byte[] block, int offset, int length, Headers.Creator headers) throws IOException {
+        int[] position = {offset};
+        int end = offset + length;
+        boolean fields = false;
+
+        try {
+            while (position[0] < end) {
+                int b = block[position[0]] & 0xff;
+
+                if ((b & 0x80) != 0) {
+                    int index = readInt(block, position, end, 7);
+                    headers.add(HpackTable.text(table.name(index)), HpackTable.text(table.value(index)));
+                    fields = true;
+                } else if ((b & 0x40) != 0) {
+                    int index = readInt(block, position, end, 6);
+                    String name = index == 0 ? readString(block, position, end) : table.name(index);
+                    String value = readString(block, position, end);
+                    table.add(name, value);
+                    headers.add(HpackTable.text(name), HpackTable.text(value));
+                    fields = true;
+                } else if ((b & 0x20) != 0) {
+                    int size = readInt(block, position, end, 5);
+
+                    // size updates are allowed at the beginning of header block only
+                    if (fields || size > maxTableSize) {
+                        throw new IOException("Illegal dynamic table size update to " + size + " octets");
+                    }
+
+                    table.resize(size);
+                } else {
+                    // literal without indexing (0000) & never indexed literal (0001) share the same layout
+                    int index = readInt(block, position, end, 4);
+                    String name = index == 0 ? readString(block, position, end) : table.name(index);
+                    headers.add(HpackTable.text(name), HpackTable.text(readString(block, position, end)));
+                    fields = true;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Header block refers to missing table entry", e);
+        }
+    }
+
+    private static int readInt(byte[] block, int[] position, int end, int prefix) throws IOException {
+        int max = (1 << prefix) - 1;
+        int value = block[position[0]++] & max;
+
+        if (value < max) {
+            return value;
+        }
+
+        for (int shift = 0; ; shift += 7) {
+            if (position[0] == end || shift > 21) {
+                throw new IOException("Header block contains malformed integer");
+            }
+
+            int b = block[position[0]++] & 0xff;
+            value += (b & 0x7f) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static String readString(byte[] block, int[] position, int end) throws IOException {
+        if (position[0] == end) {
+            throw new IOException("Header block ends in the middle of field");
+        }
+
+        boolean huffman = (block[position[0]] & 0x80) != 0;
+        int length = readInt(block, position, end, 7);
+
+        if (length > end - position[0]) {
+            throw new IOException("Header block ends in the middle of string");
+        }
+
+        int start = position[0];
+        position[0] += length;
+
+        if (huffman) {
+            return Huffman.decode(block, start, length);
+        }
+
+        char[] chars = new char[length];
+
+        for (int index = 0; index < length; index++) {
+            chars[index] = (char) (block[start + index] & 0xff);
+        }
+
+        return new String(chars);
+    }
+}
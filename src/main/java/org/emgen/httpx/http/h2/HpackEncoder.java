@@ -0,0 +1,150 @@
+package org.emgen.httpx.http.h2;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Encodes header fields to HPACK header blocks (RFC 7541). Fields, that are present in static or dynamic table,
+ * are sent as indexes, other fields are sent as literals & added to dynamic table, so that repeated headers of
+ * subsequent requests occupy a single byte. Credentials are never indexed. Strings are Huffman encoded, when
+ * it makes them shorter.
+ * <p>
+ * Encoder is stateful & not thread - safe - header blocks have to be encoded in order they are written to
+ * connection.
+ *
+ * @since 1.0.0
+ */
+public final class HpackEncoder {
+
+    private final HpackTable table;
+    private int pendingMaxSize = -1;
+    private int lowestMaxSize = Integer.MAX_VALUE;
+
+    public HpackEncoder() {
+        this(HpackTable.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxTableSize - max size of dynamic table in octets, that peer's decoder allows.
+     */
+    public HpackEncoder(final int maxTableSize) {
+        this.table = new HpackTable(maxTableSize);
+    }
+
+    /**
+     * Changes max size of dynamic table. Change is signalled at the beginning of next header block.
+     *
+     * @param maxTableSize - new max size of dynamic table in octets.
+     */
+    public void maxTableSize(int maxTableSize) {
+        lowestMaxSize = Math.min(lowestMaxSize, maxTableSize);
+        pendingMaxSize = maxTableSize;
+    }
+
+    /**
+     * Encodes single header field & appends it to {@param block}.
+     *
+     * @param name  of header in lower case.
+     * @param value of header. Text is sent as UTF-8 octets.
+     * @param block - header block to append field to.
+     */
+    public void encode(String name, String value, ByteArrayOutputStream block) {
+        if (pendingMaxSize != -1) {
+            writeSizeUpdates(block);
+        }
+
+        name = HpackTable.octets(name);
+        value = HpackTable.octets(value);
+
+        boolean sensitive = name.equals("authorization") || name.equals("proxy-authorization");
+        int index = table.indexOf(name, value);
+
+        if (index > 0 && !sensitive) {
+            writeInt(block, 0x80, 7, index);
+            return;
+        }
+
+        if (sensitive) {
+            writeLiteral(block, 0x10, 4, -index, name, value);
+        } else if (HpackTable.entrySize(name, value) > table.maxSize() * 3 / 4) {
+            // fields, that would flush most of dynamic table, are sent without indexing
+            writeLiteral(block, 0x00, 4, -index, name, value);
+        } else {
+            writeLiteral(block, 0x40, 6, -index, name, value);
+            table.add(name, value);
+        }
+    }
+
+    private void writeSizeUpdates(ByteArrayOutputStream block) {
+        // decoder has to see the lowest size first, in order to evict the same entries as encoder
+        if (lowestMaxSize < pendingMaxSize) {
+            table.resize(lowestMaxSize);
+            writeInt(block, 0x20, 5, lowestMaxSize);
+        }
+
+        if (pendingMaxSize != table.maxSize() || lowestMaxSize < pendingMaxSize) {
+            table.resize(pendingMaxSize);
+            writeInt(block, 0x20, 5, pendingMaxSize);
+        }
+
+        pendingMaxSize = -1;
+        lowestMaxSize = Integer.MAX_VALUE;
+    }
+
+    private static void writeLiteral(ByteArrayOutputStream block, int pattern, int prefix, int nameIndex, String name, String value) {
+        writeInt(block, pattern, prefix, nameIndex);
+
+        if (nameIndex == 0) {
+            writeString(block, name);
+        }
+
+        writeString(block, value);
+    }
+
+    /**
+     * Writes {@param value} as HPACK integer with {@param prefix} bit prefix (RFC 7541, section 5.1).
+     *
+     * @param block   to write to.
+     * @param pattern - bits of the first byte, that precede the prefix.
+     * @param prefix  - count of bits of the first byte, that are available for value.
+     * @param value   to write.
+     */
+    static void writeInt(ByteArrayOutputStream block, int pattern, int prefix, int value) {
+        int max = (1 << prefix) - 1;
+
+        if (value < max) {
+            block.write(pattern | value);
+            return;
+        }
+
+        block.write(pattern | max);
+
+        for (value -= max; value >= 0x80; value >>>= 7) {
+            block.write((value & 0x7f) | 0x80);
+        }
+
+        block.write(value);
+    }
+
+    /**
+     * Writes {@param string} as HPACK string literal (RFC 7541, section 5.2). Characters are treated as
+     * ISO-8859-1 bytes.
+     *
+     * @param block  to write to.
+     * @param string to write.
+     */
+    static void writeString(ByteArrayOutputStream block, String string) {
+        int huffmanLength = Huffman.encodedLength(string);
+
+        if (huffmanLength < string.length()) {
+            writeInt(block, 0x80, 7, huffmanLength);
+            Huffman.encode(string, block);
+            return;
+        }
+
+        writeInt(block, 0x00, 7, string.length());
+
+        for (int index = 0; index < string.length(); index++) {
+            block.write(string.charAt(index));
+        }
+    }
+}
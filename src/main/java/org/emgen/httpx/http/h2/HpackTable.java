@@ -0,0 +1,310 @@
+package org.emgen.httpx.http.h2;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * HPACK index address space (RFC 7541, section 2.3) - static table, that is followed by dynamic table.
+ * Dynamic table is a ring of entries, newest entry has the lowest index. Table is not thread - safe - each
+ * direction of connection owns it's own table.
+ * <p>
+ * Names & values of entries are octet strings - each character holds a single octet, that is sent over connection,
+ * therefore size of entry is the count of it's UTF-8 octets. Text is converted to octets & back by
+ * {@link HpackTable#octets(String)} & {@link HpackTable#text(String)}.
+ *
+ * @since 1.0.0
+ */
+final class HpackTable {
+
+    static final int DEFAULT_MAX_SIZE = 4096;
+    static final int ENTRY_OVERHEAD = 32;
+
+    private static final String[][] STATIC_TABLE = {
+            {":authority", ""},
+            {":method", "GET"},
+            {":method", "POST"},
+            {":path", "/"},
+            {":path", "/index.html"},
+            {":scheme", "http"},
+            {":scheme", "https"},
+            {":status", "200"},
+            {":status", "204"},
+            {":status", "206"},
+            {":status", "304"},
+            {":status", "400"},
+            {":status", "404"},
+            {":status", "500"},
+            {"accept-charset", ""},
+            {"accept-encoding", "gzip, deflate"},
+            {"accept-language", ""},
+            {"accept-ranges", ""},
+            {"accept", ""},
+            {"access-control-allow-origin", ""},
+            {"age", ""},
+            {"allow", ""},
+            {"authorization", ""},
+            {"cache-control", ""},
+            {"content-disposition", ""},
+            {"content-encoding", ""},
+            {"content-language", ""},
+            {"content-length", ""},
+            {"content-location", ""},
+            {"content-range", ""},
+            {"content-type", ""},
+            {"cookie", ""},
+            {"date", ""},
+            {"etag", ""},
+            {"expect", ""},
+            {"expires", ""},
+            {"from", ""},
+            {"host", ""},
+            {"if-match", ""},
+            {"if-modified-since", ""},
+            {"if-none-match", ""},
+            {"if-range", ""},
+            {"if-unmodified-since", ""},
+            {"last-modified", ""},
+            {"link", ""},
+            {"location", ""},
+            {"max-forwards", ""},
+            {"proxy-authenticate", ""},
+            {"proxy-authorization", ""},
+            {"range", ""},
+            {"referer", ""},
+            {"refresh", ""},
+            {"retry-after", ""},
+            {"server", ""},
+            {"set-cookie", ""},
+            {"strict-transport-security", ""},
+            {"transfer-encoding", ""},
+            {"user-agent", ""},
+            {"vary", ""},
+            {"via", ""},
+            {"www-authenticate", ""}
+    };
+
+    static final int STATIC_TABLE_LENGTH = STATIC_TABLE.length;
+
+    /**
+     * Indexes of static table by name & by name with value, that are separated by SOH control character. First index
+     * of each name is kept.
+     */
+    private static final Map<String, Integer> STATIC_INDEXES = staticIndexes();
+
+    private String[] names = new String[16];
+    private String[] values = new String[16];
+    private int head;
+    private int count;
+    private int size;
+    private int maxSize;
+
+    HpackTable(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param index - 1 based index of entry in both tables.
+     * @return name of entry at {@param index}.
+     * @throws IndexOutOfBoundsException in case there is no entry at {@param index}.
+     */
+    String name(int index) {
+        return index <= STATIC_TABLE_LENGTH ? entry(index)[0] : names[slot(index)];
+    }
+
+    /**
+     * @param index - 1 based index of entry in both tables.
+     * @return value of entry at {@param index}.
+     * @throws IndexOutOfBoundsException in case there is no entry at {@param index}.
+     */
+    String value(int index) {
+        return index <= STATIC_TABLE_LENGTH ? entry(index)[1] : values[slot(index)];
+    }
+
+    /**
+     * @param name  of header.
+     * @param value of header.
+     * @return positive index of entry, that matches both {@param name} & {@param value}, negative index of entry,
+     * that matches {@param name} only or 0 in case there is no matching entry.
+     */
+    int indexOf(String name, String value) {
+        Integer index = STATIC_INDEXES.get(name + '\u0001' + value);
+
+        if (index != null) {
+            return index;
+        }
+
+        int nameIndex = 0;
+
+        for (int entry = 0; entry < count; entry++) {
+            int slot = (head + entry) & (names.length - 1);
+
+            if (names[slot].equals(name)) {
+                if (values[slot].equals(value)) {
+                    return STATIC_TABLE_LENGTH + 1 + entry;
+                }
+
+                if (nameIndex == 0) {
+                    nameIndex = STATIC_TABLE_LENGTH + 1 + entry;
+                }
+            }
+        }
+
+        index = STATIC_INDEXES.get(name);
+        return index != null ? -index : -nameIndex;
+    }
+
+    /**
+     * Adds entry to dynamic table, evicting the oldest entries, until table fits it's max size. Entry, that is
+     * larger than max size, empties table & is not added.
+     *
+     * @param name  of entry.
+     * @param value of entry.
+     */
+    void add(String name, String value) {
+        int entrySize = entrySize(name, value);
+        evict(maxSize - entrySize);
+
+        if (entrySize > maxSize) {
+            return;
+        }
+
+        if (count == names.length) {
+            grow();
+        }
+
+        head = (head - 1) & (names.length - 1);
+        names[head] = name;
+        values[head] = value;
+        count++;
+        size += entrySize;
+    }
+
+    /**
+     * Changes max size of dynamic table, evicting entries, that do not fit.
+     *
+     * @param maxSize - new max size in octets.
+     */
+    void resize(int maxSize) {
+        this.maxSize = maxSize;
+        evict(maxSize);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @param name  - octet string of name.
+     * @param value - octet string of value.
+     * @return size of entry in octets (RFC 7541, section 4.1).
+     */
+    static int entrySize(String name, String value) {
+        return name.length() + value.length() + ENTRY_OVERHEAD;
+    }
+
+    /**
+     * @param text to encode.
+     * @return octet string of UTF-8 encoded {@param text}. ASCII text is returned as is.
+     */
+    static String octets(String text) {
+        if (ascii(text)) {
+            return text;
+        }
+
+        return new String(text.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @param octets - octet string to decode.
+     * @return text of UTF-8 encoded {@param octets}. ASCII octets are returned as is & octets, that are not valid
+     * UTF-8, are decoded as ISO-8859-1.
+     */
+    static String text(String octets) {
+        if (ascii(octets)) {
+            return octets;
+        }
+
+        byte[] bytes = octets.getBytes(StandardCharsets.ISO_8859_1);
+
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(bytes))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            return octets;
+        }
+    }
+
+    private static boolean ascii(String string) {
+        for (int index = 0; index < string.length(); index++) {
+            if (string.charAt(index) >= 0x80) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void evict(int limit) {
+        while (count > 0 && size > limit) {
+            int tail = (head + count - 1) & (names.length - 1);
+            size -= entrySize(names[tail], values[tail]);
+            names[tail] = null;
+            values[tail] = null;
+            count--;
+        }
+    }
+
+    private void grow() {
+        String[] grownNames = new String[names.length * 2];
+        String[] grownValues = new String[names.length * 2];
+
+        for (int entry = 0; entry < count; entry++) {
+            grownNames[entry] = names[(head + entry) & (names.length - 1)];
+            grownValues[entry] = values[(head + entry) & (names.length - 1)];
+        }
+
+        names = grownNames;
+        values = grownValues;
+        head = 0;
+    }
+
+    private int slot(int index) {
+        int entry = index - STATIC_TABLE_LENGTH - 1;
+
+        if (entry >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", dynamic table entries: " + count);
+        }
+
+        return (head + entry) & (names.length - 1);
+    }
+
+    private static String[] entry(int index) {
+        if (index < 1) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        return STATIC_TABLE[index - 1];
+    }
+
+    private static Map<String, Integer> staticIndexes() {
+        Map<String, Integer> indexes = new HashMap<>();
+
+        for (int index = STATIC_TABLE_LENGTH; index > 0; index--) {
+            indexes.put(STATIC_TABLE[index - 1][0], index);
+            indexes.put(STATIC_TABLE[index - 1][0] + '\u0001' + STATIC_TABLE[index - 1][1], index);
+        }
+
+        return indexes;
+    }
+}
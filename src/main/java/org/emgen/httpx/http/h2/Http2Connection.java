@@ -0,0 +1,639 @@
+package org.emgen.httpx.http.h2;
+
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.http.connection.Connector;
+import org.emgen.httpx.http.connection.Route;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single HTTP/2 connection (h2c with prior knowledge), that multiplexes concurrent {@link Http2Stream}s.
+ * Frames are read by dedicated daemon thread, that dispatches them to streams. Frames are written by threads,
+ * that execute requests, under write lock - stream identifier allocation, header block encoding & HEADERS frame
+ * write form a single atomic step, because both identifiers & HPACK state have to follow wire order.
+ * <p>
+ * Connection respects peer's SETTINGS - max count of concurrent streams, initial window size, max frame size &
+ * header table size. Request bodies are written within peer's send windows. Receive window of connection is
+ * replenished, as data arrives, receive windows of streams are replenished, as their bodies are consumed.
+ *
+ * @since 1.0.0
+ */
+final class Http2Connection implements Runnable, Closeable {
+
+    private static final byte[] PREFACE = "PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+    private static final int CONNECTION_WINDOW_SIZE = 16 * 1024 * 1024;
+    private static final int MAX_STREAM_ID = Integer.MAX_VALUE;
+
+    private final Route route;
+    private final Socket socket;
+    private final InputStream input;
+    private final OutputStream output;
+    private final int windowSize;
+    private final Thread reader;
+    private final Object writeLock = new Object();
+    private final HpackEncoder encoder = new HpackEncoder();
+    private final HpackDecoder decoder = new HpackDecoder();
+    private final Map<Integer, Http2Stream> streams = new ConcurrentHashMap<>();
+
+    // guarded by this
+    private int nextStreamId = 1;
+    private int active;
+    private int maxConcurrentStreams = Integer.MAX_VALUE;
+    private int initialWindowSize = Http2Frame.DEFAULT_WINDOW_SIZE;
+    private int maxFrameSize = Http2Frame.DEFAULT_MAX_FRAME_SIZE;
+    private long sendWindow = Http2Frame.DEFAULT_WINDOW_SIZE;
+    private boolean shutdown;
+    private IOException failure;
+
+    // accessed by reader thread only
+    private int unacknowledged;
+
+    private Http2Connection(final Route route, final Socket socket, final int windowSize) throws IOException {
+        this.route = route;
+        this.socket = socket;
+        this.input = new BufferedInputStream(socket.getInputStream(), 64 * 1024);
+        this.output = new BufferedOutputStream(socket.getOutputStream(), Http2Frame.DEFAULT_MAX_FRAME_SIZE + Http2Frame.HEADER_LENGTH);
+        this.windowSize = windowSize;
+        this.reader = new Thread(this, "httpx-h2-" + route.authority());
+        this.reader.setDaemon(true);
+    }
+
+    /**
+     * Opens connection to {@param route}, sends connection preface - client magic, SETTINGS & WINDOW_UPDATE
+     * frames & waits for server's preface - SETTINGS frame.
+     *
+     * @param route          to connect to.
+     * @param connectTimeout - milliseconds to wait for connection & server's preface. 0 is interpreted as infinite
+     *                       timeout.
+     * @param windowSize     - receive window of each stream in bytes.
+     * @param connector      - {@link Connector}, that resolves host & establishes TCP connection.
+     * @return opened {@link Http2Connection}.
+     * @throws IOException in case connection could not be opened.
+     */
+    static Http2Connection open(Route route, int connectTimeout, int windowSize, Connector connector) throws IOException {
+        Socket socket = connector.connect(route.host(), route.port(), connectTimeout);
+
+        try {
+            Http2Connection connection = new Http2Connection(route, socket, windowSize);
+            byte[] settings = Http2Frame.settings(
+                    Http2Frame.SETTINGS_ENABLE_PUSH, 0,
+                    Http2Frame.SETTINGS_INITIAL_WINDOW_SIZE, windowSize
+            );
+            connection.output.write(PREFACE);
+            Http2Frame.write(connection.output, Http2Frame.SETTINGS, 0, 0, settings, 0, settings.length);
+            byte[] increment = Http2Frame.int32Payload(CONNECTION_WINDOW_SIZE - Http2Frame.DEFAULT_WINDOW_SIZE);
+            Http2Frame.write(connection.output, Http2Frame.WINDOW_UPDATE, 0, 0, increment, 0, increment.length);
+            connection.output.flush();
+
+            // server's preface is a SETTINGS frame, that is awaited, so that first requests respect server's limits
+            socket.setSoTimeout(connectTimeout);
+            Http2Frame serverPreface = Http2Frame.read(connection.input, Http2Frame.DEFAULT_MAX_FRAME_SIZE);
+
+            if (serverPreface.type() != Http2Frame.SETTINGS || serverPreface.has(Http2Frame.FLAG_ACK)) {
+                throw new IOException("HTTP/2 protocol error: server's preface is not a SETTINGS frame - server might not support h2c");
+            }
+
+            connection.onSettings(serverPreface);
+            socket.setSoTimeout(0);
+            connection.reader.start();
+            return connection;
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return true in case new streams can be opened over connection - it is neither closed, nor shut down by
+     * GOAWAY frame & stream identifiers are not exhausted.
+     */
+    synchronized boolean accepts() {
+        return failure == null && !shutdown && nextStreamId < MAX_STREAM_ID;
+    }
+
+    /**
+     * Opens new stream & writes it's request header block. Caller waits in case peer's limit of concurrent
+     * streams is reached.
+     *
+     * @param fields    - request header fields, including pseudo - header fields, that precede regular ones.
+     * @param endStream - true in case request has no body.
+     * @param buffered  - true in case response body is buffered as a whole.
+     * @param timeout   - milliseconds to wait for stream to become available. 0 is interpreted as infinite timeout.
+     * @return opened {@link Http2Stream}.
+     * @throws IOException in case stream could not be opened. Stream, that is refused, because connection does
+     *                     not accept new streams, is reported as {@link RefusedStreamException}.
+     */
+    Http2Stream newStream(Headers fields, boolean endStream, boolean buffered, int timeout) throws IOException {
+        acquire(timeout);
+        Http2Stream stream;
+
+        synchronized (writeLock) {
+            synchronized (this) {
+                if (failure != null || shutdown || nextStreamId >= MAX_STREAM_ID) {
+                    active--;
+                    notifyAll();
+                    throw new RefusedStreamException("Connection does not accept new streams");
+                }
+
+                stream = new Http2Stream(this, nextStreamId, initialWindowSize, windowSize, buffered);
+                streams.put(nextStreamId, stream);
+                nextStreamId += 2;
+            }
+
+            ByteArrayOutputStream block = new ByteArrayOutputStream(256);
+
+            for (int index = 0; index < fields.count(); index++) {
+                encoder.encode(fields.name(index), fields.value(index), block);
+            }
+
+            try {
+                writeHeaders(stream.id(), block.toByteArray(), endStream);
+                output.flush();
+            } catch (IOException e) {
+                fail(e);
+                throw e;
+            }
+        }
+
+        return stream;
+    }
+
+    /**
+     * Writes {@param length} bytes of {@param data} as DATA frames of {@param stream}, waiting for send windows
+     * of stream & connection. Data of stream, that was already closed (e.g. server responded before request
+     * body was sent), is discarded.
+     *
+     * @param stream    to write data to.
+     * @param data      - array, that contains data.
+     * @param length    of data.
+     * @param endStream - true in case data ends request.
+     * @throws IOException in case data could not be written.
+     */
+    void writeData(Http2Stream stream, byte[] data, int length, boolean endStream) throws IOException {
+        int offset = 0;
+
+        do {
+            int chunk;
+
+            synchronized (this) {
+                while (length > 0 && Math.min(sendWindow, stream.sendWindow) <= 0 && failure == null && !stream.closed()) {
+                    await(0L);
+                }
+
+                if (failure != null) {
+                    throw failure;
+                }
+
+                if (stream.closed()) {
+                    return;
+                }
+
+                chunk = (int) Math.min(Math.min(length, maxFrameSize), Math.min(sendWindow, stream.sendWindow));
+                sendWindow -= chunk;
+                stream.sendWindow -= chunk;
+            }
+
+            length -= chunk;
+            write(Http2Frame.DATA, endStream && length == 0 ? Http2Frame.FLAG_END_STREAM : 0, stream.id(), data, offset, chunk);
+            offset += chunk;
+        } while (length > 0);
+    }
+
+    /**
+     * Replenishes receive window of stream, that is identified by {@param streamId}.
+     *
+     * @param streamId  - identifier of stream.
+     * @param increment of window in bytes.
+     */
+    void windowUpdate(int streamId, int increment) {
+        byte[] payload = Http2Frame.int32Payload(increment);
+
+        try {
+            write(Http2Frame.WINDOW_UPDATE, 0, streamId, payload, 0, payload.length);
+        } catch (IOException ignored) {
+            // connection failure is reported to streams by fail()
+        }
+    }
+
+    /**
+     * Resets stream, that is identified by {@param streamId}, with {@param errorCode}.
+     *
+     * @param streamId  - identifier of stream.
+     * @param errorCode of RST_STREAM frame.
+     */
+    void reset(int streamId, int errorCode) {
+        byte[] payload = Http2Frame.int32Payload(errorCode);
+
+        try {
+            write(Http2Frame.RST_STREAM, 0, streamId, payload, 0, payload.length);
+        } catch (IOException ignored) {
+            // connection failure is reported to streams by fail()
+        }
+    }
+
+    /**
+     * Releases {@param stream}'s slot. Connection, that was shut down by GOAWAY frame, is closed, when it's last
+     * stream is released.
+     *
+     * @param stream to release.
+     */
+    void release(Http2Stream stream) {
+        boolean closes;
+
+        synchronized (this) {
+            if (streams.remove(stream.id()) == null) {
+                return;
+            }
+
+            active--;
+            closes = shutdown && active == 0;
+            notifyAll();
+        }
+
+        if (closes) {
+            close();
+        }
+    }
+
+    /**
+     * Stops accepting new streams. Connection is closed, when active streams complete.
+     */
+    void shutdown() {
+        boolean closes;
+
+        synchronized (this) {
+            shutdown = true;
+            closes = active == 0;
+        }
+
+        if (closes) {
+            close();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                dispatch(Http2Frame.read(input, Http2Frame.DEFAULT_MAX_FRAME_SIZE));
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Closes connection. Streams, that are still active, fail.
+     */
+    @Override
+    public void close() {
+        fail(new EOFException("Connection is closed"));
+    }
+
+    private void dispatch(Http2Frame frame) throws IOException {
+        switch (frame.type()) {
+            case Http2Frame.DATA:
+                onData(frame);
+                break;
+            case Http2Frame.HEADERS:
+                onHeaders(frame);
+                break;
+            case Http2Frame.RST_STREAM:
+                onReset(frame);
+                break;
+            case Http2Frame.SETTINGS:
+                onSettings(frame);
+                break;
+            case Http2Frame.PING:
+                if (!frame.has(Http2Frame.FLAG_ACK)) {
+                    write(Http2Frame.PING, Http2Frame.FLAG_ACK, 0, frame.payload(), 0, frame.payload().length);
+                }
+
+                break;
+            case Http2Frame.GOAWAY:
+                onGoAway(frame);
+                break;
+            case Http2Frame.WINDOW_UPDATE:
+                onWindowUpdate(frame);
+                break;
+            case Http2Frame.PUSH_PROMISE:
+            case Http2Frame.CONTINUATION:
+                // push is disabled & CONTINUATION frames are consumed together with their HEADERS frame
+                throw protocolError("Unexpected frame of type " + frame.type());
+            default:
+                // PRIORITY & unknown frames are ignored
+                break;
+        }
+    }
+
+    private void onData(Http2Frame frame) throws IOException {
+        byte[] payload = frame.payload();
+        int padding = frame.has(Http2Frame.FLAG_PADDED) ? padding(frame, 0) : 0;
+        int offset = frame.has(Http2Frame.FLAG_PADDED) ? 1 : 0;
+        Http2Stream stream = streams.get(frame.streamId());
+        unacknowledged += payload.length;
+
+        if (unacknowledged >= CONNECTION_WINDOW_SIZE / 2) {
+            windowUpdate(0, unacknowledged);
+            unacknowledged = 0;
+        }
+
+        if (stream != null) {
+            stream.onData(payload, offset, payload.length - offset - padding, frame.has(Http2Frame.FLAG_END_STREAM));
+        }
+    }
+
+    private void onHeaders(Http2Frame frame) throws IOException {
+        int padding = frame.has(Http2Frame.FLAG_PADDED) ? padding(frame, frame.has(Http2Frame.FLAG_PRIORITY) ? 5 : 0) : 0;
+        int offset = (frame.has(Http2Frame.FLAG_PADDED) ? 1 : 0) + (frame.has(Http2Frame.FLAG_PRIORITY) ? 5 : 0);
+        ByteArrayOutputStream block = new ByteArrayOutputStream(frame.payload().length);
+        block.write(frame.payload(), offset, frame.payload().length - offset - padding);
+
+        for (boolean ended = frame.has(Http2Frame.FLAG_END_HEADERS); !ended; ) {
+            Http2Frame continuation = Http2Frame.read(input, Http2Frame.DEFAULT_MAX_FRAME_SIZE);
+
+            if (continuation.type() != Http2Frame.CONTINUATION || continuation.streamId() != frame.streamId()) {
+                throw protocolError("Header block is interrupted by frame of type " + continuation.type());
+            }
+
+            block.write(continuation.payload(), 0, continuation.payload().length);
+            ended = continuation.has(Http2Frame.FLAG_END_HEADERS);
+        }
+
+        // every header block is decoded, even the one of cancelled stream, in order to keep HPACK state in sync
+        Headers.Creator fields = new Headers.Creator();
+        byte[] bytes = block.toByteArray();
+
+        try {
+            decoder.decode(bytes, 0, bytes.length, fields);
+        } catch (IOException e) {
+            goAway(Http2Frame.COMPRESSION_ERROR);
+            throw e;
+        }
+
+        Http2Stream stream = streams.get(frame.streamId());
+
+        if (stream != null) {
+            try {
+                stream.onHeaders(fields.create(), frame.has(Http2Frame.FLAG_END_STREAM));
+            } catch (IOException e) {
+                reset(stream.id(), Http2Frame.PROTOCOL_ERROR);
+                stream.fail(e, false);
+            }
+        }
+    }
+
+    private void onReset(Http2Frame frame) throws IOException {
+        if (frame.payload().length != 4) {
+            throw protocolError("RST_STREAM frame has invalid length");
+        }
+
+        Http2Stream stream = streams.get(frame.streamId());
+        int errorCode = frame.int32(0);
+
+        if (stream != null) {
+            stream.fail(new IOException("Stream was reset by peer with error code " + errorCode), errorCode == Http2Frame.REFUSED_STREAM);
+        }
+    }
+
+    private void onSettings(Http2Frame frame) throws IOException {
+        if (frame.has(Http2Frame.FLAG_ACK)) {
+            return;
+        }
+
+        byte[] payload = frame.payload();
+
+        if (payload.length % 6 != 0) {
+            throw protocolError("SETTINGS frame has invalid length");
+        }
+
+        int tableSize = -1;
+
+        synchronized (this) {
+            for (int offset = 0; offset < payload.length; offset += 6) {
+                int identifier = (payload[offset] & 0xff) << 8 | (payload[offset + 1] & 0xff);
+                int value = frame.int32(offset + 2);
+
+                switch (identifier) {
+                    case Http2Frame.SETTINGS_HEADER_TABLE_SIZE:
+                        tableSize = value < 0 ? HpackTable.DEFAULT_MAX_SIZE : Math.min(value, HpackTable.DEFAULT_MAX_SIZE);
+                        break;
+                    case Http2Frame.SETTINGS_MAX_CONCURRENT_STREAMS:
+                        maxConcurrentStreams = value < 0 ? Integer.MAX_VALUE : value;
+                        break;
+                    case Http2Frame.SETTINGS_INITIAL_WINDOW_SIZE:
+                        if (value < 0) {
+                            throw protocolError("Initial window size exceeds " + Http2Frame.MAX_WINDOW_SIZE);
+                        }
+
+                        for (Http2Stream stream : streams.values()) {
+                            stream.sendWindow += value - initialWindowSize;
+                        }
+
+                        initialWindowSize = value;
+                        break;
+                    case Http2Frame.SETTINGS_MAX_FRAME_SIZE:
+                        maxFrameSize = Math.min(value, Http2Frame.DEFAULT_MAX_FRAME_SIZE);
+                        break;
+                    default:
+                        break;
+                }
+            }
+
+            notifyAll();
+        }
+
+        if (tableSize != -1) {
+            // encoder is used under write lock only
+            synchronized (writeLock) {
+                encoder.maxTableSize(tableSize);
+            }
+        }
+
+        write(Http2Frame.SETTINGS, Http2Frame.FLAG_ACK, 0, new byte[0], 0, 0);
+    }
+
+    private void onGoAway(Http2Frame frame) throws IOException {
+        if (frame.payload().length < 8) {
+            throw protocolError("GOAWAY frame has invalid length");
+        }
+
+        int lastStreamId = frame.int31(0);
+        int errorCode = frame.int32(4);
+        List<Http2Stream> unprocessed = new ArrayList<>();
+
+        synchronized (this) {
+            shutdown = true;
+            notifyAll();
+        }
+
+        for (Http2Stream stream : streams.values()) {
+            if (stream.id() > lastStreamId) {
+                unprocessed.add(stream);
+            }
+        }
+
+        // streams above last stream identifier were not processed & can be repeated
+        for (Http2Stream stream : unprocessed) {
+            stream.fail(new RefusedStreamException("Stream was not processed before connection was shut down with error code " + errorCode), true);
+        }
+
+        synchronized (this) {
+            if (active == 0) {
+                throw new EOFException("Connection was shut down by peer");
+            }
+        }
+    }
+
+    private void onWindowUpdate(Http2Frame frame) throws IOException {
+        if (frame.payload().length != 4) {
+            throw protocolError("WINDOW_UPDATE frame has invalid length");
+        }
+
+        int increment = frame.int31(0);
+
+        synchronized (this) {
+            if (frame.streamId() == 0) {
+                sendWindow += increment;
+            } else {
+                Http2Stream stream = streams.get(frame.streamId());
+
+                if (stream != null) {
+                    stream.sendWindow += increment;
+                }
+            }
+
+            notifyAll();
+        }
+    }
+
+    private void writeHeaders(int streamId, byte[] block, boolean endStream) throws IOException {
+        int frameSize;
+
+        synchronized (this) {
+            frameSize = maxFrameSize;
+        }
+
+        int flags = endStream ? Http2Frame.FLAG_END_STREAM : 0;
+        int length = Math.min(block.length, frameSize);
+        Http2Frame.write(output, Http2Frame.HEADERS, flags | (length == block.length ? Http2Frame.FLAG_END_HEADERS : 0), streamId, block, 0, length);
+
+        for (int offset = length; offset < block.length; offset += length) {
+            length = Math.min(block.length - offset, frameSize);
+            int end = offset + length == block.length ? Http2Frame.FLAG_END_HEADERS : 0;
+            Http2Frame.write(output, Http2Frame.CONTINUATION, end, streamId, block, offset, length);
+        }
+    }
+
+    private void write(int type, int flags, int streamId, byte[] payload, int offset, int length) throws IOException {
+        synchronized (writeLock) {
+            try {
+                Http2Frame.write(output, type, flags, streamId, payload, offset, length);
+                output.flush();
+            } catch (IOException e) {
+                fail(e);
+                throw e;
+            }
+        }
+    }
+
+    private void goAway(int errorCode) {
+        byte[] payload = new byte[8];
+        System.arraycopy(Http2Frame.int32Payload(errorCode), 0, payload, 4, 4);
+
+        try {
+            write(Http2Frame.GOAWAY, 0, 0, payload, 0, payload.length);
+        } catch (IOException ignored) {
+            // connection is being closed anyway
+        }
+    }
+
+    private IOException protocolError(String message) {
+        goAway(Http2Frame.PROTOCOL_ERROR);
+        return new IOException("HTTP/2 protocol error: " + message);
+    }
+
+    private static int padding(Http2Frame frame, int offset) throws IOException {
+        int padding = frame.payload().length > offset ? frame.payload()[offset] & 0xff : -1;
+
+        if (padding < 0 || padding > frame.payload().length - offset - 1) {
+            throw new IOException("HTTP/2 protocol error: frame padding exceeds it's payload");
+        }
+
+        return padding;
+    }
+
+    private void acquire(int timeout) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.NANOSECONDS.convert(timeout, TimeUnit.MILLISECONDS);
+
+        synchronized (this) {
+            while (active >= maxConcurrentStreams && failure == null && !shutdown) {
+                long remaining = deadline - System.nanoTime();
+
+                if (timeout > 0 && remaining <= 0) {
+                    throw new SocketTimeoutException("Stream of connection to " + route.authority() + " was not available in time");
+                }
+
+                await(timeout > 0 ? remaining : 0L);
+            }
+
+            active++;
+        }
+    }
+
+    /**
+     * Waits for connection's state to change. Has to be called, while holding connection's monitor.
+     */
+    private void await(long nanos) throws IOException {
+        try {
+            wait(nanos == 0L ? 0L : Math.max(TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS), 1L));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for connection", e);
+        }
+    }
+
+    private void fail(IOException cause) {
+        synchronized (this) {
+            if (failure != null) {
+                return;
+            }
+
+            failure = cause;
+            notifyAll();
+        }
+
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // connection is failed regardless
+        }
+
+        for (Http2Stream stream : streams.values()) {
+            stream.fail(cause, false);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Http2Connection{" +
+                "route=" + route +
+                ", streams=" + streams.size() +
+                '}';
+    }
+}
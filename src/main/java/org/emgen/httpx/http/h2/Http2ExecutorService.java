@@ -0,0 +1,552 @@
+package org.emgen.httpx.http.h2;
+
+import org.emgen.httpx.extensions.InputStreamExtensions;
+import org.emgen.httpx.http.AsyncExecutor;
+import org.emgen.httpx.http.Executor;
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.http.connection.Connector;
+import org.emgen.httpx.http.connection.ExecutionGuard;
+import org.emgen.httpx.http.connection.ResponseHead;
+import org.emgen.httpx.http.connection.Route;
+import org.emgen.httpx.http.encoding.ContentEncoding;
+import org.emgen.httpx.http.encoding.DecodingInputStream;
+import org.emgen.httpx.http.exceptions.RequestExecutionException;
+import org.emgen.httpx.http.metrics.Execution;
+import org.emgen.httpx.http.metrics.ExecutionListener;
+import org.emgen.httpx.http.metrics.MeteredInputStream;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.response.BatchResponse;
+import org.emgen.httpx.http.response.Response;
+import org.emgen.httpx.http.response.StreamingResponse;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link Executor}, that executes requests over HTTP/2 connections. Single connection is kept per {@link Route} &
+ * concurrent requests are multiplexed over it as streams, therefore requests do not wait for each other's
+ * responses & no connection pool is needed. Headers are compressed, using HPACK, request & response bodies
+ * respect flow - control windows of both sides.
+ * <p>
+ * Executor speaks cleartext HTTP/2 with prior knowledge (h2c) - connections start with HTTP/2 preface right away,
+ * without HTTP/1.1 upgrade, therefore only http:// targets of servers, that are known to support HTTP/2, are
+ * supported. Requests, that were refused by server before processing (REFUSED_STREAM or GOAWAY), are repeated
+ * once over a new connection, unless their body cannot be replayed.
+ *
+ * @since 1.0.0
+ */
+public final class Http2ExecutorService implements Executor, Closeable {
+
+    /**
+     * Request headers, that are specific to HTTP/1.1 connection & must not be sent over HTTP/2 (RFC 7540,
+     * section 8.1.2.2). 'Host' is sent as ':authority' pseudo - header instead.
+     */
+    private static final String[] CONNECTION_HEADERS = {
+            "connection", "keep-alive", "proxy-connection", "transfer-encoding", "upgrade", "te", "host", "content-length"
+    };
+
+    /**
+     * Connections per {@link Route}. Connection is opened outside of map's lock - the first request, that needs it,
+     * puts incomplete future & completes it, once connection is open, while concurrent requests wait for it.
+     */
+    private final ConcurrentMap<Route, CompletableFuture<Http2Connection>> connections = new ConcurrentHashMap<>();
+    private final int windowSize;
+    private final ExecutionListener listener;
+    private final Connector connector;
+    private volatile boolean closed;
+
+    public Http2ExecutorService() {
+        this(1024 * 1024, ExecutionListener.NONE);
+    }
+
+    /**
+     * @param windowSize - receive window of each stream in bytes - amount of response body, that server is allowed
+     *                   to send ahead of reader.
+     * @param listener   - {@link ExecutionListener}, that receives execution events. Events of buffered responses
+     *                   are sent on connection reader threads.
+     */
+    public Http2ExecutorService(final int windowSize, final ExecutionListener listener) {
+        this(windowSize, listener, Connector.DEFAULT);
+    }
+
+    /**
+     * @param windowSize - receive window of each stream in bytes.
+     * @param listener   - {@link ExecutionListener}, that receives execution events.
+     * @param connector  - {@link Connector}, that resolves hosts & opens connections.
+     */
+    public Http2ExecutorService(final int windowSize, final ExecutionListener listener, final Connector connector) {
+        if (windowSize < Http2Frame.DEFAULT_WINDOW_SIZE) {
+            throw new IllegalArgumentException("Parameter 'windowSize' has to be at least " + Http2Frame.DEFAULT_WINDOW_SIZE);
+        }
+
+        Prerequisites.exists(listener, "Execution listener cannot be null");
+        Prerequisites.exists(connector, "Connector cannot be null");
+        this.windowSize = windowSize;
+        this.listener = listener;
+        this.connector = connector;
+    }
+
+    /**
+     * Executes provided {@param request}, blocking caller thread until whole response is received.
+     *
+     * @param request to execute.
+     * @return execution {@link Response}.
+     * @throws RequestExecutionException in case request could not be executed or response was not received within
+     *                                   request's read timeout.
+     */
+    @Override
+    public Response execute(Request request) {
+        CompletableFuture<Response> response = submit(request);
+        int timeout = request.options().readTimeout();
+
+        try {
+            return timeout > 0 ? response.get(timeout, TimeUnit.MILLISECONDS) : response.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RequestExecutionException(e.getCause());
+        } catch (TimeoutException e) {
+            RequestExecutionException failure = new RequestExecutionException(new SocketTimeoutException("Response was not received within " + timeout + " ms"));
+            response.completeExceptionally(failure);
+            throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.cancel(false);
+            throw new RequestExecutionException(e);
+        }
+    }
+
+    /**
+     * Executes provided {@param request} without blocking caller thread - request is sent on
+     * {@link AsyncExecutor#sharedThreads()} & response is received by connection's reader thread. Compressed bodies
+     * are decoded on {@link AsyncExecutor#sharedThreads()}. Completing returned {@link CompletableFuture} before
+     * response is received (e.g. cancelling it) cancels stream.
+     *
+     * @param request to execute.
+     * @return {@link CompletableFuture} of execution {@link Response}.
+     */
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        return submit(request);
+    }
+
+    /**
+     * Submits all {@param requests} at once. Requests to the same {@link Route} are multiplexed over single
+     * connection, up to server's limit of concurrent streams.
+     *
+     * @param requests to execute.
+     * @return {@link BatchResponse}s in the same order as {@param requests}.
+     */
+    @Override
+    public List<BatchResponse> executeBatch(List<Request> requests) {
+        Prerequisites.exists(requests, "Requests cannot be null");
+        List<CompletableFuture<Response>> futures = new ArrayList<>(requests.size());
+        List<BatchResponse> responses = new ArrayList<>(requests.size());
+
+        for (Request request : requests) {
+            futures.add(submit(request));
+        }
+
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                responses.add(BatchResponse.succeeded(requests.get(index), futures.get(index).join()));
+            } catch (CompletionException e) {
+                RuntimeException failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RequestExecutionException(e.getCause());
+                responses.add(BatchResponse.failed(requests.get(index), failure));
+            }
+        }
+
+        return responses;
+    }
+
+    /**
+     * Executes provided {@param request} & streams it's body directly from stream's receive queue. Server is
+     * allowed to send at most window size of body ahead of reader. Closing response before body is read till the
+     * end cancels stream, connection stays usable. Compressed body is decoded as it is read, in case compression
+     * was negotiated.
+     *
+     * @param request to execute.
+     * @return execution {@link StreamingResponse}, that has to be closed.
+     * @throws RequestExecutionException in case request could not be executed.
+     */
+    @Override
+    public StreamingResponse stream(Request request) {
+        long starts = System.nanoTime();
+        return stream(ContentEncoding.compress(request), starts);
+    }
+
+    /**
+     * Closes all connections. In - flight requests fail.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        for (CompletableFuture<Http2Connection> connection : connections.values()) {
+            // connection, that is being opened, is closed by it's opener, once it notices executor is closed
+            connection.thenAccept(Http2Connection::close);
+        }
+
+        connections.clear();
+    }
+
+    private StreamingResponse stream(Request request, long starts) {
+        ExecutionGuard guard = ExecutionGuard.arm(request.options(), starts);
+
+        try {
+            return stream(request, starts, guard);
+        } catch (RuntimeException e) {
+            guard.close();
+            throw e;
+        }
+    }
+
+    private StreamingResponse stream(Request request, long starts, ExecutionGuard guard) {
+        Route route = route(request);
+        Execution execution = new Execution(request, route, starts);
+        int timeout = request.options().readTimeout();
+
+        for (int attempt = 0; ; attempt++) {
+            Http2Stream stream = send(request, execution, false, attempt);
+            // cancelling stream fails it's futures & reads, connection stays usable
+            guard.onAbort(stream::cancel);
+            ResponseHead head;
+
+            try {
+                head = timeout > 0 ? stream.head().get(timeout, TimeUnit.MILLISECONDS) : stream.head().get();
+            } catch (ExecutionException e) {
+                if (!guard.aborted() && retries(request, stream, e.getCause(), attempt)) {
+                    continue;
+                }
+
+                listener.failed(execution, execution.elapsed(), e.getCause());
+                throw guard.failure(new RequestExecutionException(e.getCause()));
+            } catch (TimeoutException e) {
+                stream.cancel();
+                SocketTimeoutException cause = new SocketTimeoutException("Response was not received within " + timeout + " ms");
+                listener.failed(execution, execution.elapsed(), cause);
+                throw new RequestExecutionException(cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stream.cancel();
+                throw new RequestExecutionException(e);
+            }
+
+            listener.firstByte(execution, execution.elapsed(), head.code());
+            InputStream body = stream.body(timeout);
+            MeteredInputStream metered = listener == ExecutionListener.NONE ? null : new MeteredInputStream(body, listener, execution);
+            InputStream wire = metered == null ? body : metered;
+            InputStream decoded = ContentEncoding.negotiates(request) ? ContentEncoding.decode(wire, head.headers()) : wire;
+            return new StreamingResponse(head.code(), head.message(), head.headers(), decoded, () -> {
+                guard.close();
+
+                if (metered != null) {
+                    metered.complete();
+                }
+
+                try {
+                    body.close();
+                } catch (IOException ignored) {
+                    // closing cancels stream, which never fails
+                }
+            });
+        }
+    }
+
+    private CompletableFuture<Response> submit(Request original) {
+        long starts = System.nanoTime();
+        CompletableFuture<Response> response = new CompletableFuture<>();
+
+        try {
+            ExecutionGuard guard = ExecutionGuard.arm(original.options(), starts);
+            // completing response cancels stream & closes guard
+            guard.onAbort(() -> response.completeExceptionally(guard.failure(null)));
+            response.whenComplete((ignored, failure) -> guard.close());
+            Request request = ContentEncoding.compress(original);
+            Execution execution = new Execution(request, route(request), starts);
+            AsyncExecutor.sharedThreads().execute(() -> submit(request, execution, 0, response));
+        } catch (RuntimeException e) {
+            response.completeExceptionally(e);
+        }
+
+        return response;
+    }
+
+    private void submit(Request request, Execution execution, int attempt, CompletableFuture<Response> response) {
+        Http2Stream stream;
+
+        if (response.isDone()) {
+            // response was cancelled or aborted before request was sent
+            return;
+        }
+
+        try {
+            stream = send(request, execution, true, attempt);
+        } catch (RuntimeException e) {
+            response.completeExceptionally(e);
+            return;
+        }
+
+        // response, that is completed by caller (e.g. on timeout), cancels stream
+        response.whenComplete((ignored, failure) -> stream.cancel());
+        stream.head().thenAccept(head -> listener.firstByte(execution, execution.elapsed(), head.code()));
+        stream.completion().whenComplete((bytes, failure) -> {
+            if (failure == null) {
+                listener.bodyComplete(execution, execution.elapsed(), bytes.length);
+                complete(request, stream.head().join(), execution, bytes, response);
+            } else if (!response.isDone() && retries(request, stream, failure, attempt)) {
+                AsyncExecutor.sharedThreads().execute(() -> submit(request, execution, attempt + 1, response));
+            } else {
+                listener.failed(execution, execution.elapsed(), failure);
+                response.completeExceptionally(new RequestExecutionException(failure));
+            }
+        });
+    }
+
+    private static void complete(Request request, ResponseHead head, Execution execution, byte[] bytes, CompletableFuture<Response> response) {
+        InputStream body = ContentEncoding.negotiates(request) ? ContentEncoding.decode(new ByteArrayInputStream(bytes), head.headers()) : null;
+        long duration = TimeUnit.MILLISECONDS.convert(execution.elapsed(), TimeUnit.NANOSECONDS);
+
+        if (!(body instanceof DecodingInputStream)) {
+            response.complete(new Response(head.code(), head.message(), bytes, head.headers(), duration, bytes.length));
+            return;
+        }
+
+        // decoding is moved off connection's reader thread, in order not to hold back other streams
+        AsyncExecutor.sharedThreads().execute(() -> {
+            try {
+                byte[] decoded = InputStreamExtensions.readBytes(body);
+                response.complete(new Response(head.code(), head.message(), decoded, head.headers(), duration, bytes.length));
+            } catch (IOException e) {
+                response.completeExceptionally(new RequestExecutionException("Response body could not be decoded", e));
+            }
+        });
+    }
+
+    /**
+     * Opens stream for {@param request} over connection of it's route & writes request to it.
+     */
+    private Http2Stream send(Request request, Execution execution, boolean buffered, int attempt) {
+        int timeout = request.options().connectTimeout();
+        URL url = request.url();
+
+        for (int repeat = attempt; ; repeat++) {
+            Http2Connection connection = connection(execution, timeout);
+            Http2Stream stream = null;
+
+            try {
+                long length = request.sendsBody() ? request.requestBody().length() : 0L;
+                stream = connection.newStream(fields(request, url, execution.route(), length), !request.sendsBody(), buffered, timeout);
+
+                if (request.sendsBody()) {
+                    try (OutputStream output = stream.output()) {
+                        request.requestBody().writeTo(output);
+                    }
+                }
+
+                listener.requestWritten(execution, execution.elapsed(), length);
+                return stream;
+            } catch (IOException e) {
+                if (stream != null) {
+                    stream.cancel();
+                }
+
+                if (retries(request, stream, e, repeat)) {
+                    continue;
+                }
+
+                listener.failed(execution, execution.elapsed(), e);
+                throw new RequestExecutionException(e);
+            }
+        }
+    }
+
+    private Http2Connection connection(Execution execution, int timeout) {
+        Route route = execution.route();
+
+        while (true) {
+            if (closed) {
+                throw new RequestExecutionException("Executor is closed");
+            }
+
+            CompletableFuture<Http2Connection> current = connections.get(route);
+
+            if (current == null) {
+                CompletableFuture<Http2Connection> opening = new CompletableFuture<>();
+
+                if (connections.putIfAbsent(route, opening) == null) {
+                    return open(execution, timeout, opening);
+                }
+
+                continue;
+            }
+
+            Http2Connection connection;
+
+            try {
+                connection = current.join();
+            } catch (CompletionException e) {
+                RuntimeException failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                listener.failed(execution, execution.elapsed(), failure);
+                throw failure;
+            }
+
+            if (connection.accepts()) {
+                listener.connected(execution, execution.elapsed(), true);
+                return connection;
+            }
+
+            if (connections.remove(route, current)) {
+                connection.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Opens connection to route of {@param execution} & completes {@param opening} future, that was put into
+     * connections map, with it. Future is removed from map in case connection could not be opened.
+     */
+    private Http2Connection open(Execution execution, int timeout, CompletableFuture<Http2Connection> opening) {
+        Route route = execution.route();
+
+        try {
+            Http2Connection connection = Http2Connection.open(route, timeout, windowSize, connector);
+
+            if (closed) {
+                connection.close();
+                throw new RequestExecutionException("Executor is closed");
+            }
+
+            opening.complete(connection);
+            listener.connected(execution, execution.elapsed(), false);
+            return connection;
+        } catch (IOException e) {
+            throw failed(execution, opening, new RequestExecutionException(e));
+        } catch (RuntimeException e) {
+            throw failed(execution, opening, e);
+        }
+    }
+
+    private RuntimeException failed(Execution execution, CompletableFuture<Http2Connection> opening, RuntimeException e) {
+        connections.remove(execution.route(), opening);
+        opening.completeExceptionally(e);
+        listener.failed(execution, execution.elapsed(), e);
+        return e;
+    }
+
+    /**
+     * @return true in case stream was refused by server before it was processed, it's request can be replayed &
+     * it was not repeated yet.
+     */
+    private static boolean retries(Request request, Http2Stream stream, Throwable failure, int attempt) {
+        boolean refused = failure instanceof RefusedStreamException || (stream != null && stream.refused());
+        return refused && attempt == 0 && (!request.sendsBody() || request.requestBody().replayable());
+    }
+
+    private static Route route(Request request) {
+        Route route = Route.of(request.url(), request.options().proxySettings());
+
+        if (route.secure() || route.proxied()) {
+            throw new RequestExecutionException("Http2ExecutorService supports http:// targets without proxy only (h2c with prior knowledge)");
+        }
+
+        return route;
+    }
+
+    /**
+     * @return header fields of HTTP/2 request - pseudo - header fields, followed by request headers, that have
+     * lower case names. Connection - specific headers are skipped.
+     */
+    private static Headers fields(Request request, URL url, Route route, long length) {
+        Headers headers = request.headers();
+        String host = headers.first("Host");
+        String path = url.getPath() == null || url.getPath().isEmpty() ? "/" : url.getPath();
+        Headers.Creator fields = new Headers.Creator(headers.count() + 6)
+                .add(":method", request.action().name())
+                .add(":scheme", route.scheme())
+                .add(":authority", host == null ? route.authority() : host)
+                .add(":path", url.getQuery() == null ? path : path + "?" + url.getQuery());
+
+        for (int index = 0; index < headers.count(); index++) {
+            String name = headers.name(index).toLowerCase(Locale.ROOT);
+
+            if (!isConnectionHeader(name)) {
+                String value = headers.value(index);
+                fields.add(name, value == null ? "" : value);
+            }
+        }
+
+        if (ContentEncoding.negotiates(request)) {
+            fields.add("accept-encoding", ContentEncoding.ACCEPT_ENCODING);
+        }
+
+        if (request.sendsBody() && length >= 0) {
+            fields.add("content-length", Long.toString(length));
+        }
+
+        return fields.create();
+    }
+
+    private static boolean isConnectionHeader(String name) {
+        for (String header : CONNECTION_HEADERS) {
+            if (header.equals(name)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public static final class Creator {
+
+        private int windowSize = 1024 * 1024;
+        private ExecutionListener listener = ExecutionListener.NONE;
+        private Connector connector = Connector.DEFAULT;
+
+        /**
+         * @param windowSize - receive window of each stream in bytes.
+         * @return instance of {@link Creator}.
+         */
+        public Creator windowSize(int windowSize) {
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * @param listener - {@link ExecutionListener}, that receives execution events.
+         * @return instance of {@link Creator}.
+         */
+        public Creator listener(ExecutionListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * @param connector - {@link Connector}, that resolves hosts & opens connections. {@link Connector#DEFAULT}
+         *                  by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator connector(Connector connector) {
+            this.connector = connector;
+            return this;
+        }
+
+        public Http2ExecutorService create() {
+            return new Http2ExecutorService(windowSize, listener, connector);
+        }
+    }
+}
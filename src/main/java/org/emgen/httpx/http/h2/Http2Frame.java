@@ -0,0 +1,206 @@
+package org.emgen.httpx.http.h2;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Single HTTP/2 frame (RFC 7540, section 4) - 9 byte header, that is followed by payload of type specific format.
+ *
+ * @since 1.0.0
+ */
+public final class Http2Frame {
+
+    public static final int HEADER_LENGTH = 9;
+    public static final int DEFAULT_MAX_FRAME_SIZE = 16 * 1024;
+    public static final int DEFAULT_WINDOW_SIZE = 65_535;
+    public static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
+    public static final int DATA = 0x0;
+    public static final int HEADERS = 0x1;
+    public static final int PRIORITY = 0x2;
+    public static final int RST_STREAM = 0x3;
+    public static final int SETTINGS = 0x4;
+    public static final int PUSH_PROMISE = 0x5;
+    public static final int PING = 0x6;
+    public static final int GOAWAY = 0x7;
+    public static final int WINDOW_UPDATE = 0x8;
+    public static final int CONTINUATION = 0x9;
+
+    public static final int FLAG_END_STREAM = 0x1;
+    public static final int FLAG_ACK = 0x1;
+    public static final int FLAG_END_HEADERS = 0x4;
+    public static final int FLAG_PADDED = 0x8;
+    public static final int FLAG_PRIORITY = 0x20;
+
+    public static final int SETTINGS_HEADER_TABLE_SIZE = 0x1;
+    public static final int SETTINGS_ENABLE_PUSH = 0x2;
+    public static final int SETTINGS_MAX_CONCURRENT_STREAMS = 0x3;
+    public static final int SETTINGS_INITIAL_WINDOW_SIZE = 0x4;
+    public static final int SETTINGS_MAX_FRAME_SIZE = 0x5;
+    public static final int SETTINGS_MAX_HEADER_LIST_SIZE = 0x6;
+
+    public static final int NO_ERROR = 0x0;
+    public static final int PROTOCOL_ERROR = 0x1;
+    public static final int INTERNAL_ERROR = 0x2;
+    public static final int FLOW_CONTROL_ERROR = 0x3;
+    public static final int STREAM_CLOSED = 0x5;
+    public static final int FRAME_SIZE_ERROR = 0x6;
+    public static final int REFUSED_STREAM = 0x7;
+    public static final int CANCEL = 0x8;
+    public static final int COMPRESSION_ERROR = 0x9;
+
+    private final int type;
+    private final int flags;
+    private final int streamId;
+    private final byte[] payload;
+
+    public Http2Frame(final int type, final int flags, final int streamId, final byte[] payload) {
+        this.type = type;
+        this.flags = flags;
+        this.streamId = streamId;
+        this.payload = payload;
+    }
+
+    /**
+     * Reads single frame from {@param input}.
+     *
+     * @param input        to read from.
+     * @param maxFrameSize - max payload length, that is accepted.
+     * @return read {@link Http2Frame}.
+     * @throws EOFException in case {@param input} ends before frame is read.
+     * @throws IOException  in case frame could not be read or it's payload exceeds {@param maxFrameSize}.
+     */
+    public static Http2Frame read(InputStream input, int maxFrameSize) throws IOException {
+        byte[] header = new byte[HEADER_LENGTH];
+        readFully(input, header);
+        int length = (header[0] & 0xff) << 16 | (header[1] & 0xff) << 8 | (header[2] & 0xff);
+
+        if (length > maxFrameSize) {
+            throw new IOException("Frame of " + length + " bytes exceeds max frame size of " + maxFrameSize + " bytes");
+        }
+
+        byte[] payload = new byte[length];
+        readFully(input, payload);
+        return new Http2Frame(header[3] & 0xff, header[4] & 0xff, int31(header, 5), payload);
+    }
+
+    /**
+     * Writes frame to {@param output}. Output is not flushed.
+     *
+     * @param output   to write frame to.
+     * @param type     of frame.
+     * @param flags    of frame.
+     * @param streamId - identifier of stream, that frame belongs to or 0 in case frame belongs to connection.
+     * @param payload  - array, that contains frame's payload.
+     * @param offset   of payload in {@param payload}.
+     * @param length   of payload.
+     * @throws IOException in case frame could not be written.
+     */
+    public static void write(OutputStream output, int type, int flags, int streamId, byte[] payload, int offset, int length) throws IOException {
+        byte[] header = {
+                (byte) (length >>> 16), (byte) (length >>> 8), (byte) length,
+                (byte) type, (byte) flags,
+                (byte) (streamId >>> 24 & 0x7f), (byte) (streamId >>> 16), (byte) (streamId >>> 8), (byte) streamId
+        };
+        output.write(header);
+        output.write(payload, offset, length);
+    }
+
+    /**
+     * @param pairs - setting identifiers, that are followed by their values.
+     * @return payload of SETTINGS frame.
+     */
+    public static byte[] settings(int... pairs) {
+        byte[] payload = new byte[pairs.length / 2 * 6];
+
+        for (int index = 0; index < pairs.length / 2; index++) {
+            int offset = index * 6;
+            payload[offset] = (byte) (pairs[2 * index] >>> 8);
+            payload[offset + 1] = (byte) pairs[2 * index];
+            putInt(payload, offset + 2, pairs[2 * index + 1]);
+        }
+
+        return payload;
+    }
+
+    /**
+     * @param value to encode.
+     * @return 4 byte big - endian representation of {@param value} - payload of WINDOW_UPDATE & RST_STREAM frames.
+     */
+    public static byte[] int32Payload(int value) {
+        byte[] bytes = new byte[4];
+        putInt(bytes, 0, value);
+        return bytes;
+    }
+
+    public int type() {
+        return type;
+    }
+
+    public int flags() {
+        return flags;
+    }
+
+    public int streamId() {
+        return streamId;
+    }
+
+    public byte[] payload() {
+        return payload;
+    }
+
+    public boolean has(int flag) {
+        return (flags & flag) == flag;
+    }
+
+    /**
+     * @param offset of value in payload.
+     * @return 4 byte big - endian value, that is read from payload.
+     */
+    public int int32(int offset) {
+        return (payload[offset] & 0xff) << 24 | (payload[offset + 1] & 0xff) << 16 | (payload[offset + 2] & 0xff) << 8 | (payload[offset + 3] & 0xff);
+    }
+
+    /**
+     * @param offset of value in payload.
+     * @return 31 bit value (reserved bit is cleared), that is read from payload.
+     */
+    public int int31(int offset) {
+        return int31(payload, offset);
+    }
+
+    private static int int31(byte[] bytes, int offset) {
+        return (bytes[offset] & 0x7f) << 24 | (bytes[offset + 1] & 0xff) << 16 | (bytes[offset + 2] & 0xff) << 8 | (bytes[offset + 3] & 0xff);
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static void readFully(InputStream input, byte[] bytes) throws IOException {
+        for (int read = 0; read < bytes.length; ) {
+            int count = input.read(bytes, read, bytes.length - read);
+
+            if (count == -1) {
+                throw new EOFException("Connection closed by peer");
+            }
+
+            read += count;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Http2Frame{" +
+                "type=" + type +
+                ", flags=" + flags +
+                ", streamId=" + streamId +
+                ", length=" + payload.length +
+                '}';
+    }
+}
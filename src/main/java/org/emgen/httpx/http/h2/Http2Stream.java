@@ -0,0 +1,403 @@
+package org.emgen.httpx.http.h2;
+
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.http.connection.ResponseHead;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single request - response exchange, that is multiplexed over {@link Http2Connection}. Response head & body
+ * frames are delivered by connection's reader thread. Body is either buffered as a whole (receive window is
+ * replenished as soon as data arrives) or queued for {@link Http2Stream#body()} stream (receive window is
+ * replenished, as body is consumed, therefore slow reader holds back only it's own stream).
+ *
+ * @since 1.0.0
+ */
+final class Http2Stream {
+
+    private final Http2Connection connection;
+    private final int id;
+    private final int windowSize;
+    private final boolean buffered;
+    private final CompletableFuture<ResponseHead> head = new CompletableFuture<>();
+    private final CompletableFuture<byte[]> body = new CompletableFuture<>();
+    private final ByteArrayOutputStream buffer;
+    private final Deque<byte[]> chunks = new ArrayDeque<>();
+    private byte[] chunk;
+    private int chunkOffset;
+    private int unacknowledged;
+    private boolean ended;
+    private boolean released;
+    private IOException failure;
+    private volatile boolean refused;
+
+    /**
+     * Send window of stream, that is guarded by {@link Http2Connection}'s monitor.
+     */
+    long sendWindow;
+
+    Http2Stream(final Http2Connection connection, final int id, final long sendWindow, final int windowSize, final boolean buffered) {
+        this.connection = connection;
+        this.id = id;
+        this.sendWindow = sendWindow;
+        this.windowSize = windowSize;
+        this.buffered = buffered;
+        this.buffer = buffered ? new ByteArrayOutputStream() : null;
+    }
+
+    int id() {
+        return id;
+    }
+
+    /**
+     * @return {@link CompletableFuture}, that is completed with response head on connection's reader thread.
+     */
+    CompletableFuture<ResponseHead> head() {
+        return head;
+    }
+
+    /**
+     * @return {@link CompletableFuture}, that is completed with whole response body on connection's reader thread.
+     * Only buffered streams complete it.
+     */
+    CompletableFuture<byte[]> completion() {
+        return body;
+    }
+
+    /**
+     * @return true in case stream was refused by server before it was processed - either it was reset with
+     * REFUSED_STREAM error or it's identifier exceeds last stream identifier of GOAWAY frame. Such stream can be
+     * safely repeated over another connection.
+     */
+    boolean refused() {
+        return refused;
+    }
+
+    /**
+     * @param timeout - milliseconds to wait for data, while body is read. 0 is interpreted as infinite timeout.
+     * @return stream of response body, that replenishes receive window, as it is read. Closing stream before
+     * body is read till the end cancels stream.
+     */
+    InputStream body(int timeout) {
+        return new BodyInputStream(timeout);
+    }
+
+    /**
+     * @return stream, that writes request body as DATA frames. Closing stream ends request.
+     */
+    OutputStream output() {
+        return new DataOutputStream();
+    }
+
+    void onHeaders(Headers fields, boolean endStream) throws IOException {
+        if (!head.isDone()) {
+            String status = fields.first(":status");
+            int code;
+
+            try {
+                code = Integer.parseInt(status);
+            } catch (NumberFormatException e) {
+                throw new IOException("Response contains malformed ':status' pseudo - header: '" + status + "'");
+            }
+
+            // interim responses are skipped, subsequent HEADERS frame carries final response
+            if (code >= 100 && code < 200 && !endStream) {
+                return;
+            }
+
+            Headers.Creator headers = new Headers.Creator(fields.count());
+
+            for (int index = 0; index < fields.count(); index++) {
+                if (!fields.name(index).startsWith(":")) {
+                    headers.add(fields.name(index), fields.value(index));
+                }
+            }
+
+            head.complete(new ResponseHead("HTTP/2", code, "", headers.create()));
+        }
+
+        // trailers are not exposed, their block is decoded only to keep HPACK state in sync
+        if (endStream) {
+            end();
+        }
+    }
+
+    void onData(byte[] payload, int offset, int length, boolean endStream) {
+        int acknowledge = 0;
+
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+
+            if (buffered) {
+                buffer.write(payload, offset, length);
+                unacknowledged += length;
+
+                if (!endStream && unacknowledged >= windowSize / 2) {
+                    acknowledge = unacknowledged;
+                    unacknowledged = 0;
+                }
+            } else if (length > 0) {
+                byte[] data = new byte[length];
+                System.arraycopy(payload, offset, data, 0, length);
+                chunks.addLast(data);
+                notifyAll();
+            }
+        }
+
+        if (acknowledge > 0) {
+            connection.windowUpdate(id, acknowledge);
+        }
+
+        if (endStream) {
+            end();
+        }
+    }
+
+    /**
+     * Fails stream with {@param cause}. Stream is released from connection.
+     *
+     * @param cause   of failure.
+     * @param refused - true in case stream was not processed by server.
+     */
+    void fail(IOException cause, boolean refused) {
+        synchronized (this) {
+            if (ended || failure != null) {
+                return;
+            }
+
+            this.failure = cause;
+            this.refused = refused;
+            notifyAll();
+        }
+
+        head.completeExceptionally(cause);
+        body.completeExceptionally(cause);
+        release();
+    }
+
+    /**
+     * Cancels stream, that has not ended yet, by resetting it with CANCEL error.
+     */
+    void cancel() {
+        synchronized (this) {
+            if (ended || failure != null) {
+                return;
+            }
+
+            failure = new IOException("Stream was cancelled");
+            notifyAll();
+        }
+
+        head.completeExceptionally(failure);
+        body.completeExceptionally(failure);
+        connection.reset(id, Http2Frame.CANCEL);
+        release();
+    }
+
+    synchronized boolean closed() {
+        return ended || failure != null;
+    }
+
+    private void end() {
+        byte[] bytes;
+
+        synchronized (this) {
+            if (ended || failure != null) {
+                return;
+            }
+
+            ended = true;
+            bytes = buffered ? buffer.toByteArray() : null;
+            notifyAll();
+        }
+
+        if (!head.isDone()) {
+            head.completeExceptionally(new IOException("Stream ended before response headers were received"));
+        }
+
+        body.complete(bytes);
+        release();
+    }
+
+    private void release() {
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+
+            released = true;
+        }
+
+        connection.release(this);
+    }
+
+    private final class BodyInputStream extends InputStream {
+
+        private final long timeout;
+        private boolean closed;
+
+        private BodyInputStream(final int timeout) {
+            this.timeout = TimeUnit.NANOSECONDS.convert(timeout, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            int read;
+            int acknowledge = 0;
+
+            synchronized (Http2Stream.this) {
+                if (closed) {
+                    throw new IOException("Stream is closed");
+                }
+
+                await();
+
+                if (chunk == null) {
+                    return -1;
+                }
+
+                read = Math.min(len, chunk.length - chunkOffset);
+                System.arraycopy(chunk, chunkOffset, b, off, read);
+                chunkOffset += read;
+
+                if (chunkOffset == chunk.length) {
+                    chunk = null;
+                }
+
+                unacknowledged += read;
+
+                if (!ended && unacknowledged >= windowSize / 2) {
+                    acknowledge = unacknowledged;
+                    unacknowledged = 0;
+                }
+            }
+
+            if (acknowledge > 0) {
+                connection.windowUpdate(id, acknowledge);
+            }
+
+            return read;
+        }
+
+        @Override
+        public int available() {
+            synchronized (Http2Stream.this) {
+                int available = chunk == null ? 0 : chunk.length - chunkOffset;
+
+                for (byte[] queued : chunks) {
+                    available += queued.length;
+                }
+
+                return available;
+            }
+        }
+
+        @Override
+        public void close() {
+            synchronized (Http2Stream.this) {
+                closed = true;
+                chunks.clear();
+                chunk = null;
+            }
+
+            cancel();
+        }
+
+        /**
+         * Waits, until next chunk is available or stream ends. Has to be called, while holding stream's monitor.
+         */
+        private void await() throws IOException {
+            long deadline = System.nanoTime() + timeout;
+
+            while (chunk == null) {
+                chunk = chunks.pollFirst();
+                chunkOffset = 0;
+
+                if (chunk != null || ended) {
+                    return;
+                }
+
+                if (failure != null) {
+                    throw failure;
+                }
+
+                long remaining = timeout == 0 ? 0 : deadline - System.nanoTime();
+
+                if (timeout != 0 && remaining <= 0) {
+                    throw new SocketTimeoutException("Response body was not received in time");
+                }
+
+                try {
+                    Http2Stream.this.wait(TimeUnit.MILLISECONDS.convert(remaining, TimeUnit.NANOSECONDS) + (timeout == 0 ? 0 : 1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for response body", e);
+                }
+            }
+        }
+    }
+
+    private final class DataOutputStream extends OutputStream {
+
+        private final byte[] frame = new byte[Http2Frame.DEFAULT_MAX_FRAME_SIZE];
+        private int count;
+        private boolean closed;
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == frame.length) {
+                flushFrame(false);
+            }
+
+            frame[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (count == frame.length) {
+                    flushFrame(false);
+                }
+
+                int copied = Math.min(len, frame.length - count);
+                System.arraycopy(b, off, frame, count, copied);
+                count += copied;
+                off += copied;
+                len -= copied;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                flushFrame(true);
+            }
+        }
+
+        private void flushFrame(boolean endStream) throws IOException {
+            connection.writeData(Http2Stream.this, frame, count, endStream);
+            count = 0;
+        }
+    }
+}
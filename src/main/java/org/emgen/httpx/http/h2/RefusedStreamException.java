@@ -0,0 +1,17 @@
+package org.emgen.httpx.http.h2;
+
+import java.io.IOException;
+
+/**
+ * Signals, that stream was not processed by server - either connection did not accept new streams or server
+ * shut connection down before it processed stream. Refused request can be safely repeated over another
+ * connection.
+ *
+ * @since 1.0.0
+ */
+final class RefusedStreamException extends IOException {
+
+    RefusedStreamException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package org.emgen.httpx.http.json;
+
+import java.io.IOException;
+
+/**
+ * Decodes a single JSON value into object of type {@param <T>}, pulling tokens from {@link JsonReader}.
+ * Decoder has to consume the whole value, e.g. both brackets of an array.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface JsonDecoder<T> {
+
+    /**
+     * Decoder, that reads value into {@link java.util.Map}, {@link java.util.List}, {@link String},
+     * {@link Number}, {@link Boolean} or null - see {@link JsonReader#readValue()}.
+     */
+    JsonDecoder<Object> VALUE = JsonReader::readValue;
+
+    T decode(JsonReader reader) throws IOException;
+}
@@ -0,0 +1,639 @@
+package org.emgen.httpx.http.json;
+
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pull tokenizer of JSON (RFC 8259), that reads input incrementally through a fixed size buffer, therefore
+ * documents of any size are decoded, using memory, that is proportional to the largest string or number only.
+ * Input might contain a sequence of top - level values, separated by whitespace, e.g. NDJSON - each of them is
+ * read in turn, until {@link JsonToken#END_DOCUMENT} is reached. Arrays & objects might be nested up to
+ * {@link JsonReader#MAX_DEPTH} levels, so that hostile input cannot exhaust stack of recursive decoders, e.g.
+ * {@link JsonReader#readValue()}.
+ *
+ * @since 1.0.0
+ */
+public final class JsonReader implements Closeable {
+
+    /**
+     * Maximum nesting depth of arrays & objects.
+     */
+    public static final int MAX_DEPTH = 512;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final int DOCUMENT = 0;
+    private static final int EMPTY_ARRAY = 1;
+    private static final int NONEMPTY_ARRAY = 2;
+    private static final int EMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder text = new StringBuilder();
+    private int position;
+    private int limit;
+    private long offset;
+    private int[] scopes = new int[32];
+    private int depth = 1;
+    private JsonToken peeked;
+
+    /**
+     * @param input - UTF-8 encoded JSON.
+     */
+    public JsonReader(final InputStream input) {
+        this(reader(input));
+    }
+
+    public JsonReader(final Reader reader) {
+        Prerequisites.exists(reader, "Reader cannot be null");
+        this.reader = reader;
+        this.scopes[0] = DOCUMENT;
+    }
+
+    /**
+     * @return kind of the next element without consuming it.
+     * @throws MalformedJsonException in case input is not valid JSON.
+     */
+    public JsonToken peek() throws IOException {
+        if (peeked != null) {
+            return peeked;
+        }
+
+        int c;
+
+        switch (scopes[depth - 1]) {
+            case EMPTY_ARRAY:
+                scopes[depth - 1] = NONEMPTY_ARRAY;
+                c = nextNonWhitespace();
+
+                if (c == ']') {
+                    return peeked = JsonToken.END_ARRAY;
+                }
+
+                position--;
+                break;
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+
+                if (c == ']') {
+                    return peeked = JsonToken.END_ARRAY;
+                }
+
+                if (c != ',') {
+                    throw syntax("',' or ']'");
+                }
+
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                boolean empty = scopes[depth - 1] == EMPTY_OBJECT;
+                scopes[depth - 1] = DANGLING_NAME;
+                c = nextNonWhitespace();
+
+                if (c == '}') {
+                    return peeked = JsonToken.END_OBJECT;
+                }
+
+                if (!empty) {
+                    if (c != ',') {
+                        throw syntax("',' or '}'");
+                    }
+
+                    c = nextNonWhitespace();
+                }
+
+                if (c != '"') {
+                    throw syntax("name");
+                }
+
+                return peeked = JsonToken.NAME;
+            case DANGLING_NAME:
+                scopes[depth - 1] = NONEMPTY_OBJECT;
+
+                if (nextNonWhitespace() != ':') {
+                    throw syntax("':'");
+                }
+
+                break;
+            default:
+                c = skipWhitespace();
+
+                if (c == -1) {
+                    return peeked = JsonToken.END_DOCUMENT;
+                }
+
+                position--;
+        }
+
+        return peeked = value(nextNonWhitespace());
+    }
+
+    /**
+     * @return true in case current array, object or document has more elements.
+     */
+    public boolean hasNext() throws IOException {
+        JsonToken token = peek();
+        return token != JsonToken.END_ARRAY && token != JsonToken.END_OBJECT && token != JsonToken.END_DOCUMENT;
+    }
+
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        depth--;
+    }
+
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        depth--;
+    }
+
+    /**
+     * @return name of the next object member.
+     */
+    public String nextName() throws IOException {
+        expect(JsonToken.NAME);
+        return readString();
+    }
+
+    /**
+     * @return the next string or number value as a string.
+     */
+    public String nextString() throws IOException {
+        JsonToken token = peek();
+
+        if (token == JsonToken.NUMBER) {
+            peeked = null;
+            return readLiteral();
+        }
+
+        expect(JsonToken.STRING);
+        return readString();
+    }
+
+    public boolean nextBoolean() throws IOException {
+        expect(JsonToken.BOOLEAN);
+        String literal = readLiteral();
+
+        if (literal.equals("true")) {
+            return true;
+        }
+
+        if (literal.equals("false")) {
+            return false;
+        }
+
+        throw syntax("boolean, but got '" + literal + "'");
+    }
+
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+        String literal = readLiteral();
+
+        if (!literal.equals("null")) {
+            throw syntax("null, but got '" + literal + "'");
+        }
+    }
+
+    public long nextLong() throws IOException {
+        String number = nextNumberLiteral();
+
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            double value = Double.parseDouble(number);
+
+            if (value != (long) value) {
+                throw syntax("long, but got " + number);
+            }
+
+            return (long) value;
+        }
+    }
+
+    public int nextInt() throws IOException {
+        long value = nextLong();
+
+        if (value != (int) value) {
+            throw syntax("int, but got " + value);
+        }
+
+        return (int) value;
+    }
+
+    public double nextDouble() throws IOException {
+        String number = nextNumberLiteral();
+        return finite(number, Double.parseDouble(number));
+    }
+
+    /**
+     * @return the next number as {@link Long} in case it is integral & fits into it or as {@link Double} otherwise.
+     */
+    public Number nextNumber() throws IOException {
+        String number = nextNumberLiteral();
+
+        if (number.indexOf('.') == -1 && number.indexOf('e') == -1 && number.indexOf('E') == -1) {
+            try {
+                return Long.parseLong(number);
+            } catch (NumberFormatException e) {
+                // integral number, that does not fit into long, is read as double
+            }
+        }
+
+        return finite(number, Double.parseDouble(number));
+    }
+
+    /**
+     * Reads the next value into plain Java objects - objects are read into {@link LinkedHashMap}, arrays into
+     * {@link ArrayList}, numbers as described by {@link JsonReader#nextNumber()}.
+     *
+     * @return the next value.
+     */
+    public Object readValue() throws IOException {
+        switch (peek()) {
+            case BEGIN_ARRAY:
+                List<Object> list = new ArrayList<>();
+                beginArray();
+
+                while (hasNext()) {
+                    list.add(readValue());
+                }
+
+                endArray();
+                return list;
+            case BEGIN_OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                beginObject();
+
+                while (hasNext()) {
+                    map.put(nextName(), readValue());
+                }
+
+                endObject();
+                return map;
+            case STRING:
+                return nextString();
+            case NUMBER:
+                return nextNumber();
+            case BOOLEAN:
+                return nextBoolean();
+            case NULL:
+                nextNull();
+                return null;
+            default:
+                throw syntax("value, but got " + peek());
+        }
+    }
+
+    /**
+     * Skips the next value, including all of it's nested values, without materializing it.
+     */
+    public void skipValue() throws IOException {
+        int nesting = 0;
+
+        do {
+            switch (peek()) {
+                case BEGIN_ARRAY:
+                    beginArray();
+                    nesting++;
+                    break;
+                case BEGIN_OBJECT:
+                    beginObject();
+                    nesting++;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    nesting--;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    nesting--;
+                    break;
+                case NAME:
+                    nextName();
+                    break;
+                case STRING:
+                    nextString();
+                    break;
+                case NUMBER:
+                    nextNumberLiteral();
+                    break;
+                case END_DOCUMENT:
+                    throw syntax("value, but got " + JsonToken.END_DOCUMENT);
+                default:
+                    peeked = null;
+                    readLiteral();
+            }
+        } while (nesting > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static Reader reader(InputStream input) {
+        Prerequisites.exists(input, "Input cannot be null");
+        return new InputStreamReader(input, StandardCharsets.UTF_8);
+    }
+
+    private JsonToken value(int c) throws IOException {
+        switch (c) {
+            case '{':
+                return JsonToken.BEGIN_OBJECT;
+            case '[':
+                return JsonToken.BEGIN_ARRAY;
+            case '"':
+                return JsonToken.STRING;
+            case 't':
+            case 'f':
+                position--;
+                return JsonToken.BOOLEAN;
+            case 'n':
+                position--;
+                return JsonToken.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    position--;
+                    return JsonToken.NUMBER;
+                }
+
+                throw syntax("value");
+        }
+    }
+
+    /**
+     * @return literal of the next number, that matches grammar of RFC 8259, therefore it is always accepted by
+     * {@link Double#parseDouble(String)}.
+     */
+    private String nextNumberLiteral() throws IOException {
+        expect(JsonToken.NUMBER);
+        String literal = readLiteral();
+        int length = literal.length();
+        int index = literal.startsWith("-") ? 1 : 0;
+        int start = index;
+        index = digits(literal, index);
+
+        // integer part is either a single zero or does not start with zero
+        boolean valid = index > start && (literal.charAt(start) != '0' || index == start + 1);
+
+        if (valid && index < length && literal.charAt(index) == '.') {
+            start = ++index;
+            index = digits(literal, index);
+            valid = index > start;
+        }
+
+        if (valid && index < length && (literal.charAt(index) == 'e' || literal.charAt(index) == 'E')) {
+            index++;
+
+            if (index < length && (literal.charAt(index) == '+' || literal.charAt(index) == '-')) {
+                index++;
+            }
+
+            start = index;
+            index = digits(literal, index);
+            valid = index > start;
+        }
+
+        if (!valid || index != length) {
+            throw new MalformedJsonException("Expected number, but got '" + literal + "' at offset " + (offset() - length));
+        }
+
+        return literal;
+    }
+
+    /**
+     * @return index of the first character of {@param literal}, starting at {@param index}, that is not a digit.
+     */
+    private static int digits(String literal, int index) {
+        while (index < literal.length() && literal.charAt(index) >= '0' && literal.charAt(index) <= '9') {
+            index++;
+        }
+
+        return index;
+    }
+
+    /**
+     * @return {@param value} in case it is finite - JSON numbers, that overflow double, are rejected.
+     */
+    private double finite(String number, double value) throws MalformedJsonException {
+        if (Double.isInfinite(value)) {
+            throw syntax("number within range of double, but got " + number);
+        }
+
+        return value;
+    }
+
+    private void expect(JsonToken token) throws IOException {
+        JsonToken actual = peek();
+
+        if (actual != token) {
+            throw syntax(token + ", but got " + actual);
+        }
+
+        peeked = null;
+    }
+
+    private void push(int scope) throws MalformedJsonException {
+        if (depth > MAX_DEPTH) {
+            throw new MalformedJsonException("Nesting is deeper than " + MAX_DEPTH + " levels at offset " + offset());
+        }
+
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+
+        scopes[depth++] = scope;
+    }
+
+    /**
+     * Reads string, which opening quote is already consumed, copying runs of plain characters from buffer at once.
+     */
+    private String readString() throws IOException {
+        text.setLength(0);
+
+        while (true) {
+            int start = position;
+
+            while (position < limit) {
+                char c = buffer[position];
+
+                if (c == '"') {
+                    text.append(buffer, start, position - start);
+                    position++;
+                    return text.toString();
+                }
+
+                if (c == '\\') {
+                    text.append(buffer, start, position - start);
+                    position++;
+                    text.append(escape());
+                    start = position;
+                    continue;
+                }
+
+                if (c < 0x20) {
+                    throw syntax("escaped control character");
+                }
+
+                position++;
+            }
+
+            text.append(buffer, start, position - start);
+
+            if (!fill()) {
+                throw new EOFException("Unterminated string at offset " + offset());
+            }
+        }
+    }
+
+    private char escape() throws IOException {
+        int c = read();
+
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int code = 0;
+
+                for (int n = 0; n < 4; n++) {
+                    int digit = Character.digit(read(), 16);
+
+                    if (digit == -1) {
+                        throw syntax("hexadecimal digit");
+                    }
+
+                    code = code * 16 + digit;
+                }
+
+                return (char) code;
+            case -1:
+                throw new EOFException("Unterminated string at offset " + offset());
+            default:
+                throw syntax("escape sequence");
+        }
+    }
+
+    /**
+     * Reads unquoted literal - number, true, false or null - till the next structural character or whitespace.
+     */
+    private String readLiteral() throws IOException {
+        text.setLength(0);
+
+        while (true) {
+            int c = read();
+
+            if (c == -1) {
+                break;
+            }
+
+            if (c == ',' || c == ']' || c == '}' || c == ':' || c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                position--;
+                break;
+            }
+
+            text.append((char) c);
+        }
+
+        return text.toString();
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        int c = skipWhitespace();
+
+        if (c == -1) {
+            throw new EOFException("End of input at offset " + offset());
+        }
+
+        return c;
+    }
+
+    /**
+     * @return the next character, that is not whitespace, or -1 in case input ends.
+     */
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            int c = read();
+
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return c;
+            }
+        }
+    }
+
+    /**
+     * @return the next character or -1 in case input ends. It can be unread by decrementing position at once.
+     */
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+
+        return buffer[position++];
+    }
+
+    private boolean fill() throws IOException {
+        offset += limit;
+        position = 0;
+        limit = 0;
+        int count = reader.read(buffer, 0, buffer.length);
+
+        if (count <= 0) {
+            return false;
+        }
+
+        limit = count;
+        return true;
+    }
+
+    private long offset() {
+        return offset + position;
+    }
+
+    private MalformedJsonException syntax(String expected) {
+        return new MalformedJsonException("Expected " + expected + " at offset " + offset());
+    }
+
+    @Override
+    public String toString() {
+        return "JsonReader{" +
+                "offset=" + offset() +
+                ", depth=" + (depth - 1) +
+                ", peeked=" + peeked +
+                '}';
+    }
+}
@@ -0,0 +1,147 @@
+package org.emgen.httpx.http.json;
+
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily decodes elements of either a top - level JSON array or a sequence of whitespace separated values, e.g.
+ * NDJSON, one by one, while input is read. Only the current element is held in memory, therefore arbitrarily
+ * large sequences are processed, using fixed amount of memory. {@link IOException}s, that happen, while elements
+ * are read, are rethrown as {@link UncheckedIOException}.
+ *
+ * @since 1.0.0
+ */
+public final class JsonSequence<T> implements Iterator<T>, Closeable {
+
+    private final JsonReader reader;
+    private final JsonDecoder<T> decoder;
+    private final boolean array;
+    private final Closeable resource;
+    private boolean started;
+    private boolean finished;
+
+    /**
+     * @param reader   to read elements from.
+     * @param decoder  - {@link JsonDecoder}, that decodes every element.
+     * @param array    - true in case elements are enclosed in a top - level array.
+     * @param resource - resource, that is closed instead of {@param reader}, e.g. response, or null.
+     */
+    public JsonSequence(final JsonReader reader, final JsonDecoder<T> decoder, final boolean array, final Closeable resource) {
+        Prerequisites.exists(reader, "JSON reader cannot be null");
+        Prerequisites.exists(decoder, "JSON decoder cannot be null");
+
+        this.reader = reader;
+        this.decoder = decoder;
+        this.array = array;
+        this.resource = resource;
+    }
+
+    /**
+     * @param input   - UTF-8 encoded JSON array.
+     * @param decoder - {@link JsonDecoder}, that decodes every element of array.
+     * @return {@link JsonSequence} of array elements.
+     */
+    public static <T> JsonSequence<T> array(InputStream input, JsonDecoder<T> decoder) {
+        return new JsonSequence<>(new JsonReader(input), decoder, true, null);
+    }
+
+    /**
+     * @param input   - UTF-8 encoded newline delimited JSON values.
+     * @param decoder - {@link JsonDecoder}, that decodes every value.
+     * @return {@link JsonSequence} of values.
+     */
+    public static <T> JsonSequence<T> ndjson(InputStream input, JsonDecoder<T> decoder) {
+        return new JsonSequence<>(new JsonReader(input), decoder, false, null);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+
+        try {
+            if (!started) {
+                started = true;
+
+                if (array) {
+                    reader.beginArray();
+                }
+            }
+
+            if (reader.hasNext()) {
+                return true;
+            }
+
+            if (array) {
+                reader.endArray();
+            }
+
+            finished = true;
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("JSON sequence has no more elements");
+        }
+
+        try {
+            return decoder.decode(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return sequential {@link Stream} of the remaining elements. Closing stream closes sequence.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Closes resource, that sequence was created with, or underlying input in case there is none. Input of
+     * response is left open, because closing response releases it's connection instead.
+     */
+    @Override
+    public void close() throws IOException {
+        finished = true;
+
+        if (resource == null) {
+            reader.close();
+        } else {
+            resource.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JsonSequence{" +
+                "reader=" + reader +
+                ", array=" + array +
+                ", finished=" + finished +
+                '}';
+    }
+}
@@ -0,0 +1,22 @@
+package org.emgen.httpx.http.json;
+
+/**
+ * Kind of the next element, that {@link JsonReader} is positioned at.
+ *
+ * @since 1.0.0
+ */
+public enum JsonToken {
+    BEGIN_ARRAY,
+    END_ARRAY,
+    BEGIN_OBJECT,
+    END_OBJECT,
+    NAME,
+    STRING,
+    NUMBER,
+    BOOLEAN,
+    NULL,
+    /**
+     * End of input - no more top - level values follow.
+     */
+    END_DOCUMENT
+}
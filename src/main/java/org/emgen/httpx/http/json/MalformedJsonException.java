@@ -0,0 +1,15 @@
+package org.emgen.httpx.http.json;
+
+import java.io.IOException;
+
+/**
+ * Thrown, when input of {@link JsonReader} is not valid JSON or does not match element, that decoder expects.
+ *
+ * @since 1.0.0
+ */
+public class MalformedJsonException extends IOException {
+
+    public MalformedJsonException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,323 @@
+package org.emgen.httpx.http.limit;
+
+import org.emgen.httpx.http.Executor;
+import org.emgen.httpx.http.SharedExecutor;
+import org.emgen.httpx.http.connection.ExecutionGuard;
+import org.emgen.httpx.http.connection.Route;
+import org.emgen.httpx.http.exceptions.RequestCancelledException;
+import org.emgen.httpx.http.exceptions.RequestExecutionException;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.request.RequestOptions;
+import org.emgen.httpx.http.response.Response;
+import org.emgen.httpx.http.response.StreamingResponse;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Executor}, that limits rate & concurrency of requests per {@link Route}, as described by {@link Limits}.
+ * Requests, that exceed limits, wait in route's queue - {@link Executor#executeAsync(Request)} does not occupy
+ * any thread, while request is queued, {@link Executor#execute(Request)} & {@link Executor#stream(Request)} block
+ * calling thread. Request fails with {@link org.emgen.httpx.http.exceptions.RequestRejectedException}, once
+ * queue is full or request waits for longer than {@link Limits#maxWait()}. Blocked callers also stop waiting,
+ * once request's deadline passes or it's cancellation is cancelled - time, that request waited, is taken from
+ * deadline, that delegate receives.
+ *
+ * @since 1.0.0
+ */
+public final class LimitingExecutor implements Executor {
+
+    private static final ScheduledThreadPoolExecutor TIMER = timer();
+
+    private final Executor delegate;
+    private final Limits limits;
+    private final ConcurrentMap<Route, RouteLimiter> routes = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate - {@link Executor}, that executes admitted requests.
+     * @param limits   - {@link Limits}, that are applied to every route.
+     */
+    public LimitingExecutor(final Executor delegate, final Limits limits) {
+        Prerequisites.exists(delegate, "Delegate executor cannot be null");
+        Prerequisites.exists(limits, "Limits cannot be null");
+
+        this.delegate = delegate;
+        this.limits = limits;
+    }
+
+    /**
+     * Waits for permit of {@param request}'s route & executes it, using delegate executor.
+     *
+     * @param request to execute.
+     * @return execution {@link Response}.
+     */
+    @Override
+    public Response execute(Request request) {
+        long starts = System.nanoTime();
+        RouteLimiter.Permit permit = await(request.options(), starts, limiter(request).acquire());
+        Response response;
+
+        try {
+            response = delegate.execute(remainder(request, starts));
+        } catch (RuntimeException e) {
+            permit.release(0L, congested(e));
+            throw e;
+        }
+
+        permit.release(response.duration(), congested(response.code()));
+        return response;
+    }
+
+    /**
+     * Queues {@param request} in case limits of it's route are reached & executes it, using delegate executor,
+     * once permit is acquired. Cancelling returned future removes request from queue or cancels delegate's
+     * execution.
+     *
+     * @param request to execute.
+     * @return future of execution {@link Response}.
+     */
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        CompletableFuture<RouteLimiter.Permit> permit = limiter(request).acquire();
+        CompletableFuture<Response> response = new CompletableFuture<>();
+
+        permit.whenComplete((acquired, rejection) -> {
+            if (rejection != null) {
+                response.completeExceptionally(unwrap(rejection));
+                return;
+            }
+
+            if (response.isDone()) {
+                acquired.release(-1L, false);
+                return;
+            }
+
+            CompletableFuture<Response> execution;
+
+            try {
+                execution = delegate.executeAsync(request);
+            } catch (RuntimeException e) {
+                acquired.release(0L, congested(e));
+                response.completeExceptionally(e);
+                return;
+            }
+
+            execution.whenComplete((result, failure) -> {
+                if (failure == null) {
+                    acquired.release(result.duration(), congested(result.code()));
+                    response.complete(result);
+                } else {
+                    RuntimeException cause = unwrap(failure);
+                    acquired.release(failure instanceof CancellationException ? -1L : 0L, congested(cause));
+                    response.completeExceptionally(cause);
+                }
+            });
+            response.whenComplete((result, failure) -> execution.cancel(false));
+        });
+        response.whenComplete((result, failure) -> {
+            if (response.isCancelled()) {
+                permit.cancel(false);
+            }
+        });
+
+        return response;
+    }
+
+    /**
+     * Waits for permit of {@param request}'s route & streams it's response, using delegate executor. Permit is
+     * held, until response is closed.
+     *
+     * @param request to execute.
+     * @return execution {@link StreamingResponse}.
+     */
+    @Override
+    public StreamingResponse stream(Request request) {
+        long queued = System.nanoTime();
+        RouteLimiter.Permit permit = await(request.options(), queued, limiter(request).acquire());
+        long starts = System.nanoTime();
+        StreamingResponse response;
+
+        try {
+            response = delegate.stream(remainder(request, queued));
+        } catch (RuntimeException e) {
+            permit.release(0L, congested(e));
+            throw e;
+        }
+
+        // duration until response head is received is used, because body is read at caller's pace
+        long duration = (System.nanoTime() - starts) / 1_000_000L;
+        boolean congested = congested(response.code());
+
+        return new StreamingResponse(response.code(), response.message(), response.headers(), response.body(), () -> {
+            try {
+                response.close();
+            } finally {
+                permit.release(duration, congested);
+            }
+        });
+    }
+
+    /**
+     * @param route to get limiter of.
+     * @return {@link RouteLimiter} of {@param route} or null in case no request was executed over it.
+     */
+    public RouteLimiter limiter(Route route) {
+        return routes.get(route);
+    }
+
+    /**
+     * @return count of requests, that wait for permit, over all routes.
+     */
+    public int queued() {
+        return routes.values().stream().mapToInt(RouteLimiter::queued).sum();
+    }
+
+    /**
+     * @return count of requests, that hold permit, over all routes.
+     */
+    public int inFlight() {
+        return routes.values().stream().mapToInt(RouteLimiter::inFlight).sum();
+    }
+
+    /**
+     * @return count of rejected requests over all routes.
+     */
+    public long rejections() {
+        return routes.values().stream().mapToLong(RouteLimiter::rejections).sum();
+    }
+
+    public Limits limits() {
+        return limits;
+    }
+
+    private RouteLimiter limiter(Request request) {
+        return routes.computeIfAbsent(Route.of(request.url(), request.options().proxySettings()), route -> new RouteLimiter(route, limits, TIMER));
+    }
+
+    /**
+     * @return true in case upstream signals overload with {@param code}.
+     */
+    private static boolean congested(int code) {
+        return code == 429 || code == 503;
+    }
+
+    /**
+     * @return true in case {@param failure} is not caused by the caller, e.g. by cancellation.
+     */
+    private static boolean congested(RuntimeException failure) {
+        return !(failure instanceof RequestCancelledException);
+    }
+
+    /**
+     * Waits for {@param permit}, until deadline of request with {@param options}, which execution started at
+     * {@param starts}, passes or request is cancelled - then request is removed from queue.
+     *
+     * @throws RuntimeException in case permit was rejected, request was cancelled or it's deadline passed.
+     */
+    private static RouteLimiter.Permit await(RequestOptions options, long starts, CompletableFuture<RouteLimiter.Permit> permit) {
+        ExecutionGuard guard;
+
+        try {
+            guard = ExecutionGuard.arm(options, starts);
+        } catch (RuntimeException e) {
+            abandon(permit);
+            throw e;
+        }
+
+        try {
+            guard.onAbort(() -> permit.cancel(false));
+            return permit.join();
+        } catch (CancellationException e) {
+            throw guard.failure(e);
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        } finally {
+            guard.close();
+        }
+    }
+
+    /**
+     * Removes request from queue or releases it's permit, in case it was already acquired.
+     */
+    private static void abandon(CompletableFuture<RouteLimiter.Permit> permit) {
+        if (!permit.cancel(false) && !permit.isCompletedExceptionally()) {
+            permit.join().release(-1L, false);
+        }
+    }
+
+    /**
+     * @return {@param request} or it's copy, which deadline is the time, that remains of {@param request}'s one
+     * after waiting, that started at {@param starts}.
+     */
+    private static Request remainder(Request request, long starts) {
+        RequestOptions options = request.options();
+
+        if (options.deadline() == 0L) {
+            return request;
+        }
+
+        long remaining = options.deadline() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - starts);
+        RequestOptions bounded = new RequestOptions.Creator(options).deadline(Math.max(1L, remaining)).create();
+        return new Request.Creator(request).options(bounded).create();
+    }
+
+    private static RuntimeException unwrap(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new RequestExecutionException(cause);
+    }
+
+    private static ScheduledThreadPoolExecutor timer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "httpx-limiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    @Override
+    public String toString() {
+        return "LimitingExecutor{" +
+                "delegate=" + delegate +
+                ", limits=" + limits +
+                ", queued=" + queued() +
+                ", inFlight=" + inFlight() +
+                '}';
+    }
+
+    public static final class Creator {
+
+        private Executor delegate;
+        private Limits limits = Limits.NONE;
+
+        /**
+         * @param delegate - {@link Executor}, that executes admitted requests. {@link SharedExecutor#get()} is
+         *                 used in case delegate is not set.
+         * @return instance of {@link Creator}.
+         */
+        public Creator delegate(Executor delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param limits - {@link Limits}, that are applied to every route. Requests are not limited by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator limits(Limits limits) {
+            this.limits = limits;
+            return this;
+        }
+
+        public LimitingExecutor create() {
+            return new LimitingExecutor(delegate == null ? SharedExecutor.get() : delegate, limits);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package org.emgen.httpx.http.limit;
+
+/**
+ * Describes limits, that {@link LimitingExecutor} applies to every route separately - rate of requests, that is
+ * enforced by token bucket, & count of concurrent requests. In adaptive mode concurrency limit is adjusted with
+ * AIMD: it grows by 1 / limit on every fast response & shrinks by {@link Limits#DECREASE_RATIO}, once response
+ * fails, is throttled (429 or 503) or takes longer than {@link Limits#latencyTolerance()} times route's average
+ * latency. Requests, that exceed limits, are queued, until {@link Limits#maxQueue()} is reached.
+ *
+ * @since 1.0.0
+ */
+public final class Limits {
+
+    /**
+     * Factor, that adaptive concurrency limit is multiplied by on congestion.
+     */
+    public static final double DECREASE_RATIO = 0.9;
+
+    /**
+     * Limits, that do not restrict requests.
+     */
+    public static final Limits NONE = new Limits(0.0, 1, 0, false, 1, 2.0, 0, 0L);
+
+    private final double rate;
+    private final int burst;
+    private final int maxConcurrency;
+    private final boolean adaptive;
+    private final int minConcurrency;
+    private final double latencyTolerance;
+    private final int maxQueue;
+    private final long maxWait;
+
+    /**
+     * @param rate             - requests per second, that are allowed in the long run, or 0 in case rate is not
+     *                         limited.
+     * @param burst            - max count of requests, that are allowed at once after idle period.
+     * @param maxConcurrency   - max count of concurrent requests or 0 in case concurrency is not limited.
+     * @param adaptive         - true in case concurrency limit is adjusted in range [minConcurrency,
+     *                         maxConcurrency] by observed latency.
+     * @param minConcurrency   - the lowest concurrency limit, that adaptive mode might set.
+     * @param latencyTolerance - ratio of response duration to average one, above which response is considered
+     *                         a congestion signal.
+     * @param maxQueue         - max count of requests, that wait for a permit, per route. 0 stands for rejecting
+     *                         requests at once.
+     * @param maxWait          - max time in milliseconds, that request waits in queue, or 0 in case it waits
+     *                         without limit.
+     */
+    public Limits(
+            final double rate,
+            final int burst,
+            final int maxConcurrency,
+            final boolean adaptive,
+            final int minConcurrency,
+            final double latencyTolerance,
+            final int maxQueue,
+            final long maxWait
+    ) {
+        if (rate < 0.0) {
+            throw new IllegalArgumentException("Parameter 'rate' cannot be negative");
+        }
+
+        if (burst < 1) {
+            throw new IllegalArgumentException("Parameter 'burst' has to be positive");
+        }
+
+        if (maxConcurrency < 0) {
+            throw new IllegalArgumentException("Parameter 'maxConcurrency' cannot be negative");
+        }
+
+        if (adaptive && (minConcurrency < 1 || maxConcurrency < minConcurrency)) {
+            throw new IllegalArgumentException("Parameter 'minConcurrency' has to be in range [1, maxConcurrency]");
+        }
+
+        if (latencyTolerance <= 1.0) {
+            throw new IllegalArgumentException("Parameter 'latencyTolerance' has to be greater than 1");
+        }
+
+        if (maxQueue < 0) {
+            throw new IllegalArgumentException("Parameter 'maxQueue' cannot be negative");
+        }
+
+        if (maxWait < 0) {
+            throw new IllegalArgumentException("Parameter 'maxWait' cannot be negative");
+        }
+
+        this.rate = rate;
+        this.burst = burst;
+        this.maxConcurrency = maxConcurrency;
+        this.adaptive = adaptive;
+        this.minConcurrency = minConcurrency;
+        this.latencyTolerance = latencyTolerance;
+        this.maxQueue = maxQueue;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * @return requests per second or 0 in case rate is not limited.
+     */
+    public double rate() {
+        return rate;
+    }
+
+    public int burst() {
+        return burst;
+    }
+
+    /**
+     * @return max count of concurrent requests or 0 in case concurrency is not limited.
+     */
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public boolean adaptive() {
+        return adaptive;
+    }
+
+    public int minConcurrency() {
+        return minConcurrency;
+    }
+
+    public double latencyTolerance() {
+        return latencyTolerance;
+    }
+
+    public int maxQueue() {
+        return maxQueue;
+    }
+
+    /**
+     * @return max time in milliseconds, that request waits in queue, or 0 in case it waits without limit.
+     */
+    public long maxWait() {
+        return maxWait;
+    }
+
+    @Override
+    public String toString() {
+        return "Limits{" +
+                "rate=" + rate +
+                ", burst=" + burst +
+                ", maxConcurrency=" + maxConcurrency +
+                ", adaptive=" + adaptive +
+                ", minConcurrency=" + minConcurrency +
+                ", latencyTolerance=" + latencyTolerance +
+                ", maxQueue=" + maxQueue +
+                ", maxWait=" + maxWait +
+                '}';
+    }
+
+    public static final class Creator {
+
+        private double rate;
+        private int burst;
+        private int maxConcurrency;
+        private boolean adaptive;
+        private int minConcurrency = 1;
+        private double latencyTolerance = 2.0;
+        private int maxQueue = 1024;
+        private long maxWait;
+
+        /**
+         * @param rate  - requests per second, that are allowed in the long run.
+         * @param burst - max count of requests, that are allowed at once after idle period.
+         * @return instance of {@link Creator}.
+         */
+        public Creator rate(double rate, int burst) {
+            this.rate = rate;
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrency - max count of concurrent requests per route.
+         * @return instance of {@link Creator}.
+         */
+        public Creator maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Enables adaptive concurrency limit, that starts at {@param maxConcurrency} & is lowered on congestion.
+         *
+         * @param minConcurrency   - the lowest concurrency limit.
+         * @param maxConcurrency   - the highest concurrency limit.
+         * @param latencyTolerance - ratio of response duration to average one, e.g. 2, above which response is
+         *                         considered a congestion signal.
+         * @return instance of {@link Creator}.
+         */
+        public Creator adaptive(int minConcurrency, int maxConcurrency, double latencyTolerance) {
+            this.adaptive = true;
+            this.minConcurrency = minConcurrency;
+            this.maxConcurrency = maxConcurrency;
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * @param maxQueue - max count of requests, that wait for a permit, per route. 0 stands for rejecting
+         *                 requests at once. 1024 by default.
+         * @param maxWait  - max time in milliseconds, that request waits in queue, or 0 in case it waits without
+         *                 limit.
+         * @return instance of {@link Creator}.
+         */
+        public Creator queue(int maxQueue, long maxWait) {
+            this.maxQueue = maxQueue;
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        public Limits create() {
+            int burst = this.burst > 0 ? this.burst : Math.max(1, (int) Math.ceil(rate));
+            return new Limits(rate, burst, maxConcurrency, adaptive, minConcurrency, latencyTolerance, maxQueue, maxWait);
+        }
+    }
+}
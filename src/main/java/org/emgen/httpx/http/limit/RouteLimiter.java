@@ -0,0 +1,335 @@
+package org.emgen.httpx.http.limit;
+
+import org.emgen.httpx.http.connection.Route;
+import org.emgen.httpx.http.exceptions.RequestRejectedException;
+import org.emgen.httpx.http.metrics.LatencyHistogram;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits & queue of a single {@link Route}. Requests wait for a permit in FIFO order without blocking any thread -
+ * waiting request is a future, that is completed, once other request releases it's permit or token bucket is
+ * refilled. Refill & queue expiry are driven by shared timer.
+ *
+ * @since 1.0.0
+ */
+public final class RouteLimiter {
+
+    /**
+     * Weight of the latest response duration in route's average latency.
+     */
+    private static final double LATENCY_WEIGHT = 0.1;
+
+    private final Route route;
+    private final Limits limits;
+    private final ScheduledExecutorService timer;
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder decreases = new LongAdder();
+    private double limit;
+    private double tokens;
+    private long refilledAt;
+    private double latency;
+    private int inFlight;
+    private boolean refillScheduled;
+
+    RouteLimiter(final Route route, final Limits limits, final ScheduledExecutorService timer) {
+        this.route = route;
+        this.limits = limits;
+        this.timer = timer;
+        this.limit = limits.maxConcurrency() == 0 ? Integer.MAX_VALUE : limits.maxConcurrency();
+        this.tokens = limits.burst();
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * Acquires permit to send request. Future is completed at once in case limits allow it, otherwise request
+     * is queued. Cancelling future removes request from queue.
+     *
+     * @return future of {@link Permit}, that has to be released, once request completes, or future, that fails
+     * with {@link RequestRejectedException} in case queue is full or request waits for longer than
+     * {@link Limits#maxWait()}.
+     */
+    CompletableFuture<Permit> acquire() {
+        Waiter waiter;
+
+        synchronized (this) {
+            long now = System.nanoTime();
+
+            if (queue.isEmpty() && admit(now)) {
+                waitTime.record(0L);
+                return CompletableFuture.completedFuture(new Permit(this));
+            }
+
+            if (queue.size() >= limits.maxQueue()) {
+                rejections.increment();
+                CompletableFuture<Permit> rejected = new CompletableFuture<>();
+                rejected.completeExceptionally(new RequestRejectedException("Limit of route " + route + " is reached & queue is full"));
+                return rejected;
+            }
+
+            waiter = new Waiter(now);
+            queue.addLast(waiter);
+            scheduleRefill(now);
+        }
+
+        if (limits.maxWait() > 0) {
+            ScheduledFuture<?> expiry = timer.schedule(() -> expire(waiter), limits.maxWait(), TimeUnit.MILLISECONDS);
+            waiter.permit.whenComplete((permit, failure) -> expiry.cancel(false));
+        }
+
+        waiter.permit.whenComplete((permit, failure) -> {
+            if (waiter.permit.isCancelled()) {
+                remove(waiter);
+            }
+        });
+
+        return waiter.permit;
+    }
+
+    public Route route() {
+        return route;
+    }
+
+    public Limits limits() {
+        return limits;
+    }
+
+    /**
+     * @return current concurrency limit. It changes over time only in adaptive mode.
+     */
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return count of requests, that hold permit.
+     */
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return count of requests, that wait for permit.
+     */
+    public synchronized int queued() {
+        return queue.size();
+    }
+
+    /**
+     * @return time, that requests spent waiting for permit - including 0 of requests, that were not queued.
+     */
+    public LatencyHistogram waitTime() {
+        return waitTime;
+    }
+
+    /**
+     * @return count of requests, that were rejected, because queue was full or they waited for too long.
+     */
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    /**
+     * @return count of times, that adaptive concurrency limit was lowered on congestion.
+     */
+    public long decreases() {
+        return decreases.sum();
+    }
+
+    /**
+     * Releases permit & admits queued requests.
+     *
+     * @param duration  - duration of response in milliseconds or -1 in case request was not completed & does
+     *                  not adjust limit.
+     * @param congested - true in case request failed or upstream throttled it.
+     */
+    void release(long duration, boolean congested) {
+        synchronized (this) {
+            inFlight--;
+
+            if (limits.adaptive() && duration >= 0) {
+                adjust(duration, congested);
+            }
+        }
+
+        dispatch();
+    }
+
+    private void adjust(long duration, boolean congested) {
+        boolean slow = latency > 0.0 && duration > latency * limits.latencyTolerance();
+
+        if (congested || slow) {
+            limit = Math.max(limits.minConcurrency(), limit * Limits.DECREASE_RATIO);
+            decreases.increment();
+        } else {
+            limit = Math.min(limits.maxConcurrency(), limit + 1.0 / limit);
+        }
+
+        if (!congested) {
+            // durations under 1 ms are rounded up, otherwise any delay would be infinitely slower than average
+            double sample = Math.max(1L, duration);
+            latency = latency == 0.0 ? sample : latency + LATENCY_WEIGHT * (sample - latency);
+        }
+    }
+
+    /**
+     * Admits queued requests in FIFO order. Futures are completed without holding the lock, because completion
+     * runs dependent actions, which send requests.
+     */
+    private void dispatch() {
+        List<Waiter> admitted = new ArrayList<>();
+
+        synchronized (this) {
+            long now = System.nanoTime();
+
+            while (!queue.isEmpty()) {
+                Waiter waiter = queue.peekFirst();
+
+                if (waiter.permit.isDone()) {
+                    queue.pollFirst();
+                } else if (admit(now)) {
+                    queue.pollFirst();
+                    waitTime.record(now - waiter.since);
+                    admitted.add(waiter);
+                } else {
+                    break;
+                }
+            }
+
+            scheduleRefill(now);
+        }
+
+        for (Waiter waiter : admitted) {
+            Permit permit = new Permit(this);
+
+            if (!waiter.permit.complete(permit)) {
+                // request was cancelled or expired concurrently
+                permit.release(-1L, false);
+            }
+        }
+    }
+
+    /**
+     * Takes a token & a concurrency slot in case both are available.
+     */
+    private boolean admit(long now) {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+
+        if (limits.rate() > 0.0) {
+            tokens = Math.min(limits.burst(), tokens + (now - refilledAt) / 1e9 * limits.rate());
+            refilledAt = now;
+
+            if (tokens < 1.0) {
+                return false;
+            }
+
+            tokens -= 1.0;
+        }
+
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Schedules dispatch for the time, when the next token is available, in case queued request waits for it.
+     * Requests, that wait for concurrency slot, are admitted, once permit is released.
+     */
+    private void scheduleRefill(long now) {
+        if (queue.isEmpty() || refillScheduled || limits.rate() <= 0.0 || tokens >= 1.0 || inFlight >= (int) limit) {
+            return;
+        }
+
+        refillScheduled = true;
+        long delay = (long) Math.ceil((1.0 - tokens) / limits.rate() * 1e9);
+        timer.schedule(this::refill, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void refill() {
+        synchronized (this) {
+            refillScheduled = false;
+        }
+
+        dispatch();
+    }
+
+    private void expire(Waiter waiter) {
+        synchronized (this) {
+            // admitted requests are removed from queue before their futures are completed
+            if (waiter.permit.isDone() || !queue.remove(waiter)) {
+                return;
+            }
+
+            rejections.increment();
+        }
+
+        waiter.permit.completeExceptionally(new RequestRejectedException("Request waited for permit of route " + route + " longer than " + limits.maxWait() + " ms"));
+        dispatch();
+    }
+
+    private void remove(Waiter waiter) {
+        synchronized (this) {
+            queue.remove(waiter);
+        }
+
+        // removed request might have blocked the head of queue
+        dispatch();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "RouteLimiter{" +
+                "route=" + route +
+                ", limit=" + (int) limit +
+                ", inFlight=" + inFlight +
+                ", queued=" + queue.size() +
+                ", rejections=" + rejections() +
+                '}';
+    }
+
+    /**
+     * Permit to send a single request. It is released once.
+     */
+    static final class Permit {
+
+        private final RouteLimiter limiter;
+        private boolean released;
+
+        private Permit(final RouteLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        void release(long duration, boolean congested) {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+
+                released = true;
+            }
+
+            limiter.release(duration, congested);
+        }
+    }
+
+    private static final class Waiter {
+
+        private final long since;
+        private final CompletableFuture<Permit> permit = new CompletableFuture<>();
+
+        private Waiter(final long since) {
+            this.since = since;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.emgen.httpx.http.metrics;
+
+import org.emgen.httpx.http.connection.Route;
+import org.emgen.httpx.http.request.Request;
+
+/**
+ * Single execution of {@link Request}, that {@link ExecutionListener} events refer to.
+ *
+ * @since 1.0.0
+ */
+public final class Execution {
+
+    private final Request request;
+    private final Route route;
+    private final long starts;
+
+    /**
+     * @param request - executed {@link Request}.
+     * @param route   - {@link Route}, that {@param request} is executed over.
+     * @param starts  - {@link System#nanoTime()}, when execution started.
+     */
+    public Execution(final Request request, final Route route, final long starts) {
+        this.request = request;
+        this.route = route;
+        this.starts = starts;
+    }
+
+    public Request request() {
+        return request;
+    }
+
+    public Route route() {
+        return route;
+    }
+
+    public long starts() {
+        return starts;
+    }
+
+    /**
+     * @return nanoseconds, that passed since execution started.
+     */
+    public long elapsed() {
+        return System.nanoTime() - starts;
+    }
+
+    @Override
+    public String toString() {
+        return "Execution{" +
+                "request=" + request +
+                ", route=" + route +
+                ", starts=" + starts +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package org.emgen.httpx.http.metrics;
+
+/**
+ * Receives events of request executions. All timings are nanoseconds, that passed since execution started.
+ * Listener is invoked on threads, that perform execution (including event loop threads of non - blocking
+ * executors), therefore it has to be thread - safe & must not block.
+ *
+ * @since 1.0.0
+ */
+public interface ExecutionListener {
+
+    /**
+     * Listener, that ignores all events. Executors, that use it, skip body metering entirely.
+     */
+    ExecutionListener NONE = new ExecutionListener() {
+    };
+
+    /**
+     * Invoked, when connection for {@param execution} is obtained - either host is resolved & connection is
+     * opened or idle connection is taken from pool.
+     *
+     * @param execution, that connection was obtained for.
+     * @param nanos     - time, that passed since execution started.
+     * @param reused    - true in case idle connection was reused.
+     */
+    default void connected(Execution execution, long nanos, boolean reused) {
+    }
+
+    /**
+     * Invoked, when request is written to connection.
+     *
+     * @param execution, that request belongs to.
+     * @param nanos     - time, that passed since execution started.
+     * @param bytes     - count of request body bytes or -1 in case body length was not known upfront.
+     */
+    default void requestWritten(Execution execution, long nanos, long bytes) {
+    }
+
+    /**
+     * Invoked, when response status line & headers are received.
+     *
+     * @param execution, that response belongs to.
+     * @param nanos     - time, that passed since execution started.
+     * @param code      - response code.
+     */
+    default void firstByte(Execution execution, long nanos, int code) {
+    }
+
+    /**
+     * Invoked, when response body is read till the end or response is closed before that.
+     *
+     * @param execution, that response belongs to.
+     * @param nanos     - time, that passed since execution started.
+     * @param bytes     - count of response body bytes, that were read.
+     */
+    default void bodyComplete(Execution execution, long nanos, long bytes) {
+    }
+
+    /**
+     * Invoked, when execution fails. No further events are sent for {@param execution}.
+     *
+     * @param execution, that failed.
+     * @param nanos     - time, that passed since execution started.
+     * @param cause     of failure.
+     */
+    default void failed(Execution execution, long nanos, Throwable cause) {
+    }
+}
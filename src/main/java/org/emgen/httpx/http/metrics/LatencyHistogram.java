@@ -0,0 +1,152 @@
+package org.emgen.httpx.http.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock - free latency histogram with log - linear buckets, similar to HdrHistogram. Values are tracked with
+ * microsecond resolution & relative error of less than 1.6% up to ~19 hours; larger values are clamped.
+ * Recording is a single atomic increment, therefore histogram can be shared between threads on the hot path.
+ *
+ * @since 1.0.0
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Bits of precision - every power of 2 range is split into 2^(SUB_BUCKET_BITS - 1) linear sub - buckets.
+     */
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int MAX_EXPONENT = 36;
+    private static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+    private static final int BUCKET_COUNT = index(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Records single latency value.
+     *
+     * @param nanos - latency in nanoseconds. Negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        long micros = Math.min(Math.max(0L, nanos) / 1000L, MAX_VALUE);
+        counts.incrementAndGet(index(micros));
+        count.increment();
+        sum.add(micros);
+        max.accumulate(micros);
+    }
+
+    /**
+     * @return count of recorded values.
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @return mean of recorded values in nanoseconds or 0 in case no values were recorded.
+     */
+    public long mean() {
+        long count = count();
+        return count == 0 ? 0L : TimeUnit.MICROSECONDS.toNanos(sum.sum() / count);
+    }
+
+    /**
+     * @return largest recorded value in nanoseconds.
+     */
+    public long max() {
+        return TimeUnit.MICROSECONDS.toNanos(max.get());
+    }
+
+    /**
+     * Finds value, that {@param percentile} percent of recorded values do not exceed. Concurrently recorded
+     * values might or might not be taken into account.
+     *
+     * @param percentile - percentile in range [0, 100].
+     * @return the highest value in nanoseconds, that is equivalent to percentile's bucket or 0 in case no values
+     * were recorded.
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Parameter 'percentile' has to be in range [0, 100]");
+        }
+
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0L;
+
+        for (int n = 0; n < BUCKET_COUNT; n++) {
+            snapshot[n] = counts.get(n);
+            total += snapshot[n];
+        }
+
+        if (total == 0) {
+            return 0L;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0L;
+
+        for (int n = 0; n < BUCKET_COUNT; n++) {
+            seen += snapshot[n];
+
+            if (seen >= rank) {
+                return TimeUnit.MICROSECONDS.toNanos(Math.min(highestEquivalentValue(n), max.get()));
+            }
+        }
+
+        return max();
+    }
+
+    /**
+     * Clears recorded values. Values, that are recorded concurrently, might be partially lost.
+     */
+    public void reset() {
+        for (int n = 0; n < BUCKET_COUNT; n++) {
+            counts.set(n, 0L);
+        }
+
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS + 1;
+        return (shift + 1) * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift) - SUB_BUCKET_HALF_COUNT;
+    }
+
+    static long lowestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_HALF_COUNT - 1;
+        return (long) (index % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT) << shift;
+    }
+
+    static long highestEquivalentValue(int index) {
+        return index + 1 < BUCKET_COUNT ? lowestEquivalentValue(index + 1) - 1 : MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "count=" + count() +
+                ", mean=" + mean() +
+                ", p50=" + percentile(50.0) +
+                ", p99=" + percentile(99.0) +
+                ", max=" + max() +
+                '}';
+    }
+}
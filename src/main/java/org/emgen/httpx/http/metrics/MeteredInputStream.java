@@ -0,0 +1,103 @@
+package org.emgen.httpx.http.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Response body stream, that counts read bytes & notifies {@link ExecutionListener} once - either when body is
+ * read till the end, stream or response is closed ({@link MeteredInputStream#complete}) or reading fails.
+ *
+ * @since 1.0.0
+ */
+public final class MeteredInputStream extends FilterInputStream {
+
+    private final ExecutionListener listener;
+    private final Execution execution;
+    private long bytes;
+    private boolean completed;
+
+    public MeteredInputStream(final InputStream in, final ExecutionListener listener, final Execution execution) {
+        super(in);
+        this.listener = listener;
+        this.execution = execution;
+    }
+
+    /**
+     * @return count of body bytes, that were read so far.
+     */
+    public long bytes() {
+        return bytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        try {
+            int b = super.read();
+
+            if (b == -1) {
+                complete();
+            } else {
+                bytes++;
+            }
+
+            return b;
+        } catch (IOException e) {
+            fail(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        try {
+            int count = super.read(b, off, len);
+
+            if (count == -1) {
+                complete();
+            } else {
+                bytes += count;
+            }
+
+            return count;
+        } catch (IOException e) {
+            fail(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        try {
+            long count = super.skip(n);
+            bytes += count;
+            return count;
+        } catch (IOException e) {
+            fail(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        complete();
+        super.close();
+    }
+
+    /**
+     * Notifies listener, that body is complete, in case it was not notified yet.
+     */
+    public synchronized void complete() {
+        if (!completed) {
+            completed = true;
+            listener.bodyComplete(execution, execution.elapsed(), bytes);
+        }
+    }
+
+    private synchronized void fail(IOException e) {
+        if (!completed) {
+            completed = true;
+            listener.failed(execution, execution.elapsed(), e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.emgen.httpx.http.metrics;
+
+import org.emgen.httpx.http.connection.Route;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ExecutionListener}, that aggregates execution events into per - {@link Route} {@link RouteMetrics}.
+ * Aggregation is lock - free - events only increment counters & histogram buckets, therefore aggregator can be
+ * attached to executors on the hot path.
+ *
+ * @since 1.0.0
+ */
+public final class MetricsAggregator implements ExecutionListener {
+
+    private final Map<Route, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+    @Override
+    public void connected(Execution execution, long nanos, boolean reused) {
+        metrics(execution.route()).connected(nanos, reused);
+    }
+
+    @Override
+    public void requestWritten(Execution execution, long nanos, long bytes) {
+        metrics(execution.route()).requestWritten(bytes);
+    }
+
+    @Override
+    public void firstByte(Execution execution, long nanos, int code) {
+        metrics(execution.route()).firstByte(nanos);
+    }
+
+    @Override
+    public void bodyComplete(Execution execution, long nanos, long bytes) {
+        metrics(execution.route()).bodyComplete(nanos, bytes);
+    }
+
+    @Override
+    public void failed(Execution execution, long nanos, Throwable cause) {
+        metrics(execution.route()).failed();
+    }
+
+    /**
+     * @param route to get metrics for.
+     * @return {@link RouteMetrics} of provided {@param route} or null in case no executions were recorded for it.
+     */
+    public RouteMetrics route(Route route) {
+        return routes.get(route);
+    }
+
+    /**
+     * @return live, unmodifiable view of metrics per {@link Route}.
+     */
+    public Map<Route, RouteMetrics> routes() {
+        return Collections.unmodifiableMap(routes);
+    }
+
+    /**
+     * Drops all collected metrics.
+     */
+    public void reset() {
+        routes.clear();
+    }
+
+    private RouteMetrics metrics(Route route) {
+        RouteMetrics metrics = routes.get(route);
+        return metrics != null ? metrics : routes.computeIfAbsent(route, RouteMetrics::new);
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsAggregator{" +
+                "routes=" + routes.values() +
+                '}';
+    }
+}
@@ -0,0 +1,133 @@
+package org.emgen.httpx.http.metrics;
+
+import org.emgen.httpx.http.connection.Route;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters & latency histograms of executions over single {@link Route}, that are collected by
+ * {@link MetricsAggregator}.
+ *
+ * @since 1.0.0
+ */
+public final class RouteMetrics {
+
+    private final Route route;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder connections = new LongAdder();
+    private final LongAdder reusedConnections = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LatencyHistogram connectLatency = new LatencyHistogram();
+    private final LatencyHistogram firstByteLatency = new LatencyHistogram();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    RouteMetrics(final Route route) {
+        this.route = route;
+    }
+
+    public Route route() {
+        return route;
+    }
+
+    /**
+     * @return count of executions, that received response head.
+     */
+    public long requests() {
+        return requests.sum();
+    }
+
+    public long failures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return count of connections, that were opened.
+     */
+    public long connections() {
+        return connections.sum();
+    }
+
+    /**
+     * @return count of executions, that reused idle connection.
+     */
+    public long reusedConnections() {
+        return reusedConnections.sum();
+    }
+
+    /**
+     * @return count of request body bytes, that were sent. Bodies of unknown length are not counted.
+     */
+    public long bytesSent() {
+        return bytesSent.sum();
+    }
+
+    /**
+     * @return count of response body bytes, that were received.
+     */
+    public long bytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * @return {@link LatencyHistogram} of time, that was taken to obtain connection.
+     */
+    public LatencyHistogram connectLatency() {
+        return connectLatency;
+    }
+
+    /**
+     * @return {@link LatencyHistogram} of time, that was taken to receive response head.
+     */
+    public LatencyHistogram firstByteLatency() {
+        return firstByteLatency;
+    }
+
+    /**
+     * @return {@link LatencyHistogram} of time, that was taken to complete execution, including body.
+     */
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    void connected(long nanos, boolean reused) {
+        connectLatency.record(nanos);
+        (reused ? reusedConnections : connections).increment();
+    }
+
+    void requestWritten(long bytes) {
+        if (bytes > 0) {
+            bytesSent.add(bytes);
+        }
+    }
+
+    void firstByte(long nanos) {
+        requests.increment();
+        firstByteLatency.record(nanos);
+    }
+
+    void bodyComplete(long nanos, long bytes) {
+        bytesReceived.add(bytes);
+        latency.record(nanos);
+    }
+
+    void failed() {
+        failures.increment();
+    }
+
+    @Override
+    public String toString() {
+        return "RouteMetrics{" +
+                "route=" + route +
+                ", requests=" + requests() +
+                ", failures=" + failures() +
+                ", connections=" + connections() +
+                ", reusedConnections=" + reusedConnections() +
+                ", bytesSent=" + bytesSent() +
+                ", bytesReceived=" + bytesReceived() +
+                ", firstByteLatency=" + firstByteLatency +
+                ", latency=" + latency +
+                '}';
+    }
+}
@@ -0,0 +1,401 @@
+package org.emgen.httpx.http.nio;
+
+import org.emgen.httpx.http.connection.Route;
+import org.emgen.httpx.http.exceptions.RequestExecutionException;
+import org.emgen.httpx.http.metrics.ExecutionListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single - threaded selector loop, that drives non - blocking HTTP/1.1 exchanges. Loop owns it's connections -
+ * both active & idle ones, therefore no state besides submission queue is shared between threads.
+ *
+ * @since 1.0.0
+ */
+final class EventLoop implements Runnable, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MAX_SELECT_TIMEOUT = 1000L;
+    /**
+     * Min interval in milliseconds between checks of read timeouts, that iterate over all registered channels.
+     */
+    private static final long READ_TIMEOUT_CHECK_INTERVAL = 100L;
+
+    private final Selector selector;
+    private final Thread thread;
+    private final int maxIdlePerRoute;
+    private final long idleTimeout;
+    private final ExecutionListener listener;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final Queue<Exchange> submitted = new ConcurrentLinkedQueue<>();
+    private final Queue<Exchange> aborted = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<Exchange> connecting = new PriorityQueue<>((a, b) -> Long.compare(a.connectDeadline, b.connectDeadline));
+    private final Map<Route, Deque<SelectionKey>> idle = new HashMap<>();
+    private long readTimeoutsCheckedAt = System.nanoTime();
+    private volatile boolean closed;
+
+    EventLoop(final String name, final int maxIdlePerRoute, final long idleTimeout, final ExecutionListener listener) throws IOException {
+        this.selector = Selector.open();
+        this.maxIdlePerRoute = maxIdlePerRoute;
+        this.idleTimeout = TimeUnit.NANOSECONDS.convert(idleTimeout, TimeUnit.MILLISECONDS);
+        this.listener = listener;
+        this.thread = new Thread(this, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    void submit(Exchange exchange) {
+        if (closed) {
+            fail(exchange, new RequestExecutionException("Executor is closed"));
+            return;
+        }
+
+        submitted.add(exchange);
+        selector.wakeup();
+    }
+
+    /**
+     * Fails {@param exchange} at once & closes it's connection on event loop thread. Safe to call from any thread.
+     *
+     * @param exchange to abort.
+     * @param failure  - {@link RuntimeException}, that exchange's future is completed with.
+     */
+    void abort(Exchange exchange, RuntimeException failure) {
+        if (exchange.future.completeExceptionally(failure)) {
+            listener.failed(exchange.execution, exchange.execution.elapsed(), failure);
+            aborted.add(exchange);
+            selector.wakeup();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (!closed) {
+            try {
+                selector.select(selectTimeout());
+            } catch (IOException e) {
+                break;
+            }
+
+            for (Exchange exchange = submitted.poll(); exchange != null; exchange = submitted.poll()) {
+                start(exchange);
+            }
+
+            for (Exchange exchange = aborted.poll(); exchange != null; exchange = aborted.poll()) {
+                if (exchange.key != null) {
+                    close(exchange.key.channel());
+                }
+            }
+
+            Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+
+                if (key.isValid()) {
+                    handle(key);
+                }
+            }
+
+            expire();
+        }
+
+        shutdown();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        selector.wakeup();
+    }
+
+    private void start(Exchange exchange) {
+        if (exchange.future.isDone()) {
+            return;
+        }
+
+        SelectionKey key = pollIdle(exchange.route);
+
+        if (key == null) {
+            connect(exchange);
+            return;
+        }
+
+        exchange.key = key;
+        exchange.connected = true;
+        exchange.reused = true;
+        exchange.activity = System.nanoTime();
+        key.attach(exchange);
+        key.interestOps(SelectionKey.OP_WRITE);
+        listener.connected(exchange.execution, exchange.execution.elapsed(), true);
+    }
+
+    private void connect(Exchange exchange) {
+        SocketChannel channel = null;
+
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+
+            boolean connected = channel.connect(exchange.address);
+            exchange.connected = connected;
+            exchange.activity = System.nanoTime();
+            exchange.key = channel.register(selector, connected ? SelectionKey.OP_WRITE : SelectionKey.OP_CONNECT, exchange);
+
+            if (connected) {
+                listener.connected(exchange.execution, exchange.execution.elapsed(), false);
+            }
+
+            if (!connected && exchange.connectTimeout > 0) {
+                exchange.connectDeadline = System.nanoTime() + TimeUnit.NANOSECONDS.convert(exchange.connectTimeout, TimeUnit.MILLISECONDS);
+                connecting.add(exchange);
+            }
+        } catch (IOException e) {
+            close(channel);
+            fail(exchange, new RequestExecutionException(e));
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        if (key.attachment() instanceof Idle) {
+            // idle connection must not become readable - server either closed it or sent unexpected data
+            removeIdle((Idle) key.attachment(), key);
+            close(key.channel());
+            return;
+        }
+
+        Exchange exchange = (Exchange) key.attachment();
+        SocketChannel channel = (SocketChannel) key.channel();
+        exchange.activity = System.nanoTime();
+
+        try {
+            if (key.isConnectable()) {
+                channel.finishConnect();
+                exchange.connected = true;
+                key.interestOps(SelectionKey.OP_WRITE);
+                listener.connected(exchange.execution, exchange.execution.elapsed(), false);
+            } else if (key.isWritable()) {
+                channel.write(exchange.output);
+
+                if (exchange.written()) {
+                    key.interestOps(SelectionKey.OP_READ);
+                    listener.requestWritten(exchange.execution, exchange.execution.elapsed(), exchange.bodyLength());
+                }
+            } else if (key.isReadable()) {
+                read(exchange, channel);
+            }
+        } catch (IOException e) {
+            retryOrFail(exchange, e);
+        }
+    }
+
+    private void read(Exchange exchange, SocketChannel channel) throws IOException {
+        buffer.clear();
+
+        if (channel.read(buffer) == -1) {
+            exchange.parser.endOfStream();
+            complete(exchange, false);
+            return;
+        }
+
+        buffer.flip();
+
+        boolean headReceived = exchange.parser.head() != null;
+        boolean done = exchange.parser.feed(buffer);
+
+        if (!headReceived && exchange.parser.head() != null) {
+            listener.firstByte(exchange.execution, exchange.execution.elapsed(), exchange.parser.head().code());
+        }
+
+        if (done) {
+            complete(exchange, !buffer.hasRemaining() && exchange.parser.reusable());
+        }
+    }
+
+    private void complete(Exchange exchange, boolean reusable) {
+        SelectionKey key = exchange.key;
+
+        if (reusable && !closed && idleCount(exchange.route) < maxIdlePerRoute) {
+            Idle idle = new Idle(exchange.route, System.nanoTime());
+            key.attach(idle);
+            key.interestOps(SelectionKey.OP_READ);
+            this.idle.computeIfAbsent(exchange.route, route -> new ArrayDeque<>()).addFirst(key);
+        } else {
+            close(key.channel());
+        }
+
+        long nanos = exchange.execution.elapsed();
+        byte[] body = exchange.parser.body();
+        listener.bodyComplete(exchange.execution, nanos, body.length);
+        exchange.future.complete(new RawResponse(exchange.parser.head(), body, TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS)));
+    }
+
+    /**
+     * Repeats idempotent {@param exchange} once over new connection, in case reused connection was closed before
+     * response started, otherwise fails it.
+     */
+    private void retryOrFail(Exchange exchange, IOException e) {
+        close(exchange.key.channel());
+
+        if (exchange.reused && !exchange.retried && !exchange.parser.started() && exchange.request.action().idempotent()) {
+            exchange.reset();
+            connect(exchange);
+            return;
+        }
+
+        fail(exchange, new RequestExecutionException(e));
+    }
+
+    private void fail(Exchange exchange, RequestExecutionException e) {
+        if (exchange.future.completeExceptionally(e)) {
+            listener.failed(exchange.execution, exchange.execution.elapsed(), e);
+        }
+    }
+
+    private void expire() {
+        long now = System.nanoTime();
+
+        if (now - readTimeoutsCheckedAt >= TimeUnit.NANOSECONDS.convert(READ_TIMEOUT_CHECK_INTERVAL, TimeUnit.MILLISECONDS)) {
+            readTimeoutsCheckedAt = now;
+            expireReads(now);
+        }
+
+        while (!connecting.isEmpty() && connecting.peek().connectDeadline <= now) {
+            Exchange exchange = connecting.poll();
+
+            if (!exchange.connected && !exchange.future.isDone()) {
+                close(exchange.key.channel());
+                fail(exchange, new RequestExecutionException(new SocketTimeoutException("Connect timed out")));
+            }
+        }
+
+        Iterator<Map.Entry<Route, Deque<SelectionKey>>> entries = idle.entrySet().iterator();
+
+        while (entries.hasNext()) {
+            Deque<SelectionKey> keys = entries.next().getValue();
+
+            // keys are ordered from the most to the least recently used
+            while (!keys.isEmpty() && now - ((Idle) keys.peekLast().attachment()).since > idleTimeout) {
+                close(keys.pollLast().channel());
+            }
+
+            if (keys.isEmpty()) {
+                entries.remove();
+            }
+        }
+    }
+
+    /**
+     * Fails exchanges, that did not read or write for longer than their read timeout.
+     */
+    private void expireReads(long now) {
+        for (SelectionKey key : selector.keys()) {
+            if (!(key.attachment() instanceof Exchange)) {
+                continue;
+            }
+
+            Exchange exchange = (Exchange) key.attachment();
+
+            if (exchange.connected && exchange.readTimeout > 0 && now - exchange.activity > exchange.readTimeout && !exchange.future.isDone()) {
+                close(key.channel());
+                fail(exchange, new RequestExecutionException(new SocketTimeoutException("Read timed out")));
+            }
+        }
+    }
+
+    private long selectTimeout() {
+        if (connecting.isEmpty()) {
+            return MAX_SELECT_TIMEOUT;
+        }
+
+        long remaining = TimeUnit.MILLISECONDS.convert(connecting.peek().connectDeadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        return Math.max(1L, Math.min(remaining, MAX_SELECT_TIMEOUT));
+    }
+
+    private SelectionKey pollIdle(Route route) {
+        Deque<SelectionKey> keys = idle.get(route);
+
+        while (keys != null && !keys.isEmpty()) {
+            SelectionKey key = keys.pollFirst();
+
+            if (key.isValid() && key.channel().isOpen()) {
+                return key;
+            }
+        }
+
+        return null;
+    }
+
+    private int idleCount(Route route) {
+        Deque<SelectionKey> keys = idle.get(route);
+        return keys == null ? 0 : keys.size();
+    }
+
+    private void removeIdle(Idle idle, SelectionKey key) {
+        Deque<SelectionKey> keys = this.idle.get(idle.route);
+
+        if (keys != null) {
+            keys.remove(key);
+        }
+    }
+
+    private void shutdown() {
+        RequestExecutionException closed = new RequestExecutionException("Executor is closed");
+
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Exchange) {
+                fail((Exchange) key.attachment(), closed);
+            }
+
+            close(key.channel());
+        }
+
+        for (Exchange exchange = submitted.poll(); exchange != null; exchange = submitted.poll()) {
+            fail(exchange, closed);
+        }
+
+        close(selector);
+    }
+
+    private static void close(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // resource is discarded either way
+        }
+    }
+
+    private static final class Idle {
+
+        private final Route route;
+        private final long since;
+
+        private Idle(final Route route, final long since) {
+            this.route = route;
+            this.since = since;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.emgen.httpx.http.nio;
+
+import org.emgen.httpx.http.connection.Http1ResponseParser;
+import org.emgen.httpx.http.connection.Route;
+import org.emgen.httpx.http.metrics.Execution;
+import org.emgen.httpx.http.request.Request;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * State of single request - response exchange, that is driven by {@link EventLoop}.
+ *
+ * @since 1.0.0
+ */
+final class Exchange {
+
+    final Execution execution;
+    final Request request;
+    final Route route;
+    final InetSocketAddress address;
+    final ByteBuffer[] output;
+    /**
+     * Positions, that {@link Exchange#output} buffers start at - body buffer does not necessarily start at 0.
+     */
+    private final int[] starts;
+    final int connectTimeout;
+    final long readTimeout;
+    final CompletableFuture<RawResponse> future = new CompletableFuture<>();
+    Http1ResponseParser parser;
+    SelectionKey key;
+    long connectDeadline;
+    /**
+     * {@link System#nanoTime()} of the last read or write - read timeout is counted from it.
+     */
+    long activity;
+    boolean connected;
+    boolean reused;
+    boolean retried;
+
+    /**
+     * @param readTimeout in milliseconds. 0 is interpreted as infinite timeout.
+     */
+    Exchange(final Execution execution, final InetSocketAddress address, final ByteBuffer[] output, final int connectTimeout, final int readTimeout) {
+        this.execution = execution;
+        this.request = execution.request();
+        this.route = execution.route();
+        this.address = address;
+        this.output = output;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = TimeUnit.NANOSECONDS.convert(readTimeout, TimeUnit.MILLISECONDS);
+        this.parser = new Http1ResponseParser(request.action());
+        this.starts = new int[output.length];
+
+        for (int index = 0; index < output.length; index++) {
+            starts[index] = output[index].position();
+        }
+    }
+
+    /**
+     * @return count of request body bytes.
+     */
+    long bodyLength() {
+        return output[output.length - 1].limit() - starts[output.length - 1];
+    }
+
+    boolean written() {
+        for (ByteBuffer buffer : output) {
+            if (buffer.hasRemaining()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Prepares exchange to be repeated over new connection.
+     */
+    void reset() {
+        for (int index = 0; index < output.length; index++) {
+            output[index].position(starts[index]);
+        }
+
+        parser = new Http1ResponseParser(request.action());
+        key = null;
+        connected = false;
+        reused = false;
+        retried = true;
+    }
+}
@@ -0,0 +1,311 @@
+package org.emgen.httpx.http.nio;
+
+import org.emgen.httpx.extensions.InputStreamExtensions;
+import org.emgen.httpx.http.AsyncExecutor;
+import org.emgen.httpx.http.Executor;
+import org.emgen.httpx.http.connection.Connector;
+import org.emgen.httpx.http.connection.ExecutionGuard;
+import org.emgen.httpx.http.connection.Http1Codec;
+import org.emgen.httpx.http.connection.Resolver;
+import org.emgen.httpx.http.connection.ResponseHead;
+import org.emgen.httpx.http.connection.Route;
+import org.emgen.httpx.http.encoding.ContentEncoding;
+import org.emgen.httpx.http.encoding.DecodingInputStream;
+import org.emgen.httpx.http.exceptions.RequestExecutionException;
+import org.emgen.httpx.http.metrics.Execution;
+import org.emgen.httpx.http.metrics.ExecutionListener;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.response.BatchResponse;
+import org.emgen.httpx.http.response.Response;
+import org.emgen.httpx.http.response.StreamingResponse;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Executor}, that executes HTTP/1.1 requests over non - blocking connections, driven by a small number
+ * of selector loops. In - flight requests do not occupy threads, therefore few loops are able to serve large
+ * count of concurrent connections. Idle connections are kept & reused per {@link Route} by each loop.
+ * Executor supports http:// targets only.
+ *
+ * @since 1.0.0
+ */
+public final class NioExecutorService implements Executor, Closeable {
+
+    private final EventLoop[] loops;
+    private final Resolver resolver;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public NioExecutorService() {
+        this(1, 64, 60_000L);
+    }
+
+    public NioExecutorService(final int loops, final int maxIdlePerRoute, final long idleTimeout) {
+        this(loops, maxIdlePerRoute, idleTimeout, ExecutionListener.NONE);
+    }
+
+    /**
+     * @param loops           - count of event loop threads.
+     * @param maxIdlePerRoute - max count of idle connections, that each loop keeps per {@link Route}.
+     * @param idleTimeout     - milliseconds, that connection can stay idle before it is closed.
+     * @param listener        - {@link ExecutionListener}, that receives execution events on event loop threads.
+     */
+    public NioExecutorService(final int loops, final int maxIdlePerRoute, final long idleTimeout, final ExecutionListener listener) {
+        this(loops, maxIdlePerRoute, idleTimeout, listener, Connector.DEFAULT.resolver());
+    }
+
+    /**
+     * @param loops           - count of event loop threads.
+     * @param maxIdlePerRoute - max count of idle connections, that each loop keeps per {@link Route}.
+     * @param idleTimeout     - milliseconds, that connection can stay idle before it is closed.
+     * @param listener        - {@link ExecutionListener}, that receives execution events on event loop threads.
+     * @param resolver        - {@link Resolver}, that resolves target or proxy host on submitting thread. Connection
+     *                        is opened to the first resolved address.
+     */
+    public NioExecutorService(
+            final int loops,
+            final int maxIdlePerRoute,
+            final long idleTimeout,
+            final ExecutionListener listener,
+            final Resolver resolver
+    ) {
+        if (loops < 1) {
+            throw new IllegalArgumentException("Parameter 'loops' has to be positive");
+        }
+
+        Prerequisites.exists(listener, "Execution listener cannot be null");
+        Prerequisites.exists(resolver, "Resolver cannot be null");
+
+        this.resolver = resolver;
+        this.loops = new EventLoop[loops];
+
+        try {
+            for (int n = 0; n < loops; n++) {
+                this.loops[n] = new EventLoop("httpx-nio-" + n, maxIdlePerRoute, idleTimeout, listener);
+            }
+        } catch (IOException e) {
+            close();
+            throw new RequestExecutionException("Event loop could not be started", e);
+        }
+    }
+
+    /**
+     * Executes provided {@param request}, blocking caller thread until response is received.
+     *
+     * @param request to execute.
+     * @return execution {@link Response}.
+     * @throws RequestExecutionException in case request could not be executed.
+     */
+    @Override
+    public Response execute(Request request) {
+        try {
+            return executeAsync(request).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RequestExecutionException(e.getCause());
+        }
+    }
+
+    /**
+     * Submits provided {@param request} to one of event loops. Returned {@link CompletableFuture} is completed
+     * on event loop thread, therefore blocking work should be performed in async stages. Compressed bodies are
+     * decoded on {@link AsyncExecutor#sharedThreads()}, in order not to occupy event loop.
+     *
+     * @param request to execute.
+     * @return {@link CompletableFuture} of execution {@link Response}.
+     */
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        boolean decodes = ContentEncoding.negotiates(request);
+
+        return submit(request).thenCompose(response -> {
+            InputStream body = decodes ? ContentEncoding.decode(new ByteArrayInputStream(response.body), response.head.headers()) : null;
+
+            if (!(body instanceof DecodingInputStream)) {
+                return CompletableFuture.completedFuture(toResponse(response, response.body));
+            }
+
+            return CompletableFuture.supplyAsync(() -> {
+                try (InputStream decoded = body) {
+                    return toResponse(response, InputStreamExtensions.readBytes(decoded));
+                } catch (IOException e) {
+                    throw new RequestExecutionException("Response body could not be decoded", e);
+                }
+            }, AsyncExecutor.sharedThreads());
+        });
+    }
+
+    /**
+     * Submits all {@param requests} to event loops at once & waits for their responses. Requests to the same
+     * route share idle connections of event loop, that they were submitted to.
+     *
+     * @param requests to execute.
+     * @return {@link BatchResponse}s in the same order as {@param requests}.
+     */
+    @Override
+    public List<BatchResponse> executeBatch(List<Request> requests) {
+        Prerequisites.exists(requests, "Requests cannot be null");
+        List<CompletableFuture<Response>> futures = new ArrayList<>(requests.size());
+        List<BatchResponse> responses = new ArrayList<>(requests.size());
+
+        for (Request request : requests) {
+            try {
+                futures.add(executeAsync(request));
+            } catch (RuntimeException e) {
+                CompletableFuture<Response> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                futures.add(failed);
+            }
+        }
+
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                responses.add(BatchResponse.succeeded(requests.get(index), futures.get(index).join()));
+            } catch (CompletionException e) {
+                RuntimeException failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RequestExecutionException(e.getCause());
+                responses.add(BatchResponse.failed(requests.get(index), failure));
+            }
+        }
+
+        return responses;
+    }
+
+    /**
+     * Executes provided {@param request} & streams it's body. Body is read by event loop as a whole before
+     * response is returned, therefore streaming only avoids decoding body to {@link String}. Compressed body is
+     * decoded as it is read, in case compression was negotiated.
+     *
+     * @param request to execute.
+     * @return execution {@link StreamingResponse}.
+     * @throws RequestExecutionException in case request could not be executed.
+     */
+    @Override
+    public StreamingResponse stream(Request request) {
+        try {
+            RawResponse response = submit(request).join();
+            ResponseHead head = response.head;
+            InputStream wire = new ByteArrayInputStream(response.body);
+            InputStream body = ContentEncoding.negotiates(request) ? ContentEncoding.decode(wire, head.headers()) : wire;
+            return new StreamingResponse(head.code(), head.message(), head.headers(), body, () -> {
+            });
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RequestExecutionException(e.getCause());
+        }
+    }
+
+    private static Response toResponse(RawResponse response, byte[] body) {
+        ResponseHead head = response.head;
+        return new Response(head.code(), head.message(), body, head.headers(), response.duration, response.body.length);
+    }
+
+    private CompletableFuture<RawResponse> submit(Request original) {
+        long starts = System.nanoTime();
+        CompletableFuture<RawResponse> failure = new CompletableFuture<>();
+
+        try {
+            Request request = ContentEncoding.compress(original);
+            URL url = request.url();
+            Route route = Route.of(url, request.options().proxySettings());
+
+            if (route.secure()) {
+                throw new RequestExecutionException("NioExecutorService supports http:// targets only");
+            }
+
+            InetSocketAddress address = route.proxied()
+                    ? new InetSocketAddress(resolver.resolve(route.proxyHost()).get(0), route.proxyPort())
+                    : new InetSocketAddress(resolver.resolve(route.host()).get(0), route.port());
+
+            ByteBuffer body = request.sendsBody() ? request.requestBody().buffer() : ByteBuffer.allocate(0);
+            ByteBuffer[] output = {
+                    ByteBuffer.wrap(Http1Codec.encodeHead(request, url, route, body.remaining())),
+                    body
+            };
+            Exchange exchange = new Exchange(new Execution(request, route, starts), address, output, request.options().connectTimeout(), request.options().readTimeout());
+            EventLoop loop = loops[Math.floorMod(next.getAndIncrement(), loops.length)];
+            ExecutionGuard guard = ExecutionGuard.arm(request.options(), starts);
+            guard.onAbort(() -> loop.abort(exchange, guard.failure(null)));
+            exchange.future.whenComplete((ignored, cause) -> guard.close());
+            loop.submit(exchange);
+            return exchange.future;
+        } catch (IOException e) {
+            failure.completeExceptionally(new RequestExecutionException(e));
+            return failure;
+        } catch (RuntimeException e) {
+            failure.completeExceptionally(e);
+            return failure;
+        }
+    }
+
+    /**
+     * Stops event loops. In - flight requests are failed & all connections are closed.
+     */
+    @Override
+    public void close() {
+        for (EventLoop loop : loops) {
+            if (loop != null) {
+                loop.close();
+            }
+        }
+    }
+
+    public static final class Creator {
+
+        private int loops = 1;
+        private int maxIdlePerRoute = 64;
+        private long idleTimeout = 60_000L;
+        private ExecutionListener listener = ExecutionListener.NONE;
+        private Resolver resolver = Connector.DEFAULT.resolver();
+
+        public Creator loops(int loops) {
+            this.loops = loops;
+            return this;
+        }
+
+        public Creator maxIdlePerRoute(int maxIdlePerRoute) {
+            this.maxIdlePerRoute = maxIdlePerRoute;
+            return this;
+        }
+
+        /**
+         * @param idleTimeout - milliseconds, that connection can stay idle before it is closed.
+         * @return instance of {@link Creator}.
+         */
+        public Creator idleTimeout(long idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * @param listener - {@link ExecutionListener}, that receives execution events on event loop threads.
+         * @return instance of {@link Creator}.
+         */
+        public Creator listener(ExecutionListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * @param resolver - {@link Resolver}, that resolves hosts. Resolver of {@link Connector#DEFAULT} is used
+         *                 by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator resolver(Resolver resolver) {
+            this.resolver = resolver;
+            return this;
+        }
+
+        public NioExecutorService create() {
+            return new NioExecutorService(loops, maxIdlePerRoute, idleTimeout, listener, resolver);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.emgen.httpx.http.nio;
+
+import org.emgen.httpx.http.connection.ResponseHead;
+
+/**
+ * Response, that was read by {@link EventLoop}, before it's body is decoded.
+ *
+ * @since 1.0.0
+ */
+final class RawResponse {
+
+    final ResponseHead head;
+    final byte[] body;
+    final long duration;
+
+    RawResponse(final ResponseHead head, final byte[] body, final long duration) {
+        this.head = head;
+        this.body = body;
+        this.duration = duration;
+    }
+}
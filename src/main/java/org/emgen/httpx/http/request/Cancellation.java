@@ -0,0 +1,75 @@
+package org.emgen.httpx.http.request;
+
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Handle, that aborts in - flight executions of requests, which carry it in their {@link RequestOptions}. Once
+ * cancelled, connections of such executions are closed at once, threads, that are blocked on them, are released
+ * & executions fail with {@link org.emgen.httpx.http.exceptions.RequestCancelledException}. Requests, that are
+ * submitted after cancellation, fail without being sent. Single handle might be shared by a group of requests.
+ *
+ * @since 1.0.0
+ */
+public final class Cancellation {
+
+    private final Set<Runnable> listeners = new LinkedHashSet<>();
+    private boolean cancelled;
+
+    /**
+     * Cancels all executions, that use this handle. Subsequent calls have no effect.
+     */
+    public void cancel() {
+        List<Runnable> notified;
+
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+
+            cancelled = true;
+            notified = new ArrayList<>(listeners);
+            listeners.clear();
+        }
+
+        // listeners abort connections, therefore they are run without holding the lock
+        notified.forEach(Runnable::run);
+    }
+
+    public synchronized boolean cancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Registers {@param listener}, that is run once, when handle is cancelled.
+     *
+     * @param listener to run on cancellation.
+     * @return false in case handle is already cancelled - {@param listener} is not registered & not run then.
+     */
+    public synchronized boolean register(Runnable listener) {
+        Prerequisites.exists(listener, "Listener cannot be null");
+
+        if (cancelled) {
+            return false;
+        }
+
+        listeners.add(listener);
+        return true;
+    }
+
+    public synchronized void unregister(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "Cancellation{" +
+                "cancelled=" + cancelled +
+                ", listeners=" + listeners.size() +
+                '}';
+    }
+}
@@ -1,14 +1,31 @@
 package org.emgen.httpx.http.request;
 
 import org.emgen.httpx.extensions.ListExtensions;
+import org.emgen.httpx.extensions.MapExtensions;
 import org.emgen.httpx.extensions.StringExtensions;
-import org.emgen.httpx.http.ExecutorService;
+import org.emgen.httpx.http.Executor;
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.http.QueryParameters;
+import org.emgen.httpx.http.SharedExecutor;
 import org.emgen.httpx.http.exceptions.RequestCreationException;
+import org.emgen.httpx.http.request.body.RequestBody;
+import org.emgen.httpx.http.request.body.StringBody;
 import org.emgen.httpx.http.response.Response;
-
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @since 1.0.0
@@ -17,18 +34,33 @@ public final class Request {
 
     private final String target;
     private final RequestAction action;
-    private final String body;
+    private final RequestBody body;
     private final Map<String, List<String>> parameters;
-    private final Map<String, List<String>> headers;
+    private final Headers headers;
     private final RequestOptions options;
+    private final URL url;
+    private final RequestTemplate template;
 
     private Request(
             final String target,
             final RequestAction action,
-            final String body,
+            final RequestBody body,
             final Map<String, List<String>> parameters,
-            final Map<String, List<String>> headers,
+            final Headers headers,
             final RequestOptions options
+    ) {
+        this(target, action, body, parameters, headers, options, null, null);
+    }
+
+    Request(
+            final String target,
+            final RequestAction action,
+            final RequestBody body,
+            final Map<String, List<String>> parameters,
+            final Headers headers,
+            final RequestOptions options,
+            final URL url,
+            final RequestTemplate template
     ) {
         this.target = target;
         this.action = action;
@@ -36,6 +68,8 @@ public final class Request {
         this.parameters = parameters;
         this.headers = headers;
         this.options = options;
+        this.url = url;
+        this.template = template;
     }
 
     public String target() {
@@ -46,38 +80,122 @@ public final class Request {
         return action;
     }
 
+    /**
+     * @return text of body in case it was set as text, otherwise null. Bodies of any kind are returned by
+     * {@link Request#requestBody()}.
+     */
     public String body() {
+        return body instanceof StringBody ? ((StringBody) body).string() : null;
+    }
+
+    /**
+     * @return {@link RequestBody}, that is sent, or null in case request has no body.
+     */
+    public RequestBody requestBody() {
         return body;
     }
 
+    /**
+     * @return unmodifiable {@link Map} of query parameters, that was frozen, when request was created.
+     */
     public Map<String, List<String>> parameters() {
-        return new HashMap<>(parameters);
+        return parameters;
     }
 
-    public Map<String, List<String>> headers() {
-        return new HashMap<>(headers);
+    /**
+     * @return immutable {@link Headers} of request.
+     */
+    public Headers headers() {
+        return headers;
     }
 
     public RequestOptions options() {
         return options;
     }
 
+    /**
+     * @return {@link RequestTemplate}, that request was bound from or null in case request was created, using
+     * {@link Creator}.
+     */
+    public RequestTemplate template() {
+        return template;
+    }
+
     /**
      * Checks does request sends body during it's execution.
      *
      * @return true in case request contains body and request's {@code RequestAction} supports request body.
      */
     public boolean sendsBody() {
-        return !StringExtensions.isEmpty(body) && action.supportsRequestBody();
+        return body != null && !body.isEmpty() && action.supportsRequestBody();
     }
 
     /**
-     * Executes request.
+     * Creates request's target {@link URL}. Query parameters, that are contained in {@link Request#target}, are
+     * merged with {@link Request#parameters}.
+     *
+     * Requests, that are bound from {@link RequestTemplate}, return {@link URL}, that was created during binding.
+     *
+     * @return request's target {@link URL}, including query string.
+     * @throws RuntimeException in case target {@link URL} is malformed.
+     */
+    public URL url() {
+        if (this.url != null) {
+            return this.url;
+        }
+
+        String url = target;
+
+        if (!MapExtensions.isEmpty(parameters) && target.indexOf('?') == -1) {
+            url = target + QueryParameters.createQueryString(parameters);
+        } else if (!MapExtensions.isEmpty(parameters)) {
+            Map<String, List<String>> params = QueryParameters.mergeQueryParameters(QueryParameters.extractQueryParameters(url), parameters);
+            url = QueryParameters.stripQueryString(url) + QueryParameters.createQueryString(params);
+        }
+
+        try {
+            return new URL(url);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Executes request, using {@link SharedExecutor#get()}.
      *
      * @return execution {@link Response}.
      */
     public Response execute() {
-        return new ExecutorService().execute(this);
+        return execute(SharedExecutor.get());
+    }
+
+    /**
+     * Executes request, using provided {@param executor}.
+     *
+     * @param executor to execute request with.
+     * @return execution {@link Response}.
+     */
+    public Response execute(Executor executor) {
+        return executor.execute(this);
+    }
+
+    /**
+     * Executes request asynchronously, using {@link SharedExecutor#get()}.
+     *
+     * @return {@link CompletableFuture} of execution {@link Response}.
+     */
+    public CompletableFuture<Response> executeAsync() {
+        return executeAsync(SharedExecutor.get());
+    }
+
+    /**
+     * Executes request asynchronously, using provided {@param executor}.
+     *
+     * @param executor to execute request with.
+     * @return {@link CompletableFuture} of execution {@link Response}.
+     */
+    public CompletableFuture<Response> executeAsync(Executor executor) {
+        return executor.executeAsync(this);
     }
 
     @Override
@@ -85,7 +203,7 @@ public final class Request {
         return "Request{" +
                 "target='" + target + '\'' +
                 ", action=" + action +
-                ", body='" + body + '\'' +
+                ", body=" + body +
                 ", parameters=" + parameters +
                 ", headers=" + headers +
                 ", options=" + options +
@@ -96,11 +214,30 @@ public final class Request {
 
         private String target;
         private RequestAction action;
-        private String body;
+        private RequestBody body;
         private Map<String, List<String>> parameters = new HashMap<>();
-        private Map<String, List<String>> headers = new HashMap<>();
+        private Headers.Creator headers = new Headers.Creator();
         private RequestOptions options = new RequestOptions.Creator().create();
 
+        public Creator() {
+        }
+
+        /**
+         * Creates {@link Creator}, that is initialized with copy of {@param request}. Parameter & header maps are
+         * copied, therefore modifying creator does not affect {@param request}.
+         *
+         * @param request to copy.
+         */
+        public Creator(Request request) {
+            Prerequisites.exists(request, "Request cannot be null");
+            this.target = request.target;
+            this.action = request.action;
+            this.body = request.body;
+            this.parameters = copy(request.parameters);
+            this.headers = new Headers.Creator(request.headers);
+            this.options = request.options;
+        }
+
         public Creator target(String target) {
             this.target = target;
             return this;
@@ -112,6 +249,67 @@ public final class Request {
         }
 
         public Creator body(String body) {
+            this.body = body == null ? null : RequestBody.of(body);
+            return this;
+        }
+
+        /**
+         * Sets file at provided {@param path} as request body. File's content is streamed, when request is executed.
+         *
+         * @param path of file to send.
+         * @return instance of {@link Creator}.
+         */
+        public Creator body(Path path) {
+            this.body = path == null ? null : RequestBody.of(path);
+            return this;
+        }
+
+        /**
+         * Sets content of {@param channel} from it's current position as request body. Content is streamed, when
+         * request is executed. Channel is not closed & has to stay open, until request is executed.
+         *
+         * @param channel - {@link FileChannel} to send.
+         * @return instance of {@link Creator}.
+         * @throws RequestCreationException in case position of {@param channel} could not be read.
+         */
+        public Creator body(FileChannel channel) {
+            try {
+                this.body = channel == null ? null : RequestBody.of(channel);
+            } catch (IOException e) {
+                throw new RequestCreationException("Request could not be created - position of body file channel could not be read", e);
+            }
+
+            return this;
+        }
+
+        public Creator body(byte[] body) {
+            this.body = body == null ? null : RequestBody.of(body);
+            return this;
+        }
+
+        public Creator body(ByteBuffer body) {
+            this.body = body == null ? null : RequestBody.of(body);
+            return this;
+        }
+
+        /**
+         * Sets content of {@param body} stream as request body. Stream is read, when request is executed & is sent,
+         * using chunked transfer encoding, since it's length is not known in advance.
+         *
+         * @param body - stream to send.
+         * @return instance of {@link Creator}.
+         */
+        public Creator body(InputStream body) {
+            this.body = body == null ? null : RequestBody.of(body);
+            return this;
+        }
+
+        /**
+         * @param body - {@link RequestBody} to send or null to remove body. Since function is overloaded, null
+         *             literal has to be cast, e.g. {@code body((RequestBody) null)}.
+         * @return instance of {@link Creator}.
+         */
+        public Creator body(RequestBody body) {
             this.body = body;
             return this;
         }
@@ -143,8 +341,14 @@ public final class Request {
             return this;
         }
 
+        /**
+         * Replaces header's map with {@param headers}.
+         *
+         * @param headers to set. Headers are copied, therefore later changes of {@param headers} do not affect creator.
+         * @return instance of {@link Creator}.
+         */
         public Creator headers(Map<String, List<String>> headers) {
-            this.headers = headers;
+            this.headers = headers == null ? null : new Headers.Creator().putAll(headers);
             return this;
         }
 
@@ -158,10 +362,10 @@ public final class Request {
          */
         public Creator header(String name, String value) {
             if (headers == null) {
-                headers = new HashMap<>();
+                headers = new Headers.Creator();
             }
 
-            insertToMap(headers, name, value);
+            headers.add(name, value);
             return this;
         }
 
@@ -195,7 +399,40 @@ public final class Request {
                 throw new RequestCreationException("Request could not be created - parameter 'action' cannot be null");
             }
 
-            return new Request(target, action, body, parameters, headers, options);
+            return new Request(target, action, body, freeze(parameters), headers == null ? Headers.EMPTY : headers.create(), options);
+        }
+
+        /**
+         * Compiles {@link RequestTemplate} from creator's current state. Later changes of creator do not affect
+         * compiled template.
+         *
+         * @param slots - names of values, that are bound per request. Slot, that has a matching '{name}'
+         *              placeholder in target's path, is a path variable, other slots are query parameters.
+         * @return compiled {@link RequestTemplate}.
+         * @throws RequestCreationException in case request could not be created or template could not be compiled.
+         */
+        public RequestTemplate template(String... slots) {
+            return RequestTemplate.compile(create(), slots);
+        }
+
+        private static Map<String, List<String>> copy(Map<String, List<String>> map) {
+            Map<String, List<String>> copy = new HashMap<>();
+
+            if (map != null) {
+                map.forEach((key, values) -> copy.put(key, values == null ? null : new ArrayList<>(values)));
+            }
+
+            return copy;
+        }
+
+        private static Map<String, List<String>> freeze(Map<String, List<String>> map) {
+            if (MapExtensions.isEmpty(map)) {
+                return Collections.emptyMap();
+            }
+
+            Map<String, List<String>> frozen = new LinkedHashMap<>();
+            map.forEach((key, values) -> frozen.put(key, values == null ? null : Collections.unmodifiableList(new ArrayList<>(values))));
+            return Collections.unmodifiableMap(frozen);
         }
 
         private void insertToMap(Map<String, List<String>> map, String key, String value) {
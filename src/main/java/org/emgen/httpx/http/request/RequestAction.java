@@ -5,22 +5,24 @@ package org.emgen.httpx.http.request;
  */
 public enum RequestAction {
 
-    GET(false, true),
-    HEAD(false, false),
-    POST(true, true),
-    PUT(true, true),
-    DELETE(true, true),
-    CONNECT(false, true),
-    OPTIONS(false, true),
-    TRACE(false, false),
-    PATCH(true, true);
+    GET(false, true, true),
+    HEAD(false, false, true),
+    POST(true, true, false),
+    PUT(true, true, true),
+    DELETE(true, true, true),
+    CONNECT(false, true, false),
+    OPTIONS(false, true, true),
+    TRACE(false, false, true),
+    PATCH(true, true, false);
 
     private boolean supportsRequestBody;
     private boolean supportsResponseBody;
+    private boolean idempotent;
 
-    RequestAction(boolean supportsRequestBody, boolean supportsResponseBody) {
+    RequestAction(boolean supportsRequestBody, boolean supportsResponseBody, boolean idempotent) {
         this.supportsRequestBody = supportsRequestBody;
         this.supportsResponseBody = supportsResponseBody;
+        this.idempotent = idempotent;
     }
 
     public boolean supportsRequestBody() {
@@ -30,4 +32,12 @@ public enum RequestAction {
     public boolean supportsResponseBody() {
         return supportsResponseBody;
     }
+
+    /**
+     * @return true in case repeating request has the same effect on server as sending it once (RFC 7231, section
+     * 4.2.2), therefore request might be retried after failure.
+     */
+    public boolean idempotent() {
+        return idempotent;
+    }
 }
@@ -1,41 +1,237 @@
 package org.emgen.httpx.http.request;
 
+import org.emgen.httpx.http.retry.RetryPolicy;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
 /**
  * @since 1.0.0
  */
 public final class RequestOptions {
 
+    /**
+     * Read timeout in milliseconds, that is used, unless it is set explicitly.
+     */
+    public static final int DEFAULT_READ_TIMEOUT = 30_000;
+
     private final int timeout;
+    private final int readTimeout;
+    private final long deadline;
+    private final Cancellation cancellation;
     private final ProxySettings proxySettings;
+    private final boolean compression;
+    private final long compressionThreshold;
+    private final RetryPolicy retryPolicy;
 
     public RequestOptions(final int timeout, final ProxySettings proxySettings) {
+        this(timeout, proxySettings, true, -1L);
+    }
+
+    public RequestOptions(final int timeout, final ProxySettings proxySettings, final boolean compression, final long compressionThreshold) {
+        this(timeout, proxySettings, compression, compressionThreshold, RetryPolicy.NONE);
+    }
+
+    public RequestOptions(
+            final int timeout,
+            final ProxySettings proxySettings,
+            final boolean compression,
+            final long compressionThreshold,
+            final RetryPolicy retryPolicy
+    ) {
+        this(timeout, DEFAULT_READ_TIMEOUT, 0L, null, proxySettings, compression, compressionThreshold, retryPolicy);
+    }
+
+    /**
+     * @param timeout              - connect timeout in milliseconds. 0 is interpreted as infinite timeout.
+     * @param readTimeout          - max time in milliseconds, that is waited for response data to arrive. 0 is
+     *                             interpreted as infinite timeout.
+     * @param deadline             - max time in milliseconds, that execution might take as a whole - from the
+     *                             moment request is submitted till response body is read. 0 stands for no deadline.
+     * @param cancellation         - {@link Cancellation}, that aborts executions of requests with these options.
+     *                             Might be null.
+     * @param proxySettings        - proxy, that is used to reach target. Might be null.
+     * @param compression          - true in case compressed responses are negotiated & decoded transparently.
+     * @param compressionThreshold - min length in bytes of request body, that is compressed, using gzip, or -1 in
+     *                             case request bodies are never compressed.
+     * @param retryPolicy          - {@link RetryPolicy}, that request is repeated & hedged by, when it is executed,
+     *                             using {@link org.emgen.httpx.http.retry.RetryingExecutor}.
+     */
+    public RequestOptions(
+            final int timeout,
+            final int readTimeout,
+            final long deadline,
+            final Cancellation cancellation,
+            final ProxySettings proxySettings,
+            final boolean compression,
+            final long compressionThreshold,
+            final RetryPolicy retryPolicy
+    ) {
+        if (timeout < 0 || readTimeout < 0 || deadline < 0) {
+            throw new IllegalArgumentException("Parameters 'timeout', 'readTimeout' & 'deadline' cannot be negative");
+        }
+
         this.timeout = timeout;
+        this.readTimeout = readTimeout;
+        this.deadline = deadline;
+        this.cancellation = cancellation;
         this.proxySettings = proxySettings;
+        this.compression = compression;
+        this.compressionThreshold = compressionThreshold;
+        this.retryPolicy = retryPolicy == null ? RetryPolicy.NONE : retryPolicy;
     }
 
+    /**
+     * @return connect timeout in milliseconds.
+     * @deprecated use {@link RequestOptions#connectTimeout()}.
+     */
+    @Deprecated
     public int timeout() {
         return timeout;
     }
 
+    /**
+     * @return max time in milliseconds, that is waited for connection to be established or leased from pool.
+     * 0 is interpreted as infinite timeout.
+     */
+    public int connectTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @return max time in milliseconds, that is waited for response data to arrive. 0 is interpreted as infinite
+     * timeout.
+     */
+    public int readTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * @return max time in milliseconds, that execution might take as a whole, or 0 in case there is no deadline.
+     * Once deadline passes, connection is aborted & execution fails with {@link java.net.SocketTimeoutException}.
+     */
+    public long deadline() {
+        return deadline;
+    }
+
+    /**
+     * @return {@link Cancellation}, that aborts executions of requests with these options, or null.
+     */
+    public Cancellation cancellation() {
+        return cancellation;
+    }
+
     public ProxySettings proxySettings() {
         return proxySettings;
     }
 
+    /**
+     * @return true in case 'Accept-Encoding: gzip, deflate' is sent, unless request sets 'Accept-Encoding' itself,
+     * & compressed response bodies are decoded transparently.
+     */
+    public boolean compression() {
+        return compression;
+    }
+
+    /**
+     * @return min length in bytes of request body, that is compressed, using gzip, or -1 in case request bodies
+     * are never compressed. Bodies of unknown length are not compressed.
+     */
+    public long compressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * @return {@link RetryPolicy}, that request is repeated & hedged by - {@link RetryPolicy#NONE} by default.
+     */
+    public RetryPolicy retryPolicy() {
+        return retryPolicy;
+    }
+
     @Override
     public String toString() {
         return "RequestOptions{" +
                 "timeout=" + timeout +
+                ", readTimeout=" + readTimeout +
+                ", deadline=" + deadline +
+                ", cancellation=" + cancellation +
                 ", proxySettings=" + proxySettings +
+                ", compression=" + compression +
+                ", compressionThreshold=" + compressionThreshold +
+                ", retryPolicy=" + retryPolicy +
                 '}';
     }
 
     public final static class Creator {
 
         private int timeout = 5000;
+        private int readTimeout = DEFAULT_READ_TIMEOUT;
+        private long deadline;
+        private Cancellation cancellation;
         private ProxySettings proxySettings;
+        private boolean compression = true;
+        private long compressionThreshold = -1L;
+        private RetryPolicy retryPolicy = RetryPolicy.NONE;
 
+        public Creator() {
+        }
+
+        /**
+         * Creates {@link Creator}, that is initialized with values of {@param options}.
+         *
+         * @param options to copy.
+         */
+        public Creator(RequestOptions options) {
+            Prerequisites.exists(options, "Request options cannot be null");
+            this.timeout = options.timeout;
+            this.readTimeout = options.readTimeout;
+            this.deadline = options.deadline;
+            this.cancellation = options.cancellation;
+            this.proxySettings = options.proxySettings;
+            this.compression = options.compression;
+            this.compressionThreshold = options.compressionThreshold;
+            this.retryPolicy = options.retryPolicy;
+        }
+
+        /**
+         * @param timeout - connect timeout in milliseconds.
+         * @return instance of {@link Creator}.
+         * @deprecated use {@link Creator#connectTimeout(int)}.
+         */
+        @Deprecated
         public Creator timeout(final int timeout) {
-            this.timeout = timeout;
+            return connectTimeout(timeout);
+        }
+
+        /**
+         * @param connectTimeout in milliseconds. 0 is interpreted as infinite timeout.
+         * @return instance of {@link Creator}.
+         */
+        public Creator connectTimeout(final int connectTimeout) {
+            this.timeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * @param readTimeout - max time in milliseconds, that is waited for response data to arrive. 0 is
+         *                    interpreted as infinite timeout.
+         * @return instance of {@link Creator}.
+         */
+        public Creator readTimeout(final int readTimeout) {
+            this.readTimeout = readTimeout;
+            return this;
+        }
+
+        /**
+         * @param deadline - max time in milliseconds, that execution might take as a whole. 0 stands for no
+         *                 deadline.
+         * @return instance of {@link Creator}.
+         */
+        public Creator deadline(final long deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
+        public Creator cancellation(Cancellation cancellation) {
+            this.cancellation = cancellation;
             return this;
         }
 
@@ -44,8 +240,28 @@ public final class RequestOptions {
             return this;
         }
 
+        public Creator compression(final boolean compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        /**
+         * @param compressionThreshold - min length in bytes of request body, that is compressed, using gzip,
+         *                             or -1 in case request bodies are never compressed.
+         * @return instance of {@link Creator}.
+         */
+        public Creator compressionThreshold(final long compressionThreshold) {
+            this.compressionThreshold = compressionThreshold;
+            return this;
+        }
+
+        public Creator retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
         public RequestOptions create() {
-            return new RequestOptions(timeout, proxySettings);
+            return new RequestOptions(timeout, readTimeout, deadline, cancellation, proxySettings, compression, compressionThreshold, retryPolicy);
         }
     }
 }
@@ -0,0 +1,249 @@
+package org.emgen.httpx.http.request;
+
+import org.emgen.httpx.extensions.MapExtensions;
+import org.emgen.httpx.extensions.URLEncodingExtensions;
+import org.emgen.httpx.http.QueryParameters;
+import org.emgen.httpx.http.connection.Http1Codec;
+import org.emgen.httpx.http.exceptions.ArgumentExistenceException;
+import org.emgen.httpx.http.exceptions.RequestCreationException;
+import org.emgen.httpx.http.request.body.RequestBody;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled shape of {@link Request}, that is executed many times with few changing values.
+ * Target, static query parameters & headers are parsed, merged & encoded once, when template is compiled.
+ * Changing values are declared as slots - slot, that has a matching '{name}' placeholder in target's path, is
+ * a path variable, any other slot is a query parameter, that is appended after static ones. Binding values to
+ * slots only encodes them - target is not parsed again & header lines are not encoded again.
+ * <p>
+ * Template is immutable & thread - safe. Requests, that are bound from it, share it's headers & body.
+ *
+ * @since 1.0.0
+ */
+public final class RequestTemplate {
+
+    private final Request prototype;
+    private final String[] slots;
+    private final String[] literals;
+    private final int[] pathSlots;
+    private final String query;
+    private final String[] querySlots;
+    private final int[] querySlotIndexes;
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final boolean parsesURL;
+    private final String headerLines;
+    private final int capacity;
+
+    private RequestTemplate(final Request prototype, final String[] slots) {
+        this.prototype = prototype;
+        this.slots = slots;
+
+        String target = prototype.target();
+        int queryIndex = target.indexOf('?');
+        String path = queryIndex == -1 ? target : target.substring(0, queryIndex);
+        int pathIndex = path.indexOf('/', path.indexOf("://") + 3);
+        List<String> literals = new ArrayList<>();
+        List<Integer> pathSlots = new ArrayList<>();
+        List<Integer> querySlots = new ArrayList<>();
+        int start = 0;
+
+        for (int index = 0; index < slots.length; index++) {
+            Prerequisites.exists(slots[index], "Template slot name cannot be null");
+        }
+
+        for (int open = path.indexOf('{'); open != -1; open = path.indexOf('{', open + 1)) {
+            int close = path.indexOf('}', open);
+            int slot = close == -1 ? -1 : Arrays.asList(slots).indexOf(path.substring(open + 1, close));
+
+            // placeholders, that are not declared as slots, are left in target as is
+            if (slot == -1) {
+                continue;
+            }
+
+            if (pathIndex == -1 || open < pathIndex) {
+                throw new RequestCreationException("Template could not be compiled - slot '" + slots[slot] + "' cannot be placed in target's authority");
+            }
+
+            literals.add(path.substring(start, open));
+            pathSlots.add(slot);
+            start = close + 1;
+        }
+
+        literals.add(path.substring(start));
+
+        for (int index = 0; index < slots.length; index++) {
+            if (!pathSlots.contains(index)) {
+                querySlots.add(index);
+            }
+        }
+
+        this.literals = literals.toArray(new String[0]);
+        this.pathSlots = pathSlots.stream().mapToInt(Integer::intValue).toArray();
+        this.querySlotIndexes = querySlots.stream().mapToInt(Integer::intValue).toArray();
+        this.query = query(prototype, target, queryIndex);
+        this.querySlots = new String[querySlotIndexes.length];
+
+        for (int index = 0; index < querySlotIndexes.length; index++) {
+            String delimiter = index == 0 && query.isEmpty() ? QueryParameters.QUERY_STRING_PREFIX : QueryParameters.QUERY_PARAMETERS_DELIMITER;
+            this.querySlots[index] = delimiter + URLEncodingExtensions.encode(slots[querySlotIndexes[index]]) + "=";
+        }
+
+        URL base = parse(String.join("", this.literals) + query);
+        this.protocol = base.getProtocol();
+        this.host = base.getHost();
+        this.port = base.getPort();
+        // URL(protocol, host, port, file) drops user info & fragment, therefore such targets are parsed as a whole
+        this.parsesURL = base.getUserInfo() != null || base.getRef() != null;
+
+        this.headerLines = Http1Codec.encodeHeaders(prototype.headers());
+        this.capacity = target.length() + query.length() + 16 * slots.length;
+    }
+
+    /**
+     * Compiles {@param prototype} to {@link RequestTemplate}.
+     *
+     * @param prototype - {@link Request}, that describes target, action, static parameters, headers, body & options.
+     * @param slots     - names of values, that are bound per request.
+     * @return compiled {@link RequestTemplate}.
+     * @throws RequestCreationException in case path variable is placed in target's authority or target is malformed.
+     */
+    static RequestTemplate compile(Request prototype, String... slots) {
+        Prerequisites.exists(prototype, "Template prototype cannot be null");
+        return new RequestTemplate(prototype, slots == null ? new String[0] : slots.clone());
+    }
+
+    public List<String> slots() {
+        return Collections.unmodifiableList(Arrays.asList(slots));
+    }
+
+    public RequestAction action() {
+        return prototype.action();
+    }
+
+    public RequestOptions options() {
+        return prototype.options();
+    }
+
+    /**
+     * @return header lines of HTTP/1.1 request head, that are encoded from template's headers once. Message
+     * framing headers are excluded. Each line is terminated with CRLF.
+     */
+    public String headerLines() {
+        return headerLines;
+    }
+
+    /**
+     * Binds {@param values} to template's slots.
+     *
+     * @param values - values of slots in order they were declared. Query parameter values can be null.
+     * @return bound {@link Request}, that sends template's body.
+     * @throws RequestCreationException  in case count of {@param values} does not match count of slots.
+     * @throws ArgumentExistenceException in case value of path variable is null.
+     */
+    public Request bind(String... values) {
+        return bind(prototype.requestBody(), values);
+    }
+
+    /**
+     * Binds {@param values} to template's slots.
+     *
+     * @param body   to send instead of template's body.
+     * @param values - values of slots in order they were declared. Query parameter values can be null.
+     * @return bound {@link Request}.
+     * @throws RequestCreationException  in case count of {@param values} does not match count of slots.
+     * @throws ArgumentExistenceException in case value of path variable is null.
+     */
+    public Request bind(RequestBody body, String... values) {
+        int count = values == null ? 0 : values.length;
+
+        if (count != slots.length) {
+            throw new RequestCreationException("Request could not be created - template expects " + slots.length + " values, but " + count + " were provided");
+        }
+
+        StringBuilder url = new StringBuilder(capacity).append(literals[0]);
+
+        for (int index = 0; index < pathSlots.length; index++) {
+            String value = values[pathSlots[index]];
+            Prerequisites.exists(value, "Value of template slot '" + slots[pathSlots[index]] + "' cannot be null");
+            appendPathSegment(url, value);
+            url.append(literals[index + 1]);
+        }
+
+        url.append(query);
+
+        for (int index = 0; index < querySlots.length; index++) {
+            String value = values[querySlotIndexes[index]];
+            url.append(querySlots[index]);
+
+            if (value != null) {
+                URLEncodingExtensions.encode(value, url);
+            }
+        }
+
+        String target = url.toString();
+        return new Request(target, prototype.action(), body, Collections.emptyMap(), prototype.headers(), prototype.options(), url(target), this);
+    }
+
+    private URL url(String target) {
+        if (parsesURL) {
+            return parse(target);
+        }
+
+        int file = target.indexOf('/', target.indexOf("://") + 3);
+
+        try {
+            return new URL(protocol, host, port, file == -1 ? "" : target.substring(file));
+        } catch (MalformedURLException e) {
+            throw new RequestCreationException("Request could not be created - target '" + target + "' is malformed", e);
+        }
+    }
+
+    private static URL parse(String target) {
+        try {
+            return new URL(target);
+        } catch (MalformedURLException e) {
+            throw new RequestCreationException("Request could not be created - target '" + target + "' is malformed", e);
+        }
+    }
+
+    private static String query(Request prototype, String target, int queryIndex) {
+        Map<String, List<String>> parameters = prototype.parameters();
+
+        if (MapExtensions.isEmpty(parameters)) {
+            return queryIndex == -1 ? "" : target.substring(queryIndex);
+        }
+
+        Map<String, List<String>> merged = QueryParameters.mergeQueryParameters(QueryParameters.extractQueryParameters(target), parameters);
+        return QueryParameters.createQueryString(merged);
+    }
+
+    private static void appendPathSegment(StringBuilder url, String value) {
+        int start = url.length();
+        URLEncodingExtensions.encode(value, url);
+
+        // form encoding escapes '+' itself, therefore any remaining '+' stands for space
+        for (int index = start; index < url.length(); index++) {
+            if (url.charAt(index) == '+') {
+                url.replace(index, index + 1, "%20");
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RequestTemplate{" +
+                "prototype=" + prototype +
+                ", slots=" + Arrays.toString(slots) +
+                '}';
+    }
+}
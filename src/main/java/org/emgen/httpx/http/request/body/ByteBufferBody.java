@@ -0,0 +1,71 @@
+package org.emgen.httpx.http.request.body;
+
+import org.emgen.httpx.http.buffer.BufferPool;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link RequestBody}, that sends remaining bytes of {@link ByteBuffer} - either heap or direct one.
+ * Buffer's position & limit are never modified, buffer's content is not copied, therefore it must not be
+ * modified until request is executed.
+ *
+ * @since 1.0.0
+ */
+public final class ByteBufferBody implements RequestBody {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private final ByteBuffer buffer;
+
+    public ByteBufferBody(final ByteBuffer buffer) {
+        Prerequisites.exists(buffer, "Body buffer cannot be null");
+        this.buffer = buffer.asReadOnlyBuffer();
+    }
+
+    @Override
+    public long length() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !buffer.hasRemaining();
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        ByteBuffer source = buffer.duplicate();
+        if (source.hasArray()) {
+            output.write(source.array(), source.arrayOffset() + source.position(), source.remaining());
+            return;
+        }
+
+        BufferPool pool = BufferPool.shared();
+        byte[] chunk = pool.array(Math.min(CHUNK_SIZE, source.remaining()));
+
+        try {
+            while (source.hasRemaining()) {
+                int length = Math.min(chunk.length, source.remaining());
+                source.get(chunk, 0, length);
+                output.write(chunk, 0, length);
+            }
+        } finally {
+            pool.release(chunk);
+        }
+    }
+
+    @Override
+    public ByteBuffer buffer() {
+        return buffer.duplicate();
+    }
+
+    @Override
+    public String toString() {
+        return "ByteBufferBody{" +
+                "length=" + buffer.remaining() +
+                '}';
+    }
+}
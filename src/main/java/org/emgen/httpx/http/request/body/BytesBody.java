@@ -0,0 +1,50 @@
+package org.emgen.httpx.http.request.body;
+
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link RequestBody}, that sends byte array as is. Array is not copied, therefore it must not be modified
+ * until request is executed.
+ *
+ * @since 1.0.0
+ */
+public final class BytesBody implements RequestBody {
+
+    private final byte[] bytes;
+
+    public BytesBody(final byte[] bytes) {
+        Prerequisites.exists(bytes, "Body bytes cannot be null");
+        this.bytes = bytes;
+    }
+
+    @Override
+    public long length() {
+        return bytes.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return bytes.length == 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        output.write(bytes);
+    }
+
+    @Override
+    public ByteBuffer buffer() {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    @Override
+    public String toString() {
+        return "BytesBody{" +
+                "length=" + bytes.length +
+                '}';
+    }
+}
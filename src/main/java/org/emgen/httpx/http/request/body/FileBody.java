@@ -0,0 +1,90 @@
+package org.emgen.httpx.http.request.body;
+
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link RequestBody}, that sends file's content. Content is transferred from file channel directly to connection
+ * stream or is memory - mapped for non - blocking connections, therefore it never passes through heap as a whole.
+ *
+ * @since 1.0.0
+ */
+public final class FileBody implements RequestBody {
+
+    private final Path path;
+
+    public FileBody(final Path path) {
+        Prerequisites.exists(path, "Body file path cannot be null");
+        this.path = path;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public long length() throws IOException {
+        return Files.size(path);
+    }
+
+    /**
+     * @return false - file is sent even in case it is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    /**
+     * @throws IOException in case file could not be read or was truncated, while it was written.
+     */
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(output);
+            long size = channel.size();
+
+            for (long position = 0; position < size; ) {
+                long count = channel.transferTo(position, size - position, target);
+
+                // nothing is transferred past the end of file, therefore truncated file would be retried forever
+                if (count == 0 && position >= channel.size()) {
+                    throw new IOException("File " + path + " was truncated");
+                }
+
+                position += count;
+            }
+        }
+    }
+
+    /**
+     * @return memory - mapped, read - only file content.
+     * @throws IOException in case file could not be mapped or is larger than 2 GB.
+     */
+    @Override
+    public ByteBuffer buffer() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File " + path + " is too large to be mapped");
+            }
+
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FileBody{" +
+                "path=" + path +
+                '}';
+    }
+}
@@ -0,0 +1,93 @@
+package org.emgen.httpx.http.request.body;
+
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * {@link RequestBody}, that sends content of open {@link FileChannel} from it's position at the time body was
+ * created up to the end of file. Content is transferred, using positional reads, therefore channel's position is
+ * never changed & body can be written more than once. Channel is owned by caller - it is not closed by body.
+ *
+ * @since 1.0.0
+ */
+public final class FileChannelBody implements RequestBody {
+
+    private final FileChannel channel;
+    private final long position;
+
+    /**
+     * @param channel - {@link FileChannel}, that is open for reading.
+     * @throws IOException in case position of {@param channel} could not be read.
+     */
+    public FileChannelBody(final FileChannel channel) throws IOException {
+        Prerequisites.exists(channel, "Body file channel cannot be null");
+        this.channel = channel;
+        this.position = channel.position();
+    }
+
+    public FileChannel channel() {
+        return channel;
+    }
+
+    @Override
+    public long length() throws IOException {
+        return Math.max(channel.size() - position, 0L);
+    }
+
+    /**
+     * @return false - file is sent even in case it is empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    /**
+     * @throws IOException in case channel could not be read or file was truncated, while it was written.
+     */
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        WritableByteChannel target = Channels.newChannel(output);
+        long size = channel.size();
+
+        for (long current = position; current < size; ) {
+            long count = channel.transferTo(current, size - current, target);
+
+            // nothing is transferred past the end of file, therefore truncated file would be retried forever
+            if (count == 0 && current >= channel.size()) {
+                throw new IOException("File was truncated");
+            }
+
+            current += count;
+        }
+    }
+
+    /**
+     * @return memory - mapped, read - only content of channel.
+     * @throws IOException in case content could not be mapped or is larger than 2 GB.
+     */
+    @Override
+    public ByteBuffer buffer() throws IOException {
+        long length = length();
+
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("File channel content is too large to be mapped");
+        }
+
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    @Override
+    public String toString() {
+        return "FileChannelBody{" +
+                "channel=" + channel +
+                ", position=" + position +
+                '}';
+    }
+}
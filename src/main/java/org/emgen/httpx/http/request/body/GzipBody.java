@@ -0,0 +1,78 @@
+package org.emgen.httpx.http.request.body;
+
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link RequestBody}, that compresses another body, using gzip, as it is written. Compressed length is not known
+ * in advance, therefore over blocking connections body is sent, using chunked transfer encoding.
+ *
+ * @since 1.0.0
+ */
+public final class GzipBody implements RequestBody {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final RequestBody body;
+
+    public GzipBody(final RequestBody body) {
+        Prerequisites.exists(body, "Compressed body cannot be null");
+        this.body = body;
+    }
+
+    /**
+     * @return -1 - compressed length is unknown.
+     */
+    @Override
+    public long length() {
+        return -1L;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return body.isEmpty();
+    }
+
+    @Override
+    public boolean replayable() {
+        return body.replayable();
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        // compressed stream is closed to end it's deflater, but connection's stream must stay open
+        GZIPOutputStream gzip = new GZIPOutputStream(new FilterOutputStream(output) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                out.flush();
+            }
+        }, BUFFER_SIZE);
+        body.writeTo(gzip);
+        gzip.close();
+    }
+
+    @Override
+    public ByteBuffer buffer() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writeTo(output);
+        return ByteBuffer.wrap(output.toByteArray());
+    }
+
+    @Override
+    public String toString() {
+        return "GzipBody{" +
+                "body=" + body +
+                '}';
+    }
+}
@@ -0,0 +1,99 @@
+package org.emgen.httpx.http.request.body;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/**
+ * Content, that is sent as a request body.
+ *
+ * @since 1.0.0
+ */
+public interface RequestBody {
+
+    /**
+     * @return body length in bytes or -1 in case length is not known until body is written.
+     * @throws IOException in case length could not be determined.
+     */
+    long length() throws IOException;
+
+    /**
+     * @return true in case body has no content to send.
+     */
+    boolean isEmpty();
+
+    /**
+     * @return true in case body can be written more than once - e.g. when request is repeated over another
+     * connection.
+     */
+    default boolean replayable() {
+        return true;
+    }
+
+    /**
+     * Writes body to {@param output}. Replayable body might be written more than once.
+     *
+     * @param output to write body to.
+     * @throws IOException in case body could not be written.
+     */
+    void writeTo(OutputStream output) throws IOException;
+
+    /**
+     * @return body content as a buffer, that is written to non - blocking connections. Every call returns
+     * buffer, that is positioned at the beginning of body.
+     * @throws IOException in case body could not be read.
+     */
+    ByteBuffer buffer() throws IOException;
+
+    /**
+     * @param string to send, using UTF-8 character encoding.
+     * @return {@link RequestBody} of provided {@param string}.
+     */
+    static RequestBody of(String string) {
+        return new StringBody(string);
+    }
+
+    /**
+     * @param path of file to send.
+     * @return {@link RequestBody}, that streams file's content directly from file system.
+     */
+    static RequestBody of(Path path) {
+        return new FileBody(path);
+    }
+
+    /**
+     * @param channel - {@link FileChannel}, which content is sent from it's current position. Channel is not closed.
+     * @return {@link RequestBody}, that streams channel's content directly from file system.
+     * @throws IOException in case position of {@param channel} could not be read.
+     */
+    static RequestBody of(FileChannel channel) throws IOException {
+        return new FileChannelBody(channel);
+    }
+
+    /**
+     * @param bytes to send. Array is not copied.
+     * @return {@link RequestBody} of provided {@param bytes}.
+     */
+    static RequestBody of(byte[] bytes) {
+        return new BytesBody(bytes);
+    }
+
+    /**
+     * @param buffer - remaining bytes of buffer to send. Buffer is not copied.
+     * @return {@link RequestBody} of provided {@param buffer}.
+     */
+    static RequestBody of(ByteBuffer buffer) {
+        return new ByteBufferBody(buffer);
+    }
+
+    /**
+     * @param stream to send. Stream is read & closed, when request is executed.
+     * @return {@link RequestBody} of unknown length, that is sent, using chunked transfer encoding.
+     */
+    static RequestBody of(InputStream stream) {
+        return new StreamBody(stream);
+    }
+}
@@ -0,0 +1,84 @@
+package org.emgen.httpx.http.request.body;
+
+import org.emgen.httpx.extensions.InputStreamExtensions;
+import org.emgen.httpx.http.buffer.BufferPool;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link RequestBody}, that sends content of {@link InputStream}, which length is not known in advance.
+ * Over blocking connections body is sent, using chunked transfer encoding, as it is read from the stream.
+ * Stream can be read only once, therefore request, that contains such body, cannot be repeated.
+ *
+ * @since 1.0.0
+ */
+public final class StreamBody implements RequestBody {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private final InputStream stream;
+
+    public StreamBody(final InputStream stream) {
+        Prerequisites.exists(stream, "Body stream cannot be null");
+        this.stream = stream;
+    }
+
+    /**
+     * @return -1 - length is unknown.
+     */
+    @Override
+    public long length() {
+        return -1L;
+    }
+
+    /**
+     * @return false - stream is sent even in case it turns out to be empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public boolean replayable() {
+        return false;
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        BufferPool pool = BufferPool.shared();
+        byte[] chunk = pool.array(CHUNK_SIZE);
+
+        try (InputStream input = stream) {
+            for (int length = input.read(chunk); length != -1; length = input.read(chunk)) {
+                output.write(chunk, 0, length);
+            }
+        } finally {
+            pool.release(chunk);
+        }
+    }
+
+    /**
+     * Reads whole stream - non - blocking connections require body to be available up front.
+     *
+     * @return buffer of stream's content.
+     * @throws IOException in case stream could not be read.
+     */
+    @Override
+    public ByteBuffer buffer() throws IOException {
+        try (InputStream input = stream) {
+            return ByteBuffer.wrap(InputStreamExtensions.readBytes(input));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StreamBody{" +
+                "stream=" + stream +
+                '}';
+    }
+}
@@ -0,0 +1,116 @@
+package org.emgen.httpx.http.request.body;
+
+import org.emgen.httpx.extensions.StringExtensions;
+import org.emgen.httpx.http.buffer.BufferPool;
+
+import java.io.OutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link RequestBody}, that sends text, using UTF-8 character encoding. Blocking connections receive text, that is
+ * encoded chunk by chunk into pooled buffer, therefore no array of the whole encoded text is allocated. Non - blocking
+ * connections require the whole body up front - it is encoded once & encoded bytes are reused between executions.
+ *
+ * @since 1.0.0
+ */
+public final class StringBody implements RequestBody {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private final String string;
+    private volatile long length = -1L;
+    private volatile byte[] bytes;
+
+    public StringBody(final String string) {
+        this.string = string;
+    }
+
+    public String string() {
+        return string;
+    }
+
+    /**
+     * @return count of UTF-8 encoded bytes, that is computed without encoding text.
+     */
+    @Override
+    public long length() {
+        if (length == -1L) {
+            length = StringExtensions.bytesCount(string);
+        }
+
+        return length;
+    }
+
+    /**
+     * @return true in case text is null or does not contain any characters besides spaces.
+     */
+    @Override
+    public boolean isEmpty() {
+        return StringExtensions.isEmpty(string);
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        byte[] encoded = bytes;
+
+        if (encoded != null || string == null) {
+            output.write(encoded == null ? new byte[0] : encoded);
+            return;
+        }
+
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer source = CharBuffer.wrap(string);
+        BufferPool pool = BufferPool.shared();
+        byte[] chunk = pool.array((int) Math.min(CHUNK_SIZE, length()));
+        ByteBuffer target = ByteBuffer.wrap(chunk);
+
+        try {
+            CoderResult result;
+
+            do {
+                result = encoder.encode(source, target, true);
+
+                if (!result.isUnderflow()) {
+                    // chunk is full - encoding continues, once it is written
+                    output.write(chunk, 0, target.position());
+                    target.clear();
+                }
+            } while (!result.isUnderflow());
+
+            while (encoder.flush(target).isOverflow()) {
+                output.write(chunk, 0, target.position());
+                target.clear();
+            }
+
+            output.write(chunk, 0, target.position());
+        } finally {
+            pool.release(chunk);
+        }
+    }
+
+    @Override
+    public ByteBuffer buffer() {
+        return ByteBuffer.wrap(bytes()).asReadOnlyBuffer();
+    }
+
+    private byte[] bytes() {
+        if (bytes == null) {
+            bytes = string == null ? new byte[0] : string.getBytes(StandardCharsets.UTF_8);
+        }
+
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return string;
+    }
+}
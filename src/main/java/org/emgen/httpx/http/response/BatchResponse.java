@@ -0,0 +1,73 @@
+package org.emgen.httpx.http.response;
+
+import org.emgen.httpx.http.request.Request;
+
+/**
+ * Outcome of single request, that was executed as a part of batch - either it's {@link Response} or failure,
+ * that prevented request from being executed.
+ *
+ * @since 1.0.0
+ */
+public final class BatchResponse {
+
+    private final Request request;
+    private final Response response;
+    private final RuntimeException failure;
+
+    private BatchResponse(final Request request, final Response response, final RuntimeException failure) {
+        this.request = request;
+        this.response = response;
+        this.failure = failure;
+    }
+
+    public static BatchResponse succeeded(Request request, Response response) {
+        return new BatchResponse(request, response, null);
+    }
+
+    public static BatchResponse failed(Request request, RuntimeException failure) {
+        return new BatchResponse(request, null, failure);
+    }
+
+    public Request request() {
+        return request;
+    }
+
+    /**
+     * @return execution {@link Response} or null in case request failed.
+     */
+    public Response response() {
+        return response;
+    }
+
+    /**
+     * @return exception, that request failed with or null in case request succeeded.
+     */
+    public RuntimeException failure() {
+        return failure;
+    }
+
+    public boolean succeeded() {
+        return failure == null;
+    }
+
+    /**
+     * @return execution {@link Response}.
+     * @throws RuntimeException - {@link BatchResponse#failure()} in case request failed.
+     */
+    public Response get() {
+        if (failure != null) {
+            throw failure;
+        }
+
+        return response;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResponse{" +
+                "request=" + request +
+                ", response=" + response +
+                ", failure=" + failure +
+                '}';
+    }
+}
@@ -0,0 +1,77 @@
+package org.emgen.httpx.http.response;
+
+import org.emgen.httpx.extensions.InputStreamExtensions;
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.http.buffer.BufferPool;
+import org.emgen.httpx.http.json.JsonDecoder;
+import org.emgen.httpx.http.json.JsonReader;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Converts response body into object of type {@param <T>}, reading it directly from connection's stream, without
+ * buffering it as {@link String} first. Built - in handlers cover text, bytes & JSON, decoded by {@link JsonReader}.
+ * Other codecs plug in as lambdas, e.g. Jackson:
+ * <pre>
+ * BodyHandler&lt;Order&gt; handler = (code, headers, body) -&gt; mapper.readValue(body, Order.class);
+ * </pre>
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface BodyHandler<T> {
+
+    /**
+     * @param code    of response.
+     * @param headers of response.
+     * @param body    - stream of response body. Handler does not have to close it.
+     * @return decoded body.
+     * @throws IOException in case body could not be read or decoded.
+     */
+    T handle(int code, Headers headers, InputStream body) throws IOException;
+
+    /**
+     * @return {@link BodyHandler}, that decodes body, using UTF-8 character encoding.
+     */
+    static BodyHandler<String> ofString() {
+        return (code, headers, body) -> InputStreamExtensions.read(body);
+    }
+
+    /**
+     * @return {@link BodyHandler}, that reads body as is.
+     */
+    static BodyHandler<byte[]> ofBytes() {
+        return (code, headers, body) -> InputStreamExtensions.readBytes(body);
+    }
+
+    /**
+     * @return {@link BodyHandler}, that reads & drops body, so that connection can be reused.
+     */
+    static BodyHandler<Void> discarding() {
+        return (code, headers, body) -> {
+            BufferPool pool = BufferPool.shared();
+            byte[] buffer = pool.array(8 * 1024);
+
+            try {
+                while (body.read(buffer) != -1) {
+                    // body is dropped
+                }
+            } finally {
+                pool.release(buffer);
+            }
+
+            return null;
+        };
+    }
+
+    /**
+     * @param decoder - {@link JsonDecoder}, that decodes UTF-8 encoded JSON body.
+     * @return {@link BodyHandler}, that decodes body, while it is read, using {@param decoder}.
+     */
+    static <T> BodyHandler<T> json(JsonDecoder<T> decoder) {
+        Prerequisites.exists(decoder, "JSON decoder cannot be null");
+        return (code, headers, body) -> decoder.decode(new JsonReader(body));
+    }
+}
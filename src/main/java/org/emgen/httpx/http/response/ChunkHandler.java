@@ -0,0 +1,22 @@
+package org.emgen.httpx.http.response;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Receives response body chunk by chunk, using {@link StreamingResponse#consume(ChunkHandler)}.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ChunkHandler {
+
+    /**
+     * Handles single body chunk. {@param chunk} is read - only & is only valid during the call - it's contents
+     * are overwritten by the next chunk.
+     *
+     * @param chunk of response body.
+     * @throws IOException in case chunk could not be handled.
+     */
+    void handle(ByteBuffer chunk) throws IOException;
+}
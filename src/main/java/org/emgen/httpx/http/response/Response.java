@@ -1,22 +1,41 @@
 package org.emgen.httpx.http.response;
 
 import org.emgen.httpx.extensions.StringExtensions;
+import org.emgen.httpx.http.ContentType;
+import org.emgen.httpx.http.Headers;
 
 import java.net.HttpCookie;
-import java.util.HashMap;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 /**
+ * Response, which body is held either as bytes, that were read from connection, or as text. Bytes are decoded to
+ * text lazily, using charset of 'Content-Type' header (UTF-8 by default). Views, that are derived from body &
+ * headers - text, content type, cookies & byte counts - are computed once, when they are requested for the first
+ * time.
+ *
  * @since 1.0.0
  */
 public final class Response {
 
+    private static final Object NONE = new Object();
+
     private final int code;
     private final String message;
-    private final String body;
-    private final Map<String, List<String>> headers;
+    private final Headers headers;
     private final long duration;
+    private final long wireBytesCount;
+    private final long decodedBytesCount;
+    private volatile byte[] bytes;
+    private volatile String body;
+    private volatile Object contentType;
+    private volatile List<HttpCookie> cookies;
+    private volatile long bodyBytesCount = -1L;
+    private volatile long headersBytesCount = -1L;
 
     public Response(
             final int code,
@@ -24,12 +43,62 @@ public final class Response {
             final String body,
             final Map<String, List<String>> headers,
             final long duration
+    ) {
+        this(code, message, body, headers, duration, -1L, -1L);
+    }
+
+    /**
+     * @param code              of response.
+     * @param message           of response.
+     * @param body              of response.
+     * @param headers           of response. {@link Map} is converted to {@link Headers}, in case it is not one.
+     * @param duration          of execution in milliseconds.
+     * @param wireBytesCount    - count of body bytes, that were received, before content decoding or -1 in case
+     *                          it is not known.
+     * @param decodedBytesCount - count of body bytes after content decoding or -1 in case it is not known.
+     */
+    public Response(
+            final int code,
+            final String message,
+            final String body,
+            final Map<String, List<String>> headers,
+            final long duration,
+            final long wireBytesCount,
+            final long decodedBytesCount
     ) {
         this.code = code;
         this.message = message;
         this.body = body;
-        this.headers = headers;
+        this.headers = Headers.of(headers);
+        this.duration = duration;
+        this.wireBytesCount = wireBytesCount;
+        this.decodedBytesCount = decodedBytesCount;
+    }
+
+    /**
+     * @param code           of response.
+     * @param message        of response.
+     * @param bytes          - body of response after content decoding. Array is not copied.
+     * @param headers        of response. {@link Map} is converted to {@link Headers}, in case it is not one.
+     * @param duration       of execution in milliseconds.
+     * @param wireBytesCount - count of body bytes, that were received, before content decoding or -1 in case it
+     *                       is not known.
+     */
+    public Response(
+            final int code,
+            final String message,
+            final byte[] bytes,
+            final Map<String, List<String>> headers,
+            final long duration,
+            final long wireBytesCount
+    ) {
+        this.code = code;
+        this.message = message;
+        this.bytes = bytes;
+        this.headers = Headers.of(headers);
         this.duration = duration;
+        this.wireBytesCount = wireBytesCount;
+        this.decodedBytesCount = bytes == null ? -1L : bytes.length;
     }
 
     public int code() {
@@ -40,38 +109,140 @@ public final class Response {
         return message;
     }
 
+    /**
+     * @return body, decoded, using {@link Response#charset()}, or null in case response has no body.
+     */
     public String body() {
-        return body;
+        String decoded = body;
+
+        if (decoded == null && bytes != null) {
+            decoded = new String(bytes, charset());
+            body = decoded;
+        }
+
+        return decoded;
     }
 
-    public Map<String, List<String>> headers() {
-        return new HashMap<>(headers);
+    /**
+     * @return body bytes after content decoding or null in case response has no body. Text body is encoded, using
+     * UTF-8. Array is not copied, therefore it must not be modified.
+     */
+    public byte[] bytes() {
+        byte[] encoded = bytes;
+
+        if (encoded == null && body != null) {
+            encoded = body.getBytes(StandardCharsets.UTF_8);
+            bytes = encoded;
+        }
+
+        return encoded;
+    }
+
+    /**
+     * @return immutable {@link Headers} of response.
+     */
+    public Headers headers() {
+        return headers;
     }
 
     public long duration() {
         return duration;
     }
 
+    /**
+     * @return parsed 'Content-Type' header or null in case it is not present.
+     */
+    public ContentType contentType() {
+        Object parsed = contentType;
+
+        if (parsed == null) {
+            parsed = ContentType.parse(headers.first("Content-Type"));
+            parsed = parsed == null ? NONE : parsed;
+            contentType = parsed;
+        }
+
+        return parsed == NONE ? null : (ContentType) parsed;
+    }
+
+    /**
+     * @return {@link Charset} of 'Content-Type' header or UTF-8 in case it is not present or not supported.
+     */
+    public Charset charset() {
+        ContentType type = contentType();
+        return type == null ? StandardCharsets.UTF_8 : type.charset(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return immutable list of cookies, that are set by 'Set-Cookie' headers. Each header value is parsed
+     * separately.
+     */
     public List<HttpCookie> cookies() {
-        return HttpCookie.parse(String.join("; ", headers.get("Set-Cookie")));
+        List<HttpCookie> parsed = cookies;
+
+        if (parsed == null) {
+            parsed = new ArrayList<>();
+
+            for (String value : headers.values("Set-Cookie")) {
+                if (!StringExtensions.isEmpty(value)) {
+                    parsed.addAll(HttpCookie.parse(value));
+                }
+            }
+
+            parsed = Collections.unmodifiableList(parsed);
+            cookies = parsed;
+        }
+
+        return parsed;
     }
 
     /**
-     * @return bytes count for {@link Response#body}, using UTF-8 character encoding.
+     * @return count of body bytes - length of received bytes or count of UTF-8 encoded text.
      */
     public long bodyBytesCount() {
-        return StringExtensions.bytesCount(body);
+        long count = bodyBytesCount;
+
+        if (count == -1L) {
+            byte[] received = bytes;
+            count = received != null ? received.length : StringExtensions.bytesCount(body);
+            bodyBytesCount = count;
+        }
+
+        return count;
+    }
+
+    /**
+     * @return count of body bytes, that were received over connection - compressed ones in case body was
+     * encoded. In case count is not known, {@link Response#decodedBytesCount()} is returned.
+     */
+    public long wireBytesCount() {
+        return wireBytesCount >= 0 ? wireBytesCount : decodedBytesCount();
+    }
+
+    /**
+     * @return count of body bytes after content decoding. In case count is not known,
+     * {@link Response#bodyBytesCount()} is returned.
+     */
+    public long decodedBytesCount() {
+        return decodedBytesCount >= 0 ? decodedBytesCount : bodyBytesCount();
     }
 
     /**
      * @return bytes count for {@link Response#headers} map, using UTF-8 character encoding.
      */
     public long headersBytesCount() {
-        if (headers == null || headers.isEmpty()) {
-            return 0L;
+        long count = headersBytesCount;
+
+        if (count == -1L) {
+            count = 0L;
+
+            for (int index = 0; index < headers.count(); index++) {
+                count += StringExtensions.bytesCount(headers.name(index)) + StringExtensions.bytesCount(headers.value(index));
+            }
+
+            headersBytesCount = count;
         }
 
-        return headers.entrySet().stream().mapToLong(this::headerBytesCount).sum();
+        return count;
     }
 
     /**
@@ -82,17 +253,12 @@ public final class Response {
         return bodyBytesCount() + headersBytesCount();
     }
 
-    private long headerBytesCount(Map.Entry<String, List<String>> header) {
-        long keyBytesCount = StringExtensions.bytesCount(header.getKey());
-        return keyBytesCount + header.getValue().stream().mapToLong(StringExtensions::bytesCount).sum();
-    }
-
     @Override
     public String toString() {
         return "Response{" +
                 "code=" + code +
                 ", message='" + message + '\'' +
-                ", body='" + body + '\'' +
+                ", body='" + body() + '\'' +
                 ", headers=" + headers +
                 ", duration=" + duration +
                 '}';
@@ -0,0 +1,249 @@
+package org.emgen.httpx.http.response;
+
+import org.emgen.httpx.extensions.InputStreamExtensions;
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.http.buffer.BufferPool;
+import org.emgen.httpx.http.encoding.DecodingInputStream;
+import org.emgen.httpx.http.json.JsonDecoder;
+import org.emgen.httpx.http.json.JsonReader;
+import org.emgen.httpx.http.json.JsonSequence;
+import org.emgen.httpx.http.request.RequestAction;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Response, that exposes it's body as a stream, that is read directly from connection. Body is never buffered
+ * as a whole, therefore payloads of any size are processed, using fixed amount of memory.
+ * Response has to be closed - closing releases underlying connection.
+ *
+ * @since 1.0.0
+ */
+public final class StreamingResponse implements Closeable {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final long TRANSFER_SIZE = 1024 * 1024;
+
+    private final int code;
+    private final String message;
+    private final Headers headers;
+    private final InputStream body;
+    private final Runnable release;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * @param code    of response.
+     * @param message of response.
+     * @param headers of response. {@link Map} is converted to {@link Headers}, in case it is not one.
+     * @param body    - stream of response body.
+     * @param release - action, that releases underlying connection. It is run once, when response is closed.
+     */
+    public StreamingResponse(
+            final int code,
+            final String message,
+            final Map<String, List<String>> headers,
+            final InputStream body,
+            final Runnable release
+    ) {
+        Prerequisites.exists(body, "Response body stream cannot be null");
+        Prerequisites.exists(release, "Release action cannot be null");
+
+        this.code = code;
+        this.message = message;
+        this.headers = Headers.of(headers);
+        this.body = body;
+        this.release = release;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    public Headers headers() {
+        return headers;
+    }
+
+    /**
+     * @return stream of response body. Closing stream does not release connection - response has to be closed.
+     */
+    public InputStream body() {
+        return body;
+    }
+
+    /**
+     * @return {@link ReadableByteChannel}, that reads response body.
+     */
+    public ReadableByteChannel channel() {
+        return Channels.newChannel(body);
+    }
+
+    /**
+     * Reads remaining response body & passes it to {@param handler} chunk by chunk.
+     *
+     * @param handler to pass body chunks to.
+     * @return count of bytes, that were passed to {@param handler}.
+     * @throws IOException in case body could not be read or {@param handler} fails.
+     */
+    public long consume(ChunkHandler handler) throws IOException {
+        Prerequisites.exists(handler, "Chunk handler cannot be null");
+
+        BufferPool pool = BufferPool.shared();
+        byte[] bytes = pool.array(CHUNK_SIZE);
+        ByteBuffer chunk = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        long count = 0L;
+
+        try {
+            for (int length = body.read(bytes); length != -1; length = body.read(bytes)) {
+                chunk.clear().limit(length);
+                handler.handle(chunk);
+                count += length;
+            }
+        } finally {
+            pool.release(bytes);
+        }
+
+        return count;
+    }
+
+    /**
+     * Writes remaining response body to file at {@param target}, using {@link FileChannel#transferFrom}.
+     * File is created in case it does not exist & is truncated otherwise.
+     *
+     * @param target - path of file to write body to.
+     * @return count of bytes, that were written.
+     * @throws IOException in case body could not be read or file could not be written.
+     */
+    public long transferTo(Path target) throws IOException {
+        Prerequisites.exists(target, "Target path cannot be null");
+
+        try (FileChannel file = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ReadableByteChannel source = channel();
+            long position = 0L;
+
+            for (long count = file.transferFrom(source, position, TRANSFER_SIZE); count > 0; count = file.transferFrom(source, position, TRANSFER_SIZE)) {
+                position += count;
+            }
+
+            return position;
+        }
+    }
+
+    /**
+     * Decodes remaining body, using {@param handler}, while it is read from connection & closes response.
+     *
+     * @param handler - {@link BodyHandler}, that decodes body.
+     * @return decoded body.
+     * @throws IOException in case body could not be read or decoded.
+     */
+    public <T> T decode(BodyHandler<T> handler) throws IOException {
+        Prerequisites.exists(handler, "Body handler cannot be null");
+
+        try {
+            return handler.handle(code, headers, body);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Decodes elements of JSON array body one by one, while they are read. Closing sequence closes response.
+     *
+     * @param decoder - {@link JsonDecoder}, that decodes every element of array.
+     * @return {@link JsonSequence} of array elements.
+     */
+    public <T> JsonSequence<T> jsonArray(JsonDecoder<T> decoder) {
+        return new JsonSequence<>(new JsonReader(body), decoder, true, this);
+    }
+
+    /**
+     * Decodes values of newline delimited JSON body one by one, while they are read. Closing sequence closes
+     * response.
+     *
+     * @param decoder - {@link JsonDecoder}, that decodes every value.
+     * @return {@link JsonSequence} of values.
+     */
+    public <T> JsonSequence<T> ndjson(JsonDecoder<T> decoder) {
+        return new JsonSequence<>(new JsonReader(body), decoder, false, this);
+    }
+
+    /**
+     * Reads remaining body & creates {@link Response} of it, as {@link StreamingResponse#toResponse(long, RequestAction)}
+     * does for request, which action is not known.
+     *
+     * @param starts - {@link System#nanoTime()}, when execution started. Used to compute response duration.
+     * @return {@link Response}, that contains whole body.
+     * @throws IOException in case body could not be read.
+     */
+    public Response toResponse(long starts) throws IOException {
+        return toResponse(starts, null);
+    }
+
+    /**
+     * Reads remaining body & creates {@link Response} of it. Body is kept as bytes & is decoded to text lazily.
+     * In case body is not content - encoded, 'Content-Length' header sizes the array, that body is read into -
+     * up to 1 MB, larger bodies are collected in pooled buffers. The header is ignored for responses, that never
+     * contain body - responses to HEAD requests, 1xx, 204 & 304 responses. Response is not closed.
+     *
+     * @param starts - {@link System#nanoTime()}, when execution started. Used to compute response duration.
+     * @param action of request, that response belongs to, or null in case it is not known.
+     * @return {@link Response}, that contains whole body.
+     * @throws IOException in case body could not be read.
+     */
+    public Response toResponse(long starts, RequestAction action) throws IOException {
+        boolean sized = !(body instanceof DecodingInputStream) && action != RequestAction.HEAD && code >= 200 && code != 204 && code != 304;
+        byte[] bytes = InputStreamExtensions.readBytes(body, sized ? contentLength() : -1L);
+        long duration = TimeUnit.MILLISECONDS.convert(System.nanoTime() - starts, TimeUnit.NANOSECONDS);
+        long wireBytes = body instanceof DecodingInputStream ? ((DecodingInputStream) body).wireBytes() : bytes.length;
+        return new Response(code, message, bytes, headers, duration, wireBytes);
+    }
+
+    private long contentLength() {
+        String value = headers.first("Content-Length");
+
+        try {
+            return value == null ? -1L : Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Closes response, releases decoder of compressed body & underlying connection. Calling method more than once
+     * has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            if (body instanceof DecodingInputStream) {
+                ((DecodingInputStream) body).end();
+            }
+
+            release.run();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingResponse{" +
+                "code=" + code +
+                ", message='" + message + '\'' +
+                ", headers=" + headers +
+                '}';
+    }
+}
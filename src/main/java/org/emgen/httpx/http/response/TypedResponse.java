@@ -0,0 +1,72 @@
+package org.emgen.httpx.http.response;
+
+import org.emgen.httpx.http.Headers;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response, which body was decoded by {@link BodyHandler}.
+ *
+ * @since 1.0.0
+ */
+public final class TypedResponse<T> {
+
+    private final int code;
+    private final String message;
+    private final Headers headers;
+    private final T body;
+    private final long duration;
+
+    /**
+     * @param code     of response.
+     * @param message  of response.
+     * @param headers  of response. {@link Map} is converted to {@link Headers}, in case it is not one.
+     * @param body     - decoded body of response.
+     * @param duration of execution in milliseconds, including decoding of body.
+     */
+    public TypedResponse(
+            final int code,
+            final String message,
+            final Map<String, List<String>> headers,
+            final T body,
+            final long duration
+    ) {
+        this.code = code;
+        this.message = message;
+        this.headers = Headers.of(headers);
+        this.body = body;
+        this.duration = duration;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    public Headers headers() {
+        return headers;
+    }
+
+    public T body() {
+        return body;
+    }
+
+    public long duration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return "TypedResponse{" +
+                "code=" + code +
+                ", message='" + message + '\'' +
+                ", headers=" + headers +
+                ", body=" + body +
+                ", duration=" + duration +
+                '}';
+    }
+}
@@ -0,0 +1,88 @@
+package org.emgen.httpx.http.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket, that limits retries & hedged requests of single route to a fraction of it's requests. Every
+ * request deposits {@link RetryBudget#ratio()} tokens, every retry withdraws a whole token. Once upstream fails
+ * persistently, the bucket drains & requests fail fast instead of multiplying load (retry storm).
+ * Tokens are kept in thousandths, therefore the bucket is updated with a single atomic operation.
+ *
+ * @since 1.0.0
+ */
+public final class RetryBudget {
+
+    private static final long TOKEN = 1000L;
+
+    private final long capacity;
+    private final long deposit;
+    private final AtomicLong tokens;
+
+    /**
+     * @param capacity - max count of tokens, which bucket is initially filled with - retries, that are allowed in
+     *                 a burst.
+     * @param ratio    - tokens, that are deposited per request, in range [0, 1], e.g. 0.1 allows retries to add
+     *                 10% of load.
+     */
+    public RetryBudget(final int capacity, final double ratio) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Parameter 'capacity' has to be positive");
+        }
+
+        if (ratio < 0.0 || ratio > 1.0) {
+            throw new IllegalArgumentException("Parameter 'ratio' has to be in range [0, 1]");
+        }
+
+        this.capacity = capacity * TOKEN;
+        this.deposit = (long) (ratio * TOKEN);
+        this.tokens = new AtomicLong(this.capacity);
+    }
+
+    /**
+     * Deposits tokens of a single request.
+     */
+    public void deposit() {
+        tokens.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    /**
+     * @return true in case token was withdrawn & retry is allowed.
+     */
+    public boolean tryAcquire() {
+        long current;
+
+        do {
+            current = tokens.get();
+
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+
+        return true;
+    }
+
+    /**
+     * @return count of retries, that are currently allowed.
+     */
+    public double tokens() {
+        return tokens.get() / (double) TOKEN;
+    }
+
+    public int capacity() {
+        return (int) (capacity / TOKEN);
+    }
+
+    public double ratio() {
+        return deposit / (double) TOKEN;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryBudget{" +
+                "capacity=" + capacity() +
+                ", ratio=" + ratio() +
+                ", tokens=" + tokens() +
+                '}';
+    }
+}
@@ -0,0 +1,230 @@
+package org.emgen.httpx.http.retry;
+
+import org.emgen.httpx.http.request.RequestOptions;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Describes how {@link RetryingExecutor} repeats & hedges request, that is configured through
+ * {@link RequestOptions#retryPolicy()}. Attempts are separated by exponential backoff with jitter - n-th retry
+ * waits for random delay in range [(1 - jitter) * base, base], where base is
+ * min(maxBackoff, initialBackoff * multiplier^(n - 1)).
+ *
+ * @since 1.0.0
+ */
+public final class RetryPolicy {
+
+    /**
+     * Policy, that executes every request exactly once.
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(1, 0L, 0L, 1.0, 0.0, Collections.emptySet(), -1L, 95.0);
+
+    private final int maxAttempts;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final double multiplier;
+    private final double jitter;
+    private final Set<Integer> retryableCodes;
+    private final long hedgeDelay;
+    private final double hedgePercentile;
+
+    /**
+     * @param maxAttempts     - max count of attempts, including the first one.
+     * @param initialBackoff  - base delay in milliseconds before the first retry.
+     * @param maxBackoff      - max delay in milliseconds between attempts.
+     * @param multiplier      - factor, that base delay grows by after each retry.
+     * @param jitter          - part of delay in range [0, 1], that is randomized. 1 stands for "full jitter".
+     * @param retryableCodes  - response codes, that are retried, e.g. 503.
+     * @param hedgeDelay      - min delay in milliseconds, after which duplicate of idempotent request is sent, in
+     *                        case response is not received yet, or -1 in case requests are not hedged.
+     * @param hedgePercentile - percentile of route's latency, after which duplicate request is sent, once enough
+     *                        latencies were recorded.
+     */
+    public RetryPolicy(
+            final int maxAttempts,
+            final long initialBackoff,
+            final long maxBackoff,
+            final double multiplier,
+            final double jitter,
+            final Set<Integer> retryableCodes,
+            final long hedgeDelay,
+            final double hedgePercentile
+    ) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Parameter 'maxAttempts' has to be positive");
+        }
+
+        if (initialBackoff < 0 || maxBackoff < initialBackoff) {
+            throw new IllegalArgumentException("Parameter 'initialBackoff' has to be in range [0, maxBackoff]");
+        }
+
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("Parameter 'multiplier' cannot be less than 1");
+        }
+
+        if (jitter < 0.0 || jitter > 1.0) {
+            throw new IllegalArgumentException("Parameter 'jitter' has to be in range [0, 1]");
+        }
+
+        if (hedgePercentile <= 0.0 || hedgePercentile > 100.0) {
+            throw new IllegalArgumentException("Parameter 'hedgePercentile' has to be in range (0, 100]");
+        }
+
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.retryableCodes = retryableCodes == null ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(retryableCodes));
+        this.hedgeDelay = hedgeDelay;
+        this.hedgePercentile = hedgePercentile;
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    public long initialBackoff() {
+        return initialBackoff;
+    }
+
+    public long maxBackoff() {
+        return maxBackoff;
+    }
+
+    public double multiplier() {
+        return multiplier;
+    }
+
+    public double jitter() {
+        return jitter;
+    }
+
+    public Set<Integer> retryableCodes() {
+        return retryableCodes;
+    }
+
+    /**
+     * @return min delay in milliseconds, after which duplicate of idempotent request is sent, or -1 in case
+     * requests are not hedged.
+     */
+    public long hedgeDelay() {
+        return hedgeDelay;
+    }
+
+    public double hedgePercentile() {
+        return hedgePercentile;
+    }
+
+    public boolean hedges() {
+        return hedgeDelay >= 0;
+    }
+
+    /**
+     * @return true in case policy might execute request more than once.
+     */
+    public boolean enabled() {
+        return maxAttempts > 1 || hedges();
+    }
+
+    /**
+     * @param retry - number of retry, starting from 1.
+     * @return randomized delay in milliseconds before {@param retry}.
+     */
+    public long backoff(int retry) {
+        double base = Math.min(maxBackoff, initialBackoff * Math.pow(multiplier, retry - 1));
+        return (long) (base * (1.0 - jitter * ThreadLocalRandom.current().nextDouble()));
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", initialBackoff=" + initialBackoff +
+                ", maxBackoff=" + maxBackoff +
+                ", multiplier=" + multiplier +
+                ", jitter=" + jitter +
+                ", retryableCodes=" + retryableCodes +
+                ", hedgeDelay=" + hedgeDelay +
+                ", hedgePercentile=" + hedgePercentile +
+                '}';
+    }
+
+    public static final class Creator {
+
+        private int maxAttempts = 3;
+        private long initialBackoff = 100L;
+        private long maxBackoff = 2000L;
+        private double multiplier = 2.0;
+        private double jitter = 1.0;
+        private Set<Integer> retryableCodes = new HashSet<>(Arrays.asList(429, 502, 503, 504));
+        private long hedgeDelay = -1L;
+        private double hedgePercentile = 95.0;
+
+        /**
+         * @param maxAttempts - max count of attempts, including the first one.
+         * @return instance of {@link Creator}.
+         */
+        public Creator maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * @param initialBackoff - base delay in milliseconds before the first retry.
+         * @param maxBackoff     - max delay in milliseconds between attempts.
+         * @return instance of {@link Creator}.
+         */
+        public Creator backoff(long initialBackoff, long maxBackoff) {
+            this.initialBackoff = initialBackoff;
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        public Creator multiplier(double multiplier) {
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * @param jitter - part of delay in range [0, 1], that is randomized.
+         * @return instance of {@link Creator}.
+         */
+        public Creator jitter(double jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * @param retryableCodes - response codes, that are retried. 429, 502, 503 & 504 are retried by default.
+         * @return instance of {@link Creator}.
+         */
+        public Creator retryableCodes(Integer... retryableCodes) {
+            this.retryableCodes = new HashSet<>(Arrays.asList(retryableCodes));
+            return this;
+        }
+
+        /**
+         * Enables hedging - duplicate of idempotent request is sent, once it's response is not received within
+         * {@param percentile} of route's latency, but not earlier than after {@param minDelay}. The response,
+         * that is received first, is used & the other execution is cancelled.
+         *
+         * @param minDelay   - min delay in milliseconds before duplicate request is sent.
+         * @param percentile - percentile of route's latency, e.g. 95.
+         * @return instance of {@link Creator}.
+         */
+        public Creator hedge(long minDelay, double percentile) {
+            this.hedgeDelay = minDelay;
+            this.hedgePercentile = percentile;
+            return this;
+        }
+
+        public RetryPolicy create() {
+            return new RetryPolicy(maxAttempts, initialBackoff, maxBackoff, multiplier, jitter, retryableCodes, hedgeDelay, hedgePercentile);
+        }
+    }
+}
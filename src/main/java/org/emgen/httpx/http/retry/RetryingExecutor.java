@@ -0,0 +1,546 @@
+package org.emgen.httpx.http.retry;
+
+import org.emgen.httpx.http.Executor;
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.http.SharedExecutor;
+import org.emgen.httpx.http.connection.Route;
+import org.emgen.httpx.http.exceptions.RequestCancelledException;
+import org.emgen.httpx.http.exceptions.RequestExecutionException;
+import org.emgen.httpx.http.metrics.LatencyHistogram;
+import org.emgen.httpx.http.request.Cancellation;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.request.RequestAction;
+import org.emgen.httpx.http.request.RequestOptions;
+import org.emgen.httpx.http.response.Response;
+import org.emgen.httpx.http.response.StreamingResponse;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link Executor}, that repeats failed requests & optionally hedges slow ones, as described by request's
+ * {@link RequestOptions#retryPolicy()}. Requests, that are not idempotent (see {@link RequestAction#idempotent()})
+ * or carry body, which cannot be replayed, are only repeated in case connection could not be established, thus
+ * request was not sent. Every retry & hedged request withdraws a token from route's {@link RetryBudget} - once
+ * budget is exhausted, the last response or failure is returned as is.
+ * <p>
+ * {@link RequestOptions#deadline()} bounds all attempts together - each attempt is given the time, that remains
+ * of it, & request is not repeated, once backoff delay would not end before deadline. Cancelled requests are never
+ * repeated - cancellation interrupts backoff delay as well.
+ * Backoff delays block executing thread, therefore {@link Executor#executeAsync(Request)} executes requests on
+ * {@link org.emgen.httpx.http.AsyncExecutor#sharedThreads()}.
+ *
+ * @since 1.0.0
+ */
+public final class RetryingExecutor implements Executor {
+
+    /**
+     * Count of latencies, that have to be recorded for route, before it's percentile replaces min hedge delay.
+     */
+    private static final int MIN_HEDGE_SAMPLES = 20;
+    private static final long HEDGE_DELAY_REFRESH = 64L;
+
+    private final Executor delegate;
+    private final int budgetCapacity;
+    private final double budgetRatio;
+    private final ConcurrentMap<Route, RouteState> routes = new ConcurrentHashMap<>();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public RetryingExecutor(final Executor delegate) {
+        this(delegate, 10, 0.1);
+    }
+
+    /**
+     * @param delegate       - {@link Executor}, that executes attempts.
+     * @param budgetCapacity - max count of retries per route, that are allowed in a burst.
+     * @param budgetRatio    - retries per request, that are allowed in the long run, in range [0, 1].
+     */
+    public RetryingExecutor(final Executor delegate, final int budgetCapacity, final double budgetRatio) {
+        Prerequisites.exists(delegate, "Delegate executor cannot be null");
+
+        if (budgetCapacity < 1) {
+            throw new IllegalArgumentException("Parameter 'budgetCapacity' has to be positive");
+        }
+
+        if (budgetRatio < 0.0 || budgetRatio > 1.0) {
+            throw new IllegalArgumentException("Parameter 'budgetRatio' has to be in range [0, 1]");
+        }
+
+        this.delegate = delegate;
+        this.budgetCapacity = budgetCapacity;
+        this.budgetRatio = budgetRatio;
+    }
+
+    /**
+     * Executes {@param request}, repeating it, while it fails or it's response code is retryable, & sending
+     * duplicate of it, in case hedging is enabled & response is late. The first response, that is received,
+     * is used & the other execution is cancelled.
+     *
+     * @param request to execute.
+     * @return execution {@link Response} - the last one in case every attempt received retryable response code.
+     * @throws RuntimeException of the last attempt, that has failures of previous attempts suppressed.
+     */
+    @Override
+    public Response execute(Request request) {
+        RetryPolicy policy = request.options().retryPolicy();
+
+        if (!policy.enabled()) {
+            return delegate.execute(request);
+        }
+
+        RouteState route = route(request);
+        boolean idempotent = idempotent(request);
+        Function<Request, Response> attempt = idempotent && policy.hedges() ? current -> hedged(current, policy, route) : current -> timed(current, route);
+        return retry(request, policy, route, idempotent, attempt, Response::code, Response::headers, response -> {
+        });
+    }
+
+    /**
+     * Streams {@param request}'s response, using delegate executor. Request is repeated in case it fails before
+     * response head is received or response code is retryable. Streamed requests are not hedged.
+     *
+     * @param request to execute.
+     * @return execution {@link StreamingResponse}.
+     */
+    @Override
+    public StreamingResponse stream(Request request) {
+        RetryPolicy policy = request.options().retryPolicy();
+
+        if (!policy.enabled()) {
+            return delegate.stream(request);
+        }
+
+        return retry(request, policy, route(request), idempotent(request), delegate::stream, StreamingResponse::code, StreamingResponse::headers, StreamingResponse::close);
+    }
+
+    /**
+     * @return count of attempts, that repeated failed request or request with retryable response code.
+     */
+    public long retries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return count of duplicate requests, that were sent, because response was late.
+     */
+    public long hedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * @return count of duplicate requests, that received response before the original request.
+     */
+    public long hedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    /**
+     * @return count of retries & hedged requests, that were not sent, because route's budget was exhausted.
+     */
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    /**
+     * @param route to get budget of.
+     * @return {@link RetryBudget} of {@param route} or null in case no request was executed over it.
+     */
+    public RetryBudget budget(Route route) {
+        RouteState state = routes.get(route);
+        return state == null ? null : state.budget;
+    }
+
+    private <T> T retry(
+            Request request,
+            RetryPolicy policy,
+            RouteState route,
+            boolean idempotent,
+            Function<Request, T> execution,
+            ToIntFunction<T> code,
+            Function<T, Headers> headers,
+            Consumer<T> discard
+    ) {
+        long starts = System.nanoTime();
+        RequestOptions options = request.options();
+        route.budget.deposit();
+        List<RuntimeException> failures = null;
+        Request current = request;
+
+        for (int attempt = 1; ; attempt++) {
+            T response;
+
+            try {
+                response = execution.apply(current);
+            } catch (RuntimeException e) {
+                long delay = policy.backoff(attempt);
+
+                if (attempt >= policy.maxAttempts() || !retryable(e, idempotent) || !fits(options, starts, delay) || !acquire(route)) {
+                    suppress(e, failures);
+                    throw e;
+                }
+
+                failures = failures == null ? new ArrayList<>() : failures;
+                failures.add(e);
+                current = next(request, starts, delay, failures);
+                continue;
+            }
+
+            if (attempt >= policy.maxAttempts() || !idempotent || !policy.retryableCodes().contains(code.applyAsInt(response))) {
+                return response;
+            }
+
+            long retryAfter = retryAfter(headers.apply(response));
+            long delay = Math.max(policy.backoff(attempt), retryAfter);
+
+            if (retryAfter > policy.maxBackoff() || !fits(options, starts, delay) || !acquire(route)) {
+                return response;
+            }
+
+            discard.accept(response);
+            current = next(request, starts, delay, failures);
+        }
+    }
+
+    /**
+     * Waits for {@param delay} & prepares the next attempt of {@param request}.
+     *
+     * @return {@param request} or it's copy, which deadline is the time, that remains of {@param request}'s one.
+     * @throws RuntimeException in case request was cancelled or deadline passed during delay. Exception has
+     *                          {@param failures} of previous attempts suppressed.
+     */
+    private static Request next(Request request, long starts, long delay, List<RuntimeException> failures) {
+        RequestOptions options = request.options();
+
+        try {
+            pause(options, Math.min(delay, remaining(options, starts)));
+            long remaining = remaining(options, starts);
+
+            if (remaining <= 0L) {
+                throw new RequestExecutionException(new SocketTimeoutException("Deadline of " + options.deadline() + " ms was exceeded"));
+            }
+
+            if (options.deadline() == 0L) {
+                return request;
+            }
+
+            RequestOptions bounded = new RequestOptions.Creator(options).deadline(remaining).create();
+            return new Request.Creator(request).options(bounded).create();
+        } catch (RuntimeException e) {
+            suppress(e, failures);
+            throw e;
+        }
+    }
+
+    /**
+     * @return time in milliseconds, that remains till deadline of request with {@param options}, which execution
+     * started at {@param starts}, or {@link Long#MAX_VALUE} in case request has no deadline.
+     */
+    private static long remaining(RequestOptions options, long starts) {
+        if (options.deadline() == 0L) {
+            return Long.MAX_VALUE;
+        }
+
+        return options.deadline() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - starts);
+    }
+
+    /**
+     * @return true in case request with {@param options} was not cancelled & attempt, that follows {@param delay},
+     * would start before deadline.
+     */
+    private static boolean fits(RequestOptions options, long starts, long delay) {
+        Cancellation cancellation = options.cancellation();
+        return (cancellation == null || !cancellation.cancelled()) && remaining(options, starts) > delay;
+    }
+
+    private Response hedged(Request request, RetryPolicy policy, RouteState route) {
+        CompletableFuture<Response> primary = timedAsync(request, route);
+
+        try {
+            return primary.get(route.hedgeDelay(policy), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // response is late - duplicate is sent below
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            primary.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new RequestExecutionException(e);
+        }
+
+        if (!route.budget.tryAcquire()) {
+            rejections.increment();
+            return await(primary);
+        }
+
+        hedges.increment();
+        CompletableFuture<Response> hedge = timedAsync(request, route);
+
+        try {
+            Response response = await(first(primary, hedge));
+
+            if (hedge.isDone() && !hedge.isCompletedExceptionally() && hedge.join() == response) {
+                hedgeWins.increment();
+            }
+
+            return response;
+        } finally {
+            // cancelling the loser releases it's connection or stream, in case delegate supports it
+            primary.cancel(false);
+            hedge.cancel(false);
+        }
+    }
+
+    private Response timed(Request request, RouteState route) {
+        long starts = System.nanoTime();
+        Response response = delegate.execute(request);
+        route.latency.record(System.nanoTime() - starts);
+        return response;
+    }
+
+    private CompletableFuture<Response> timedAsync(Request request, RouteState route) {
+        long starts = System.nanoTime();
+        CompletableFuture<Response> response = delegate.executeAsync(request);
+        response.whenComplete((ignored, failure) -> {
+            if (failure == null) {
+                route.latency.record(System.nanoTime() - starts);
+            }
+        });
+        // delegate's future is returned as is, because cancelling a dependent future does not cancel execution
+        return response;
+    }
+
+    private boolean acquire(RouteState route) {
+        if (route.budget.tryAcquire()) {
+            retries.increment();
+            return true;
+        }
+
+        rejections.increment();
+        return false;
+    }
+
+    private RouteState route(Request request) {
+        return routes.computeIfAbsent(Route.of(request.url(), request.options().proxySettings()), route -> new RouteState(new RetryBudget(budgetCapacity, budgetRatio)));
+    }
+
+    /**
+     * @return future, that is completed with the first response of {@param primary} & {@param hedge} or with
+     * the last failure, in case both of them fail.
+     */
+    private static CompletableFuture<Response> first(CompletableFuture<Response> primary, CompletableFuture<Response> hedge) {
+        CompletableFuture<Response> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        BiConsumer<Response, Throwable> complete = (response, failure) -> {
+            if (failure == null) {
+                first.complete(response);
+            } else if (failures.incrementAndGet() == 2) {
+                first.completeExceptionally(failure);
+            }
+        };
+        primary.whenComplete(complete);
+        hedge.whenComplete(complete);
+
+        return first;
+    }
+
+    private static Response await(CompletableFuture<Response> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new RequestExecutionException(cause);
+    }
+
+    private static boolean idempotent(Request request) {
+        return request.action().idempotent() && (!request.sendsBody() || request.requestBody().replayable());
+    }
+
+    /**
+     * @return true in case {@param failure} was caused by I/O error & request might be repeated - request, that is
+     * not {@param idempotent}, is only repeated in case connection could not be established. Cancelled request is
+     * never repeated.
+     */
+    private static boolean retryable(RuntimeException failure, boolean idempotent) {
+        if (failure instanceof RequestCancelledException) {
+            return false;
+        }
+
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return idempotent || cause instanceof ConnectException;
+            }
+        }
+
+        return false;
+    }
+
+    private static void suppress(RuntimeException failure, List<RuntimeException> failures) {
+        if (failures != null) {
+            failures.stream().filter(previous -> previous != failure).forEach(failure::addSuppressed);
+        }
+    }
+
+    /**
+     * @return delay in milliseconds, that is requested by 'Retry-After' header in delta seconds or 0 in case
+     * header is missing or it is HTTP date.
+     */
+    private static long retryAfter(Headers headers) {
+        String value = headers.first("Retry-After");
+
+        try {
+            return value == null ? 0L : Math.max(0L, Long.parseLong(value.trim()) * 1000L);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Blocks for {@param millis}, unless request with {@param options} is cancelled meanwhile.
+     *
+     * @throws RequestCancelledException in case request was cancelled.
+     */
+    private static void pause(RequestOptions options, long millis) {
+        Cancellation cancellation = options.cancellation();
+        CountDownLatch cancelled = new CountDownLatch(1);
+        Runnable listener = cancelled::countDown;
+
+        if (cancellation != null && !cancellation.register(listener)) {
+            throw new RequestCancelledException("Request was cancelled");
+        }
+
+        try {
+            if (millis > 0L && cancelled.await(millis, TimeUnit.MILLISECONDS)) {
+                throw new RequestCancelledException("Request was cancelled");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RequestExecutionException("Retry was interrupted", e);
+        } finally {
+            if (cancellation != null) {
+                cancellation.unregister(listener);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RetryingExecutor{" +
+                "delegate=" + delegate +
+                ", budgetCapacity=" + budgetCapacity +
+                ", budgetRatio=" + budgetRatio +
+                ", retries=" + retries() +
+                ", hedges=" + hedges() +
+                ", rejections=" + rejections() +
+                '}';
+    }
+
+    /**
+     * Retry budget & latency of successful attempts over single {@link Route}.
+     */
+    private static final class RouteState {
+
+        private final RetryBudget budget;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private volatile HedgeDelay hedgeDelay;
+
+        private RouteState(final RetryBudget budget) {
+            this.budget = budget;
+        }
+
+        /**
+         * Percentile is recomputed once in {@link RetryingExecutor#HEDGE_DELAY_REFRESH} latencies, because it
+         * takes a snapshot of the whole histogram.
+         *
+         * @return delay in milliseconds, after which duplicate request is sent.
+         */
+        private long hedgeDelay(RetryPolicy policy) {
+            long count = latency.count();
+
+            if (count < MIN_HEDGE_SAMPLES) {
+                return policy.hedgeDelay();
+            }
+
+            HedgeDelay delay = hedgeDelay;
+
+            if (delay == null || delay.percentile != policy.hedgePercentile() || count - delay.count >= HEDGE_DELAY_REFRESH) {
+                long millis = TimeUnit.NANOSECONDS.toMillis(latency.percentile(policy.hedgePercentile()));
+                delay = new HedgeDelay(policy.hedgePercentile(), count, millis);
+                hedgeDelay = delay;
+            }
+
+            return Math.max(policy.hedgeDelay(), delay.millis);
+        }
+    }
+
+    private static final class HedgeDelay {
+
+        private final double percentile;
+        private final long count;
+        private final long millis;
+
+        private HedgeDelay(final double percentile, final long count, final long millis) {
+            this.percentile = percentile;
+            this.count = count;
+            this.millis = millis;
+        }
+    }
+
+    public static final class Creator {
+
+        private Executor delegate;
+        private int budgetCapacity = 10;
+        private double budgetRatio = 0.1;
+
+        /**
+         * @param delegate - {@link Executor}, that executes attempts. {@link SharedExecutor#get()} is used in case
+         *                 delegate is not set.
+         * @return instance of {@link Creator}.
+         */
+        public Creator delegate(Executor delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param capacity - max count of retries per route, that are allowed in a burst.
+         * @param ratio    - retries per request, that are allowed in the long run, in range [0, 1].
+         * @return instance of {@link Creator}.
+         */
+        public Creator budget(int capacity, double ratio) {
+            this.budgetCapacity = capacity;
+            this.budgetRatio = ratio;
+            return this;
+        }
+
+        public RetryingExecutor create() {
+            return new RetryingExecutor(delegate == null ? SharedExecutor.get() : delegate, budgetCapacity, budgetRatio);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package org.emgen.httpx.http.session;
+
+import org.emgen.httpx.extensions.StringExtensions;
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.net.HttpCookie;
+import java.net.URL;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread - safe store of cookies, that follows RFC 6265. Cookies are indexed by domain, therefore looking up
+ * cookies of a request touches only domains, that request's host belongs to, e.g. "api.test.org" & "test.org".
+ * Each domain holds it's cookies in a concurrent map, keyed by name & path, so that concurrent requests store &
+ * read cookies without a global lock. Expired cookies are evicted, when they are encountered by a lookup, or by
+ * {@link CookieJar#evictExpired()}.
+ *
+ * @since 1.0.0
+ */
+public final class CookieJar {
+
+    private static final Comparator<Cookie> ORDER = Comparator.<Cookie>comparingInt(cookie -> cookie.path.length())
+            .reversed()
+            .thenComparingLong(cookie -> cookie.sequence);
+
+    private final Clock clock;
+    private final ConcurrentMap<String, ConcurrentMap<String, Cookie>> domains = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public CookieJar() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * @param clock - {@link Clock}, that expiry of cookies is evaluated with.
+     */
+    public CookieJar(final Clock clock) {
+        Prerequisites.exists(clock, "Clock cannot be null");
+        this.clock = clock;
+    }
+
+    /**
+     * Stores cookies, that are set by 'Set-Cookie' {@param headers} of response to {@param url}.
+     *
+     * @param url     of request.
+     * @param headers of response.
+     */
+    public void store(URL url, Headers headers) {
+        Prerequisites.exists(headers, "Headers cannot be null");
+        List<HttpCookie> cookies = new ArrayList<>();
+
+        for (String value : headers.values("Set-Cookie")) {
+            if (!StringExtensions.isEmpty(value)) {
+                try {
+                    cookies.addAll(HttpCookie.parse(value));
+                } catch (IllegalArgumentException e) {
+                    // malformed cookie is ignored, as user agents do
+                }
+            }
+        }
+
+        store(url, cookies);
+    }
+
+    /**
+     * Stores {@param cookies}, that were received from {@param url}. Cookies, which domain does not match host of
+     * {@param url}, are rejected. Cookies, that are already expired, remove stored cookies of the same name, domain
+     * & path.
+     *
+     * @param url     of request.
+     * @param cookies to store.
+     */
+    public void store(URL url, List<HttpCookie> cookies) {
+        Prerequisites.exists(url, "URL cannot be null");
+        Prerequisites.exists(cookies, "Cookies cannot be null");
+
+        String host = url.getHost().toLowerCase(Locale.ROOT);
+        long now = clock.millis();
+
+        for (HttpCookie cookie : cookies) {
+            String domain = domain(host, cookie.getDomain());
+
+            if (domain == null) {
+                continue;
+            }
+
+            String path = cookie.getPath() == null || !cookie.getPath().startsWith("/") ? defaultPath(url.getPath()) : cookie.getPath();
+            long maxAge = cookie.getMaxAge();
+            String key = cookie.getName() + ';' + path;
+
+            if (maxAge == 0 || maxAge < -1) {
+                ConcurrentMap<String, Cookie> stored = domains.get(domain);
+
+                if (stored != null) {
+                    stored.remove(key);
+                }
+
+                continue;
+            }
+
+            long expiresAt = maxAge == -1 ? Long.MAX_VALUE : now + Math.min(maxAge, Long.MAX_VALUE / 2000) * 1000L;
+            boolean hostOnly = cookie.getDomain() == null;
+            domains.computeIfAbsent(domain, ignored -> new ConcurrentHashMap<>()).put(key, new Cookie(cookie.getName(), cookie.getValue(), domain, path, hostOnly, cookie.getSecure(), expiresAt, sequence.incrementAndGet()));
+        }
+    }
+
+    /**
+     * @param url of request.
+     * @return cookies, that are sent with request to {@param url} - the ones with longer paths first.
+     */
+    public List<HttpCookie> cookies(URL url) {
+        Prerequisites.exists(url, "URL cannot be null");
+
+        String host = url.getHost().toLowerCase(Locale.ROOT);
+        String path = url.getPath().isEmpty() ? "/" : url.getPath();
+        boolean secure = url.getProtocol().equalsIgnoreCase("https");
+        long now = clock.millis();
+        List<Cookie> matches = new ArrayList<>();
+
+        for (String domain = host; domain != null; domain = parent(domain)) {
+            ConcurrentMap<String, Cookie> stored = domains.get(domain);
+
+            if (stored == null) {
+                continue;
+            }
+
+            for (Map.Entry<String, Cookie> entry : stored.entrySet()) {
+                Cookie cookie = entry.getValue();
+
+                if (cookie.expiresAt <= now) {
+                    stored.remove(entry.getKey(), cookie);
+                } else if ((!cookie.hostOnly || domain.equals(host)) && (!cookie.secure || secure) && pathMatches(path, cookie.path)) {
+                    matches.add(cookie);
+                }
+            }
+        }
+
+        matches.sort(ORDER);
+        List<HttpCookie> cookies = new ArrayList<>(matches.size());
+
+        for (Cookie cookie : matches) {
+            cookies.add(cookie.toHttpCookie(now));
+        }
+
+        return cookies;
+    }
+
+    /**
+     * @param url of request.
+     * @return value of 'Cookie' header for request to {@param url} or null in case no cookies match it.
+     */
+    public String header(URL url) {
+        List<HttpCookie> cookies = cookies(url);
+
+        if (cookies.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder header = new StringBuilder();
+
+        for (HttpCookie cookie : cookies) {
+            if (header.length() > 0) {
+                header.append("; ");
+            }
+
+            header.append(cookie.getName()).append('=').append(cookie.getValue());
+        }
+
+        return header.toString();
+    }
+
+    /**
+     * Removes expired cookies. Maps of domains are kept, even when they turn empty, because removing them would
+     * race with concurrent stores into them.
+     *
+     * @return count of cookies, that were removed.
+     */
+    public int evictExpired() {
+        long now = clock.millis();
+        int count = 0;
+
+        for (Map.Entry<String, ConcurrentMap<String, Cookie>> domain : domains.entrySet()) {
+            for (Map.Entry<String, Cookie> entry : domain.getValue().entrySet()) {
+                if (entry.getValue().expiresAt <= now && domain.getValue().remove(entry.getKey(), entry.getValue())) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * @return count of stored cookies, including the ones, that expired, but were not evicted yet.
+     */
+    public int size() {
+        return domains.values().stream().mapToInt(Map::size).sum();
+    }
+
+    public void clear() {
+        domains.clear();
+    }
+
+    /**
+     * @return domain, that cookie is stored under, or null in case {@param attribute} does not match {@param host}.
+     */
+    private static String domain(String host, String attribute) {
+        if (attribute == null) {
+            return host;
+        }
+
+        String domain = attribute.toLowerCase(Locale.ROOT);
+        domain = domain.startsWith(".") ? domain.substring(1) : domain;
+
+        if (domain.equals(host)) {
+            return domain;
+        }
+
+        // cookies for top - level domains & IP addresses are rejected
+        boolean matches = host.endsWith("." + domain) && domain.indexOf('.') != -1 && !Character.isDigit(host.charAt(host.length() - 1));
+        return matches ? domain : null;
+    }
+
+    private static String parent(String domain) {
+        int dot = domain.indexOf('.');
+        return dot == -1 || dot == domain.length() - 1 ? null : domain.substring(dot + 1);
+    }
+
+    private static String defaultPath(String path) {
+        int slash = path.lastIndexOf('/');
+        return slash <= 0 ? "/" : path.substring(0, slash);
+    }
+
+    private static boolean pathMatches(String path, String cookiePath) {
+        if (!path.startsWith(cookiePath)) {
+            return false;
+        }
+
+        return path.length() == cookiePath.length() || cookiePath.endsWith("/") || path.charAt(cookiePath.length()) == '/';
+    }
+
+    @Override
+    public String toString() {
+        return "CookieJar{" +
+                "domains=" + domains.size() +
+                ", cookies=" + size() +
+                '}';
+    }
+
+    /**
+     * Immutable stored cookie.
+     */
+    private static final class Cookie {
+
+        private final String name;
+        private final String value;
+        private final String domain;
+        private final String path;
+        private final boolean hostOnly;
+        private final boolean secure;
+        private final long expiresAt;
+        private final long sequence;
+
+        private Cookie(
+                final String name,
+                final String value,
+                final String domain,
+                final String path,
+                final boolean hostOnly,
+                final boolean secure,
+                final long expiresAt,
+                final long sequence
+        ) {
+            this.name = name;
+            this.value = value;
+            this.domain = domain;
+            this.path = path;
+            this.hostOnly = hostOnly;
+            this.secure = secure;
+            this.expiresAt = expiresAt;
+            this.sequence = sequence;
+        }
+
+        private HttpCookie toHttpCookie(long now) {
+            HttpCookie cookie = new HttpCookie(name, value);
+            cookie.setDomain(hostOnly ? null : domain);
+            cookie.setPath(path);
+            cookie.setSecure(secure);
+            cookie.setMaxAge(expiresAt == Long.MAX_VALUE ? -1L : (expiresAt - now) / 1000L);
+            cookie.setVersion(0);
+            return cookie;
+        }
+    }
+}
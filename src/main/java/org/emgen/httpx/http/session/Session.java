@@ -0,0 +1,143 @@
+package org.emgen.httpx.http.session;
+
+import org.emgen.httpx.http.Executor;
+import org.emgen.httpx.http.Headers;
+import org.emgen.httpx.http.SharedExecutor;
+import org.emgen.httpx.http.request.Request;
+import org.emgen.httpx.http.response.Response;
+import org.emgen.httpx.http.response.StreamingResponse;
+import org.emgen.httpx.prerequisites.Prerequisites;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link Executor}, that keeps cookies between requests, as a browser session does. Cookies, that match request's
+ * URL, are sent in 'Cookie' header & cookies, that responses set, are stored in {@link CookieJar}. Session is safe
+ * to share between concurrent requests - {@link CookieJar} does not hold a global lock.
+ *
+ * @since 1.0.0
+ */
+public final class Session implements Executor {
+
+    private final Executor delegate;
+    private final CookieJar cookieJar;
+
+    /**
+     * @param delegate  - {@link Executor}, that executes requests.
+     * @param cookieJar - {@link CookieJar}, that cookies are stored in.
+     */
+    public Session(final Executor delegate, final CookieJar cookieJar) {
+        Prerequisites.exists(delegate, "Delegate executor cannot be null");
+        Prerequisites.exists(cookieJar, "Cookie jar cannot be null");
+
+        this.delegate = delegate;
+        this.cookieJar = cookieJar;
+    }
+
+    @Override
+    public Response execute(Request request) {
+        URL url = request.url();
+        Response response = delegate.execute(withCookies(request, url));
+        cookieJar.store(url, response.headers());
+        return response;
+    }
+
+    /**
+     * Cookies of response are stored, before returned future completes, therefore dependents of it see them.
+     * Cancelling returned future cancels execution of delegate.
+     *
+     * @param request to execute.
+     * @return future of execution {@link Response}.
+     */
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        URL url = request.url();
+        CompletableFuture<Response> execution = delegate.executeAsync(withCookies(request, url));
+        CompletableFuture<Response> response = execution.thenApply(result -> {
+            cookieJar.store(url, result.headers());
+            return result;
+        });
+        // cancelling a dependent future does not cancel the one, it depends on
+        response.whenComplete((result, failure) -> {
+            if (response.isCancelled()) {
+                execution.cancel(true);
+            }
+        });
+        return response;
+    }
+
+    /**
+     * Cookies of response are stored, once it's head is received.
+     *
+     * @param request to execute.
+     * @return execution {@link StreamingResponse}.
+     */
+    @Override
+    public StreamingResponse stream(Request request) {
+        URL url = request.url();
+        StreamingResponse response = delegate.stream(withCookies(request, url));
+        cookieJar.store(url, response.headers());
+        return response;
+    }
+
+    public CookieJar cookieJar() {
+        return cookieJar;
+    }
+
+    /**
+     * @return {@param request} with stored cookies appended to it's 'Cookie' header or {@param request} itself in
+     * case no cookies match it.
+     */
+    private Request withCookies(Request request, URL url) {
+        String cookies = cookieJar.header(url);
+
+        if (cookies == null) {
+            return request;
+        }
+
+        String present = request.headers().first("Cookie");
+        Headers headers = new Headers.Creator(request.headers())
+                .set("Cookie", present == null || present.isEmpty() ? cookies : present + "; " + cookies)
+                .create();
+        return new Request.Creator(request).headers(headers).create();
+    }
+
+    @Override
+    public String toString() {
+        return "Session{" +
+                "delegate=" + delegate +
+                ", cookieJar=" + cookieJar +
+                '}';
+    }
+
+    public static final class Creator {
+
+        private Executor delegate;
+        private CookieJar cookieJar;
+
+        /**
+         * @param delegate - {@link Executor}, that executes requests. {@link SharedExecutor#get()} is used in case
+         *                 delegate is not set.
+         * @return instance of {@link Creator}.
+         */
+        public Creator delegate(Executor delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param cookieJar - {@link CookieJar}, that cookies are stored in. A new, empty jar is used in case it is
+         *                  not set.
+         * @return instance of {@link Creator}.
+         */
+        public Creator cookieJar(CookieJar cookieJar) {
+            this.cookieJar = cookieJar;
+            return this;
+        }
+
+        public Session create() {
+            return new Session(delegate == null ? SharedExecutor.get() : delegate, cookieJar == null ? new CookieJar() : cookieJar);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.emgen.httpx.extensions
+
+import spock.lang.Specification
+
+class URLEncodingExtensionsSpec extends Specification {
+
+    static final List<String> SAMPLES = [
+            "", "plain", "with space", "a+b=c&d", "state:active & owner:me", "100%", "~!@#\$%^&*()_+-=[]{}|;':\",./<>?`",
+            "\u017Eodis", "\u6771\u4EAC", "emoji \uD83D\uDE00", "lone \uD800 surrogate", "lone \uDC00 low", "\uDBFF\uDFFF", "tab\tnew\nline",
+            "\u0001\u007F\u0080\u07FF\u0800\uFFFD"
+    ]
+
+    void "Given string '#string', function encode() produces the same output as URLEncoder"() {
+        expect:
+        URLEncodingExtensions.encode(string) == URLEncoder.encode(string, "UTF-8")
+        URLEncodingExtensions.encode(string, new StringBuilder("prefix:")).toString() == "prefix:" + URLEncoder.encode(string, "UTF-8")
+
+        where:
+        string << SAMPLES
+    }
+
+    void "Given random strings, function encode() produces the same output as URLEncoder"() {
+        setup:
+        Random random = new Random(7)
+
+        expect:
+        (0..<2000).every {
+            String string = randomString(random)
+            URLEncodingExtensions.encode(string) == URLEncoder.encode(string, "UTF-8")
+        }
+    }
+
+    void "Given string '#string', function decode() produces the same output as URLDecoder"() {
+        expect:
+        URLEncodingExtensions.decode(string) == urlDecode(string)
+
+        where:
+        string << SAMPLES.collect { URLEncoder.encode(it, "UTF-8") } + [
+                "a+b", "%E2%82", "%E2%82%AC", "%e2%82%ac", "%zz", "%+1", "%-1", "%-0", "100%", "%4", "%%41", "%C3%28", "mixed%20+%2B"
+        ]
+    }
+
+    void "Given random escaped strings, function decode() produces the same output as URLDecoder"() {
+        setup:
+        Random random = new Random(11)
+        String alphabet = "%%%++aZ09-Ff2Ezé"
+
+        expect:
+        (0..<5000).every {
+            String string = (0..<random.nextInt(12)).collect { alphabet.charAt(random.nextInt(alphabet.length())) }.join("")
+            URLEncodingExtensions.decode(string) == urlDecode(string)
+        }
+    }
+
+    void "Given part of string, function decode() decodes only that part"() {
+        expect:
+        URLEncodingExtensions.decode("a=%C5%BEodis&b", 2, 12) == "žodis"
+    }
+
+    void "Given null string, functions encode() & decode() return null"() {
+        expect:
+        URLEncodingExtensions.encode(null) == null
+        URLEncodingExtensions.decode(null) == null
+    }
+
+    void "Given other charset, functions encode() & decode() use it"() {
+        expect:
+        URLEncodingExtensions.encode("ž", "UTF-16BE") == "%01%7E"
+        URLEncodingExtensions.decode("%01%7E", "UTF-16BE") == "ž"
+    }
+
+    static String urlDecode(String string) {
+        try {
+            URLDecoder.decode(string, "UTF-8")
+        } catch (IllegalArgumentException e) {
+            string
+        }
+    }
+
+    static String randomString(Random random) {
+        StringBuilder builder = new StringBuilder()
+        random.nextInt(16).times {
+            switch (random.nextInt(4)) {
+                case 0: builder.append((char) (32 + random.nextInt(95))); break
+                case 1: builder.append((char) (0x80 + random.nextInt(0x780))); break
+                case 2: builder.append((char) (random.nextInt(0x10000))); break
+                default: builder.appendCodePoint(0x10000 + random.nextInt(0x100000))
+            }
+        }
+        builder.toString()
+    }
+}
@@ -0,0 +1,165 @@
+package org.emgen.httpx.http
+
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.response.BatchResponse
+import org.emgen.httpx.http.response.Response
+import org.emgen.httpx.http.response.StreamingResponse
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class AsyncExecutorSpec extends Specification {
+
+    Request request = new Request.Creator().target("http://test.org").action(RequestAction.GET).create()
+
+    void "Given delegate executor, function executeAsync() completes future with delegate's response"() {
+        setup:
+        Response response = new Response(200, "OK", "body", Collections.emptyMap(), 0)
+        AsyncExecutor executor = new AsyncExecutor.Creator().delegate({ response } as Executor).create()
+
+        expect:
+        executor.executeAsync(request).get(1, TimeUnit.SECONDS).is(response)
+    }
+
+    void "Given delegate executor, that fails, function executeAsync() completes future exceptionally"() {
+        setup:
+        AsyncExecutor executor = new AsyncExecutor.Creator().delegate({ throw new IllegalStateException() } as Executor).create()
+
+        when:
+        executor.executeAsync(request).join()
+
+        then:
+        CompletionException e = thrown()
+        e.cause instanceof IllegalStateException
+    }
+
+    void "Given more requests than max in - flight count, function executeAsync() queues requests without exceeding the limit"() {
+        setup:
+        AtomicInteger running = new AtomicInteger()
+        AtomicInteger peak = new AtomicInteger()
+        CountDownLatch release = new CountDownLatch(1)
+        Executor delegate = {
+            peak.accumulateAndGet(running.incrementAndGet(), Math.&max)
+            release.await()
+            running.decrementAndGet()
+            new Response(200, "OK", null, Collections.emptyMap(), 0)
+        } as Executor
+        AsyncExecutor executor = new AsyncExecutor.Creator()
+                .delegate(delegate)
+                .threads(Executors.newCachedThreadPool())
+                .maxInFlight(3)
+                .create()
+
+        when:
+        List<CompletableFuture<Response>> futures = (0..<20).collect { executor.executeAsync(request) }
+        Thread.sleep(100)
+
+        then:
+        executor.inFlight() == 3
+        executor.pending() == 17
+
+        when:
+        release.countDown()
+        CompletableFuture.allOf(futures as CompletableFuture[]).get(5, TimeUnit.SECONDS)
+
+        then:
+        peak.get() == 3
+        executor.inFlight() == 0
+        executor.pending() == 0
+        futures.every { it.join().code() == 200 }
+    }
+
+    void "Given queued request, that is cancelled, function executeAsync() removes it from queue without executing it"() {
+        setup:
+        AtomicInteger executed = new AtomicInteger()
+        CountDownLatch release = new CountDownLatch(1)
+        Executor delegate = {
+            executed.incrementAndGet()
+            release.await()
+            new Response(200, "OK", null, Collections.emptyMap(), 0)
+        } as Executor
+        ExecutorService threads = Executors.newCachedThreadPool()
+        AsyncExecutor executor = new AsyncExecutor.Creator()
+                .delegate(delegate)
+                .threads(threads)
+                .maxInFlight(1)
+                .create()
+
+        when:
+        CompletableFuture<Response> running = executor.executeAsync(request)
+        CompletableFuture<Response> queued = executor.executeAsync(request)
+        queued.cancel(false)
+
+        then:
+        executor.pending() == 0
+
+        when:
+        release.countDown()
+        running.get(5, TimeUnit.SECONDS)
+        threads.shutdown()
+        threads.awaitTermination(5, TimeUnit.SECONDS)
+
+        then:
+        queued.isCancelled()
+        executed.get() == 1
+        executor.inFlight() == 0
+    }
+
+    void "Given executor without async support, default executeAsync() runs request on shared threads"() {
+        setup:
+        Executor executor = { new Response(200, Thread.currentThread().name, null, Collections.emptyMap(), 0) } as Executor
+
+        expect:
+        executor.executeAsync(request).get(1, TimeUnit.SECONDS).message() != Thread.currentThread().name
+    }
+
+    void "Given binary or ISO-8859-1 body, default stream() streams received bytes as they are"() {
+        setup:
+        byte[] body = [0xff, 0x00, 0xe9, 0x80] as byte[]
+        Executor executor = { new Response(200, "OK", body, ["Content-Type": ["text/plain; charset=ISO-8859-1"]], 0, body.length) } as Executor
+
+        when:
+        StreamingResponse response = executor.stream(request)
+
+        then:
+        response.body().bytes == body
+
+        cleanup:
+        response.close()
+    }
+
+    void "Given delegate executor, functions stream() & executeBatch() are forwarded to it"() {
+        setup:
+        StreamingResponse streamed = new StreamingResponse(200, "OK", [:], new ByteArrayInputStream(new byte[0]), {})
+        List<BatchResponse> batch = [BatchResponse.succeeded(request, new Response(200, "OK", "body", [:], 0))]
+        Executor delegate = new Executor() {
+
+            @Override
+            Response execute(Request request) {
+                throw new UnsupportedOperationException()
+            }
+
+            @Override
+            StreamingResponse stream(Request request) {
+                streamed
+            }
+
+            @Override
+            List<BatchResponse> executeBatch(List<Request> requests) {
+                batch
+            }
+        }
+        AsyncExecutor executor = new AsyncExecutor.Creator().delegate(delegate).create()
+
+        expect:
+        executor.stream(request).is(streamed)
+        executor.executeBatch([request]).is(batch)
+    }
+}
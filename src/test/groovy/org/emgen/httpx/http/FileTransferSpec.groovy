@@ -0,0 +1,156 @@
+package org.emgen.httpx.http
+
+import com.sun.net.httpserver.HttpServer
+import org.emgen.httpx.http.nio.NioExecutorService
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.request.body.RequestBody
+import org.emgen.httpx.http.response.Response
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Timeout
+
+import java.nio.channels.FileChannel
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+
+class FileTransferSpec extends Specification {
+
+    @Shared
+    HttpServer server
+    @Shared
+    NioExecutorService nioExecutor = new NioExecutorService()
+
+    void setupSpec() {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0)
+        server.createContext("/mirror", { exchange ->
+            byte[] body = exchange.requestBody.bytes
+            exchange.sendResponseHeaders(200, body.length)
+            exchange.responseBody.write(body)
+            exchange.close()
+        })
+        server.start()
+    }
+
+    void cleanupSpec() {
+        nioExecutor.close()
+        server.stop(0)
+    }
+
+    void "Given binary file body, #name uploads & downloads it byte - exact"() {
+        setup:
+        byte[] content = new byte[3 * 1024 * 1024 + 7]
+        new Random(42).nextBytes(content)
+        Path source = Files.createTempFile("httpx-upload", ".bin")
+        Path target = Files.createTempFile("httpx-download", ".bin")
+        Files.write(source, content)
+        Request request = new Request.Creator()
+                .target("http://localhost:${server.address.port}/mirror")
+                .action(RequestAction.PUT)
+                .body(source)
+                .create()
+
+        when:
+        Response response = executor.download(request, target)
+
+        then:
+        response.code() == 200
+        response.body() == null
+        Files.readAllBytes(target) == content
+
+        cleanup:
+        Files.deleteIfExists(source)
+        Files.deleteIfExists(target)
+
+        where:
+        name                    | executor
+        "ExecutorService"       | new ExecutorService()
+        "PooledExecutorService" | new PooledExecutorService()
+        "NioExecutorService"    | nioExecutor
+    }
+
+    void "Given empty file body, request sends it as empty body"() {
+        setup:
+        Path source = Files.createTempFile("httpx-upload", ".bin")
+
+        expect:
+        new Request.Creator()
+                .target("http://localhost:${server.address.port}/mirror")
+                .action(RequestAction.POST)
+                .body(source)
+                .create()
+                .execute(new PooledExecutorService())
+                .body() == ""
+
+        cleanup:
+        Files.deleteIfExists(source)
+    }
+
+    void "Given file channel body, executors send channel's content from it's position & keeps channel open"() {
+        setup:
+        Path source = Files.createTempFile("httpx-upload", ".bin")
+        Files.write(source, "headerpayload".getBytes(StandardCharsets.UTF_8))
+        FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)
+        channel.position("header".length())
+        Request request = new Request.Creator()
+                .target("http://localhost:${server.address.port}/mirror")
+                .action(RequestAction.PUT)
+                .body(channel)
+                .create()
+
+        expect:
+        request.execute(executor).body() == "payload"
+        request.execute(executor).body() == "payload"
+        channel.open
+        channel.position() == "header".length()
+
+        cleanup:
+        channel.close()
+        Files.deleteIfExists(source)
+
+        where:
+        name                    | executor
+        "ExecutorService"       | new ExecutorService()
+        "PooledExecutorService" | new PooledExecutorService()
+        "NioExecutorService"    | nioExecutor
+    }
+
+    @Timeout(10)
+    void "Given file, that is truncated, while body is written, file bodies fail instead of waiting for missing bytes"() {
+        setup:
+        Path source = Files.createTempFile("httpx-upload", ".bin")
+        Files.write(source, new byte[1024 * 1024])
+        FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)
+        OutputStream truncating = new OutputStream() {
+
+            @Override
+            void write(int b) {
+                write([(byte) b] as byte[], 0, 1)
+            }
+
+            @Override
+            void write(byte[] bytes, int offset, int length) {
+                FileChannel.open(source, StandardOpenOption.WRITE).withCloseable { it.truncate(1024) }
+            }
+        }
+
+        when:
+        RequestBody.of(source).writeTo(truncating)
+
+        then:
+        thrown(IOException)
+
+        when:
+        Files.write(source, new byte[1024 * 1024])
+        RequestBody.of(channel).writeTo(truncating)
+
+        then:
+        thrown(IOException)
+
+        cleanup:
+        channel.close()
+        Files.deleteIfExists(source)
+    }
+}
@@ -0,0 +1,109 @@
+package org.emgen.httpx.http
+
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.response.Response
+import spock.lang.Specification
+
+class HeadersSpec extends Specification {
+
+    void "Given headers, lookups ignore case of names"() {
+        setup:
+        Headers headers = new Headers.Creator()
+                .add("Content-Type", "text/plain")
+                .add("Set-Cookie", "a=1")
+                .add("set-cookie", "b=2")
+                .create()
+
+        expect:
+        headers.first("content-type") == "text/plain"
+        headers.values("SET-COOKIE") == ["a=1", "b=2"]
+        headers.get("Set-Cookie") == ["a=1", "b=2"]
+        headers.containsKey("CONTENT-TYPE")
+        !headers.containsKey("Accept")
+        headers.get("Accept") == null
+        headers.values("Accept") == []
+        headers.first(null) == null
+    }
+
+    void "Given headers, map view groups values by name in order they were added"() {
+        setup:
+        Headers headers = new Headers.Creator().add("B", "1").add("A", "2").add("b", "3").add(null, "skipped").create()
+
+        expect:
+        headers.count() == 3
+        headers.size() == 2
+        headers.keySet() as List == ["B", "A"]
+        headers == [B: ["1", "3"], A: ["2"]]
+        (0..<headers.count()).collect { headers.name(it) + "=" + headers.value(it) } == ["B=1", "A=2", "b=3"]
+    }
+
+    void "Given headers, they cannot be modified"() {
+        setup:
+        Headers headers = new Headers.Creator().add("A", "1").create()
+
+        when:
+        headers.put("B", ["2"])
+
+        then:
+        thrown(UnsupportedOperationException)
+
+        when:
+        headers.get("A").add("2")
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    void "Given creator, functions set() & remove() replace values case - insensitively"() {
+        setup:
+        Headers headers = new Headers.Creator().add("A", "1").add("B", "2").add("a", "3").create()
+
+        expect:
+        new Headers.Creator(headers).set("A", "4").create() == [B: ["2"], A: ["4"]]
+        new Headers.Creator(headers).remove("b").create() == [A: ["1", "3"]]
+        new Headers.Creator(headers).remove("A").remove("B").create().is(Headers.EMPTY)
+        headers == [A: ["1", "3"], B: ["2"]]
+    }
+
+    void "Given many headers, creator grows it's arrays"() {
+        setup:
+        Headers.Creator creator = new Headers.Creator(1)
+        (0..<100).each { creator.add("X-" + it, it as String) }
+        Headers headers = creator.create()
+
+        expect:
+        headers.count() == 100
+        (0..<100).every { headers.first("x-" + it) == it as String }
+    }
+
+    void "Given map, function of() copies it & skips null names & null value lists"() {
+        setup:
+        Map<String, List<String>> map = new LinkedHashMap<>()
+        map.put(null, ["HTTP/1.1 200 OK"])
+        map.put("A", ["1", null])
+        map.put("B", null)
+        Headers headers = Headers.of(map)
+
+        when:
+        map.get("A").add("2")
+
+        then:
+        headers == [A: ["1", null]]
+        Headers.of(headers).is(headers)
+        Headers.of(null).is(Headers.EMPTY)
+    }
+
+    void "Given request & response, their headers are returned without copying"() {
+        setup:
+        Request request = new Request.Creator().target("https://test.org").action(RequestAction.GET).header("Accept", "text/plain").create()
+        Response response = new Response(200, "OK", null, [("Set-Cookie"): ["a=1; Path=/", "b=2"]], 0)
+
+        expect:
+        request.headers().is(request.headers())
+        request.headers().first("accept") == "text/plain"
+        response.headers().is(response.headers())
+        response.cookies()*.name == ["a", "b"]
+        new Response(200, "OK", null, null, 0).cookies() == []
+    }
+}
@@ -0,0 +1,414 @@
+package org.emgen.httpx.http
+
+import com.sun.net.httpserver.HttpServer
+import org.emgen.httpx.http.connection.ConnectionPool
+import org.emgen.httpx.http.exceptions.RequestExecutionException
+import org.emgen.httpx.http.metrics.Execution
+import org.emgen.httpx.http.metrics.ExecutionListener
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.request.RequestOptions
+import org.emgen.httpx.http.response.BatchResponse
+import org.emgen.httpx.http.response.Response
+import org.emgen.httpx.http.response.StreamingResponse
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicInteger
+
+class PooledExecutorServiceSpec extends Specification {
+
+    HttpServer server
+    Set<Integer> clientPorts = ConcurrentHashMap.newKeySet()
+
+    void setup() {
+        start(0)
+    }
+
+    void start(int port) {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0)
+        server.createContext("/echo", { exchange ->
+            clientPorts.add(exchange.remoteAddress.port)
+            byte[] body = (exchange.requestMethod + " " + exchange.requestURI + " " + exchange.requestBody.text).getBytes(StandardCharsets.UTF_8)
+            exchange.responseHeaders.add("X-Test", "true")
+            exchange.sendResponseHeaders(200, body.length)
+            exchange.responseBody.write(body)
+            exchange.close()
+        })
+        server.createContext("/chunked", { exchange ->
+            clientPorts.add(exchange.remoteAddress.port)
+            exchange.sendResponseHeaders(200, 0)
+            3.times { exchange.responseBody.write("chunk".getBytes(StandardCharsets.UTF_8)); exchange.responseBody.flush() }
+            exchange.close()
+        })
+        server.createContext("/large", { exchange ->
+            clientPorts.add(exchange.remoteAddress.port)
+            int size = Integer.parseInt(exchange.requestURI.query.substring("size=".length()))
+            byte[] block = new byte[1024]
+            exchange.sendResponseHeaders(200, size)
+            (size / block.length).times { exchange.responseBody.write(block) }
+            exchange.close()
+        })
+        server.createContext("/slow", { exchange ->
+            Thread.sleep(300)
+            exchange.sendResponseHeaders(204, -1)
+            exchange.close()
+        })
+        server.start()
+    }
+
+    void cleanup() {
+        server.stop(0)
+    }
+
+    String url(String path) {
+        "http://localhost:${server.address.port}${path}"
+    }
+
+    void "Given sequential requests to the same route, function execute() reuses single connection"() {
+        setup:
+        PooledExecutorService executor = new PooledExecutorService()
+
+        when:
+        List<String> bodies = (0..<5).collect {
+            new Request.Creator().target(url("/echo")).action(RequestAction.GET).parameter("n", "$it").create().execute(executor).body()
+        }
+
+        then:
+        bodies == (0..<5).collect { "GET /echo?n=$it " as String }
+        clientPorts.size() == 1
+        executor.pool().size() == 1
+        executor.pool().idleSize() == 1
+    }
+
+    void "Given request with body & chunked response, function execute() reads responses fully & keeps connection reusable"() {
+        setup:
+        PooledExecutorService executor = new PooledExecutorService()
+
+        when:
+        String posted = new Request.Creator().target(url("/echo")).action(RequestAction.POST).body("\"id\":\"0\"").create().execute(executor).body()
+        String chunked = new Request.Creator().target(url("/chunked")).action(RequestAction.GET).create().execute(executor).body()
+
+        then:
+        posted == "POST /echo \"id\":\"0\""
+        chunked == "chunkchunkchunk"
+        clientPorts.size() == 1
+    }
+
+    void "Given idle connection, that exceeded idle timeout, function execute() opens new connection"() {
+        setup:
+        PooledExecutorService executor = new PooledExecutorService(new ConnectionPool.Creator().idleTimeout(50).create())
+        Request request = new Request.Creator().target(url("/echo")).action(RequestAction.GET).create()
+
+        when:
+        request.execute(executor)
+        Thread.sleep(150)
+        request.execute(executor)
+
+        then:
+        clientPorts.size() == 2
+        executor.pool().size() == 1
+    }
+
+    void "Given idle connection, that was closed by server, function execute() discards it & opens new connection"() {
+        setup:
+        PooledExecutorService executor = new PooledExecutorService()
+        Request request = new Request.Creator().target(url("/echo")).action(RequestAction.GET).create()
+
+        when:
+        request.execute(executor)
+        int port = server.address.port
+        server.stop(0)
+        start(port)
+
+        then:
+        request.execute(executor).code() == 200
+        clientPorts.size() == 2
+        executor.pool().size() == 1
+    }
+
+    void "Given reused connection, that is closed by server before response, function execute() repeats idempotent request once"() {
+        setup:
+        AtomicInteger requests = new AtomicInteger()
+        ServerSocket socket = closingServer(requests)
+        PooledExecutorService executor = new PooledExecutorService()
+        Request request = new Request.Creator().target("http://localhost:${socket.localPort}/").action(RequestAction.GET).create()
+
+        when:
+        request.execute(executor)
+        Response response = request.execute(executor)
+
+        then:
+        response.code() == 200
+        requests.get() == 3
+
+        cleanup:
+        socket.close()
+    }
+
+    void "Given reused connection, that is closed by server before response, function execute() does not repeat non - idempotent request"() {
+        setup:
+        AtomicInteger requests = new AtomicInteger()
+        ServerSocket socket = closingServer(requests)
+        PooledExecutorService executor = new PooledExecutorService()
+        String target = "http://localhost:${socket.localPort}/"
+
+        when:
+        new Request.Creator().target(target).action(RequestAction.GET).create().execute(executor)
+        new Request.Creator().target(target).action(RequestAction.POST).body("test").create().execute(executor)
+
+        then:
+        thrown(RequestExecutionException)
+        requests.get() == 2
+
+        cleanup:
+        socket.close()
+    }
+
+    /**
+     * @return server, that answers the first request of each connection & closes connection, once it receives the
+     * second one.
+     */
+    ServerSocket closingServer(AtomicInteger requests) {
+        ServerSocket socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())
+        Thread.start {
+            while (!socket.closed) {
+                Socket client
+                try {
+                    client = socket.accept()
+                } catch (IOException ignored) {
+                    return
+                }
+                Thread.start {
+                    client.withCloseable {
+                        BufferedReader reader = new BufferedReader(new InputStreamReader(client.inputStream, StandardCharsets.US_ASCII))
+                        2.times { n ->
+                            String line = reader.readLine()
+                            int length = 0
+                            while (line != null && !line.isEmpty()) {
+                                if (line.toLowerCase().startsWith("content-length:")) {
+                                    length = line.substring("content-length:".length()).trim() as int
+                                }
+                                line = reader.readLine()
+                            }
+                            length.times { reader.read() }
+                            requests.incrementAndGet()
+                            if (n == 0) {
+                                client.outputStream.write("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok".getBytes(StandardCharsets.US_ASCII))
+                                client.outputStream.flush()
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        socket
+    }
+
+    void "Given header with line break or name, that is not a token, function execute() rejects request & discards connection"() {
+        setup:
+        PooledExecutorService executor = new PooledExecutorService()
+        Request request = new Request.Creator().target(url("/echo")).action(RequestAction.GET).header(name, value).create()
+
+        when:
+        executor.execute(request)
+
+        then:
+        thrown(IllegalArgumentException)
+        clientPorts.isEmpty()
+        executor.pool().size() == 0
+
+        where:
+        name            | value
+        "X-Id"          | "1\r\nX-Injected: yes"
+        "X-Id"          | "1\nX-Injected: yes"
+        "X-Id"          | "1\u0000"
+        "X-Id: 1\r\n"   | "yes"
+        "X Id"          | "1"
+    }
+
+    void "Given pool, that has reached max connections per route, function execute() fails, when connection is not released in time"() {
+        setup:
+        PooledExecutorService executor = new PooledExecutorService(new ConnectionPool.Creator().maxPerRoute(1).create())
+        RequestOptions options = new RequestOptions.Creator().timeout(100).create()
+        Request slow = new Request.Creator().target(url("/slow")).action(RequestAction.GET).options(options).create()
+        CountDownLatch started = new CountDownLatch(1)
+
+        when:
+        Thread thread = Thread.start {
+            started.countDown()
+            slow.execute(executor)
+        }
+        started.await()
+        Thread.sleep(50)
+        slow.execute(executor)
+
+        then:
+        thrown(RequestExecutionException)
+
+        cleanup:
+        thread.join()
+    }
+
+    void "Given large response, function stream() passes body to handler in chunks & releases connection on close"() {
+        setup:
+        PooledExecutorService executor = new PooledExecutorService()
+        Request request = new Request.Creator().target(url("/large")).action(RequestAction.GET).parameter("size", "${8 * 1024 * 1024}").create()
+        int largestChunk = 0
+
+        when:
+        long count
+        StreamingResponse response = executor.stream(request)
+        response.withCloseable {
+            count = response.consume({ chunk -> largestChunk = Math.max(largestChunk, chunk.remaining()) })
+        }
+
+        then:
+        count == 8 * 1024 * 1024
+        largestChunk <= 8 * 1024
+        executor.pool().idleSize() == 1
+    }
+
+    void "Given streaming response, that is closed before body is read, small remainder is drained & connection is reused"() {
+        setup:
+        PooledExecutorService executor = new PooledExecutorService()
+        Request small = new Request.Creator().target(url("/large")).action(RequestAction.GET).parameter("size", "4096").create()
+
+        when:
+        executor.stream(small).close()
+        executor.stream(small).close()
+
+        then:
+        clientPorts.size() == 1
+        executor.pool().idleSize() == 1
+    }
+
+    void "Given streaming response, that is closed before large body is read, connection is discarded"() {
+        setup:
+        PooledExecutorService executor = new PooledExecutorService()
+        Request large = new Request.Creator().target(url("/large")).action(RequestAction.GET).parameter("size", "${4 * 1024 * 1024}").create()
+
+        when:
+        StreamingResponse response = executor.stream(large)
+        response.body().read(new byte[16])
+        response.close()
+
+        then:
+        executor.pool().size() == 0
+    }
+
+    void "Given batch of requests, function executeBatch() returns responses in order & reports failures per request"() {
+        setup:
+        PooledExecutorService executor = new PooledExecutorService()
+        ServerSocket closed = new ServerSocket(0)
+        int closedPort = closed.localPort
+        closed.close()
+        List<Request> requests = (0..<20).collect {
+            new Request.Creator().target(url("/echo")).action(RequestAction.GET).parameter("n", "$it").create()
+        }
+        requests.add(5, new Request.Creator().target("http://localhost:$closedPort/echo").action(RequestAction.GET).create())
+        requests.add(new Request.Creator().target(url("/echo")).action(RequestAction.POST).body("body").create())
+
+        when:
+        List<BatchResponse> responses = executor.executeBatch(requests)
+
+        then:
+        responses*.request() == requests
+        !responses[5].succeeded()
+        responses[5].failure() instanceof RequestExecutionException
+        responses.findAll { it.succeeded() }*.response()*.body() == (0..<20).collect { "GET /echo?n=$it " as String } + ["POST /echo body"]
+        clientPorts.size() <= executor.pool().maxPerRoute()
+    }
+
+    void "Given pipelining, function executeBatch() sends requests over a single connection & returns responses in order"() {
+        setup:
+        PooledExecutorService executor = new PooledExecutorService()
+        List<Request> requests = (0..<50).collect {
+            new Request.Creator().target(url("/echo")).action(RequestAction.GET).parameter("n", "$it").create()
+        }
+
+        when:
+        List<BatchResponse> responses = executor.executeBatch(requests, 1, 8)
+
+        then:
+        responses*.get()*.body() == (0..<50).collect { "GET /echo?n=$it " as String }
+        clientPorts.size() == 1
+        executor.pool().idleSize() == 1
+    }
+
+    void "Given pipelined request, that fails with runtime exception, function executeBatch() discards connection & fails unanswered requests"() {
+        setup:
+        ExecutionListener listener = new ExecutionListener() {
+            @Override
+            void firstByte(Execution execution, long nanos, int code) {
+                if (execution.request().url().query == "n=3") {
+                    throw new IllegalStateException("Listener failed")
+                }
+            }
+        }
+        PooledExecutorService executor = new PooledExecutorService(new ConnectionPool.Creator().create(), listener)
+        List<Request> requests = (0..<8).collect {
+            new Request.Creator().target(url("/echo")).action(RequestAction.GET).parameter("n", "$it").create()
+        }
+
+        when:
+        List<BatchResponse> responses = executor.executeBatch(requests, 1, 8)
+
+        then:
+        responses[0..2]*.get()*.body() == (0..<3).collect { "GET /echo?n=$it " as String }
+        responses[3..7].every { !it.succeeded() && it.failure() instanceof IllegalStateException }
+        executor.pool().size() == 0
+    }
+
+    void "Given server, that closes pipelined connection early, function executeBatch() repeats unanswered requests"() {
+        setup:
+        ServerSocket socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())
+        AtomicInteger connections = new AtomicInteger()
+        Thread.start {
+            while (!socket.closed) {
+                Socket client
+                try {
+                    client = socket.accept()
+                    connections.incrementAndGet()
+                } catch (IOException e) {
+                    break
+                }
+                BufferedReader reader = new BufferedReader(new InputStreamReader(client.inputStream, StandardCharsets.ISO_8859_1))
+                OutputStream output = client.outputStream
+                int answered = 0
+                // answers 2 requests per connection, then closes it
+                while (answered < 2) {
+                    String line = reader.readLine()
+                    if (line == null) {
+                        break
+                    }
+                    String target = line.split(" ")[1]
+                    while (!reader.readLine().isEmpty()) {
+                    }
+                    byte[] body = target.getBytes(StandardCharsets.ISO_8859_1)
+                    output.write("HTTP/1.1 200 OK\r\nContent-Length: ${body.length}\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1))
+                    output.write(body)
+                    output.flush()
+                    answered++
+                }
+                client.close()
+            }
+        }
+        PooledExecutorService executor = new PooledExecutorService()
+        List<Request> requests = (0..<7).collect {
+            new Request.Creator().target("http://localhost:${socket.localPort}/n$it").action(RequestAction.GET).create()
+        }
+
+        when:
+        List<BatchResponse> responses = executor.executeBatch(requests, 1, 4)
+
+        then:
+        responses*.get()*.body() == (0..<7).collect { "/n$it" as String }
+        connections.get() == 4
+
+        cleanup:
+        socket.close()
+    }
+}
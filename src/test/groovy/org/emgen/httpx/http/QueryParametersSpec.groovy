@@ -0,0 +1,88 @@
+package org.emgen.httpx.http
+
+import spock.lang.Specification
+
+import java.util.stream.Collectors
+
+class QueryParametersSpec extends Specification {
+
+    void "Given no parameters, function createQueryString() returns empty string"() {
+        expect:
+        QueryParameters.createQueryString(null) == ""
+        QueryParameters.createQueryString([:]) == ""
+    }
+
+    void "Given parameters, function createQueryString() encodes names & values"() {
+        setup:
+        Map<String, List<String>> parameters = new LinkedHashMap<>()
+        parameters.put("filter", ["state:active & owner:me"])
+        parameters.put("ids", ["1", "2"])
+        parameters.put("q", ["žodis", null])
+
+        expect:
+        QueryParameters.createQueryString(parameters) == "?filter=state%3Aactive+%26+owner%3Ame&ids=1&ids=2&q=%C5%BEodis&q="
+    }
+
+    void "Given parameters with empty names, function createQueryString() skips them"() {
+        setup:
+        Map<String, List<String>> parameters = new LinkedHashMap<>()
+        parameters.put("", ["a"])
+        parameters.put(" ", ["b"])
+        parameters.put("c", ["d"])
+
+        expect:
+        QueryParameters.createQueryString(parameters) == "?c=d"
+    }
+
+    void "Given random hash map parameters, function createQueryString() produces the same output as stream based implementation"() {
+        setup:
+        Random random = new Random(3)
+        List<String> words = ["a", "b c", "\u017E", "&", "=", "", " ", "100%", "\u6771\u4EAC", "x" * 20]
+
+        expect:
+        (0..<500).every {
+            Map<String, List<String>> parameters = new HashMap<>()
+            random.nextInt(8).times {
+                parameters.put(words[random.nextInt(words.size())] + random.nextInt(3), (0..<random.nextInt(3)).collect { words[random.nextInt(words.size())] })
+            }
+            QueryParameters.createQueryString(parameters) == streamQueryString(parameters)
+        }
+    }
+
+    void "Given string with query string, function extractQueryParameters() decodes parameters"() {
+        expect:
+        QueryParameters.extractQueryParameters("https://test.org/path?a=1&b=x+y&a=2&c=&=skipped&novalue&&q=%C5%BEodis%zz&d=e=f") == [
+                a: ["1", "2"],
+                b: ["x y"],
+                c: [null],
+                q: ["%C5%BEodis%zz"],
+                d: ["e=f"]
+        ]
+    }
+
+    void "Given string without query string, function extractQueryParameters() returns empty map"() {
+        expect:
+        QueryParameters.extractQueryParameters("https://test.org/path") == [:]
+        QueryParameters.extractQueryParameters("https://test.org/path?") == [:]
+        QueryParameters.extractQueryParameters("") == [:]
+    }
+
+    void "Given created query string, function extractQueryParameters() restores parameters"() {
+        setup:
+        Map<String, List<String>> parameters = [a: ["1", "2"], "\u017E o": ["&=?"], "\u6771\u4EAC": ["\uD83D\uDE00"]]
+
+        expect:
+        QueryParameters.extractQueryParameters("http://test.org" + QueryParameters.createQueryString(parameters)) == parameters
+    }
+
+    static String streamQueryString(Map<String, List<String>> parameters) {
+        if (parameters.isEmpty()) {
+            return ""
+        }
+
+        "?" + parameters.entrySet().stream()
+                .filter { entry -> entry.key != null && !entry.key.trim().isEmpty() }
+                .map { entry -> entry.value.stream().map { value -> URLEncoder.encode(entry.key, "UTF-8") + "=" + URLEncoder.encode(value ?: "", "UTF-8") }.collect(Collectors.joining("&")) }
+                .collect(Collectors.joining("&"))
+    }
+}
@@ -0,0 +1,192 @@
+package org.emgen.httpx.http
+
+import org.emgen.httpx.http.exceptions.RequestCancelledException
+import org.emgen.httpx.http.exceptions.RequestExecutionException
+import org.emgen.httpx.http.nio.NioExecutorService
+import org.emgen.httpx.http.request.Cancellation
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.request.RequestOptions
+import org.emgen.httpx.http.response.StreamingResponse
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Timeout
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.atomic.AtomicInteger
+
+class TimeoutsSpec extends Specification {
+
+    /**
+     * Loopback server, that reads requests, but never responds - except for '/stall' requests, which receive
+     * response head & the first part of body only.
+     */
+    @Shared
+    ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())
+    @Shared
+    AtomicInteger connections = new AtomicInteger()
+    @Shared
+    NioExecutorService nioExecutor = new NioExecutorService()
+
+    void setupSpec() {
+        Thread.start {
+            while (!server.closed) {
+                try {
+                    Socket client = server.accept()
+                    connections.incrementAndGet()
+                    Thread.start { hang(client) }
+                } catch (IOException ignored) {
+                    return
+                }
+            }
+        }
+    }
+
+    void cleanupSpec() {
+        nioExecutor.close()
+        server.close()
+    }
+
+    static void hang(Socket client) {
+        client.withCloseable {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(client.inputStream, StandardCharsets.ISO_8859_1))
+            String line = reader.readLine()
+
+            if (line?.contains("/stall")) {
+                client.outputStream.write("HTTP/1.1 200 OK\r\nContent-Length: 100000\r\n\r\nfirst".getBytes(StandardCharsets.ISO_8859_1))
+                client.outputStream.flush()
+            }
+
+            // holds connection open, until client closes it
+            while (client.inputStream.read() != -1) {
+            }
+        }
+    }
+
+    Executor executor(String name) {
+        name == "ExecutorService" ? new ExecutorService() : name == "PooledExecutorService" ? new PooledExecutorService() : nioExecutor
+    }
+
+    Request request(RequestOptions options, String path = "/hang") {
+        new Request.Creator().target("http://localhost:${server.localPort}${path}").action(RequestAction.GET).options(options).create()
+    }
+
+    static Throwable rootCause(Throwable failure) {
+        failure.cause == null ? failure : rootCause(failure.cause)
+    }
+
+    void "Given upstream, that does not respond, #name fails within read timeout"() {
+        setup:
+        long starts = System.nanoTime()
+
+        when:
+        executor(name).execute(request(new RequestOptions.Creator().readTimeout(200).create()))
+
+        then:
+        RequestExecutionException failure = thrown(RequestExecutionException)
+        rootCause(failure) instanceof SocketTimeoutException
+        (System.nanoTime() - starts) / 1_000_000 < 2000
+
+        where:
+        name << ["ExecutorService", "PooledExecutorService", "NioExecutorService"]
+    }
+
+    void "Given upstream, that does not respond, #name aborts execution once deadline passes"() {
+        setup:
+        long starts = System.nanoTime()
+
+        when:
+        executor(name).execute(request(new RequestOptions.Creator().readTimeout(0).deadline(300).create()))
+
+        then:
+        RequestExecutionException failure = thrown(RequestExecutionException)
+        rootCause(failure) instanceof SocketTimeoutException
+        rootCause(failure).message == "Deadline of 300 ms was exceeded"
+        (System.nanoTime() - starts) / 1_000_000 < 2000
+
+        where:
+        name << ["ExecutorService", "PooledExecutorService", "NioExecutorService"]
+    }
+
+    void "Given cancelled handle, #name releases blocked thread at once & does not send further requests"() {
+        setup:
+        Executor executor = executor(name)
+        Cancellation cancellation = new Cancellation()
+        RequestOptions options = new RequestOptions.Creator().readTimeout(0).cancellation(cancellation).create()
+        CompletableFuture<Long> released = CompletableFuture.supplyAsync {
+            try {
+                executor.execute(request(options))
+            } catch (RequestCancelledException ignored) {
+                System.nanoTime()
+            }
+        }
+
+        when:
+        Thread.sleep(300)
+        long cancelledAt = System.nanoTime()
+        cancellation.cancel()
+        long releasedAt = released.get()
+        int opened = connections.get()
+        executor.execute(request(options))
+
+        then:
+        thrown(RequestCancelledException)
+        (releasedAt - cancelledAt) / 1_000_000 < 500
+        connections.get() == opened
+
+        where:
+        name << ["ExecutorService", "PooledExecutorService", "NioExecutorService"]
+    }
+
+    void "Given stalled response body, deadline closes streamed connection & it is not returned to pool"() {
+        setup:
+        PooledExecutorService executor = new PooledExecutorService()
+        StreamingResponse response = executor.stream(request(new RequestOptions.Creator().readTimeout(0).deadline(300).create(), "/stall"))
+
+        when:
+        byte[] bytes = new byte[1024]
+        response.body().read(bytes)
+        response.body().read(bytes)
+
+        then:
+        thrown(IOException)
+
+        when:
+        response.close()
+
+        then:
+        executor.pool().size() == 0
+    }
+
+    @Timeout(10)
+    void "Given TLS peer, that does not complete handshake, PooledExecutorService fails within read timeout, deadline or on cancellation"() {
+        setup:
+        PooledExecutorService executor = new PooledExecutorService()
+        Cancellation cancellation = new Cancellation()
+        RequestOptions options = new RequestOptions.Creator().readTimeout(readTimeout).deadline(deadline).cancellation(cancellation).create()
+        Request request = new Request.Creator().target("https://localhost:${server.localPort}/hang").action(RequestAction.GET).options(options).create()
+        long starts = System.nanoTime()
+
+        when:
+        if (cancels) {
+            Thread.start {
+                Thread.sleep(300)
+                cancellation.cancel()
+            }
+        }
+
+        executor.execute(request)
+
+        then:
+        RuntimeException failure = thrown(expected)
+        (System.nanoTime() - starts) / 1_000_000 < 2000
+        executor.pool().size() == 0
+
+        where:
+        readTimeout | deadline | cancels | expected
+        200         | 0        | false   | RequestExecutionException
+        0           | 300      | false   | RequestExecutionException
+        0           | 0        | true    | RequestCancelledException
+    }
+}
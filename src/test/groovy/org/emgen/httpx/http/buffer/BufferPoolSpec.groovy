@@ -0,0 +1,116 @@
+package org.emgen.httpx.http.buffer
+
+import org.emgen.httpx.extensions.InputStreamExtensions
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.request.body.StringBody
+import org.emgen.httpx.http.response.StreamingResponse
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
+class BufferPoolSpec extends Specification {
+
+    void "Given released buffers, pool reuses them by size class"() {
+        setup:
+        BufferPool pool = new BufferPool.Creator().sizes(1024, 64 * 1024).create()
+
+        when:
+        byte[] first = pool.array(3000)
+        pool.release(first)
+        byte[] second = pool.array(4096)
+        byte[] large = pool.array(100_000)
+
+        then:
+        first.length == 4096
+        second.is(first)
+        large.length == 100_000
+        pool.hits() == 1
+        pool.misses() == 2
+    }
+
+    void "Given direct pool, buffers are direct & limited to requested size"() {
+        setup:
+        BufferPool pool = new BufferPool.Creator().direct(true).create()
+
+        when:
+        ByteBuffer buffer = pool.buffer(1500)
+        buffer.position(100)
+        pool.release(buffer)
+        ByteBuffer reused = pool.buffer(2000)
+
+        then:
+        buffer.isDirect()
+        reused.is(buffer)
+        reused.position() == 0
+        reused.limit() == 2000
+        reused.capacity() == 2048
+    }
+
+    void "Given leak detection, buffers, that are not released, are reported & double release fails"() {
+        setup:
+        BufferPool pool = new BufferPool.Creator().leakDetection(true).create()
+
+        when:
+        byte[] leaked = pool.array(100)
+        byte[] released = pool.array(100)
+        pool.release(released)
+
+        then:
+        pool.leaks().size() == 1
+        pool.leaks()[0].message == "Buffer of 1024 bytes was acquired here"
+
+        when:
+        pool.release(released)
+
+        then:
+        thrown(IllegalStateException)
+
+        cleanup:
+        pool.release(leaked)
+    }
+
+    void "Given stream, that is read with & without expected length, the same bytes are read"() {
+        setup:
+        byte[] bytes = new byte[100_000]
+        new Random(7).nextBytes(bytes)
+
+        expect:
+        InputStreamExtensions.readBytes(new ByteArrayInputStream(bytes)) == bytes
+        InputStreamExtensions.readBytes(new ByteArrayInputStream(bytes), bytes.length) == bytes
+        InputStreamExtensions.readBytes(new ByteArrayInputStream(bytes), 10) == bytes
+        InputStreamExtensions.readBytes(new ByteArrayInputStream(bytes), 200_000) == bytes
+        InputStreamExtensions.readBytes(new ByteArrayInputStream(bytes), 1_000_000_000L) == bytes
+        BufferPool.shared().leaks().isEmpty()
+    }
+
+    void "Given response, that never contains body, it's content length does not size body array"() {
+        setup:
+        StreamingResponse response = new StreamingResponse(code, "", ["Content-Length": ["2000000000"]], new ByteArrayInputStream(new byte[0]), {})
+
+        expect:
+        response.toResponse(System.nanoTime(), action).bytes().length == 0
+
+        where:
+        code | action
+        200  | RequestAction.HEAD
+        204  | RequestAction.GET
+        304  | null
+        200  | null
+    }
+
+    void "Given text, string body is written chunk by chunk & it's length is computed without encoding"() {
+        setup:
+        String text = ("aé€😀" * 5000) + "\uD800"
+        StringBody body = new StringBody(text)
+        ByteArrayOutputStream output = new ByteArrayOutputStream()
+
+        when:
+        body.writeTo(output)
+
+        then:
+        output.toByteArray() == text.getBytes(StandardCharsets.UTF_8)
+        body.length() == text.getBytes(StandardCharsets.UTF_8).length
+        BufferPool.shared().leaks().isEmpty()
+    }
+}
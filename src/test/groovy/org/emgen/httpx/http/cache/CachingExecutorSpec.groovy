@@ -0,0 +1,255 @@
+package org.emgen.httpx.http.cache
+
+import org.emgen.httpx.http.Executor
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.response.Response
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.time.format.DateTimeFormatter
+
+class CachingExecutorSpec extends Specification {
+
+    TestClock clock = new TestClock()
+    List<Request> executed = []
+    List<Response> responses = []
+    Executor delegate = { Request request ->
+        executed << request
+        responses.size() > 1 ? responses.remove(0) : responses[0]
+    } as Executor
+
+    CachingExecutor executor(long maxWeight = 1024 * 1024) {
+        new CachingExecutor.Creator().delegate(delegate).maxWeight(maxWeight).clock(clock).create()
+    }
+
+    static Request get(String target = "http://test.org/config", Map<String, String> headers = [:]) {
+        Request.Creator creator = new Request.Creator().target(target).action(RequestAction.GET).parameter("env", "prod")
+        headers.each { name, value -> creator.header(name, value) }
+        creator.create()
+    }
+
+    static Response response(int code, Map<String, String> headers, String body = "body") {
+        new Response(code, "", body, headers.collectEntries { name, value -> [(name): [value]] } as Map<String, List<String>>, 0)
+    }
+
+    String httpDate(long epochMillis) {
+        DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(epochMillis).atOffset(ZoneOffset.UTC))
+    }
+
+    void "Given fresh response with max-age, function execute() serves it from cache until it expires"() {
+        setup:
+        responses << response(200, ["Cache-Control": "max-age=60"], "first") << response(200, ["Cache-Control": "max-age=60"], "second")
+        CachingExecutor executor = executor()
+
+        when:
+        String first = executor.execute(get()).body()
+        clock.advance(59_000)
+        String cached = executor.execute(get()).body()
+        clock.advance(2_000)
+        String refreshed = executor.execute(get()).body()
+
+        then:
+        [first, cached, refreshed] == ["first", "first", "second"]
+        executed.size() == 2
+        executor.hits() == 1
+        executor.misses() == 2
+    }
+
+    void "Given requests to different targets, responses are cached by action & final URL"() {
+        setup:
+        responses << response(200, ["Cache-Control": "max-age=60"])
+        CachingExecutor executor = executor()
+
+        when:
+        executor.execute(get("http://test.org/config"))
+        executor.execute(new Request.Creator().target("http://test.org/config?env=prod").action(RequestAction.GET).create())
+        executor.execute(get("http://test.org/other"))
+        executor.execute(new Request.Creator().target("http://test.org/config").action(RequestAction.HEAD).parameter("env", "prod").create())
+
+        then:
+        executed.size() == 3
+        executor.hits() == 1
+    }
+
+    void "Given response with Expires header, freshness is computed relative to Date header"() {
+        setup:
+        long now = clock.millis()
+        responses << response(200, ["Date": httpDate(now - 10_000), "Expires": httpDate(now + 20_000)])
+        CachingExecutor executor = executor()
+
+        when:
+        executor.execute(get())
+        clock.advance(25_000)
+        executor.execute(get())
+        clock.advance(10_000)
+        executor.execute(get())
+
+        then:
+        executed.size() == 2
+        executor.hits() == 1
+    }
+
+    void "Given response with no-store directive, response is not stored"() {
+        setup:
+        responses << response(200, ["Cache-Control": "no-store, max-age=60"])
+        CachingExecutor executor = executor()
+
+        when:
+        2.times { executor.execute(get()) }
+
+        then:
+        executed.size() == 2
+        executor.size() == 0
+    }
+
+    void "Given request with no-cache directive, stored response is revalidated"() {
+        setup:
+        responses << response(200, ["Cache-Control": "max-age=60", "ETag": '"v1"']) << response(304, [:], "")
+        CachingExecutor executor = executor()
+
+        when:
+        executor.execute(get())
+        Response response = executor.execute(get("http://test.org/config", ["Cache-Control": "no-cache"]))
+
+        then:
+        response.body() == "body"
+        executed.size() == 2
+        executed[1].headers()["If-None-Match"] == ['"v1"']
+        executor.revalidations() == 1
+    }
+
+    void "Given stale response with validators & 304 answer, function execute() serves stored body with updated headers"() {
+        setup:
+        String lastModified = httpDate(clock.millis() - 60_000)
+        responses << response(200, ["Cache-Control": "max-age=10", "ETag": '"v1"', "Last-Modified": lastModified, "X-Version": "1"], "stored") <<
+                response(304, ["Cache-Control": "max-age=10", "X-Version": "2"], "")
+        CachingExecutor executor = executor()
+
+        when:
+        executor.execute(get())
+        clock.advance(11_000)
+        Response revalidated = executor.execute(get())
+        Response cached = executor.execute(get())
+
+        then:
+        revalidated.code() == 200
+        revalidated.body() == "stored"
+        revalidated.headers()["X-Version"] == ["2"]
+        cached.is(revalidated)
+        executed.size() == 2
+        executed[1].headers()["If-None-Match"] == ['"v1"']
+        executed[1].headers()["If-Modified-Since"] == [lastModified]
+        executor.revalidations() == 1
+        executor.hits() == 1
+    }
+
+    void "Given stale response with validators & changed resource, function execute() replaces stored response"() {
+        setup:
+        responses << response(200, ["ETag": '"v1"'], "old") << response(200, ["ETag": '"v2"'], "new") << response(304, [:], "")
+        CachingExecutor executor = executor()
+
+        when:
+        List<String> bodies = (0..<3).collect { executor.execute(get()).body() }
+
+        then:
+        bodies == ["old", "new", "new"]
+        executed[2].headers()["If-None-Match"] == ['"v2"']
+        executor.revalidations() == 1
+        executor.misses() == 2
+    }
+
+    void "Given response, that varies by header, it is served only to requests with the same header value"() {
+        setup:
+        responses << response(200, ["Cache-Control": "max-age=60", "Vary": "Accept"])
+        CachingExecutor executor = executor()
+
+        when:
+        executor.execute(get("http://test.org/config", ["Accept": "application/json"]))
+        executor.execute(get("http://test.org/config", ["Accept": "application/json"]))
+        executor.execute(get("http://test.org/config", ["Accept": "text/plain"]))
+
+        then:
+        executed.size() == 2
+        executor.hits() == 1
+    }
+
+    void "Given responses over max weight, least recently used responses are evicted"() {
+        setup:
+        responses << response(200, ["Cache-Control": "max-age=60"], "x" * 100)
+        CachingExecutor executor = executor(400)
+
+        when:
+        executor.execute(get("http://test.org/a"))
+        executor.execute(get("http://test.org/b"))
+        executor.execute(get("http://test.org/a"))
+        executor.execute(get("http://test.org/c"))
+        executor.execute(get("http://test.org/a"))
+        executor.execute(get("http://test.org/b"))
+
+        then:
+        executor.weight() <= 400
+        executor.evictions() >= 1
+        executed*.target() == ["http://test.org/a", "http://test.org/b", "http://test.org/c", "http://test.org/b"]
+    }
+
+    void "Given successful unsafe request, stored response of it's target is invalidated"() {
+        setup:
+        responses << response(200, ["Cache-Control": "max-age=60"])
+        CachingExecutor executor = executor()
+
+        when:
+        executor.execute(get())
+        executor.execute(new Request.Creator().target("http://test.org/config").action(RequestAction.PUT).parameter("env", "prod").body("new").create())
+        executor.execute(get())
+
+        then:
+        executed.size() == 3
+        executor.hits() == 0
+    }
+
+    void "Given request with conditional header, cache is bypassed"() {
+        setup:
+        responses << response(200, ["Cache-Control": "max-age=60"])
+        CachingExecutor executor = executor()
+
+        when:
+        2.times { executor.execute(get("http://test.org/config", ["If-None-Match": '"v1"'])) }
+
+        then:
+        executed.size() == 2
+        executor.size() == 0
+    }
+
+    static class TestClock extends Clock {
+
+        long millis = 1_600_000_000_000L
+
+        void advance(long duration) {
+            millis += duration
+        }
+
+        @Override
+        long millis() {
+            millis
+        }
+
+        @Override
+        Instant instant() {
+            Instant.ofEpochMilli(millis)
+        }
+
+        @Override
+        ZoneId getZone() {
+            ZoneOffset.UTC
+        }
+
+        @Override
+        Clock withZone(ZoneId zone) {
+            this
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.emgen.httpx.http.cache
+
+import org.emgen.httpx.http.Executor
+import org.emgen.httpx.http.exceptions.RequestExecutionException
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.response.Response
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class CoalescingExecutorSpec extends Specification {
+
+    AtomicInteger executions = new AtomicInteger()
+    CountDownLatch release = new CountDownLatch(1)
+    Executor delegate = { Request request ->
+        executions.incrementAndGet()
+        release.await(5, TimeUnit.SECONDS)
+
+        if (request.target().contains("failing")) {
+            throw new RequestExecutionException("Upstream failed")
+        }
+
+        new Response(200, "OK", request.target(), [:], 0)
+    } as Executor
+
+    static Request request(String target, RequestAction action = RequestAction.GET, String authorization = null) {
+        Request.Creator creator = new Request.Creator().target(target).action(action)
+
+        if (authorization != null) {
+            creator.header("Authorization", authorization)
+        }
+
+        creator.create()
+    }
+
+    void "Given concurrent identical requests, they share a single execution & it's response"() {
+        setup:
+        CoalescingExecutor executor = new CoalescingExecutor.Creator().delegate(delegate).create()
+        java.util.concurrent.ExecutorService threads = Executors.newFixedThreadPool(10)
+
+        when:
+        List<CompletableFuture<Response>> responses = (1..10).collect {
+            CompletableFuture.supplyAsync({ executor.execute(request("http://test.org/hot")) }, threads)
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5)
+
+        while (executor.collapsed() < 9 && System.nanoTime() < deadline) {
+            Thread.sleep(5)
+        }
+
+        release.countDown()
+
+        then:
+        responses*.join().every { it.is(responses[0].join()) }
+        executions.get() == 1
+        executor.executions() == 1
+        executor.collapsed() == 9
+        executor.inFlight() == 0
+
+        cleanup:
+        threads.shutdown()
+    }
+
+    void "Given requests, that differ by action, selected header or body, they are not coalesced"() {
+        setup:
+        release.countDown()
+        CoalescingExecutor executor = new CoalescingExecutor.Creator().delegate(delegate).create()
+
+        when:
+        List<CompletableFuture<Response>> responses = [
+                executor.executeAsync(request("http://test.org/a", RequestAction.GET, "Bearer 1")),
+                executor.executeAsync(request("http://test.org/a", RequestAction.GET, "Bearer 2")),
+                executor.executeAsync(request("http://test.org/a", RequestAction.DELETE)),
+                executor.executeAsync(new Request.Creator(request("http://test.org/a", RequestAction.POST)).body("x").create())
+        ]
+
+        then:
+        responses*.join()*.code() == [200, 200, 200, 200]
+        executions.get() == 4
+        executor.collapsed() == 0
+    }
+
+    void "Given requests for different ranges or with different validators, they are not coalesced"() {
+        setup:
+        release.countDown()
+        CoalescingExecutor executor = new CoalescingExecutor.Creator().delegate(delegate).create()
+
+        when:
+        List<CompletableFuture<Response>> responses = [
+                executor.executeAsync(new Request.Creator(request("http://test.org/file")).header("Range", "bytes=0-99").create()),
+                executor.executeAsync(new Request.Creator(request("http://test.org/file")).header("Range", "bytes=100-199").create()),
+                executor.executeAsync(new Request.Creator(request("http://test.org/file")).header("If-None-Match", '"v1"').create()),
+                executor.executeAsync(new Request.Creator(request("http://test.org/file")).header("If-None-Match", '"v2"').create())
+        ]
+
+        then:
+        responses*.join()*.code() == [200, 200, 200, 200]
+        executions.get() == 4
+        executor.collapsed() == 0
+    }
+
+    void "Given leader, that fails with error, waiting requests fail with it too"() {
+        setup:
+        CountDownLatch started = new CountDownLatch(1)
+        CountDownLatch waiting = new CountDownLatch(1)
+        Executor failing = { Request request ->
+            started.countDown()
+            waiting.await(5, TimeUnit.SECONDS)
+            throw new OutOfMemoryError("Test")
+        } as Executor
+        CoalescingExecutor executor = new CoalescingExecutor.Creator().delegate(failing).create()
+        java.util.concurrent.ExecutorService threads = Executors.newSingleThreadExecutor()
+
+        when:
+        CompletableFuture<Response> leader = CompletableFuture.supplyAsync({ executor.execute(request("http://test.org/hot")) }, threads)
+        started.await(5, TimeUnit.SECONDS)
+        CompletableFuture<Response> follower = executor.executeAsync(request("http://test.org/hot"))
+        waiting.countDown()
+        follower.get(5, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException failure = thrown(ExecutionException)
+        failure.cause instanceof OutOfMemoryError
+        leader.handle { response, error -> error.cause }.get(5, TimeUnit.SECONDS) instanceof OutOfMemoryError
+        executor.inFlight() == 0
+
+        cleanup:
+        threads.shutdown()
+    }
+
+    void "Given failing execution, every waiting request fails & the next request is executed again"() {
+        setup:
+        CoalescingExecutor executor = new CoalescingExecutor.Creator().delegate(delegate).create()
+
+        when:
+        CompletableFuture<Response> first = executor.executeAsync(request("http://test.org/failing"))
+        CompletableFuture<Response> second = executor.executeAsync(request("http://test.org/failing"))
+        second.cancel(true)
+        CompletableFuture<Response> third = executor.executeAsync(request("http://test.org/failing"))
+        release.countDown()
+        third.join()
+
+        then:
+        CompletionException failure = thrown(CompletionException)
+        failure.cause instanceof RequestExecutionException
+        first.isCompletedExceptionally()
+        executor.collapsed() == 2
+
+        when:
+        executor.execute(request("http://test.org/failing"))
+
+        then:
+        thrown(RequestExecutionException)
+        executions.get() == 2
+    }
+}
@@ -0,0 +1,164 @@
+package org.emgen.httpx.http.circuit
+
+import org.emgen.httpx.http.Executor
+import org.emgen.httpx.http.exceptions.CircuitOpenException
+import org.emgen.httpx.http.exceptions.RequestExecutionException
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.response.Response
+import spock.lang.Specification
+
+import java.util.concurrent.CompletionException
+import java.util.concurrent.atomic.AtomicInteger
+
+class CircuitBreakerExecutorSpec extends Specification {
+
+    AtomicInteger executions = new AtomicInteger()
+    List<Object> outcomes = Collections.synchronizedList([])
+    Executor delegate = { Request request ->
+        executions.incrementAndGet()
+        Object outcome = outcomes.size() > 1 ? outcomes.remove(0) : outcomes[0]
+
+        if (outcome instanceof Exception) {
+            throw outcome
+        }
+
+        outcome as Response
+    } as Executor
+
+    static CircuitBreakerPolicy policy() {
+        new CircuitBreakerPolicy.Creator().window(10, 4).slowCalls(100, 50).recovery(100, 2).pathSegments(1).create()
+    }
+
+    static Request request(String path = "/orders/1") {
+        new Request.Creator().target("http://test.org$path").action(RequestAction.GET).create()
+    }
+
+    static Response response(int code, long duration = 10) {
+        new Response(code, "", "body", [:], duration)
+    }
+
+    void "Given failure rate above threshold, breaker opens & rejects requests without executing them"() {
+        setup:
+        outcomes << response(200) << response(503) << new RequestExecutionException(new IOException("Connection reset")) << response(200)
+        CircuitBreakerExecutor executor = new CircuitBreakerExecutor.Creator().delegate(delegate).policy(policy()).create()
+
+        when:
+        4.times {
+            try {
+                executor.execute(request())
+            } catch (RequestExecutionException ignored) {
+            }
+        }
+
+        then:
+        executor.breaker("http://test.org:80/orders").state() == CircuitBreaker.State.OPEN
+        executor.breaker("http://test.org:80/orders").failureRate() == 50.0
+
+        when:
+        executor.execute(request("/orders/2"))
+
+        then:
+        thrown(CircuitOpenException)
+        executions.get() == 4
+        executor.rejections() == 1
+
+        when:
+        executor.executeAsync(request()).join()
+
+        then:
+        CompletionException failure = thrown(CompletionException)
+        failure.cause instanceof CircuitOpenException
+
+        when:
+        Response other = executor.execute(request("/customers/1"))
+
+        then:
+        other.code() == 200
+        executor.breaker("http://test.org:80/customers").state() == CircuitBreaker.State.CLOSED
+    }
+
+    void "Given slow call rate above threshold, breaker opens"() {
+        setup:
+        outcomes << response(200, 500)
+        CircuitBreakerExecutor executor = new CircuitBreakerExecutor.Creator().delegate(delegate).policy(policy()).create()
+
+        when:
+        4.times { executor.execute(request()) }
+
+        then:
+        executor.breaker("http://test.org:80/orders").slowCallRate() == 100.0
+        executor.breaker("http://test.org:80/orders").state() == CircuitBreaker.State.OPEN
+    }
+
+    void "Given open breaker, it lets probes through once open duration passes & closes, when they succeed"() {
+        setup:
+        outcomes << response(503)
+        CircuitBreakerExecutor executor = new CircuitBreakerExecutor.Creator().delegate(delegate).policy(policy()).create()
+        4.times { executor.execute(request()) }
+        CircuitBreaker breaker = executor.breaker("http://test.org:80/orders")
+
+        when:
+        Thread.sleep(150)
+        outcomes[0] = response(503)
+        executor.execute(request())
+
+        then:
+        breaker.state() == CircuitBreaker.State.OPEN
+        breaker.openings() == 2
+
+        when:
+        Thread.sleep(150)
+        outcomes[0] = response(200)
+        executor.execute(request())
+
+        then:
+        breaker.state() == CircuitBreaker.State.HALF_OPEN
+
+        when:
+        executor.execute(request())
+
+        then:
+        breaker.state() == CircuitBreaker.State.CLOSED
+        breaker.calls() == 0
+        executions.get() == 7
+    }
+
+    void "Given half - open breaker, calls beyond probe count are rejected"() {
+        setup:
+        CircuitBreaker breaker = new CircuitBreaker("test", new CircuitBreakerPolicy.Creator().window(2, 1).recovery(1, 2).create())
+        breaker.record(breaker.acquire(), 10, true)
+        Thread.sleep(5)
+
+        when:
+        CircuitBreaker.Phase first = breaker.acquire()
+        CircuitBreaker.Phase second = breaker.acquire()
+        CircuitBreaker.Phase third = breaker.acquire()
+
+        then:
+        breaker.state() == CircuitBreaker.State.HALF_OPEN
+        first != null
+        second != null
+        third == null
+
+        when:
+        breaker.release(second)
+
+        then:
+        breaker.acquire() != null
+    }
+
+    void "Given window, that is full, the eldest outcomes are overwritten"() {
+        setup:
+        CircuitBreaker breaker = new CircuitBreaker("test", new CircuitBreakerPolicy.Creator().window(4, 4).failureRateThreshold(100).create())
+
+        when:
+        3.times { breaker.record(breaker.acquire(), 10, true) }
+        5.times { breaker.record(breaker.acquire(), 10, false) }
+
+        then:
+        breaker.calls() == 4
+        breaker.failureRate() == 0.0
+        breaker.state() == CircuitBreaker.State.CLOSED
+    }
+}
@@ -0,0 +1,133 @@
+package org.emgen.httpx.http.connection
+
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class ConnectorSpec extends Specification {
+
+    static final InetAddress LOOPBACK = InetAddress.getByAddress("test.org", [127, 0, 0, 1] as byte[])
+    static final InetAddress UNROUTABLE = InetAddress.getByAddress("test.org", [10, 255, 255, 1] as byte[])
+
+    void "Given cached host, function resolve() serves it from cache & refreshes it in background before it expires"() {
+        setup:
+        AtomicInteger lookups = new AtomicInteger()
+        CachingResolver resolver = new CachingResolver.Creator()
+                .delegate({ String host -> lookups.incrementAndGet(); [LOOPBACK] } as Resolver)
+                .ttl(400)
+                .create()
+
+        when:
+        resolver.resolve("test.org")
+        resolver.resolve("test.org")
+
+        then:
+        lookups.get() == 1
+        resolver.hits() == 1
+        resolver.misses() == 1
+
+        when:
+        Thread.sleep(320)
+        List<InetAddress> addresses = resolver.resolve("test.org")
+        Thread.sleep(50)
+
+        then:
+        addresses == [LOOPBACK]
+        lookups.get() == 2
+        resolver.refreshes() == 1
+        resolver.misses() == 1
+    }
+
+    void "Given expired host or failed lookup, function resolve() resolves host again"() {
+        setup:
+        List<Object> outcomes = [new UnknownHostException("test.org"), [LOOPBACK], [LOOPBACK]]
+        CachingResolver resolver = new CachingResolver.Creator()
+                .delegate({ String host ->
+                    Object outcome = outcomes.remove(0)
+
+                    if (outcome instanceof UnknownHostException) {
+                        throw outcome
+                    }
+
+                    outcome as List<InetAddress>
+                } as Resolver)
+                .ttl(50)
+                .create()
+
+        when:
+        resolver.resolve("test.org")
+
+        then:
+        thrown(UnknownHostException)
+
+        when:
+        resolver.resolve("test.org")
+        Thread.sleep(60)
+        resolver.resolve("test.org")
+
+        then:
+        resolver.misses() == 3
+        outcomes.isEmpty()
+    }
+
+    void "Given host with address, that does not respond, function connect() races the next address without waiting for connect timeout"() {
+        setup:
+        ServerSocket server = new ServerSocket(0, 50, LOOPBACK)
+        // connections to server with full backlog are not accepted & connect hangs, until SYN is retried
+        InetAddress stalled = InetAddress.getByAddress("test.org", [127, 0, 0, 2] as byte[])
+        ServerSocket full = new ServerSocket(server.localPort, 1, stalled)
+        List<Socket> backlog = (1..3).collect {
+            Socket socket = new Socket()
+            try {
+                socket.connect(new InetSocketAddress(stalled, server.localPort), 200)
+            } catch (IOException ignored) {
+            }
+            socket
+        }
+        Connector connector = new Connector({ String host -> [stalled, LOOPBACK] } as Resolver, 100)
+        long starts = System.nanoTime()
+
+        when:
+        Socket socket = connector.connect("test.org", server.localPort, 5000)
+
+        then:
+        socket.connected
+        socket.inetAddress == LOOPBACK
+        socket.tcpNoDelay
+        (System.nanoTime() - starts) / 1_000_000 < 1000
+
+        cleanup:
+        socket?.close()
+        backlog*.close()
+        full.close()
+        server.close()
+    }
+
+    void "Given host, that refuses connections on every address, function connect() fails with all failures"() {
+        setup:
+        ServerSocket server = new ServerSocket(0, 50, LOOPBACK)
+        int port = server.localPort
+        server.close()
+        InetAddress other = InetAddress.getByAddress("test.org", [127, 0, 0, 2] as byte[])
+        Connector connector = new Connector({ String host -> [LOOPBACK, other] } as Resolver, 100)
+
+        when:
+        connector.connect("test.org", port, 5000)
+
+        then:
+        ConnectException failure = thrown(ConnectException)
+        failure.suppressed.length == 1
+    }
+
+    void "Given mixed address families, they are ordered alternately, starting with family of the first address"() {
+        setup:
+        InetAddress v6a = InetAddress.getByName("::1")
+        InetAddress v6b = InetAddress.getByName("::2")
+        InetAddress v4a = InetAddress.getByName("127.0.0.1")
+        InetAddress v4b = InetAddress.getByName("127.0.0.2")
+
+        expect:
+        Connector.order([v6a, v6b, v4a, v4b]) == [v6a, v4a, v6b, v4b]
+        Connector.order([v4a, v6a, v6b]) == [v4a, v6a, v6b]
+    }
+}
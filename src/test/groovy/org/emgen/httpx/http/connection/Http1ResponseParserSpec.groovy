@@ -0,0 +1,110 @@
+package org.emgen.httpx.http.connection
+
+import org.emgen.httpx.http.request.RequestAction
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
+class Http1ResponseParserSpec extends Specification {
+
+    static ByteBuffer bytes(String string) {
+        ByteBuffer.wrap(string.getBytes(StandardCharsets.ISO_8859_1))
+    }
+
+    void "Given response, that is fed byte by byte, function feed() parses status line, headers & chunked body"() {
+        setup:
+        Http1ResponseParser parser = new Http1ResponseParser(RequestAction.GET)
+        String response = "HTTP/1.1 100 Continue\r\n\r\n" +
+                "HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\nX-Test: a\r\nx-test: b\r\n\r\n" +
+                "5;ext=1\r\nhello\r\n6\r\n world\r\n0\r\nTrailer: x\r\n\r\n"
+        boolean done = false
+
+        when:
+        for (char c : response.toCharArray()) {
+            done = parser.feed(bytes(String.valueOf(c)))
+        }
+
+        then:
+        done
+        parser.head().code() == 200
+        parser.head().message() == "OK"
+        parser.head().headers().get("X-TEST") == ["a", "b"]
+        new String(parser.body(), StandardCharsets.UTF_8) == "hello world"
+        parser.reusable()
+    }
+
+    void "Given response with content length, function feed() leaves bytes, that follow the response, in buffer"() {
+        setup:
+        Http1ResponseParser parser = new Http1ResponseParser(RequestAction.GET)
+        ByteBuffer buffer = bytes("HTTP/1.1 200 OK\r\nContent-Length: 3\r\n\r\nabcHTTP/1.1")
+
+        expect:
+        parser.feed(buffer)
+        new String(parser.body(), StandardCharsets.UTF_8) == "abc"
+        buffer.remaining() == 8
+    }
+
+    void "Given response to HEAD request, function feed() completes without body"() {
+        setup:
+        Http1ResponseParser parser = new Http1ResponseParser(RequestAction.HEAD)
+
+        expect:
+        parser.feed(bytes("HTTP/1.1 200 OK\r\nContent-Length: 10\r\n\r\n"))
+        parser.body().length == 0
+    }
+
+    void "Given response without framing, function endOfStream() completes response, that is not reusable"() {
+        setup:
+        Http1ResponseParser parser = new Http1ResponseParser(RequestAction.GET)
+
+        when:
+        boolean done = parser.feed(bytes("HTTP/1.0 200 OK\r\n\r\nbody"))
+
+        then:
+        !done
+        parser.endOfStream()
+        new String(parser.body(), StandardCharsets.UTF_8) == "body"
+        !parser.reusable()
+    }
+
+    void "Given incomplete response, function endOfStream() throws EOFException"() {
+        setup:
+        Http1ResponseParser parser = new Http1ResponseParser(RequestAction.GET)
+        parser.feed(bytes("HTTP/1.1 200 OK\r\nContent-Length: 10\r\n\r\nabc"))
+
+        when:
+        parser.endOfStream()
+
+        then:
+        thrown(EOFException)
+    }
+
+    void "Given malformed status line, function feed() throws IOException"() {
+        when:
+        new Http1ResponseParser(RequestAction.GET).feed(bytes("SMTP ready\r\n"))
+
+        then:
+        thrown(IOException)
+    }
+
+    void "Given negative, signed or oversized chunk size, parser & chunked stream fail with IOException"() {
+        setup:
+        String head = "HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n"
+
+        when:
+        new Http1ResponseParser(RequestAction.GET).feed(bytes(head + size + "\r\nhello\r\n0\r\n\r\n"))
+
+        then:
+        thrown(IOException)
+
+        when:
+        new ChunkedInputStream(new ByteArrayInputStream((size + "\r\nhello\r\n0\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1))).read(new byte[16], 0, 16)
+
+        then:
+        thrown(IOException)
+
+        where:
+        size << ["-1", "+5", "", "10000000000000000"]
+    }
+}
@@ -0,0 +1,244 @@
+package org.emgen.httpx.http.encoding
+
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+import org.emgen.httpx.http.Executor
+import org.emgen.httpx.http.ExecutorService
+import org.emgen.httpx.http.PooledExecutorService
+import org.emgen.httpx.http.nio.NioExecutorService
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.request.RequestOptions
+import org.emgen.httpx.http.request.body.GzipBody
+import org.emgen.httpx.http.request.body.RequestBody
+import org.emgen.httpx.http.response.Response
+import org.emgen.httpx.http.response.StreamingResponse
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.zip.Deflater
+import java.util.zip.DeflaterOutputStream
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+
+class ContentEncodingSpec extends Specification {
+
+    static final String JSON = '{"items":[' + (0..<500).collect { '{"id":' + it + ',"name":"item"}' }.join(",") + ']}'
+
+    @Shared
+    HttpServer server
+    @Shared
+    NioExecutorService nioExecutor = new NioExecutorService()
+
+    void setupSpec() {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0)
+        server.createContext("/json", { HttpExchange exchange ->
+            String accepted = exchange.requestHeaders.getFirst("Accept-Encoding") ?: ""
+            String coding = exchange.requestURI.query ?: "gzip"
+            byte[] body = accepted.contains(coding) || coding == "raw-deflate" && accepted.contains("deflate")
+                    ? encode(JSON.getBytes(StandardCharsets.UTF_8), coding)
+                    : JSON.getBytes(StandardCharsets.UTF_8)
+
+            if (body.length != JSON.length()) {
+                exchange.responseHeaders.add("Content-Encoding", coding == "raw-deflate" ? "deflate" : coding)
+            }
+
+            exchange.responseHeaders.add("X-Accept-Encoding", accepted)
+            exchange.sendResponseHeaders(200, exchange.requestMethod == "HEAD" ? -1 : body.length)
+
+            if (exchange.requestMethod != "HEAD") {
+                exchange.responseBody.write(body)
+            }
+
+            exchange.close()
+        })
+        server.createContext("/upload", { HttpExchange exchange ->
+            String coding = exchange.requestHeaders.getFirst("Content-Encoding")
+            InputStream input = coding == "gzip" ? new GZIPInputStream(exchange.requestBody) : exchange.requestBody
+            byte[] body = ((coding ?: "identity") + " " + input.text).getBytes(StandardCharsets.UTF_8)
+            exchange.sendResponseHeaders(200, body.length)
+            exchange.responseBody.write(body)
+            exchange.close()
+        })
+        server.start()
+    }
+
+    void cleanupSpec() {
+        nioExecutor.close()
+        server.stop(0)
+    }
+
+    static byte[] encode(byte[] bytes, String coding) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream()
+        OutputStream encoder = coding == "gzip"
+                ? new GZIPOutputStream(output)
+                : new DeflaterOutputStream(output, new Deflater(Deflater.DEFAULT_COMPRESSION, coding == "raw-deflate"))
+        encoder.write(bytes)
+        encoder.close()
+        output.toByteArray()
+    }
+
+    Request request(String path, RequestAction action = RequestAction.GET, RequestOptions options = new RequestOptions.Creator().create()) {
+        new Request.Creator().target("http://localhost:${server.address.port}${path}").action(action).options(options).create()
+    }
+
+    Executor executor(String name) {
+        name == "ExecutorService" ? new ExecutorService() : name == "PooledExecutorService" ? new PooledExecutorService() : nioExecutor
+    }
+
+    static String header(Map<String, List<String>> headers, String name) {
+        headers.find { it.key?.equalsIgnoreCase(name) }?.value?.get(0)
+    }
+
+    void "Given #coding encoded response, #name negotiates compression & decodes body"() {
+        when:
+        Response response = request("/json?$coding").execute(executor(name))
+
+        then:
+        response.body() == JSON
+        header(response.headers(), "X-Accept-Encoding") == "gzip, deflate"
+        response.decodedBytesCount() == JSON.length()
+        response.wireBytesCount() < response.decodedBytesCount() / 5
+
+        where:
+        [name, coding] << [["ExecutorService", "PooledExecutorService", "NioExecutorService"], ["gzip", "deflate", "raw-deflate"]].combinations()
+    }
+
+    void "Given gzip encoded response, #name streams decoded body"() {
+        when:
+        StreamingResponse response = executor(name).stream(request("/json"))
+
+        then:
+        response.body().getText("UTF-8") == JSON
+
+        cleanup:
+        response?.close()
+
+        where:
+        name << ["ExecutorService", "PooledExecutorService", "NioExecutorService"]
+    }
+
+    void "Given disabled compression, #name does not negotiate it"() {
+        when:
+        Response response = request("/json", RequestAction.GET, new RequestOptions.Creator().compression(false).create()).execute(executor(name))
+
+        then:
+        header(response.headers(), "X-Accept-Encoding") == ""
+        response.body() == JSON
+        response.wireBytesCount() == JSON.length()
+
+        where:
+        name << ["ExecutorService", "PooledExecutorService", "NioExecutorService"]
+    }
+
+    void "Given request with own Accept-Encoding header, #name leaves body encoded"() {
+        setup:
+        Request request = new Request.Creator()
+                .target("http://localhost:${server.address.port}/json")
+                .action(RequestAction.GET)
+                .header("Accept-Encoding", "gzip")
+                .create()
+
+        when:
+        StreamingResponse response = executor(name).stream(request)
+
+        then:
+        new GZIPInputStream(response.body()).getText("UTF-8") == JSON
+
+        cleanup:
+        response?.close()
+
+        where:
+        name << ["ExecutorService", "PooledExecutorService", "NioExecutorService"]
+    }
+
+    void "Given HEAD request & encoded response, #name returns empty body"() {
+        when:
+        Response response = request("/json", RequestAction.HEAD).execute(executor(name))
+
+        then:
+        response.body() == ""
+
+        where:
+        name << ["ExecutorService", "PooledExecutorService", "NioExecutorService"]
+    }
+
+    void "Given compression threshold, #name compresses request body of length #length: #compressed"() {
+        setup:
+        String body = "x" * length
+        Request request = new Request.Creator()
+                .target("http://localhost:${server.address.port}/upload")
+                .action(RequestAction.POST)
+                .options(new RequestOptions.Creator().compressionThreshold(1024).create())
+                .body(body)
+                .create()
+
+        expect:
+        request.execute(executor(name)).body() == (compressed ? "gzip " : "identity ") + body
+
+        where:
+        [name, length] << [["ExecutorService", "PooledExecutorService", "NioExecutorService"], [100, 1024, 100_000]].combinations()
+        compressed = length >= 1024
+    }
+
+    void "Given deflate stream with zlib header, it is decoded"() {
+        setup:
+        byte[] encoded = encode("content".getBytes(StandardCharsets.UTF_8), "deflate")
+        DecodingInputStream stream = new DecodingInputStream(new ByteArrayInputStream(encoded), "deflate")
+
+        expect:
+        stream.getText("UTF-8") == "content"
+        stream.wireBytes() == encoded.length
+        stream.decodedBytes() == 7
+    }
+
+    void "Given empty encoded stream, it is read as empty"() {
+        expect:
+        new DecodingInputStream(new ByteArrayInputStream(new byte[0]), "gzip").read() == -1
+    }
+
+    void "Given gzip body, it is written completely & connection's stream stays open"() {
+        setup:
+        boolean closed = false
+        ByteArrayOutputStream output = new ByteArrayOutputStream() {
+
+            @Override
+            void close() {
+                closed = true
+            }
+        }
+
+        when:
+        new GzipBody(RequestBody.of(JSON)).writeTo(output)
+        output.write(0x21)
+
+        then:
+        !closed
+        new GZIPInputStream(new ByteArrayInputStream(output.toByteArray())).getText("UTF-8") == JSON
+        output.toByteArray()[-1] == 0x21 as byte
+    }
+
+    void "Given partially read gzip stream, function end() releases decoder, but leaves underlying stream open"() {
+        setup:
+        boolean closed = false
+        InputStream wire = new ByteArrayInputStream(encode(JSON.getBytes(StandardCharsets.UTF_8), "gzip")) {
+
+            @Override
+            void close() {
+                closed = true
+            }
+        }
+        DecodingInputStream stream = new DecodingInputStream(wire, "gzip")
+        StreamingResponse response = new StreamingResponse(200, "OK", [:], stream, {})
+
+        when:
+        stream.read(new byte[16], 0, 16)
+        response.close()
+
+        then:
+        stream.decoder.closed
+        stream.read() == -1
+        !closed
+    }
+}
@@ -0,0 +1,232 @@
+package org.emgen.httpx.http.h2
+
+import org.emgen.httpx.http.Headers
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.IntBinaryOperator
+
+/**
+ * Minimal h2c (prior knowledge) server, that is built on the codec of this package. Each request is handled on
+ * a thread pool by {@link H2cServer#handler}, that receives request header fields & body and returns
+ * [status, headers, body]. Response bodies are written within client's flow - control windows.
+ */
+class H2cServer implements Closeable {
+
+    final ServerSocket socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())
+    final ExecutorService workers = Executors.newCachedThreadPool()
+    final AtomicInteger connections = new AtomicInteger()
+    final AtomicInteger streams = new AtomicInteger()
+    final AtomicInteger active = new AtomicInteger()
+    final AtomicInteger maxActive = new AtomicInteger()
+    final int maxConcurrentStreams
+    final int windowSize
+    volatile int refusals
+    Closure<List> handler = { Headers fields, byte[] body -> [200, [:], new byte[0]] }
+
+    H2cServer(int maxConcurrentStreams = 100, int windowSize = Http2Frame.DEFAULT_WINDOW_SIZE) {
+        this.maxConcurrentStreams = maxConcurrentStreams
+        this.windowSize = windowSize
+        workers.execute { accept() }
+    }
+
+    int port() {
+        socket.localPort
+    }
+
+    void close() {
+        socket.close()
+        workers.shutdownNow()
+    }
+
+    private void accept() {
+        while (!socket.closed) {
+            try {
+                Socket client = socket.accept()
+                connections.incrementAndGet()
+                workers.execute { serve(client) }
+            } catch (IOException ignored) {
+                return
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        InputStream input = new BufferedInputStream(client.inputStream)
+        Session session = new Session(output: new BufferedOutputStream(client.outputStream))
+
+        try {
+            byte[] preface = new byte[24]
+            new DataInputStream(input).readFully(preface)
+            assert new String(preface, StandardCharsets.ISO_8859_1) == "PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n"
+            session.write(Http2Frame.SETTINGS, 0, 0, Http2Frame.settings(
+                    Http2Frame.SETTINGS_MAX_CONCURRENT_STREAMS, maxConcurrentStreams,
+                    Http2Frame.SETTINGS_INITIAL_WINDOW_SIZE, windowSize))
+            HpackDecoder decoder = new HpackDecoder()
+            Map<Integer, ServerStream> open = [:]
+
+            while (true) {
+                Http2Frame frame = Http2Frame.read(input, Http2Frame.DEFAULT_MAX_FRAME_SIZE)
+
+                switch (frame.type()) {
+                    case Http2Frame.SETTINGS:
+                        if (!frame.has(Http2Frame.FLAG_ACK)) {
+                            session.applySettings(frame)
+                            session.write(Http2Frame.SETTINGS, Http2Frame.FLAG_ACK, 0, new byte[0])
+                        }
+                        break
+                    case Http2Frame.WINDOW_UPDATE:
+                        session.windowUpdate(frame.streamId(), frame.int31(0))
+                        break
+                    case Http2Frame.HEADERS:
+                        Headers.Creator fields = new Headers.Creator()
+                        decoder.decode(frame.payload(), 0, frame.payload().length, fields)
+                        streams.incrementAndGet()
+
+                        if (refusals > 0) {
+                            refusals--
+                            session.write(Http2Frame.RST_STREAM, 0, frame.streamId(), Http2Frame.int32Payload(Http2Frame.REFUSED_STREAM))
+                            break
+                        }
+
+                        ServerStream stream = new ServerStream(id: frame.streamId(), fields: fields.create())
+                        open[frame.streamId()] = stream
+
+                        if (frame.has(Http2Frame.FLAG_END_STREAM)) {
+                            respond(session, open.remove(frame.streamId()))
+                        }
+                        break
+                    case Http2Frame.DATA:
+                        ServerStream receiving = open[frame.streamId()]
+                        receiving?.body?.write(frame.payload())
+
+                        if (frame.payload().length > 0) {
+                            session.write(Http2Frame.WINDOW_UPDATE, 0, 0, Http2Frame.int32Payload(frame.payload().length))
+                            session.write(Http2Frame.WINDOW_UPDATE, 0, frame.streamId(), Http2Frame.int32Payload(frame.payload().length))
+                        }
+
+                        if (frame.has(Http2Frame.FLAG_END_STREAM) && receiving != null) {
+                            respond(session, open.remove(frame.streamId()))
+                        }
+                        break
+                    case Http2Frame.RST_STREAM:
+                        open.remove(frame.streamId())
+                        session.reset(frame.streamId())
+                        break
+                    case Http2Frame.GOAWAY:
+                        return
+                }
+            }
+        } catch (IOException ignored) {
+            // client closed connection
+        } finally {
+            session.close()
+            client.close()
+        }
+    }
+
+    private void respond(Session session, ServerStream stream) {
+        int current = active.incrementAndGet()
+        maxActive.accumulateAndGet(current, { a, b -> Math.max(a, b) } as IntBinaryOperator)
+
+        workers.execute {
+            try {
+                List response = handler(stream.fields, stream.body.toByteArray())
+                Headers.Creator fields = new Headers.Creator().add(":status", String.valueOf(response[0]))
+                (response[1] as Map<String, String>).each { name, value -> fields.add(name, value) }
+                active.decrementAndGet()
+                byte[] body = stream.fields.first(":method") == "HEAD" ? new byte[0] : response[2] as byte[]
+                session.respond(stream.id, fields.create(), body)
+            } catch (IOException ignored) {
+                // stream was reset or connection was closed
+            }
+        }
+    }
+
+    static class ServerStream {
+        int id
+        Headers fields
+        ByteArrayOutputStream body = new ByteArrayOutputStream()
+    }
+
+    /**
+     * Write side of connection - HPACK encoder & send windows, that are shared by response threads.
+     */
+    static class Session {
+        OutputStream output
+        HpackEncoder encoder = new HpackEncoder()
+        long connectionWindow = Http2Frame.DEFAULT_WINDOW_SIZE
+        int initialWindow = Http2Frame.DEFAULT_WINDOW_SIZE
+        Map<Integer, Long> windows = [:]
+        Set<Integer> reset = []
+        boolean closed
+
+        synchronized void write(int type, int flags, int streamId, byte[] payload) {
+            Http2Frame.write(output, type, flags, streamId, payload, 0, payload.length)
+            output.flush()
+        }
+
+        synchronized void applySettings(Http2Frame frame) {
+            for (int offset = 0; offset < frame.payload().length; offset += 6) {
+                if (frame.payload()[offset + 1] == Http2Frame.SETTINGS_INITIAL_WINDOW_SIZE) {
+                    initialWindow = frame.int32(offset + 2)
+                }
+            }
+        }
+
+        synchronized void windowUpdate(int streamId, int increment) {
+            if (streamId == 0) {
+                connectionWindow += increment
+            } else {
+                windows[streamId] = window(streamId) + increment
+            }
+
+            notifyAll()
+        }
+
+        synchronized void reset(int streamId) {
+            reset << streamId
+            notifyAll()
+        }
+
+        synchronized void close() {
+            closed = true
+            notifyAll()
+        }
+
+        void respond(int streamId, Headers fields, byte[] body) {
+            synchronized (this) {
+                ByteArrayOutputStream block = new ByteArrayOutputStream()
+                (0..<fields.count()).each { encoder.encode(fields.name(it), fields.value(it), block) }
+                int flags = Http2Frame.FLAG_END_HEADERS | (body.length == 0 ? Http2Frame.FLAG_END_STREAM : 0)
+                write(Http2Frame.HEADERS, flags, streamId, block.toByteArray())
+            }
+
+            for (int offset = 0; offset < body.length;) {
+                synchronized (this) {
+                    while (!closed && !(streamId in reset) && Math.min(connectionWindow, window(streamId)) <= 0) {
+                        wait()
+                    }
+
+                    if (closed || streamId in reset) {
+                        return
+                    }
+
+                    int length = (int) Math.min(Math.min(connectionWindow, window(streamId)), Math.min(body.length - offset, Http2Frame.DEFAULT_MAX_FRAME_SIZE))
+                    connectionWindow -= length
+                    windows[streamId] = window(streamId) - length
+                    int flags = offset + length == body.length ? Http2Frame.FLAG_END_STREAM : 0
+                    Http2Frame.write(output, Http2Frame.DATA, flags, streamId, body, offset, length)
+                    output.flush()
+                    offset += length
+                }
+            }
+        }
+
+        private long window(int streamId) {
+            windows.containsKey(streamId) ? windows[streamId] : initialWindow
+        }
+    }
+}
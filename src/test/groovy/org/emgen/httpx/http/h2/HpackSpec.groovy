@@ -0,0 +1,124 @@
+package org.emgen.httpx.http.h2
+
+import org.emgen.httpx.http.Headers
+import spock.lang.Specification
+
+class HpackSpec extends Specification {
+
+    static byte[] hex(String string) {
+        String digits = string.replaceAll("\\s", "")
+        (0..<digits.length() / 2).collect { (byte) Integer.parseInt(digits.substring(2 * it, 2 * it + 2), 16) } as byte[]
+    }
+
+    static byte[] encode(HpackEncoder encoder, List<List<String>> fields) {
+        ByteArrayOutputStream block = new ByteArrayOutputStream()
+        fields.each { encoder.encode(it[0], it[1], block) }
+        block.toByteArray()
+    }
+
+    static List<List<String>> decode(HpackDecoder decoder, byte[] block) {
+        Headers.Creator headers = new Headers.Creator()
+        decoder.decode(block, 0, block.length, headers)
+        Headers decoded = headers.create()
+        (0..<decoded.count()).collect { [decoded.name(it), decoded.value(it)] }
+    }
+
+    void "Given requests of RFC 7541 C.4, encoder produces header blocks of the specification"() {
+        setup:
+        HpackEncoder encoder = new HpackEncoder()
+
+        expect:
+        encode(encoder, [[":method", "GET"], [":scheme", "http"], [":path", "/"], [":authority", "www.example.com"]]) ==
+                hex("8286 8441 8cf1 e3c2 e5f2 3a6b a0ab 90f4 ff")
+        encode(encoder, [[":method", "GET"], [":scheme", "http"], [":path", "/"], [":authority", "www.example.com"], ["cache-control", "no-cache"]]) ==
+                hex("8286 84be 5886 a8eb 1064 9cbf")
+        encode(encoder, [[":method", "GET"], [":scheme", "https"], [":path", "/index.html"], [":authority", "www.example.com"], ["custom-key", "custom-value"]]) ==
+                hex("8287 85bf 4088 25a8 49e9 5ba9 7d7f 8925 a849 e95b b8e8 b4bf")
+    }
+
+    void "Given responses of RFC 7541 C.6, decoder evicts entries of 256 octet table"() {
+        setup:
+        HpackDecoder decoder = new HpackDecoder(256)
+
+        expect:
+        decode(decoder, hex("4882 6402 5885 aec3 771a 4b61 96d0 7abe 9410 54d4 44a8 2005 9504 0b81 66e0 82a6 2d1b ff6e 919d 29ad 1718 63c7 8f0b 97c8 e9ae 82ae 43d3")) == [
+                [":status", "302"],
+                ["cache-control", "private"],
+                ["date", "Mon, 21 Oct 2013 20:13:21 GMT"],
+                ["location", "https://www.example.com"]
+        ]
+        decode(decoder, hex("4883 640e ffc1 c0bf")) == [
+                [":status", "307"],
+                ["cache-control", "private"],
+                ["date", "Mon, 21 Oct 2013 20:13:21 GMT"],
+                ["location", "https://www.example.com"]
+        ]
+        decode(decoder, hex("88c1 6196 d07a be94 1054 d444 a820 0595 040b 8166 e084 a62d 1bff c05a 839b d9ab 77ad 94e7 821d d7f2 e6c7 b335 dfdf cd5b 3960 d5af 2708 7f36 72c1 ab27 0fb5 291f 9587 3160 65c0 03ed 4ee5 b106 3d50 07")) == [
+                [":status", "200"],
+                ["cache-control", "private"],
+                ["date", "Mon, 21 Oct 2013 20:13:22 GMT"],
+                ["location", "https://www.example.com"],
+                ["content-encoding", "gzip"],
+                ["set-cookie", "foo=ASDJKHQKBZXOQWEOPIUAXQWEOIU; max-age=3600; version=1"]
+        ]
+    }
+
+    void "Given repeated header blocks & table size changes, decoder reproduces encoder's fields"() {
+        setup:
+        HpackEncoder encoder = new HpackEncoder()
+        HpackDecoder decoder = new HpackDecoder()
+        List<List<String>> fields = [[":method", "POST"], [":path", "/orders?id=1"], ["authorization", "Bearer secret"],
+                                     ["user-agent", "httpx"], ["x-trace", "a" * 300], ["x-empty", ""]]
+
+        when:
+        byte[] first = encode(encoder, fields)
+        byte[] second = encode(encoder, fields)
+        encoder.maxTableSize(0)
+        encoder.maxTableSize(1024)
+        byte[] third = encode(encoder, fields)
+
+        then:
+        decode(decoder, first) == fields
+        decode(decoder, second) == fields
+        decode(decoder, third) == fields
+        second.length < first.length
+        // credentials are sent as never indexed literal with name index 23 on every request
+        second[2] == (byte) 0x1f
+        second[3] == (byte) 0x08
+        third[0] == (byte) 0x20
+    }
+
+    void "Given non - ASCII values, encoder sends UTF-8 octets & both tables count them"() {
+        setup:
+        HpackEncoder encoder = new HpackEncoder()
+        HpackDecoder decoder = new HpackDecoder()
+        String value = "za\u00efre \u2013 \u65e5\u672c"
+        int octets = value.getBytes("UTF-8").length
+
+        when:
+        byte[] block = encode(encoder, [["x-name", value]])
+
+        then:
+        decode(decoder, block) == [["x-name", value]]
+        encoder.table.size() == "x-name".length() + octets + HpackTable.ENTRY_OVERHEAD
+        decoder.table.size() == encoder.table.size()
+        // octets, that are not valid UTF-8, are decoded as ISO-8859-1
+        decode(new HpackDecoder(), hex("0001 7801 e9")) == [["x", "\u00e9"]]
+    }
+
+    void "Given every octet, Huffman code round trips & rejects malformed padding"() {
+        setup:
+        String string = (0..255).collect { (char) it }.join() * 2
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream()
+        Huffman.encode(string, encoded)
+        byte[] bytes = encoded.toByteArray()
+
+        when:
+        Huffman.decode([0xff, 0xff] as byte[], 0, 2)
+
+        then:
+        bytes.length == Huffman.encodedLength(string)
+        Huffman.decode(bytes, 0, bytes.length) == string
+        thrown(IOException)
+    }
+}
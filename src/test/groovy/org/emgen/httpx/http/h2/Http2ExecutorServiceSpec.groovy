@@ -0,0 +1,202 @@
+package org.emgen.httpx.http.h2
+
+import org.emgen.httpx.http.Headers
+import org.emgen.httpx.http.exceptions.RequestCancelledException
+import org.emgen.httpx.http.exceptions.RequestExecutionException
+import org.emgen.httpx.http.request.Cancellation
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.request.RequestOptions
+import org.emgen.httpx.http.response.Response
+import org.emgen.httpx.http.response.StreamingResponse
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.zip.GZIPOutputStream
+
+class Http2ExecutorServiceSpec extends Specification {
+
+    H2cServer server
+    Http2ExecutorService executor = new Http2ExecutorService()
+
+    void cleanup() {
+        executor.close()
+        server?.close()
+    }
+
+    H2cServer start(int maxConcurrentStreams = 100, int windowSize = Http2Frame.DEFAULT_WINDOW_SIZE) {
+        server = new H2cServer(maxConcurrentStreams, windowSize)
+        server.handler = { Headers fields, byte[] body ->
+            String path = fields.first(":path")
+
+            if (path.startsWith("/slow")) {
+                Thread.sleep(200)
+            }
+
+            if (path.startsWith("/large")) {
+                return [200, ["content-type": "text/plain"], ("x" * (3 * 1024 * 1024)).getBytes(StandardCharsets.UTF_8)]
+            }
+
+            if (path.startsWith("/gzip")) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream()
+                new GZIPOutputStream(compressed).withCloseable { it.write(fields.first("accept-encoding").getBytes(StandardCharsets.UTF_8)) }
+                return [200, ["content-encoding": "gzip"], compressed.toByteArray()]
+            }
+
+            String echo = [fields.first(":method"), path, fields.first(":authority"), fields.first("x-custom"), body.length].join(" ")
+            [201, ["x-stream": "echo", "set-cookie": "a=1"], echo.getBytes(StandardCharsets.UTF_8)]
+        }
+        server
+    }
+
+    String url(String path) {
+        "http://localhost:${server.port()}${path}"
+    }
+
+    void "Given requests with & without body, function execute() returns server's responses over single connection"() {
+        setup:
+        start()
+
+        when:
+        Response get = new Request.Creator().target(url("/echo")).action(RequestAction.GET).parameter("id", "0").header("X-Custom", "value").create().execute(executor)
+        Response post = new Request.Creator().target(url("/echo")).action(RequestAction.POST).body("payload").create().execute(executor)
+        Response head = new Request.Creator().target(url("/echo")).action(RequestAction.HEAD).create().execute(executor)
+
+        then:
+        get.code() == 201
+        get.body() == "GET /echo?id=0 localhost:${server.port()} value 0"
+        get.headers().first("X-Stream") == "echo"
+        get.cookies()*.name == ["a"]
+        post.body() == "POST /echo localhost:${server.port()} null 7"
+        head.code() == 201
+        head.body() == ""
+        server.connections.get() == 1
+    }
+
+    void "Given concurrent requests, executor multiplexes them as streams over single connection"() {
+        setup:
+        start()
+        long starts = System.nanoTime()
+
+        when:
+        List<CompletableFuture<Response>> responses = (0..<20).collect {
+            new Request.Creator().target(url("/slow/$it")).action(RequestAction.GET).create().executeAsync(executor)
+        }
+
+        then:
+        responses.collect { it.join().body() } == (0..<20).collect { "GET /slow/$it localhost:${server.port()} null 0".toString() }
+        (System.nanoTime() - starts) / 1_000_000 < 20 * 200
+        server.connections.get() == 1
+        server.maxActive.get() > 1
+    }
+
+    void "Given server's limit of concurrent streams, executor waits for streams to become available"() {
+        setup:
+        start(2)
+
+        when:
+        List<Request> requests = (0..<8).collect { new Request.Creator().target(url("/slow/$it")).action(RequestAction.GET).create() }
+        List<Response> responses = executor.executeBatch(requests)*.get()
+
+        then:
+        responses*.code() == [201] * 8
+        server.maxActive.get() <= 2
+        server.connections.get() == 1
+    }
+
+    void "Given bodies larger than flow - control windows, executor sends & receives them in window sized portions"() {
+        setup:
+        start(100, 16 * 1024)
+        String payload = "y" * (200 * 1024)
+
+        when:
+        Response post = new Request.Creator().target(url("/echo")).action(RequestAction.PUT).body(payload).create().execute(executor)
+        Response large = new Request.Creator().target(url("/large")).action(RequestAction.GET).create().execute(executor)
+        StreamingResponse streaming = executor.stream(new Request.Creator().target(url("/large")).action(RequestAction.GET).create())
+        byte[] head = new byte[1024]
+        int read = streaming.body().read(head)
+        streaming.close()
+        Response after = new Request.Creator().target(url("/echo")).action(RequestAction.GET).create().execute(executor)
+
+        then:
+        post.body() == "PUT /echo localhost:${server.port()} null ${200 * 1024}"
+        large.body().length() == 3 * 1024 * 1024
+        read > 0
+        after.code() == 201
+        server.connections.get() == 1
+    }
+
+    void "Given refused stream & compressed response, executor repeats request & decodes body"() {
+        setup:
+        start()
+        server.refusals = 1
+
+        when:
+        Response response = new Request.Creator().target(url("/gzip")).action(RequestAction.GET).create().execute(executor)
+
+        then:
+        response.body() == "gzip, deflate"
+        server.streams.get() == 2
+    }
+
+    void "Given deadline & cancellation, executor cancels streams & keeps connection usable"() {
+        setup:
+        start()
+        Cancellation cancellation = new Cancellation()
+        Request expiring = new Request.Creator().target(url("/slow")).action(RequestAction.GET)
+                .options(new RequestOptions.Creator().deadline(50).create()).create()
+        Request cancelled = new Request.Creator().target(url("/slow")).action(RequestAction.GET)
+                .options(new RequestOptions.Creator().cancellation(cancellation).create()).create()
+
+        when:
+        expiring.execute(executor)
+
+        then:
+        RequestExecutionException failure = thrown(RequestExecutionException)
+        failure.cause instanceof SocketTimeoutException
+
+        when:
+        CompletableFuture<Response> response = cancelled.executeAsync(executor)
+        Thread.sleep(50)
+        cancellation.cancel()
+        response.join()
+
+        then:
+        CompletionException completion = thrown(CompletionException)
+        completion.cause instanceof RequestCancelledException
+        new Request.Creator().target(url("/echo")).action(RequestAction.GET).create().execute(executor).code() == 201
+        server.connections.get() == 1
+    }
+
+    void "Given route, that cannot be connected to, executor fails requests & does not keep failed connection"() {
+        setup:
+        ServerSocket socket = new ServerSocket(0)
+        int port = socket.localPort
+        socket.close()
+        Request request = new Request.Creator().target("http://localhost:$port/").action(RequestAction.GET).create()
+
+        when:
+        List<CompletableFuture<Response>> responses = (0..<4).collect { executor.executeAsync(request) }
+        CompletableFuture.allOf(responses as CompletableFuture[]).handle { ignored, failure -> null }.join()
+
+        then:
+        responses.every { it.isCompletedExceptionally() }
+        executor.connections.isEmpty()
+
+        when:
+        request.execute(executor)
+
+        then:
+        thrown(RequestExecutionException)
+    }
+
+    void "Given https target, executor rejects it"() {
+        when:
+        new Request.Creator().target("https://localhost/").action(RequestAction.GET).create().execute(executor)
+
+        then:
+        thrown(RequestExecutionException)
+    }
+}
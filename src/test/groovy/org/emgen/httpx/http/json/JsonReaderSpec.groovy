@@ -0,0 +1,184 @@
+package org.emgen.httpx.http.json
+
+import org.emgen.httpx.http.Executor
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.response.BodyHandler
+import org.emgen.httpx.http.response.Response
+import org.emgen.httpx.http.response.StreamingResponse
+import org.emgen.httpx.http.response.TypedResponse
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.stream.Collectors
+
+class JsonReaderSpec extends Specification {
+
+    static InputStream input(String json) {
+        new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))
+    }
+
+    void "Given nested document, reader reads it into maps, lists & scalars"() {
+        setup:
+        JsonReader reader = new JsonReader(input('{"id": 42, "name": "Order \\"A\\" \\u00e9", "price": -1.5e2, "tags": ["a", true, null], "nested": {}}'))
+
+        when:
+        Object value = reader.readValue()
+
+        then:
+        value == [id: 42L, name: 'Order "A" é', price: -150.0d, tags: ["a", true, null], nested: [:]]
+        reader.peek() == JsonToken.END_DOCUMENT
+    }
+
+    void "Given typed decoder, values are pulled token by token & unknown members are skipped"() {
+        setup:
+        JsonReader reader = new JsonReader(input('{"skipped": {"deep": [1, [2, {"x": "y"}]]}, "count": 7, "ratio": 0.25, "active": false}'))
+        Map<String, Object> values = [:]
+
+        when:
+        reader.beginObject()
+
+        while (reader.hasNext()) {
+            String name = reader.nextName()
+
+            switch (name) {
+                case "count": values[name] = reader.nextInt(); break
+                case "ratio": values[name] = reader.nextDouble(); break
+                case "active": values[name] = reader.nextBoolean(); break
+                default: reader.skipValue()
+            }
+        }
+
+        reader.endObject()
+
+        then:
+        values == [count: 7, ratio: 0.25d, active: false]
+    }
+
+    void "Given malformed JSON, reader fails with offset"() {
+        when:
+        new JsonReader(input(json)).readValue()
+
+        then:
+        thrown(exception)
+
+        where:
+        json           | exception
+        '[1 2]'        | MalformedJsonException
+        '{"a" 1}'      | MalformedJsonException
+        '{1: 2}'       | MalformedJsonException
+        '["unclosed'   | EOFException
+        '[1,'          | EOFException
+        '01'           | MalformedJsonException
+        '-'            | MalformedJsonException
+        '1x'           | MalformedJsonException
+        '1.'           | MalformedJsonException
+        '.5'           | MalformedJsonException
+        '1e'           | MalformedJsonException
+        '0x1p3'        | MalformedJsonException
+        '1e999'        | MalformedJsonException
+        '[' * 513      | MalformedJsonException
+    }
+
+    void "Given invalid number, typed reads fail with malformed JSON instead of number format"() {
+        when:
+        new JsonReader(input("1x")).nextLong()
+
+        then:
+        thrown(MalformedJsonException)
+
+        when:
+        new JsonReader(input("-")).nextDouble()
+
+        then:
+        thrown(MalformedJsonException)
+
+        when:
+        new JsonReader(input("-1e999")).nextDouble()
+
+        then:
+        thrown(MalformedJsonException)
+
+        when:
+        new JsonReader(input("[1x]")).skipValue()
+
+        then:
+        thrown(MalformedJsonException)
+
+        expect:
+        new JsonReader(input("-0")).nextNumber() == 0L
+        new JsonReader(input("-0.5E+2")).nextNumber() == -50.0d
+        new JsonReader(input("1e-999")).nextDouble() == 0.0d
+        new JsonReader(input("12345678901234567890")).nextNumber() == 1.2345678901234567e19d
+    }
+
+    void "Given nesting up to maximum depth, reader reads it"() {
+        setup:
+        String json = '[' * JsonReader.MAX_DEPTH + ']' * JsonReader.MAX_DEPTH
+
+        when:
+        Object value = new JsonReader(input(json)).readValue()
+
+        then:
+        value instanceof List
+    }
+
+    void "Given large array & NDJSON, sequences decode elements one by one"() {
+        setup:
+        String array = "[" + (1..10_000).collect { "{\"id\": $it}" }.join(",") + "]"
+        String ndjson = (1..3).collect { "{\"id\": $it}" }.join("\n") + "\n"
+        JsonDecoder<Long> id = { JsonReader reader ->
+            reader.beginObject()
+            reader.nextName()
+            long value = reader.nextLong()
+            reader.endObject()
+            value
+        } as JsonDecoder<Long>
+
+        when:
+        long sum = JsonSequence.array(input(array), id).stream().mapToLong { it }.sum()
+        List<Long> ids = JsonSequence.ndjson(input(ndjson), id).stream().collect(Collectors.toList())
+
+        then:
+        sum == 50_005_000L
+        ids == [1L, 2L, 3L]
+        !JsonSequence.array(input("[]"), JsonDecoder.VALUE).hasNext()
+    }
+
+    void "Given body handler, response is decoded from stream & released"() {
+        setup:
+        AtomicBoolean released = new AtomicBoolean()
+        Executor executor = new Executor() {
+
+            @Override
+            Response execute(Request request) {
+                throw new UnsupportedOperationException()
+            }
+
+            @Override
+            StreamingResponse stream(Request request) {
+                new StreamingResponse(200, "OK", [:], input('[{"a": 1}, {"a": 2}]'), { released.set(true) })
+            }
+        }
+        Request request = new Request.Creator().target("http://test.org").action(RequestAction.GET).create()
+
+        when:
+        TypedResponse<Object> response = executor.execute(request, BodyHandler.json(JsonDecoder.VALUE))
+
+        then:
+        response.code() == 200
+        response.body() == [[a: 1L], [a: 2L]]
+        released.get()
+
+        when:
+        released.set(false)
+        JsonSequence<Object> sequence = executor.stream(request).jsonArray(JsonDecoder.VALUE)
+        Object first = sequence.next()
+        sequence.close()
+
+        then:
+        first == [a: 1L]
+        released.get()
+    }
+}
@@ -0,0 +1,185 @@
+package org.emgen.httpx.http.limit
+
+import org.emgen.httpx.http.Executor
+import org.emgen.httpx.http.connection.Route
+import org.emgen.httpx.http.exceptions.RequestCancelledException
+import org.emgen.httpx.http.exceptions.RequestExecutionException
+import org.emgen.httpx.http.exceptions.RequestRejectedException
+import org.emgen.httpx.http.request.Cancellation
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.request.RequestOptions
+import org.emgen.httpx.http.response.Response
+import spock.lang.Specification
+import spock.lang.Timeout
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+class LimitingExecutorSpec extends Specification {
+
+    static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor()
+
+    List<CompletableFuture<Response>> executions = Collections.synchronizedList([])
+    Executor delegate = [
+            execute     : { Request request -> response(200) },
+            executeAsync: { Request request ->
+                CompletableFuture<Response> execution = new CompletableFuture<>()
+                executions << execution
+                execution
+            }
+    ] as Executor
+
+    static Request request() {
+        new Request.Creator().target("http://test.org/orders").action(RequestAction.GET).create()
+    }
+
+    static Response response(int code, long duration = 10) {
+        new Response(code, "", "body", [:], duration)
+    }
+
+    static Route route() {
+        Route.of(request().url(), null)
+    }
+
+    void "Given concurrency limit, function executeAsync() queues excess requests & sends them, once permits are released"() {
+        setup:
+        LimitingExecutor executor = new LimitingExecutor.Creator().delegate(delegate).limits(new Limits.Creator().maxConcurrency(2).create()).create()
+
+        when:
+        List<CompletableFuture<Response>> responses = (1..5).collect { executor.executeAsync(request()) }
+
+        then:
+        executions.size() == 2
+        executor.inFlight() == 2
+        executor.queued() == 3
+
+        when:
+        executions[0].complete(response(200))
+
+        then:
+        responses[0].join().code() == 200
+        executions.size() == 3
+        executor.limiter(route()).queued() == 2
+        executor.limiter(route()).waitTime().count() == 3
+    }
+
+    void "Given full queue, request is rejected at once & request, that waits for too long, is rejected on expiry"() {
+        setup:
+        Limits limits = new Limits.Creator().maxConcurrency(1).queue(1, 100).create()
+        LimitingExecutor executor = new LimitingExecutor.Creator().delegate(delegate).limits(limits).create()
+
+        when:
+        executor.executeAsync(request())
+        CompletableFuture<Response> queued = executor.executeAsync(request())
+        executor.executeAsync(request()).join()
+
+        then:
+        CompletionException rejection = thrown(CompletionException)
+        rejection.cause instanceof RequestRejectedException
+
+        when:
+        queued.join()
+
+        then:
+        CompletionException expiry = thrown(CompletionException)
+        expiry.cause instanceof RequestRejectedException
+        executor.rejections() == 2
+        executor.queued() == 0
+        executions.size() == 1
+    }
+
+    void "Given cancelled queued request, it is removed from queue & is never sent"() {
+        setup:
+        LimitingExecutor executor = new LimitingExecutor.Creator().delegate(delegate).limits(new Limits.Creator().maxConcurrency(1).create()).create()
+        executor.executeAsync(request())
+        CompletableFuture<Response> queued = executor.executeAsync(request())
+
+        when:
+        queued.cancel(false)
+        executions[0].complete(response(200))
+
+        then:
+        executor.queued() == 0
+        executor.inFlight() == 0
+        executions.size() == 1
+    }
+
+    @Timeout(10)
+    void "Given queued request, function execute() stops waiting for permit, once request's deadline passes or it is cancelled"() {
+        setup:
+        LimitingExecutor executor = new LimitingExecutor.Creator().delegate(delegate).limits(new Limits.Creator().maxConcurrency(1).create()).create()
+        executor.executeAsync(request())
+        Cancellation cancellation = new Cancellation()
+        RequestOptions deadline = new RequestOptions.Creator().deadline(100).create()
+        RequestOptions cancelled = new RequestOptions.Creator().cancellation(cancellation).create()
+        long starts = System.nanoTime()
+
+        when:
+        executor.execute(new Request.Creator(request()).options(deadline).create())
+
+        then:
+        thrown(RequestExecutionException)
+        executor.queued() == 0
+
+        when:
+        TIMER.schedule({ cancellation.cancel() }, 100, TimeUnit.MILLISECONDS)
+        executor.execute(new Request.Creator(request()).options(cancelled).create())
+
+        then:
+        thrown(RequestCancelledException)
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - starts) < 2000
+        executor.queued() == 0
+
+        when:
+        executions[0].complete(response(200))
+
+        then:
+        executor.inFlight() == 0
+        executions.size() == 1
+    }
+
+    void "Given rate limit, function execute() spreads requests over time"() {
+        setup:
+        Limits limits = new Limits.Creator().rate(20.0, 1).create()
+        LimitingExecutor executor = new LimitingExecutor.Creator().delegate(delegate).limits(limits).create()
+        long starts = System.nanoTime()
+
+        when:
+        5.times { executor.execute(request()) }
+
+        then:
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - starts) >= 180
+        executor.limiter(route()).waitTime().count() == 5
+        executor.limiter(route()).waitTime().max() >= TimeUnit.MILLISECONDS.toNanos(30)
+    }
+
+    void "Given adaptive limit, it is lowered on throttled & slow responses & grows back on fast ones"() {
+        setup:
+        List<Response> responses = [response(200, 10)] * 5 + [response(503, 10)] * 10 + [response(200, 100)] * 2 + [response(200, 10)] * 200
+        Executor scripted = { Request request -> responses.remove(0) } as Executor
+        LimitingExecutor executor = new LimitingExecutor.Creator().delegate(scripted).limits(new Limits.Creator().adaptive(2, 16, 2.0).create()).create()
+
+        when:
+        15.times { executor.execute(request()) }
+
+        then:
+        executor.limiter(route()).limit() == 5
+
+        when:
+        2.times { executor.execute(request()) }
+
+        then:
+        executor.limiter(route()).limit() == 4
+        executor.limiter(route()).decreases() == 12
+
+        when:
+        200.times { executor.execute(request()) }
+
+        then:
+        executor.limiter(route()).limit() == 16
+    }
+}
@@ -0,0 +1,59 @@
+package org.emgen.httpx.http.metrics
+
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class LatencyHistogramSpec extends Specification {
+
+    void "Given value #value, bucket of value contains it & is narrower than 1.6% of value"() {
+        setup:
+        int index = LatencyHistogram.index(value)
+
+        expect:
+        LatencyHistogram.lowestEquivalentValue(index) <= value
+        LatencyHistogram.highestEquivalentValue(index) >= value
+        LatencyHistogram.highestEquivalentValue(index) - LatencyHistogram.lowestEquivalentValue(index) <= Math.max(0L, (long) (value / 64))
+
+        where:
+        value << [0L, 1L, 127L, 128L, 129L, 255L, 256L, 1000L, 65_535L, 1_000_000L, 123_456_789L, (1L << 36) - 1]
+    }
+
+    void "Given bucket indexes, buckets are contiguous"() {
+        expect:
+        (1..LatencyHistogram.index((1L << 36) - 1)).every { LatencyHistogram.lowestEquivalentValue(it) == LatencyHistogram.highestEquivalentValue(it - 1) + 1 }
+    }
+
+    void "Given recorded values, function percentile() returns value within bucket precision"() {
+        setup:
+        LatencyHistogram histogram = new LatencyHistogram()
+        (1..1000).each { histogram.record(TimeUnit.MILLISECONDS.toNanos(it)) }
+
+        expect:
+        histogram.count() == 1000
+        Math.abs(histogram.percentile(50.0) - TimeUnit.MILLISECONDS.toNanos(500)) <= TimeUnit.MILLISECONDS.toNanos(8)
+        Math.abs(histogram.percentile(99.0) - TimeUnit.MILLISECONDS.toNanos(990)) <= TimeUnit.MILLISECONDS.toNanos(16)
+        histogram.percentile(100.0) == TimeUnit.MILLISECONDS.toNanos(1000)
+        histogram.max() == TimeUnit.MILLISECONDS.toNanos(1000)
+        histogram.mean() == TimeUnit.MICROSECONDS.toNanos(500_500)
+    }
+
+    void "Given empty histogram, function percentile() returns 0"() {
+        expect:
+        new LatencyHistogram().percentile(99.0) == 0L
+    }
+
+    void "Given reset histogram, recorded values are cleared"() {
+        setup:
+        LatencyHistogram histogram = new LatencyHistogram()
+        histogram.record(1_000_000L)
+
+        when:
+        histogram.reset()
+
+        then:
+        histogram.count() == 0L
+        histogram.percentile(50.0) == 0L
+        histogram.max() == 0L
+    }
+}
@@ -0,0 +1,160 @@
+package org.emgen.httpx.http.metrics
+
+import com.sun.net.httpserver.HttpServer
+import org.emgen.httpx.http.Executor
+import org.emgen.httpx.http.ExecutorService
+import org.emgen.httpx.http.PooledExecutorService
+import org.emgen.httpx.http.connection.ConnectionPool
+import org.emgen.httpx.http.connection.Route
+import org.emgen.httpx.http.nio.NioExecutorService
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.response.StreamingResponse
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class MetricsAggregatorSpec extends Specification {
+
+    HttpServer server
+
+    void setup() {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0)
+        server.createContext("/echo", { exchange ->
+            byte[] body = exchange.requestBody.bytes
+            exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length)
+            exchange.responseBody.write(body)
+            exchange.close()
+        })
+        server.start()
+    }
+
+    void cleanup() {
+        server.stop(0)
+    }
+
+    Route route() {
+        new Route("http", "localhost", server.address.port, null)
+    }
+
+    Request request(String body) {
+        new Request.Creator().target("http://localhost:${server.address.port}/echo").action(RequestAction.POST).body(body).create()
+    }
+
+    void "Given #type with metrics aggregator, executions are aggregated per route"() {
+        setup:
+        MetricsAggregator aggregator = new MetricsAggregator()
+        Executor executor = create(aggregator)
+
+        when:
+        3.times { request("payload").execute(executor) }
+
+        then:
+        RouteMetrics metrics = aggregator.route(route())
+        metrics.requests() == 3
+        metrics.failures() == 0
+        metrics.connections() + metrics.reusedConnections() == 3
+        metrics.bytesSent() == 21
+        metrics.bytesReceived() == 21
+        metrics.latency().count() == 3
+        metrics.firstByteLatency().count() == 3
+        metrics.connectLatency().count() == 3
+        metrics.latency().percentile(100.0) >= metrics.firstByteLatency().percentile(0.0)
+
+        cleanup:
+        if (executor instanceof Closeable) {
+            executor.close()
+        }
+
+        where:
+        type                    | create
+        "ExecutorService"       | { ExecutionListener subscriber -> new ExecutorService(subscriber) }
+        "PooledExecutorService" | { ExecutionListener subscriber -> new PooledExecutorService(new ConnectionPool.Creator().create(), subscriber) }
+        "NioExecutorService"    | { ExecutionListener subscriber -> new NioExecutorService.Creator().listener(subscriber).create() }
+    }
+
+    void "Given #type, listener receives events in execution order with non - decreasing timings"() {
+        setup:
+        List<String> events = Collections.synchronizedList([])
+        List<Long> timings = Collections.synchronizedList([])
+        ExecutionListener listener = new ExecutionListener() {
+            void connected(Execution execution, long nanos, boolean reused) { events << "connected"; timings << nanos }
+
+            void requestWritten(Execution execution, long nanos, long bytes) { events << "requestWritten:$bytes".toString(); timings << nanos }
+
+            void firstByte(Execution execution, long nanos, int code) { events << "firstByte:$code".toString(); timings << nanos }
+
+            void bodyComplete(Execution execution, long nanos, long bytes) { events << "bodyComplete:$bytes".toString(); timings << nanos }
+        }
+        Executor executor = create(listener)
+
+        when:
+        request("abc").execute(executor)
+
+        then:
+        events == ["connected", "requestWritten:3", "firstByte:200", "bodyComplete:3"]
+        timings == timings.toSorted()
+
+        cleanup:
+        if (executor instanceof Closeable) {
+            executor.close()
+        }
+
+        where:
+        type                    | create
+        "ExecutorService"       | { ExecutionListener subscriber -> new ExecutorService(subscriber) }
+        "PooledExecutorService" | { ExecutionListener subscriber -> new PooledExecutorService(new ConnectionPool.Creator().create(), subscriber) }
+        "NioExecutorService"    | { ExecutionListener subscriber -> new NioExecutorService.Creator().listener(subscriber).create() }
+    }
+
+    void "Given streaming response, that is closed before body is read, body completion is reported once with read bytes"() {
+        setup:
+        MetricsAggregator aggregator = new MetricsAggregator()
+        PooledExecutorService executor = new PooledExecutorService(new ConnectionPool.Creator().create(), aggregator)
+
+        when:
+        StreamingResponse response = executor.stream(request("0123456789"))
+        response.body().read(new byte[4])
+        response.close()
+        response.close()
+
+        then:
+        RouteMetrics metrics = aggregator.route(route())
+        metrics.latency().count() == 1
+        metrics.bytesReceived() == 4
+    }
+
+    void "Given unreachable route, failure is aggregated"() {
+        setup:
+        MetricsAggregator aggregator = new MetricsAggregator()
+        PooledExecutorService executor = new PooledExecutorService(new ConnectionPool.Creator().create(), aggregator)
+        int port = server.address.port
+        server.stop(0)
+
+        when:
+        new Request.Creator().target("http://localhost:$port/echo").action(RequestAction.GET).create().execute(executor)
+
+        then:
+        thrown(RuntimeException)
+        aggregator.route(new Route("http", "localhost", port, null)).failures() == 1
+    }
+
+    void "Given response body, metered stream counts bytes"() {
+        setup:
+        Execution execution = new Execution(request(""), route(), System.nanoTime())
+        List<Long> completed = []
+        ExecutionListener listener = new ExecutionListener() {
+            void bodyComplete(Execution e, long nanos, long bytes) { completed << bytes }
+        }
+        MeteredInputStream stream = new MeteredInputStream(new ByteArrayInputStream("body".getBytes(StandardCharsets.UTF_8)), listener, execution)
+
+        when:
+        String body = stream.text
+        stream.close()
+
+        then:
+        body == "body"
+        stream.bytes() == 4
+        completed == [4L]
+    }
+}
@@ -0,0 +1,213 @@
+package org.emgen.httpx.http.nio
+
+import com.sun.net.httpserver.HttpServer
+import org.emgen.httpx.http.exceptions.RequestExecutionException
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.response.Response
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class NioExecutorServiceSpec extends Specification {
+
+    HttpServer server
+    NioExecutorService executor = new NioExecutorService()
+    Set<Integer> clientPorts = ConcurrentHashMap.newKeySet()
+
+    void setup() {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0)
+        server.executor = Executors.newFixedThreadPool(16)
+        server.createContext("/echo", { exchange ->
+            clientPorts.add(exchange.remoteAddress.port)
+            byte[] body = (exchange.requestMethod + " " + exchange.requestURI + " " + exchange.requestBody.text).getBytes(StandardCharsets.UTF_8)
+            exchange.sendResponseHeaders(200, body.length)
+            exchange.responseBody.write(body)
+            exchange.close()
+        })
+        server.createContext("/chunked", { exchange ->
+            exchange.sendResponseHeaders(200, 0)
+            100.times { exchange.responseBody.write("chunk-$it;".getBytes(StandardCharsets.UTF_8)); exchange.responseBody.flush() }
+            exchange.close()
+        })
+        server.start()
+    }
+
+    void cleanup() {
+        executor.close()
+        server.stop(0)
+        server.executor.shutdownNow()
+    }
+
+    String url(String path) {
+        "http://localhost:${server.address.port}${path}"
+    }
+
+    void "Given requests with & without body, function execute() returns server's responses"() {
+        expect:
+        new Request.Creator().target(url("/echo")).action(RequestAction.GET).parameter("id", "0").create().execute(executor).body() == "GET /echo?id=0 "
+        new Request.Creator().target(url("/echo")).action(RequestAction.POST).body("payload").create().execute(executor).body() == "POST /echo payload"
+        new Request.Creator().target(url("/echo")).action(RequestAction.HEAD).create().execute(executor).code() == 200
+    }
+
+    void "Given chunked response, function execute() reads all chunks"() {
+        expect:
+        new Request.Creator().target(url("/chunked")).action(RequestAction.GET).create().execute(executor).body() ==
+                (0..<100).collect { "chunk-$it;" }.join()
+    }
+
+    void "Given sequential requests to the same route, function execute() reuses idle connection"() {
+        when:
+        5.times { new Request.Creator().target(url("/echo")).action(RequestAction.GET).create().execute(executor) }
+
+        then:
+        clientPorts.size() == 1
+    }
+
+    void "Given reused connection, that is closed by server before response, function execute() repeats idempotent request once"() {
+        setup:
+        AtomicInteger requests = new AtomicInteger()
+        ServerSocket socket = closingServer(requests)
+        String target = "http://localhost:${socket.localPort}/"
+
+        when:
+        new Request.Creator().target(target).action(RequestAction.GET).create().execute(executor)
+        Response response = new Request.Creator().target(target).action(RequestAction.PUT).body("payload").create().execute(executor)
+
+        then:
+        response.body() == "payload"
+        requests.get() == 3
+
+        cleanup:
+        socket.close()
+    }
+
+    void "Given buffer body, that does not start at index 0, function execute() resends it from it's position, when request is repeated"() {
+        setup:
+        AtomicInteger requests = new AtomicInteger()
+        ServerSocket socket = closingServer(requests)
+        String target = "http://localhost:${socket.localPort}/"
+        ByteBuffer body = ByteBuffer.wrap("skipped-payload-trailer".getBytes(StandardCharsets.UTF_8))
+        body.position("skipped-".length())
+        body.limit("skipped-payload".length())
+
+        when:
+        new Request.Creator().target(target).action(RequestAction.GET).create().execute(executor)
+        Response response = new Request.Creator().target(target).action(RequestAction.PUT).body(body.slice()).create().execute(executor)
+        Response offset = new Request.Creator().target(target).action(RequestAction.PUT).body(body).create().execute(executor)
+
+        then:
+        response.body() == "payload"
+        offset.body() == "payload"
+        requests.get() == 5
+
+        cleanup:
+        socket.close()
+    }
+
+    void "Given reused connection, that is closed by server before response, function execute() does not repeat non - idempotent request"() {
+        setup:
+        AtomicInteger requests = new AtomicInteger()
+        ServerSocket socket = closingServer(requests)
+        String target = "http://localhost:${socket.localPort}/"
+
+        when:
+        new Request.Creator().target(target).action(RequestAction.GET).create().execute(executor)
+        new Request.Creator().target(target).action(RequestAction.POST).body("payload").create().execute(executor)
+
+        then:
+        thrown(RequestExecutionException)
+        requests.get() == 2
+
+        cleanup:
+        socket.close()
+    }
+
+    void "Given many concurrent requests, single event loop completes all of them"() {
+        when:
+        List<CompletableFuture<Response>> futures = (0..<500).collect {
+            new Request.Creator().target(url("/echo")).action(RequestAction.GET).parameter("n", "$it").create().executeAsync(executor)
+        }
+        CompletableFuture.allOf(futures as CompletableFuture[]).get(30, TimeUnit.SECONDS)
+
+        then:
+        futures.withIndex().every { future, n -> future.join().body() == "GET /echo?n=$n " }
+    }
+
+    void "Given https target, function execute() throws RequestExecutionException"() {
+        when:
+        new Request.Creator().target("https://localhost:${server.address.port}/echo").action(RequestAction.GET).create().execute(executor)
+
+        then:
+        thrown(RequestExecutionException)
+    }
+
+    void "Given closed executor, function execute() throws RequestExecutionException"() {
+        setup:
+        executor.close()
+        Thread.sleep(50)
+
+        when:
+        new Request.Creator().target(url("/echo")).action(RequestAction.GET).create().execute(executor)
+
+        then:
+        thrown(RequestExecutionException)
+    }
+
+    /**
+     * @return server, that echoes body of the first request of each connection & closes connection, once it
+     * receives the second one.
+     */
+    ServerSocket closingServer(AtomicInteger requests) {
+        ServerSocket socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())
+        Thread.start {
+            while (!socket.closed) {
+                Socket client
+                try {
+                    client = socket.accept()
+                } catch (IOException ignored) {
+                    return
+                }
+                Thread.start {
+                    client.withCloseable {
+                        DataInputStream input = new DataInputStream(client.inputStream)
+                        2.times { n ->
+                            int length = 0
+                            for (String line = readLine(input); line != null && !line.isEmpty(); line = readLine(input)) {
+                                if (line.toLowerCase().startsWith("content-length:")) {
+                                    length = line.substring("content-length:".length()).trim() as int
+                                }
+                            }
+                            byte[] body = new byte[length]
+                            input.readFully(body)
+                            requests.incrementAndGet()
+                            if (n == 0) {
+                                client.outputStream.write("HTTP/1.1 200 OK\r\nContent-Length: ${length}\r\n\r\n".getBytes(StandardCharsets.US_ASCII))
+                                client.outputStream.write(body)
+                                client.outputStream.flush()
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        socket
+    }
+
+    static String readLine(InputStream input) {
+        ByteArrayOutputStream line = new ByteArrayOutputStream()
+        for (int b = input.read(); b != -1; b = input.read()) {
+            if (b == '\n' as char) {
+                return line.toString("US-ASCII").trim()
+            }
+            line.write(b)
+        }
+        line.size() == 0 ? null : line.toString("US-ASCII")
+    }
+}
@@ -0,0 +1,111 @@
+package org.emgen.httpx.http.request.body
+
+import com.sun.net.httpserver.HttpServer
+import org.emgen.httpx.http.Executor
+import org.emgen.httpx.http.ExecutorService
+import org.emgen.httpx.http.PooledExecutorService
+import org.emgen.httpx.http.nio.NioExecutorService
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.response.StreamingResponse
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+class RequestBodySpec extends Specification {
+
+    @Shared
+    HttpServer server
+    @Shared
+    NioExecutorService nioExecutor = new NioExecutorService()
+
+    void setupSpec() {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0)
+        server.createContext("/mirror", { exchange ->
+            byte[] body = exchange.requestBody.bytes
+            String framing = exchange.requestHeaders.getFirst("Transfer-Encoding") == "chunked" ? "chunked" : "length"
+            exchange.responseHeaders.add("X-Framing", framing)
+            exchange.sendResponseHeaders(200, body.length)
+            exchange.responseBody.write(body)
+            exchange.close()
+        })
+        server.start()
+    }
+
+    void cleanupSpec() {
+        nioExecutor.close()
+        server.stop(0)
+    }
+
+    static byte[] content() {
+        byte[] content = new byte[100_000]
+        new Random(7).nextBytes(content)
+        content
+    }
+
+    static ByteBuffer direct(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 10)
+        buffer.position(10)
+        buffer.put(bytes)
+        buffer.position(10)
+        buffer
+    }
+
+    byte[] send(Executor executor, RequestBody body, List<String> framing) {
+        Request request = new Request.Creator()
+                .target("http://localhost:${server.address.port}/mirror")
+                .action(RequestAction.POST)
+                .body(body)
+                .create()
+        StreamingResponse response = executor.stream(request)
+
+        try {
+            framing.add(response.headers().find { name, values -> name?.equalsIgnoreCase("X-Framing") }?.value?.get(0))
+            response.body().bytes
+        } finally {
+            response.close()
+        }
+    }
+
+    void "Given binary bodies, #name sends them byte - exact with expected framing"() {
+        setup:
+        byte[] content = content()
+        List<String> framing = []
+
+        expect:
+        send(executor, RequestBody.of(content), framing) == content
+        send(executor, RequestBody.of(direct(content)), framing) == content
+        send(executor, RequestBody.of(new ByteArrayInputStream(content)), framing) == content
+        framing == ["length", "length", streamFraming]
+
+        where:
+        name                    | executor                    | streamFraming
+        "ExecutorService"       | new ExecutorService()       | "chunked"
+        "PooledExecutorService" | new PooledExecutorService() | "chunked"
+        "NioExecutorService"    | nioExecutor                 | "length"
+    }
+
+    void "Given byte buffer body, writing it does not modify buffer's position"() {
+        setup:
+        ByteBuffer buffer = direct(content())
+        RequestBody body = RequestBody.of(buffer)
+
+        when:
+        body.writeTo(new ByteArrayOutputStream())
+        body.writeTo(new ByteArrayOutputStream())
+
+        then:
+        buffer.position() == 10
+        body.length() == 100_000
+    }
+
+    void "Given stream body, it is not replayable & has unknown length"() {
+        setup:
+        RequestBody body = RequestBody.of(new ByteArrayInputStream(new byte[1]))
+
+        expect:
+        !body.replayable()
+        body.length() == -1
+    }
+}
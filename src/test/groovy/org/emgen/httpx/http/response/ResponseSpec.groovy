@@ -2,6 +2,8 @@ package org.emgen.httpx.http.response
 
 import spock.lang.Specification
 
+import java.nio.charset.StandardCharsets
+
 class ResponseSpec extends Specification {
 
     void "Given response, that has no body, function bodyBytesCount() returns 0"() {
@@ -36,4 +38,39 @@ class ResponseSpec extends Specification {
         expect:
         new Response(200, "OK", null, headers, 0).headersBytesCount() > 0
     }
+
+    void "Given response of bytes, body is decoded lazily, using charset of 'Content-Type' header"() {
+        setup:
+        byte[] bytes = "café".getBytes(StandardCharsets.ISO_8859_1)
+        Response response = new Response(200, "OK", bytes, ["Content-Type": ["text/plain; charset=\"ISO-8859-1\""]], 0, 3)
+
+        expect:
+        response.body() == "café"
+        response.bytes().is(bytes)
+        response.bodyBytesCount() == 4
+        response.decodedBytesCount() == 4
+        response.wireBytesCount() == 3
+        response.contentType().mediaType() == "text/plain"
+        response.charset() == StandardCharsets.ISO_8859_1
+    }
+
+    void "Given response without or with unsupported charset, body is decoded, using UTF-8"() {
+        expect:
+        new Response(200, "OK", "é".getBytes(StandardCharsets.UTF_8), headers, 0, -1).body() == "é"
+
+        where:
+        headers << [[:], ["Content-Type": ["application/json; charset=unknown"]]]
+    }
+
+    void "Given response, derived views are computed once"() {
+        setup:
+        Response response = new Response(200, "OK", "€", ["Set-Cookie": ["a=1"]], 0)
+
+        expect:
+        response.bodyBytesCount() == 3
+        response.bytes() == "€".getBytes(StandardCharsets.UTF_8)
+        response.cookies().is(response.cookies())
+        response.contentType() == null
+        response.bytesCount() == 3 + "Set-Cookie".length() + "a=1".length()
+    }
 }
@@ -0,0 +1,242 @@
+package org.emgen.httpx.http.retry
+
+import org.emgen.httpx.http.Executor
+import org.emgen.httpx.http.connection.Route
+import org.emgen.httpx.http.exceptions.RequestCancelledException
+import org.emgen.httpx.http.exceptions.RequestExecutionException
+import org.emgen.httpx.http.request.Cancellation
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.request.RequestOptions
+import org.emgen.httpx.http.response.Response
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.atomic.AtomicInteger
+
+class RetryingExecutorSpec extends Specification {
+
+    AtomicInteger executions = new AtomicInteger()
+    List<Object> outcomes = Collections.synchronizedList([])
+    Executor delegate = { Request request ->
+        executions.incrementAndGet()
+        Object outcome = outcomes.size() > 1 ? outcomes.remove(0) : outcomes[0]
+
+        if (outcome instanceof Closure) {
+            outcome = outcome()
+        }
+
+        if (outcome instanceof Exception) {
+            throw outcome
+        }
+
+        outcome as Response
+    } as Executor
+
+    static RetryPolicy policy(int maxAttempts = 3) {
+        new RetryPolicy.Creator().maxAttempts(maxAttempts).backoff(1, 5).create()
+    }
+
+    static Request request(RequestAction action, RetryPolicy policy) {
+        Request.Creator creator = new Request.Creator().target("http://test.org/orders").action(action)
+                .options(new RequestOptions.Creator().retryPolicy(policy).create())
+
+        if (action.supportsRequestBody()) {
+            creator.body("order")
+        }
+
+        creator.create()
+    }
+
+    static Response response(int code, Map<String, String> headers = [:]) {
+        new Response(code, "", "body $code", headers.collectEntries { name, value -> [(name): [value]] } as Map<String, List<String>>, 0)
+    }
+
+    static RequestExecutionException failure(IOException cause) {
+        new RequestExecutionException(cause)
+    }
+
+    void "Given I/O failures of idempotent request, function execute() repeats it till it succeeds"() {
+        setup:
+        outcomes << failure(new SocketTimeoutException("Read timed out")) << failure(new IOException("Connection reset")) << response(200)
+        RetryingExecutor executor = new RetryingExecutor.Creator().delegate(delegate).create()
+
+        when:
+        Response response = executor.execute(request(RequestAction.PUT, policy()))
+
+        then:
+        response.code() == 200
+        executions.get() == 3
+        executor.retries() == 2
+    }
+
+    void "Given failures of non - idempotent request, function execute() repeats it only in case it was not sent"() {
+        setup:
+        RetryingExecutor executor = new RetryingExecutor.Creator().delegate(delegate).create()
+
+        when:
+        outcomes << failure(new ConnectException("Connection refused")) << response(201)
+        Response created = executor.execute(request(RequestAction.POST, policy()))
+
+        then:
+        created.code() == 201
+        executions.get() == 2
+
+        when:
+        outcomes.clear()
+        outcomes << failure(new SocketTimeoutException("Read timed out")) << response(201)
+        executor.execute(request(RequestAction.POST, policy()))
+
+        then:
+        thrown(RequestExecutionException)
+        executions.get() == 3
+    }
+
+    void "Given retryable response codes, function execute() repeats request, unless Retry-After exceeds max backoff"() {
+        setup:
+        RetryingExecutor executor = new RetryingExecutor.Creator().delegate(delegate).create()
+
+        when:
+        outcomes << response(503) << response(502) << response(503)
+        Response exhausted = executor.execute(request(RequestAction.GET, policy()))
+
+        then:
+        exhausted.code() == 503
+        executions.get() == 3
+
+        when:
+        outcomes.clear()
+        outcomes << response(429, ["Retry-After": "120"]) << response(200)
+        Response throttled = executor.execute(request(RequestAction.GET, policy()))
+
+        then:
+        throttled.code() == 429
+        executions.get() == 4
+    }
+
+    void "Given persistently failing route, retry budget stops retries & keeps previous failures suppressed"() {
+        setup:
+        outcomes << { failure(new IOException("Connection reset")) }
+        RetryingExecutor executor = new RetryingExecutor.Creator().delegate(delegate).budget(3, 0.0).create()
+        Route route = Route.of(new URL("http://test.org/orders"), null)
+
+        when:
+        executor.execute(request(RequestAction.GET, policy(3)))
+
+        then:
+        RequestExecutionException first = thrown(RequestExecutionException)
+        first.suppressed.length == 2
+        executions.get() == 3
+
+        when:
+        executor.execute(request(RequestAction.GET, policy(3)))
+
+        then:
+        thrown(RequestExecutionException)
+        executions.get() == 5
+        executor.retries() == 3
+        executor.rejections() == 1
+        executor.budget(route).tokens() == 0.0
+    }
+
+    void "Given short deadline, function execute() gives each attempt remaining time & stops, once backoff would pass deadline"() {
+        setup:
+        List<Long> deadlines = Collections.synchronizedList([])
+        Executor slow = { Request request ->
+            executions.incrementAndGet()
+            deadlines << request.options().deadline()
+            Thread.sleep(60)
+            throw failure(new IOException("Connection reset"))
+        } as Executor
+        RetryingExecutor executor = new RetryingExecutor.Creator().delegate(slow).create()
+        RetryPolicy policy = new RetryPolicy.Creator().maxAttempts(10).backoff(50, 50).jitter(0.0).create()
+        Request request = new Request.Creator().target("http://test.org/orders").action(RequestAction.GET)
+                .options(new RequestOptions.Creator().deadline(300).retryPolicy(policy).create())
+                .create()
+        long starts = System.nanoTime()
+
+        when:
+        executor.execute(request)
+
+        then:
+        RequestExecutionException e = thrown()
+        e.cause.message == "Connection reset"
+        System.nanoTime() - starts < 450_000_000L
+        executions.get() < 10
+        deadlines[0] == 300L
+        (1..<deadlines.size()).every { deadlines[it] < deadlines[it - 1] && deadlines[it] > 0 }
+    }
+
+    void "Given deadline expiry or cancellation, function execute() does not repeat request"() {
+        setup:
+        RetryingExecutor executor = new RetryingExecutor.Creator().delegate(delegate).create()
+        outcomes << { Thread.sleep(deadline); expected }
+        Request request = new Request.Creator().target("http://test.org/orders").action(RequestAction.GET)
+                .options(new RequestOptions.Creator().deadline(deadline).retryPolicy(policy(5)).create())
+                .create()
+
+        when:
+        executor.execute(request)
+
+        then:
+        RequestExecutionException e = thrown()
+        e.is(expected)
+        executions.get() == 1
+
+        where:
+        expected                                                               | deadline
+        new RequestCancelledException("Request was cancelled")                 | 0L
+        failure(new SocketTimeoutException("Deadline of 100 ms was exceeded")) | 100L
+    }
+
+    void "Given cancellation during backoff, function execute() stops waiting at once"() {
+        setup:
+        Cancellation cancellation = new Cancellation()
+        outcomes << failure(new IOException("Connection reset"))
+        RetryingExecutor executor = new RetryingExecutor.Creator().delegate(delegate).create()
+        RetryPolicy policy = new RetryPolicy.Creator().maxAttempts(3).backoff(5000, 5000).jitter(0.0).create()
+        Request request = new Request.Creator().target("http://test.org/orders").action(RequestAction.GET)
+                .options(new RequestOptions.Creator().cancellation(cancellation).retryPolicy(policy).create())
+                .create()
+        long starts = System.nanoTime()
+        Thread.start { Thread.sleep(100); cancellation.cancel() }
+
+        when:
+        executor.execute(request)
+
+        then:
+        RequestCancelledException e = thrown()
+        e.suppressed*.cause*.message == ["Connection reset"]
+        executions.get() == 1
+        System.nanoTime() - starts < 2_000_000_000L
+    }
+
+    void "Given late response, hedged request is sent & the first response is used"() {
+        setup:
+        List<CompletableFuture<Response>> futures = Collections.synchronizedList([])
+        Executor slowFirst = [
+                execute     : { Request request -> throw new UnsupportedOperationException() },
+                executeAsync: { Request request ->
+                    int execution = executions.incrementAndGet()
+                    CompletableFuture<Response> future = CompletableFuture.supplyAsync {
+                        Thread.sleep(execution == 1 ? 1000 : 10)
+                        response(200, ["X-Execution": String.valueOf(execution)])
+                    }
+                    futures << future
+                    future
+                }
+        ] as Executor
+        RetryingExecutor executor = new RetryingExecutor.Creator().delegate(slowFirst).create()
+        RetryPolicy policy = new RetryPolicy.Creator().maxAttempts(1).hedge(50, 95.0).create()
+
+        when:
+        Response response = executor.execute(request(RequestAction.GET, policy))
+
+        then:
+        response.headers().first("X-Execution") == "2"
+        executions.get() == 2
+        executor.hedges() == 1
+        executor.hedgeWins() == 1
+        futures[0].isCancelled()
+    }
+}
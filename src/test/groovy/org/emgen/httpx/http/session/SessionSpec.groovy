@@ -0,0 +1,189 @@
+package org.emgen.httpx.http.session
+
+import org.emgen.httpx.http.Executor
+import org.emgen.httpx.http.request.Request
+import org.emgen.httpx.http.request.RequestAction
+import org.emgen.httpx.http.response.Response
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+class SessionSpec extends Specification {
+
+    static URL url(String url) {
+        new URL(url)
+    }
+
+    static Request request(String target, Map<String, String> headers = [:]) {
+        Request.Creator creator = new Request.Creator().target(target).action(RequestAction.GET)
+        headers.each { name, value -> creator.header(name, value) }
+        creator.create()
+    }
+
+    void "Given cookies of different domains & paths, jar returns the ones, that match request"() {
+        setup:
+        CookieJar jar = new CookieJar()
+        jar.store(url("https://api.test.org/v1/orders"), [
+                new HttpCookie("host", "1"),
+                cookie("shared", "2", ".test.org", "/"),
+                cookie("orders", "3", null, "/v1/orders"),
+                cookie("secure", "4", "test.org", "/", true),
+                cookie("foreign", "5", "other.org", "/"),
+                cookie("tld", "6", "org", "/")
+        ])
+
+        expect:
+        jar.size() == 4
+        jar.header(url("https://api.test.org/v1/orders/1")) == "orders=3; host=1; shared=2; secure=4"
+        jar.header(url("http://api.test.org/v1/orders")) == "orders=3; host=1; shared=2"
+        jar.header(url("https://www.test.org/v1/ordersx")) == "shared=2; secure=4"
+        jar.header(url("https://other.org/")) == null
+    }
+
+    void "Given expired & deleted cookies, jar evicts them"() {
+        setup:
+        TestClock clock = new TestClock()
+        CookieJar jar = new CookieJar(clock)
+        HttpCookie shortLived = new HttpCookie("short", "1")
+        shortLived.maxAge = 60
+        jar.store(url("http://test.org/"), [shortLived, new HttpCookie("session", "2"), new HttpCookie("deleted", "3")])
+        HttpCookie deletion = new HttpCookie("deleted", "")
+        deletion.maxAge = 0
+
+        when:
+        jar.store(url("http://test.org/"), [deletion])
+        clock.advance(61_000)
+
+        then:
+        jar.size() == 2
+        jar.header(url("http://test.org/")) == "session=2"
+        jar.size() == 1
+        jar.evictExpired() == 0
+    }
+
+    void "Given session, cookies, that responses set, are sent with subsequent requests"() {
+        setup:
+        List<String> sent = Collections.synchronizedList([])
+        Executor delegate = { Request request ->
+            sent << request.headers().first("Cookie")
+            new Response(200, "OK", null, ["Set-Cookie": ["id=abc; Path=/"]], 0)
+        } as Executor
+        Session session = new Session.Creator().delegate(delegate).create()
+
+        when:
+        session.execute(request("http://test.org/login"))
+        session.execute(request("http://test.org/orders", ["Cookie": "theme=dark"]))
+        session.executeAsync(request("http://test.org/orders")).join()
+
+        then:
+        sent == [null, "theme=dark; id=abc", "id=abc"]
+        session.cookieJar().size() == 1
+    }
+
+    void "Given malformed Set-Cookie, session ignores it & stores the valid ones"() {
+        setup:
+        Executor delegate = { Request request ->
+            new Response(200, "OK", null, ["Set-Cookie": ["=", "id=abc; Path=/"]], 0)
+        } as Executor
+        Session session = new Session.Creator().delegate(delegate).create()
+
+        when:
+        Response response = session.execute(request("http://test.org/"))
+        String async = session.executeAsync(request("http://test.org/")).thenApply { session.cookieJar().header(url("http://test.org/")) }.join()
+
+        then:
+        response.code() == 200
+        async == "id=abc"
+        session.cookieJar().size() == 1
+    }
+
+    void "Given asynchronous execution, cancelling session's future cancels delegate's one"() {
+        setup:
+        CompletableFuture<Response> execution = new CompletableFuture<>()
+        Executor delegate = new Executor() {
+
+            @Override
+            Response execute(Request request) {
+                throw new UnsupportedOperationException()
+            }
+
+            @Override
+            CompletableFuture<Response> executeAsync(Request request) {
+                execution
+            }
+        }
+        Session session = new Session(delegate, new CookieJar())
+
+        when:
+        session.executeAsync(request("http://test.org/")).cancel(true)
+
+        then:
+        execution.isCancelled()
+    }
+
+    void "Given concurrent requests, session stores every cookie"() {
+        setup:
+        AtomicInteger counter = new AtomicInteger()
+        Executor delegate = { Request request ->
+            new Response(200, "OK", null, ["Set-Cookie": ["c${counter.incrementAndGet()}=v".toString()]], 0)
+        } as Executor
+        Session session = new Session(delegate, new CookieJar())
+        java.util.concurrent.ExecutorService threads = Executors.newFixedThreadPool(8)
+
+        when:
+        List<CompletableFuture<Response>> responses = (1..200).collect {
+            CompletableFuture.supplyAsync({ session.execute(request("http://test.org/")) }, threads)
+        }
+        responses*.join()
+
+        then:
+        session.cookieJar().size() == 200
+        session.cookieJar().cookies(url("http://test.org/")).size() == 200
+
+        cleanup:
+        threads.shutdown()
+    }
+
+    static HttpCookie cookie(String name, String value, String domain, String path, boolean secure = false) {
+        HttpCookie cookie = new HttpCookie(name, value)
+        cookie.domain = domain
+        cookie.path = path
+        cookie.secure = secure
+        cookie
+    }
+
+    static class TestClock extends Clock {
+
+        long millis = 1_600_000_000_000L
+
+        void advance(long duration) {
+            millis += duration
+        }
+
+        @Override
+        long millis() {
+            millis
+        }
+
+        @Override
+        Instant instant() {
+            Instant.ofEpochMilli(millis)
+        }
+
+        @Override
+        ZoneId getZone() {
+            ZoneOffset.UTC
+        }
+
+        @Override
+        Clock withZone(ZoneId zone) {
+            this
+        }
+    }
+}